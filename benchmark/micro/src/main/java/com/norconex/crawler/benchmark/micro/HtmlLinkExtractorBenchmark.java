@@ -0,0 +1,111 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.crawler.benchmark.micro;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.norconex.commons.lang.file.ContentType;
+import com.norconex.commons.lang.io.CachedInputStream;
+import com.norconex.crawler.web.doc.operations.link.Link;
+import com.norconex.crawler.web.doc.operations.link.impl.HtmlLinkExtractor;
+import com.norconex.importer.doc.Doc;
+
+/**
+ * Compares {@link HtmlLinkExtractor} regular expression extraction with
+ * its streaming tokenizer, on generated pages of increasing size.
+ * Run with <code>-prof gc</code> to also compare allocation rates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HtmlLinkExtractorBenchmark {
+
+    private static final String DOC_URL = "https://www.example.com/page.html";
+
+    @Param({ "16", "256", "2048" })
+    private int pageKb;
+
+    private byte[] page;
+    private HtmlLinkExtractor regexExtractor;
+    private HtmlLinkExtractor streamingExtractor;
+
+    @Setup
+    public void setup() {
+        var html = new StringBuilder("""
+                <html><head><title>Benchmark</title>
+                <meta charset="UTF-8">
+                <base href="https://www.example.com/">
+                </head><body>
+                """);
+        var i = 0;
+        while (html.length() < pageKb * 1024) {
+            html.append("<div class=\"item\"><h2>Item ").append(i)
+                    .append("</h2>\n<p>Some <b>bold</b> and <i>italic</i> ")
+                    .append("text describing the item.</p>\n")
+                    .append("<a href=\"/items/").append(i)
+                    .append(".html\" title=\"Item ").append(i)
+                    .append("\">Item <span>").append(i)
+                    .append("</span></a>\n<img src=\"/img/").append(i)
+                    .append(".png\" alt=\"Image\">\n")
+                    .append("<!-- comment <a href=\"/hidden.html\"> -->\n")
+                    .append("<script>var x").append(i)
+                    .append(" = '<a href=\"/script.html\">';</script>\n")
+                    .append("</div>\n");
+            i++;
+        }
+        html.append("</body></html>");
+        page = html.toString().getBytes(StandardCharsets.UTF_8);
+
+        regexExtractor = new HtmlLinkExtractor();
+        streamingExtractor = new HtmlLinkExtractor();
+        streamingExtractor.getConfiguration().setStreamingTokenizer(true);
+    }
+
+    @Benchmark
+    public Set<Link> regex() throws IOException {
+        return regexExtractor.extractLinks(newDoc());
+    }
+
+    @Benchmark
+    public Set<Link> streamingTokenizer() throws IOException {
+        return streamingExtractor.extractLinks(newDoc());
+    }
+
+    private Doc newDoc() {
+        var doc = new Doc(DOC_URL).setInputStream(
+                CachedInputStream.cache(new ByteArrayInputStream(page)));
+        doc.setContentType(ContentType.HTML);
+        return doc;
+    }
+}
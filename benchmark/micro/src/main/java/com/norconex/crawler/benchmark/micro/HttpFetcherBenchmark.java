@@ -0,0 +1,155 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.crawler.benchmark.micro;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.norconex.crawler.web.fetch.HttpMethod;
+import com.norconex.crawler.web.fetch.WebFetchRequest;
+import com.norconex.crawler.web.fetch.impl.httpclient.AsyncHttpClientFetcher;
+import com.norconex.crawler.web.fetch.impl.httpclient.HttpClientFetcher;
+import com.norconex.importer.doc.Doc;
+
+/**
+ * Compares {@link HttpClientFetcher} with {@link AsyncHttpClientFetcher}
+ * fetching pages of the web fixture server with an increasing number of
+ * concurrent crawler threads. The fixture server must be running first
+ * (see <code>benchmark/web-fixtures</code>). Its base URL can be set
+ * with the <code>fixtureBase</code> system property.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class HttpFetcherBenchmark {
+
+    private static final String PAGE_PATH =
+            "/site/fetch-bench/seed/42/page/3/%d?avgSize=%d";
+    // pages at depth 3 with the default branching factor of 8
+    private static final int PAGE_COUNT = 512;
+
+    @Param({ "blocking", "async" })
+    private String fetcher;
+
+    @Param({ "8", "64", "256" })
+    private int threads;
+
+    @Param({ "32768" })
+    private int avgSize;
+
+    private List<String> urls;
+    private HttpClientFetcher httpFetcher;
+    private ExecutorService executor;
+
+    @Setup
+    public void setup() {
+        var base = System.getProperty("fixtureBase", "http://localhost:8181");
+        urls = new ArrayList<>(PAGE_COUNT);
+        for (var i = 0; i < PAGE_COUNT; i++) {
+            urls.add(base + PAGE_PATH.formatted(i, avgSize));
+        }
+        httpFetcher = "async".equals(fetcher)
+                ? new StartableAsyncFetcher()
+                : new StartableFetcher();
+        httpFetcher.getConfiguration()
+                .setHstsDisabled(true)
+                .setMaxConnections(threads)
+                .setMaxConnectionsPerRoute(threads);
+        ((Startable) httpFetcher).start();
+        executor = Executors.newFixedThreadPool(threads);
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdownNow();
+        ((Startable) httpFetcher).stop();
+    }
+
+    @Benchmark
+    public long fetchPages() throws Exception {
+        List<Future<Long>> futures = new ArrayList<>(PAGE_COUNT);
+        for (String url : urls) {
+            futures.add(executor.submit(() -> fetch(url)));
+        }
+        var bytes = 0L;
+        for (Future<Long> future : futures) {
+            bytes += future.get();
+        }
+        return bytes;
+    }
+
+    private long fetch(String url) throws Exception {
+        var doc = new Doc(url);
+        try {
+            httpFetcher.fetch(new WebFetchRequest(doc, HttpMethod.GET));
+            return doc.getInputStream().length();
+        } finally {
+            doc.close();
+        }
+    }
+
+    // Fetchers are normally started and stopped by crawler events.
+    private interface Startable {
+        void start();
+
+        void stop();
+    }
+
+    private static class StartableFetcher
+            extends HttpClientFetcher implements Startable {
+        @Override
+        public void start() {
+            fetcherStartup(null);
+        }
+
+        @Override
+        public void stop() {
+            fetcherShutdown(null);
+        }
+    }
+
+    private static class StartableAsyncFetcher
+            extends AsyncHttpClientFetcher implements Startable {
+        @Override
+        public void start() {
+            fetcherStartup(null);
+        }
+
+        @Override
+        public void stop() {
+            fetcherShutdown(null);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.crawler.benchmark.micro;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.norconex.crawler.web.doc.operations.robot.RobotsTxt;
+import com.norconex.crawler.web.doc.operations.robot.RobotsTxtFilter;
+import com.norconex.crawler.web.doc.operations.robot.impl.StandardRobotsTxtProvider;
+
+/**
+ * Compares the compiled robots.txt matcher with the former approach of
+ * evaluating each "Disallow" rule regular expression, then each "Allow"
+ * one, for every URL.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RobotsTxtMatcherBenchmark {
+
+    private static final String BASE_URL = "https://www.example.com";
+    private static final int URL_COUNT = 1024;
+
+    @Param({ "10", "100", "500" })
+    private int ruleCount;
+
+    private RobotsTxt robotsTxt;
+    private List<String> urls;
+
+    @Setup
+    public void setup() throws IOException {
+        var random = new Random(42);
+        var robots = new StringBuilder("User-agent: *\n");
+        for (var i = 0; i < ruleCount; i++) {
+            switch (i % 4) {
+                case 0 -> robots.append("Disallow: /section").append(i)
+                        .append("/\n");
+                case 1 -> robots.append("Allow: /section").append(i - 1)
+                        .append("/public/\n");
+                case 2 -> robots.append("Disallow: /*/tmp").append(i)
+                        .append("/*.html$\n");
+                default -> robots.append("Disallow: /search").append(i)
+                        .append("?*sort=\n");
+            }
+        }
+        robotsTxt = new Parser().parse(robots.toString());
+
+        urls = new ArrayList<>(URL_COUNT);
+        for (var i = 0; i < URL_COUNT; i++) {
+            var n = random.nextInt(ruleCount);
+            urls.add(switch (random.nextInt(5)) {
+                case 0 -> BASE_URL + "/section" + n + "/page" + i + ".html";
+                case 1 -> BASE_URL + "/section" + n + "/public/doc" + i;
+                case 2 -> BASE_URL + "/a/tmp" + n + "/file" + i + ".html";
+                case 3 -> BASE_URL + "/search" + n + "?q=x&sort=date";
+                default -> BASE_URL + "/articles/2026/" + i + "/index.html";
+            });
+        }
+    }
+
+    @Benchmark
+    public void regexPerRule(Blackhole bh) {
+        for (String url : urls) {
+            bh.consume(findRejectingWithRegex(url));
+        }
+    }
+
+    @Benchmark
+    public void compiledMatcher(Blackhole bh) {
+        for (String url : urls) {
+            bh.consume(robotsTxt.findRejectingFilter(url));
+        }
+    }
+
+    // Former RobotsTxtFiltersStage logic.
+    private RobotsTxtFilter findRejectingWithRegex(String url) {
+        for (RobotsTxtFilter df : robotsTxt.getDisallowFilters()) {
+            if (!df.acceptReference(url)) {
+                var overruled = false;
+                for (RobotsTxtFilter af : robotsTxt.getAllowFilters()) {
+                    if (af.getPath().length() >= df.getPath().length()
+                            && af.acceptReference(url)) {
+                        overruled = true;
+                        break;
+                    }
+                }
+                if (!overruled) {
+                    return df;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static class Parser extends StandardRobotsTxtProvider {
+        private RobotsTxt parse(String content) throws IOException {
+            return parseRobotsTxt(new ByteArrayInputStream(
+                    content.getBytes(StandardCharsets.UTF_8)),
+                    BASE_URL + "/robots.txt", "benchmark");
+        }
+    }
+}
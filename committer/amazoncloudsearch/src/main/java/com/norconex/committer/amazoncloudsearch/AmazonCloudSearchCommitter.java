@@ -14,10 +14,9 @@
  */
 package com.norconex.committer.amazoncloudsearch;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
@@ -26,6 +25,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.regex.Pattern;
 
+import org.apache.commons.io.output.UnsynchronizedByteArrayOutputStream;
 import org.apache.commons.lang3.StringUtils;
 import org.json.JSONObject;
 
@@ -45,6 +45,7 @@ import com.norconex.committer.core.CommitterUtil;
 import com.norconex.committer.core.DeleteRequest;
 import com.norconex.committer.core.UpsertRequest;
 import com.norconex.committer.core.batch.AbstractBatchCommitter;
+import com.norconex.committer.core.http.UploadExecutor;
 import com.norconex.commons.lang.encrypt.EncryptionUtil;
 import com.norconex.commons.lang.text.StringUtil;
 
@@ -80,6 +81,12 @@ import lombok.extern.slf4j.Slf4j;
  * collision-free (uniqueness), but it should safely cover the vast
  * majority of cases.
  * </p>
+ * <h2>Uploads:</h2>
+ * <p>
+ * Documents are serialized to JSON as they are read from the batch.
+ * A batch can be split into sub-batches uploaded in parallel, as per
+ * {@link AmazonCloudSearchCommitterConfig#getHttpTransport()}.
+ * </p>
  * @author Pascal Essiembre
  */
 @EqualsAndHashCode
@@ -109,6 +116,10 @@ public class AmazonCloudSearchCommitter
     @EqualsAndHashCode.Exclude
     @JsonIgnore
     private AmazonCloudSearchDomain awsClient;
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    @JsonIgnore
+    private UploadExecutor uploadExecutor;
 
     @Override
     protected void initBatchCommitter() throws CommitterException {
@@ -119,7 +130,13 @@ public class AmazonCloudSearchCommitter
             throw new CommitterException("Service endpoint is undefined.");
         }
         var b = AmazonCloudSearchDomainClientBuilder.standard();
-        var clientConfig = new ClientConfiguration();
+        var http = configuration.getHttpTransport();
+        var clientConfig = new ClientConfiguration()
+                .withMaxConnections(Math.max(1, http.getMaxConnections()))
+                .withConnectionTimeout(
+                        (int) http.getConnectionTimeout().toMillis())
+                .withSocketTimeout((int) http.getSocketTimeout().toMillis())
+                .withConnectionMaxIdleMillis(http.getKeepAlive().toMillis());
         if (configuration.getProxySettings().isSet()) {
             var proxy = configuration.getProxySettings();
             clientConfig.setProxyHost(proxy.getHost().getName());
@@ -150,25 +167,38 @@ public class AmazonCloudSearchCommitter
                         configuration.getServiceEndpoint(),
                         configuration.getSigningRegion()));
         awsClient = b.build();
+        uploadExecutor = new UploadExecutor(
+                http.getUploadParallelism(), "cloudsearch");
     }
 
     @Override
     protected void commitBatch(Iterator<CommitterRequest> it)
             throws CommitterException {
 
-        List<JSONObject> jsonBatch = new ArrayList<>();
+        var subBatchSize = configuration.getHttpTransport().getSubBatchSize();
+        var uploads = uploadExecutor.newBatch();
+        var subBatch = new JsonSubBatch();
         try {
             while (it.hasNext()) {
                 var req = it.next();
                 if (req instanceof UpsertRequest upsert) {
-                    jsonBatch.add(toJsonDocUpsert(upsert));
+                    subBatch.add(toJsonDocUpsert(upsert));
                 } else if (req instanceof DeleteRequest delete) {
-                    jsonBatch.add(toJsonDocDelete(delete));
+                    subBatch.add(toJsonDocDelete(delete));
                 } else {
                     throw new CommitterException("Unsupported request:" + req);
                 }
+                if (subBatchSize > 0 && subBatch.docCount >= subBatchSize) {
+                    var docs = subBatch;
+                    uploads.submit(() -> uploadBatchToCloudSearch(docs));
+                    subBatch = new JsonSubBatch();
+                }
+            }
+            if (subBatch.docCount > 0) {
+                var docs = subBatch;
+                uploads.submit(() -> uploadBatchToCloudSearch(docs));
             }
-            uploadBatchToCloudSearch(jsonBatch);
+            uploads.await();
         } catch (CommitterException e) {
             throw e;
         } catch (Exception e) {
@@ -179,6 +209,10 @@ public class AmazonCloudSearchCommitter
 
     @Override
     protected void closeBatchCommitter() throws CommitterException {
+        if (uploadExecutor != null) {
+            uploadExecutor.close();
+        }
+        uploadExecutor = null;
         if (awsClient != null) {
             awsClient.shutdown();
         }
@@ -186,20 +220,15 @@ public class AmazonCloudSearchCommitter
         LOG.info("Amazon Cloud Search client shut down.");
     }
 
-    private void uploadBatchToCloudSearch(List<JSONObject> documentBatch)
+    private void uploadBatchToCloudSearch(JsonSubBatch subBatch)
             throws CommitterException {
-        // Convert the JSON list to String and read it as a stream from memory
-        // (for increased performance), for it to be usable by the AWS
-        // CloudSearch UploadRequest. If memory becomes a concern, consider
-        // streaming to file.
-        // ArrayList.toString() joins the elements in a JSON-compliant way.
-        var bytes =
-                documentBatch.toString().getBytes(StandardCharsets.UTF_8);
-        try (var is = new ByteArrayInputStream(bytes)) {
+        // CloudSearch requires the content length up front, so each
+        // sub-batch is serialized in memory before being uploaded.
+        try (var is = subBatch.toInputStream()) {
             var uploadRequest = new UploadDocumentsRequest();
             uploadRequest.setContentType("application/json");
             uploadRequest.setDocuments(is);
-            uploadRequest.setContentLength((long) bytes.length);
+            uploadRequest.setContentLength((long) subBatch.json.size());
             var result =
                     awsClient.uploadDocuments(uploadRequest);
             LOG.info(
@@ -292,4 +321,24 @@ public class AmazonCloudSearchCommitter
                 key, fix, FIELD_PATTERN);
         return fix;
     }
+
+    // JSON array of documents, serialized as documents are added.
+    private static class JsonSubBatch {
+        private final UnsynchronizedByteArrayOutputStream json =
+                UnsynchronizedByteArrayOutputStream.builder().get();
+        private int docCount;
+
+        void add(JSONObject doc) {
+            json.write(docCount == 0 ? '[' : ',');
+            var bytes = doc.toString().getBytes(StandardCharsets.UTF_8);
+            json.write(bytes, 0, bytes.length);
+            docCount++;
+        }
+
+        // Closes the JSON array. No documents can be added after.
+        InputStream toInputStream() {
+            json.write(']');
+            return json.toInputStream();
+        }
+    }
 }
@@ -16,6 +16,7 @@ package com.norconex.committer.amazoncloudsearch;
 
 import com.amazonaws.auth.DefaultAWSCredentialsProviderChain;
 import com.norconex.committer.core.batch.BaseBatchCommitterConfig;
+import com.norconex.committer.core.http.HttpTransportConfig;
 import com.norconex.commons.lang.net.ProxySettings;
 
 import lombok.Data;
@@ -108,6 +109,14 @@ public class AmazonCloudSearchCommitterConfig
      */
     private String targetContentField = DEFAULT_COULDSEARCH_CONTENT_FIELD;
 
+    /**
+     * HTTP settings used to connect to CloudSearch: maximum connections,
+     * timeouts, keep-alive, and parallel uploads of sub-batches.
+     * Request compression is not supported by CloudSearch and is ignored.
+     */
+    private final HttpTransportConfig httpTransport =
+            new HttpTransportConfig();
+
     public ProxySettings getProxySettings() {
         return proxySettings;
     }
@@ -117,4 +126,10 @@ public class AmazonCloudSearchCommitterConfig
         proxySettings.copyFrom(proxy);
         return this;
     }
+
+    public AmazonCloudSearchCommitterConfig setHttpTransport(
+            HttpTransportConfig httpTransport) {
+        this.httpTransport.copyFrom(httpTransport);
+        return this;
+    }
 }
@@ -22,6 +22,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Timeout;
 
 import com.norconex.committer.core.batch.queue.impl.FsQueue;
+import com.norconex.committer.core.http.HttpTransportConfig;
 import com.norconex.commons.lang.ResourceLoader;
 import com.norconex.commons.lang.bean.BeanMapper;
 import com.norconex.commons.lang.bean.BeanMapper.Format;
@@ -56,6 +57,10 @@ class AmazonCloudSearchCommitterConfigTest {
                 .setFixBadIds(true)
                 .setSourceIdField("mySourceIdField")
                 .setTargetContentField("myTargetContentField")
+                .setHttpTransport(new HttpTransportConfig()
+                        .setMaxConnections(20)
+                        .setSubBatchSize(500)
+                        .setUploadParallelism(4))
                 .setQueue(q)
                 .setFieldMapping("subject", "title")
                 .setFieldMapping("body", "content")
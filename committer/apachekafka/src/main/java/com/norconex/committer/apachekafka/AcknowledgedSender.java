@@ -0,0 +1,131 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.committer.apachekafka;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.errors.RetriableException;
+
+import com.norconex.committer.core.CommitterException;
+import com.norconex.commons.lang.Sleeper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Sends the records of a single batch asynchronously while keeping track
+ * of their acknowledgement. The number of records awaiting
+ * acknowledgement is bounded. Records failing with a retriable error
+ * are re-sent on their own.
+ */
+@Slf4j
+class AcknowledgedSender {
+
+    private final Producer<String, String> producer;
+    private final ApacheKafkaCommitterConfig configuration;
+    private final int maxInFlight;
+    private final Semaphore inFlight;
+    private final Queue<FailedRecord> failures = new ConcurrentLinkedQueue<>();
+
+    AcknowledgedSender(
+            Producer<String, String> producer,
+            ApacheKafkaCommitterConfig configuration) {
+        this.producer = producer;
+        this.configuration = configuration;
+        maxInFlight = Math.max(1, configuration.getMaxInFlightRecords());
+        inFlight = new Semaphore(maxInFlight);
+    }
+
+    /**
+     * Sends a record, blocking while the maximum number of
+     * unacknowledged records is reached.
+     * @param rec the record to send
+     * @throws InterruptedException if interrupted while waiting
+     */
+    void send(ProducerRecord<String, String> rec)
+            throws InterruptedException {
+        inFlight.acquire();
+        try {
+            producer.send(rec, (metadata, ex) -> {
+                if (ex != null) {
+                    failures.add(new FailedRecord(rec, ex));
+                }
+                inFlight.release();
+            });
+        } catch (RuntimeException e) {
+            inFlight.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Waits until every record sent so far has been acknowledged,
+     * re-sending the ones that failed with a retriable error.
+     * @throws CommitterException if some records could not be delivered
+     * @throws InterruptedException if interrupted while waiting
+     */
+    void awaitAcknowledgements()
+            throws CommitterException, InterruptedException {
+        var attempt = 0;
+        while (true) {
+            producer.flush();
+            inFlight.acquire(maxInFlight);
+            inFlight.release(maxInFlight);
+
+            if (failures.isEmpty()) {
+                return;
+            }
+            List<FailedRecord> failed = new ArrayList<>();
+            FailedRecord failure;
+            while ((failure = failures.poll()) != null) {
+                failed.add(failure);
+            }
+
+            var retriable = failed.stream().allMatch(
+                    f -> f.error() instanceof RetriableException);
+            if (!retriable || attempt >= configuration.getMaxRecordRetries()) {
+                var cause = failed.stream()
+                        .filter(f -> !(f.error() instanceof RetriableException))
+                        .findFirst()
+                        .orElse(failed.get(0))
+                        .error();
+                throw new CommitterException(String.format(
+                        "%s record(s) could not be delivered to Apache Kafka "
+                                + "after %s attempt(s).",
+                        failed.size(), attempt + 1), cause);
+            }
+
+            attempt++;
+            LOG.warn("{} record(s) were not acknowledged by Apache Kafka. "
+                    + "Re-sending them (retry {}/{}).",
+                    failed.size(), attempt,
+                    configuration.getMaxRecordRetries());
+            Sleeper.sleepMillis(
+                    configuration.getRecordRetryDelay().toMillis());
+            for (FailedRecord f : failed) {
+                send(f.rec());
+            }
+        }
+    }
+
+    private record FailedRecord(
+            ProducerRecord<String, String> rec, Exception error) {
+    }
+}
@@ -23,6 +23,7 @@ import java.util.Properties;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.text.StringEscapeUtils;
 import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.Producer;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.clients.producer.ProducerRecord;
 import org.apache.kafka.common.serialization.StringSerializer;
@@ -50,6 +51,19 @@ import lombok.extern.slf4j.Slf4j;
  * have them created when not already present with
  * {@link ApacheKafkaCommitterConfig#setCreateTopic(boolean)}.
  * </p>
+ *
+ * <h2>Acknowledged Delivery</h2>
+ * <p>
+ * By default, records are handed to the Kafka producer and the batch
+ * is considered committed without waiting for the broker to acknowledge
+ * them. With
+ * {@link ApacheKafkaCommitterConfig#setAcknowledgedDelivery(boolean)},
+ * records are still sent asynchronously, but a batch only completes once
+ * every one of its records has been acknowledged. The number of records
+ * awaiting acknowledgement is bounded, and only records that failed
+ * with a retriable error are re-sent. A batch with records that could
+ * not be delivered fails, letting the committer queue retry it.
+ * </p>
  * @author Harinder Hanjan
  */
 @Slf4j
@@ -71,7 +85,7 @@ public class ApacheKafkaCommitter
 
     @EqualsAndHashCode.Exclude
     @ToString.Exclude
-    private KafkaProducer<String, String> producer;
+    private Producer<String, String> producer;
     @EqualsAndHashCode.Exclude
     @ToString.Exclude
     private KafkaAdmin kafkaAdmin;
@@ -117,11 +131,14 @@ public class ApacheKafkaCommitter
     protected void commitBatch(Iterator<CommitterRequest> it)
             throws CommitterException {
         if (producer == null) {
-            createProducer();
+            producer = createProducer();
         }
 
         LOG.info("Committing batch to Apache Kafka");
 
+        var ackSender = configuration.isAcknowledgedDelivery()
+                ? new AcknowledgedSender(producer, configuration)
+                : null;
         var docCountUpserts = 0;
         var docCountDeletes = 0;
         try {
@@ -136,7 +153,7 @@ public class ApacheKafkaCommitter
                             upsert.getReference(),
                             json.toString());
 
-                    producer.send(rec);
+                    send(rec, ackSender);
 
                     docCountUpserts++;
                     json.setLength(0);
@@ -148,7 +165,7 @@ public class ApacheKafkaCommitter
                             configuration.getTopicName(), delete.getReference(),
                             null);
 
-                    producer.send(rec);
+                    send(rec, ackSender);
 
                     docCountDeletes++;
                     json.setLength(0);
@@ -157,6 +174,10 @@ public class ApacheKafkaCommitter
                 }
             }
 
+            if (ackSender != null) {
+                ackSender.awaitAcknowledgements();
+            }
+
             if (docCountUpserts > 0) {
                 LOG.info("Sent {} upsert commit operation(s) to Apache Kafka.",
                         docCountUpserts);
@@ -169,40 +190,80 @@ public class ApacheKafkaCommitter
 
         } catch (CommitterException e) {
             throw e;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CommitterException(
+                    "Interrupted while committing batch to Apache Kafka.", e);
         } catch (Exception e) {
             throw new CommitterException(
-                    "Could not commit JSON batch to Elasticsearch.", e);
+                    "Could not commit JSON batch to Apache Kafka.", e);
+        }
+    }
+
+    private void send(
+            ProducerRecord<String, String> rec, AcknowledgedSender ackSender)
+            throws InterruptedException {
+        if (ackSender != null) {
+            ackSender.send(rec);
+        } else {
+            producer.send(rec);
         }
     }
 
     @Override
     protected void closeBatchCommitter() throws CommitterException {
-        LOG.info("Flushing and closing Kafka Producer client...");
-        producer.flush();
-        producer.close();
-        LOG.info("Done");
+        if (producer != null) {
+            LOG.info("Flushing and closing Kafka Producer client...");
+            producer.flush();
+            producer.close();
+            producer = null;
+            LOG.info("Done");
+        }
 
-        LOG.info("Closing Kafka Admin client");
-        kafkaAdmin.close();
+        if (kafkaAdmin != null) {
+            LOG.info("Closing Kafka Admin client");
+            kafkaAdmin.close();
+        }
     }
 
-    private synchronized KafkaProducer<String, String> createProducer() {
+    /**
+     * Creates the Kafka producer used to send records, configured from
+     * this committer configuration.
+     * @return Kafka producer
+     */
+    protected Producer<String, String> createProducer() {
         var props = new Properties();
         props.put("bootstrap.servers", configuration.getBootstrapServers());
-        props.put(ProducerConfig.LINGER_MS_CONFIG, "0");
+        props.put(
+                ProducerConfig.LINGER_MS_CONFIG,
+                Long.toString(configuration.getLinger().toMillis()));
         props.put(
                 ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG,
                 StringSerializer.class);
         props.put(
                 ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG,
                 StringSerializer.class);
-        props.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        props.put(
+                ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG,
+                configuration.isIdempotence());
         props.put(ProducerConfig.ACKS_CONFIG, "all");
+        if (configuration.getProducerBatchSize() > 0) {
+            props.put(
+                    ProducerConfig.BATCH_SIZE_CONFIG,
+                    configuration.getProducerBatchSize());
+        }
+        if (StringUtils.isNotBlank(configuration.getCompressionType())) {
+            props.put(
+                    ProducerConfig.COMPRESSION_TYPE_CONFIG,
+                    configuration.getCompressionType().trim());
+        }
+        configuration.getProducerProperties().forEach(
+                (key, values) -> props.put(key, String.join(",", values)));
 
-        producer = new KafkaProducer<>(props);
+        var kafkaProducer = new KafkaProducer<String, String>(props);
 
         LOG.info("Created Apache Kafka producer client");
-        return producer;
+        return kafkaProducer;
     }
 
     private void appendUpsertRequest(StringBuilder json, UpsertRequest upsert)
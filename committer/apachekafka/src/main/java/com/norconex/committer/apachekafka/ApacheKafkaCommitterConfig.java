@@ -15,9 +15,14 @@
 
 package com.norconex.committer.apachekafka;
 
+import java.time.Duration;
+
 import com.norconex.committer.core.batch.BaseBatchCommitterConfig;
+import com.norconex.commons.lang.collection.CollectionUtil;
+import com.norconex.commons.lang.map.Properties;
 
 import lombok.Data;
+import lombok.NonNull;
 import lombok.experimental.Accessors;
 
 /**
@@ -30,6 +35,12 @@ import lombok.experimental.Accessors;
 @Accessors(chain = true)
 public class ApacheKafkaCommitterConfig extends BaseBatchCommitterConfig {
 
+    public static final int DEFAULT_MAX_IN_FLIGHT_RECORDS = 1000;
+    public static final int DEFAULT_MAX_RECORD_RETRIES = 3;
+    /** 1 second. */
+    public static final Duration DEFAULT_RECORD_RETRY_DELAY =
+            Duration.ofSeconds(1);
+
     /**
      * The topic name to which documents will be sent
      */
@@ -58,4 +69,81 @@ public class ApacheKafkaCommitterConfig extends BaseBatchCommitterConfig {
      * Required if {@link #isCreateTopic()} is <code>true</code>
      */
     private short replicationFactor;
+
+    /**
+     * Whether to wait for the broker acknowledgement of every record sent
+     * for a batch before considering the batch committed. Records are
+     * sent asynchronously and tracked with send callbacks. Records that
+     * failed with a retriable error are re-sent on their own, up to
+     * {@link #getMaxRecordRetries()} times. When {@code false} (default),
+     * records are handed to the producer without waiting for their
+     * acknowledgement.
+     */
+    private boolean acknowledgedDelivery;
+
+    /**
+     * When {@link #isAcknowledgedDelivery()} is {@code true}, the maximum
+     * number of records sent but not yet acknowledged. Sending blocks
+     * when reached. Defaults to
+     * {@value ApacheKafkaCommitterConfig#DEFAULT_MAX_IN_FLIGHT_RECORDS}.
+     */
+    private int maxInFlightRecords = DEFAULT_MAX_IN_FLIGHT_RECORDS;
+
+    /**
+     * When {@link #isAcknowledgedDelivery()} is {@code true}, how many
+     * times records that failed with a retriable error are re-sent
+     * before the batch is failed. Defaults to
+     * {@value ApacheKafkaCommitterConfig#DEFAULT_MAX_RECORD_RETRIES}.
+     */
+    private int maxRecordRetries = DEFAULT_MAX_RECORD_RETRIES;
+
+    /**
+     * When {@link #isAcknowledgedDelivery()} is {@code true}, how long to
+     * wait before re-sending failed records. Defaults to
+     * {@link ApacheKafkaCommitterConfig#DEFAULT_RECORD_RETRY_DELAY}.
+     */
+    @NonNull
+    private Duration recordRetryDelay = DEFAULT_RECORD_RETRY_DELAY;
+
+    /**
+     * How long the producer waits for more records before sending
+     * a request to a partition (Kafka {@code linger.ms}). Defaults to
+     * zero (no wait).
+     */
+    @NonNull
+    private Duration linger = Duration.ZERO;
+
+    /**
+     * The maximum size in bytes of a producer record batch sent to a
+     * partition (Kafka {@code batch.size}). Zero or less uses the
+     * Kafka default.
+     */
+    private int producerBatchSize;
+
+    /**
+     * Compression applied to record batches (Kafka
+     * {@code compression.type}): one of {@code none}, {@code gzip},
+     * {@code snappy}, {@code lz4}, or {@code zstd}. A blank value uses
+     * the Kafka default.
+     */
+    private String compressionType;
+
+    /**
+     * Whether the producer ensures each record is written exactly once
+     * per partition (Kafka {@code enable.idempotence}). Requires
+     * acknowledgement from all in-sync replicas. Defaults to {@code true}.
+     */
+    private boolean idempotence = true;
+
+    /**
+     * Additional Kafka producer properties. They take precedence over
+     * the producer settings of this configuration.
+     */
+    private final Properties producerProperties = new Properties();
+
+    public ApacheKafkaCommitterConfig setProducerProperties(
+            Properties producerProperties) {
+        CollectionUtil.setAll(this.producerProperties, producerProperties);
+        return this;
+    }
 }
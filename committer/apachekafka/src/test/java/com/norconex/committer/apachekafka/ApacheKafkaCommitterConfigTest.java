@@ -16,6 +16,8 @@ package com.norconex.committer.apachekafka;
 
 import static org.assertj.core.api.Assertions.assertThatNoException;
 
+import java.time.Duration;
+
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Timeout;
@@ -24,6 +26,7 @@ import com.norconex.committer.core.batch.queue.impl.FsQueue;
 import com.norconex.commons.lang.ResourceLoader;
 import com.norconex.commons.lang.bean.BeanMapper;
 import com.norconex.commons.lang.bean.BeanMapper.Format;
+import com.norconex.commons.lang.map.Properties;
 import com.norconex.commons.lang.map.PropertyMatcher;
 import com.norconex.commons.lang.text.TextMatcher;
 
@@ -37,6 +40,9 @@ class ApacheKafkaCommitterConfigTest {
                 .setBatchSize(10)
                 .setMaxPerFolder(5);
 
+        var producerProps = new Properties();
+        producerProps.add("max.request.size", "2097152");
+
         var c = new ApacheKafkaCommitter();
         c.getConfiguration()
                 .setBootstrapServers("host1:1234, host2:1234")
@@ -44,6 +50,15 @@ class ApacheKafkaCommitterConfigTest {
                 .setCreateTopic(true)
                 .setPartitions(1)
                 .setReplicationFactor((short) 1)
+                .setAcknowledgedDelivery(true)
+                .setMaxInFlightRecords(500)
+                .setMaxRecordRetries(5)
+                .setRecordRetryDelay(Duration.ofMillis(500))
+                .setLinger(Duration.ofMillis(20))
+                .setProducerBatchSize(65536)
+                .setCompressionType("lz4")
+                .setIdempotence(false)
+                .setProducerProperties(producerProps)
                 .setQueue(q)
                 .setFieldMapping("subject", "title")
                 .setFieldMapping("body", "content")
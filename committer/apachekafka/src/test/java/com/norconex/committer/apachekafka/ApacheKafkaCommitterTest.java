@@ -0,0 +1,177 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.committer.apachekafka;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+
+import org.apache.kafka.clients.producer.Callback;
+import org.apache.kafka.clients.producer.MockProducer;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.errors.RecordTooLargeException;
+import org.apache.kafka.common.errors.TimeoutException;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import com.norconex.committer.core.CommitterException;
+import com.norconex.committer.core.CommitterRequest;
+import com.norconex.committer.core.DeleteRequest;
+import com.norconex.committer.core.UpsertRequest;
+import com.norconex.commons.lang.map.Properties;
+
+@Timeout(30)
+class ApacheKafkaCommitterTest {
+
+    @Test
+    void testFireAndForgetDelivery() throws CommitterException {
+        var producer = new FailingProducer(Set.of(), false);
+        var committer = committer(producer);
+
+        committer.commitBatch(requests().iterator());
+
+        assertThat(producer.history())
+                .extracting(ProducerRecord::key)
+                .containsExactly("doc1", "doc2", "doc3");
+        assertThat(producer.history().get(2).value()).isNull();
+    }
+
+    @Test
+    void testAcknowledgedDeliveryResendsOnlyFailedRecords()
+            throws CommitterException {
+        var producer = new FailingProducer(Set.of("doc2"), true);
+        var committer = committer(producer);
+        committer.getConfiguration()
+                .setAcknowledgedDelivery(true)
+                .setMaxInFlightRecords(1);
+
+        committer.commitBatch(requests().iterator());
+
+        assertThat(producer.failedKeys).containsExactly("doc2");
+        assertThat(producer.history())
+                .extracting(ProducerRecord::key)
+                .containsExactly("doc1", "doc3", "doc2");
+    }
+
+    @Test
+    void testAcknowledgedDeliveryRetriesExhausted() {
+        var producer = new FailingProducer(Set.of("doc1"), false);
+        var committer = committer(producer);
+        committer.getConfiguration()
+                .setAcknowledgedDelivery(true)
+                .setMaxRecordRetries(2);
+
+        assertThatExceptionOfType(CommitterException.class)
+                .isThrownBy(() -> committer.commitBatch(
+                        requests().iterator()))
+                .withCauseInstanceOf(TimeoutException.class);
+        // first attempt + 2 retries
+        assertThat(producer.failedKeys).hasSize(3);
+        assertThat(producer.history())
+                .extracting(ProducerRecord::key)
+                .containsExactly("doc2", "doc3");
+    }
+
+    @Test
+    void testAcknowledgedDeliveryNonRetriableFailure() {
+        var producer = new FailingProducer(Set.of("doc3"), false) {
+            @Override
+            Exception error() {
+                return new RecordTooLargeException("Too large");
+            }
+        };
+        var committer = committer(producer);
+        committer.getConfiguration().setAcknowledgedDelivery(true);
+
+        assertThatExceptionOfType(CommitterException.class)
+                .isThrownBy(() -> committer.commitBatch(
+                        requests().iterator()))
+                .withCauseInstanceOf(RecordTooLargeException.class);
+        assertThat(producer.failedKeys).containsExactly("doc3");
+    }
+
+    private static ApacheKafkaCommitter committer(
+            Producer<String, String> producer) {
+        var committer = new ApacheKafkaCommitter() {
+            @Override
+            protected Producer<String, String> createProducer() {
+                return producer;
+            }
+        };
+        committer.getConfiguration()
+                .setTopicName("test-topic")
+                .setBootstrapServers("localhost:9092")
+                .setRecordRetryDelay(Duration.ZERO);
+        return committer;
+    }
+
+    private static List<CommitterRequest> requests() {
+        return List.of(
+                upsert("doc1"),
+                upsert("doc2"),
+                new DeleteRequest("doc3", new Properties()));
+    }
+
+    private static UpsertRequest upsert(String ref) {
+        var meta = new Properties();
+        meta.add("title", "Title of " + ref);
+        return new UpsertRequest(ref, meta, new ByteArrayInputStream(
+                ("Content of " + ref).getBytes(StandardCharsets.UTF_8)));
+    }
+
+    // Fails records having the given keys through their send callback,
+    // either once or every time they are sent.
+    static class FailingProducer extends MockProducer<String, String> {
+        private final Set<String> keysToFail;
+        private final boolean failOnce;
+        private final Set<String> alreadyFailed = new HashSet<>();
+        private final List<String> failedKeys = new ArrayList<>();
+
+        FailingProducer(Set<String> keysToFail, boolean failOnce) {
+            super(true, null, new StringSerializer(), new StringSerializer());
+            this.keysToFail = keysToFail;
+            this.failOnce = failOnce;
+        }
+
+        Exception error() {
+            return new TimeoutException("Simulated timeout");
+        }
+
+        @Override
+        public synchronized Future<RecordMetadata> send(
+                ProducerRecord<String, String> rec, Callback callback) {
+            if (keysToFail.contains(rec.key())
+                    && (!failOnce || alreadyFailed.add(rec.key()))) {
+                failedKeys.add(rec.key());
+                var ex = error();
+                callback.onCompletion(null, ex);
+                return CompletableFuture.failedFuture(ex);
+            }
+            return super.send(rec, callback);
+        }
+    }
+}
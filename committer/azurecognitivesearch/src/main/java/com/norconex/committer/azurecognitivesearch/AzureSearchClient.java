@@ -18,6 +18,8 @@ import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.apache.commons.lang3.StringUtils.trimToNull;
 
 import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -36,18 +38,13 @@ import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.hc.client5.http.auth.AuthScope;
 import org.apache.hc.client5.http.auth.UsernamePasswordCredentials;
-import org.apache.hc.client5.http.classic.methods.HttpPost;
 import org.apache.hc.client5.http.impl.auth.BasicCredentialsProvider;
-import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
 import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
 import org.apache.hc.client5.http.impl.win.WinHttpClients;
 import org.apache.hc.core5.http.ClassicHttpResponse;
 import org.apache.hc.core5.http.ContentType;
 import org.apache.hc.core5.http.HttpHost;
 import org.apache.hc.core5.http.HttpStatus;
-import org.apache.hc.core5.http.io.entity.StringEntity;
-import org.apache.hc.core5.io.CloseMode;
-import org.json.JSONArray;
 import org.json.JSONObject;
 
 import com.norconex.committer.core.CommitterException;
@@ -55,6 +52,7 @@ import com.norconex.committer.core.CommitterRequest;
 import com.norconex.committer.core.CommitterUtil;
 import com.norconex.committer.core.DeleteRequest;
 import com.norconex.committer.core.UpsertRequest;
+import com.norconex.committer.core.http.HttpTransport;
 import com.norconex.commons.lang.encrypt.EncryptionUtil;
 
 import lombok.extern.slf4j.Slf4j;
@@ -69,7 +67,7 @@ import lombok.extern.slf4j.Slf4j;
 class AzureSearchClient {
 
     private final AzureSearchCommitterConfig config;
-    private final CloseableHttpClient client;
+    private final HttpTransport transport;
     private final String restURL;
 
     public AzureSearchClient(AzureSearchCommitterConfig config) {
@@ -90,14 +88,17 @@ class AzureSearchClient {
                 AzureSearchCommitterConfig.DEFAULT_API_VERSION);
         LOG.info("Azure Search API Version: {}", version);
 
-        client = createHttpClient();
+        transport = new HttpTransport(
+                config.getHttpTransport(),
+                createHttpClientBuilder(),
+                "azuresearch");
         restURL = StringUtils.stripEnd(config.getEndpoint(), "/")
                 + "/indexes/" + config.getIndexName()
                 + "/docs/index?api-version=" + version;
         LOG.info("Azure Search Doc Index URL: {}", restURL);
     }
 
-    private CloseableHttpClient createHttpClient() {
+    private HttpClientBuilder createHttpClientBuilder() {
         HttpClientBuilder builder;
         if (config.isUseWindowsAuth() && WinHttpClients.isWinAuthAvailable()) {
             builder = WinHttpClients.custom();
@@ -125,12 +126,17 @@ class AzureSearchClient {
                 builder.setDefaultCredentialsProvider(cp);
             }
         }
-        return builder.build();
+        return builder;
     }
 
     public void post(Iterator<CommitterRequest> it) throws CommitterException {
-
-        var jsonBatch = new JSONArray();
+        // Documents are serialized to JSON as they are streamed to
+        // Azure Search. A batch is split into sub-batches, possibly
+        // uploaded in parallel, as per the HTTP transport settings.
+        var subBatchSize = config.getHttpTransport().getSubBatchSize();
+        var uploads = transport.newUploadBatch();
+        List<AzureDoc> subBatch = new ArrayList<>();
+        var docCount = 0;
         try {
             while (it.hasNext()) {
                 var req = it.next();
@@ -139,30 +145,36 @@ class AzureSearchClient {
                 if (docKeyField == null) {
                     continue;
                 }
-
-                if (req instanceof UpsertRequest upsert) {
-                    jsonBatch.put(toJsonDocUpsert(upsert, docKeyField));
-                } else if (req instanceof DeleteRequest) {
-                    jsonBatch.put(toJsonDocDelete(docKeyField));
-                } else {
+                if (!(req instanceof UpsertRequest)
+                        && !(req instanceof DeleteRequest)) {
                     throw new CommitterException("Unsupported request:" + req);
                 }
+                subBatch.add(new AzureDoc(req, docKeyField));
+                docCount++;
+                if (subBatchSize > 0 && subBatch.size() >= subBatchSize) {
+                    var docs = subBatch;
+                    uploads.submit(() -> uploadBatchToAzureSearch(docs));
+                    subBatch = new ArrayList<>();
+                }
+            }
+            if (!subBatch.isEmpty()) {
+                var docs = subBatch;
+                uploads.submit(() -> uploadBatchToAzureSearch(docs));
             }
-            if (jsonBatch.length() > 0) {
-                uploadBatchToAzureSearch(jsonBatch);
-            } else {
+            uploads.await();
+            if (docCount == 0) {
                 LOG.warn("No documents were valid. Nothing committed.");
             }
         } catch (CommitterException e) {
             throw e;
         } catch (Exception e) {
             throw new CommitterException(
-                    "Could not commit JSON batch to CloudSearch.", e);
+                    "Could not commit JSON batch to Azure Search.", e);
         }
     }
 
     public void close() {
-        client.close(CloseMode.GRACEFUL);
+        transport.close();
         LOG.info("Azure Search REST API Http Client closed.");
     }
 
@@ -184,31 +196,37 @@ class AzureSearchClient {
         return new DefaultKeyValue<>(keyField, keyValue);
     }
 
-    private void uploadBatchToAzureSearch(JSONArray documentBatch)
+    private void uploadBatchToAzureSearch(List<AzureDoc> docs)
             throws CommitterException {
+        transport.post(
+                restURL,
+                Map.of("api-key", config.getApiKey()),
+                ContentType.APPLICATION_JSON,
+                out -> {
+                    var w = new OutputStreamWriter(out, UTF_8);
+                    w.write("{\"value\":[");
+                    for (var i = 0; i < docs.size(); i++) {
+                        if (i > 0) {
+                            w.write(',');
+                        }
+                        var json = toJsonDoc(docs.get(i)).toString();
+                        LOG.trace("JSON document: {}", json);
+                        w.write(json);
+                    }
+                    w.write("]}");
+                    w.flush();
+                },
+                this::handleResponse);
+        LOG.info(
+                "Done sending {} upserts/deletes to Azure Search.",
+                docs.size());
+    }
 
-        var json = new JSONObject();
-        json.put("value", documentBatch);
-
-        if (LOG.isTraceEnabled()) {
-            LOG.trace("JSON POST:\n{}", StringUtils.trim(json.toString(2)));
-        }
-
-        var requestEntity = new StringEntity(
-                json.toString(), ContentType.APPLICATION_JSON);
-        var post = new HttpPost(restURL);
-        post.addHeader("api-key", config.getApiKey());
-        post.setEntity(requestEntity);
-        try (var response =
-                client.executeOpen(null, post, null)) {
-            handleResponse(response);
-            LOG.info(
-                    "Done sending {} upserts/deletes to Azure Search.",
-                    documentBatch.length());
-        } catch (IOException e) {
-            throw new CommitterException(
-                    "Could not commit JSON batch to Azure Search.", e);
+    private JSONObject toJsonDoc(AzureDoc doc) throws CommitterException {
+        if (doc.request() instanceof UpsertRequest upsert) {
+            return toJsonDocUpsert(upsert, doc.key());
         }
+        return toJsonDocDelete(doc.key());
     }
 
     void handleResponse(ClassicHttpResponse res)
@@ -349,4 +367,8 @@ class AzureSearchClient {
         }
         LOG.error(errorMsg);
     }
+
+    private record AzureDoc(
+            CommitterRequest request, KeyValue<String, String> key) {
+    }
 }
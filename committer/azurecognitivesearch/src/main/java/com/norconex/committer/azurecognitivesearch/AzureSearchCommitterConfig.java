@@ -17,6 +17,7 @@ package com.norconex.committer.azurecognitivesearch;
 import java.io.Serializable;
 
 import com.norconex.committer.core.batch.BaseBatchCommitterConfig;
+import com.norconex.committer.core.http.HttpTransportConfig;
 import com.norconex.commons.lang.net.ProxySettings;
 
 import lombok.Data;
@@ -131,6 +132,13 @@ public class AzureSearchCommitterConfig
      */
     private String targetContentField = DEFAULT_AZURE_CONTENT_FIELD;
 
+    /**
+     * HTTP settings used to connect to Azure Search, such as connection
+     * pooling, request compression, and parallel uploads of sub-batches.
+     */
+    private final HttpTransportConfig httpTransport =
+            new HttpTransportConfig();
+
     /**
      * Gets the proxy settings.
      * @return proxy settings (never {@code null}).
@@ -149,4 +157,10 @@ public class AzureSearchCommitterConfig
         this.proxySettings.copyFrom(proxySettings);
         return this;
     }
+
+    public AzureSearchCommitterConfig setHttpTransport(
+            @NonNull HttpTransportConfig httpTransport) {
+        this.httpTransport.copyFrom(httpTransport);
+        return this;
+    }
 }
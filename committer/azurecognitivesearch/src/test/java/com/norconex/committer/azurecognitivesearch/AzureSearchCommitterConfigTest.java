@@ -23,6 +23,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Timeout;
 
 import com.norconex.committer.core.batch.queue.impl.FsQueue;
+import com.norconex.committer.core.http.HttpTransportConfig;
 import com.norconex.commons.lang.ResourceLoader;
 import com.norconex.commons.lang.bean.BeanMapper;
 import com.norconex.commons.lang.bean.BeanMapper.Format;
@@ -58,6 +59,11 @@ class AzureSearchCommitterConfigTest {
                 .setIgnoreResponseErrors(true)
                 .setArrayFields(".*")
                 .setArrayFieldsRegex(true)
+                .setHttpTransport(new HttpTransportConfig()
+                        .setMaxConnections(4)
+                        .setCompressRequests(true)
+                        .setSubBatchSize(100)
+                        .setUploadParallelism(3))
                 .setQueue(q)
                 .setFieldMapping("subject", "title")
                 .setFieldMapping("body", "content")
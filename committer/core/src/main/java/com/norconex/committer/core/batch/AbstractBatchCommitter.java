@@ -47,6 +47,11 @@ import lombok.ToString;
  * <p>
  * The default queue is {@link FsQueue} (file-system queue).
  * </p>
+ * <p>
+ * Batches can optionally be coalesced before being committed (see
+ * {@link BaseBatchCommitterConfig#setCoalesceBatch(boolean)}), so only
+ * the last request for a given reference is sent, with deletions first.
+ * </p>
  * @param <T> Committer configuration type
  */
 @EqualsAndHashCode
@@ -104,7 +109,9 @@ public abstract class AbstractBatchCommitter<T extends BaseBatchCommitterConfig>
             throws CommitterException {
         fireInfo(CommitterEvent.COMMITTER_BATCH_BEGIN);
         try {
-            commitBatch(it);
+            commitBatch(getConfiguration().isCoalesceBatch()
+                    ? BatchCoalescer.coalesce(it)
+                    : it);
         } catch (CommitterException | RuntimeException e) {
             fireError(CommitterEvent.COMMITTER_BATCH_ERROR, e);
             throw e;
@@ -26,4 +26,14 @@ import lombok.experimental.Accessors;
 public class BaseBatchCommitterConfig extends BaseCommitterConfig {
 
     private CommitterQueue queue = new FsQueue();
+
+    /**
+     * Whether to coalesce each batch before committing it, keeping only
+     * the last request for any given document reference, and sending
+     * all deletions of a batch before all its upserts. This reduces the
+     * number of requests and type switches within a batch, at the cost
+     * of holding the batch requests in memory while coalescing.
+     * Default is {@code false}.
+     */
+    private boolean coalesceBatch;
 }
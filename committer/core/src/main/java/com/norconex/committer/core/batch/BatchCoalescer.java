@@ -0,0 +1,71 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.committer.core.batch;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.io.IOUtils;
+
+import com.norconex.committer.core.CommitterRequest;
+import com.norconex.committer.core.DeleteRequest;
+import com.norconex.committer.core.UpsertRequest;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Coalesces a batch so it holds only the last request for each document
+ * reference, ordered as all deletions followed by all upserts.
+ * Since no reference appears in both groups once coalesced, the
+ * reordering does not change the outcome of the batch.
+ */
+@Slf4j
+final class BatchCoalescer {
+
+    private BatchCoalescer() {
+    }
+
+    static Iterator<CommitterRequest> coalesce(
+            Iterator<CommitterRequest> it) {
+        // a reference moves to the end of the map on each new request
+        Map<String, CommitterRequest> lastRequests = new LinkedHashMap<>();
+        var total = 0;
+        while (it.hasNext()) {
+            var req = it.next();
+            var previous = lastRequests.remove(req.getReference());
+            if (previous instanceof UpsertRequest upsert) {
+                IOUtils.closeQuietly(upsert.getContent());
+            }
+            lastRequests.put(req.getReference(), req);
+            total++;
+        }
+
+        List<CommitterRequest> requests = new ArrayList<>(lastRequests.size());
+        lastRequests.values().stream()
+                .filter(DeleteRequest.class::isInstance)
+                .forEach(requests::add);
+        lastRequests.values().stream()
+                .filter(r -> !(r instanceof DeleteRequest))
+                .forEach(requests::add);
+        if (LOG.isDebugEnabled() && total != requests.size()) {
+            LOG.debug("Coalesced batch of {} requests into {}.",
+                    total, requests.size());
+        }
+        return requests.iterator();
+    }
+}
@@ -0,0 +1,223 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.committer.core.batch.queue.impl;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.lang3.StringUtils;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Content-addressed storage of upsert request content, shared by all
+ * queue files referencing the same content. Each blob is stored once
+ * under a key derived from the document checksum when available, or from
+ * a hash of the content otherwise. The number of queue files referencing
+ * a blob is tracked in memory and the blob is deleted when the last one
+ * is released. Reference counts are rebuilt from existing queue files
+ * on initialization. Thread-safe.
+ */
+@Slf4j
+class BlobStore {
+
+    private static final String HASH_ALGORITHM = "SHA-256";
+    private static final String TEMP_PREFIX = "tmp-";
+
+    private final Path dir;
+    private final Map<String, Integer> refCounts = new ConcurrentHashMap<>();
+
+    BlobStore(Path dir) {
+        this.dir = dir;
+    }
+
+    Path getDir() {
+        return dir;
+    }
+
+    /**
+     * Creates the blob directory and rebuilds reference counts from
+     * the blob keys found in the supplied queue files. Blobs no longer
+     * referenced (e.g., from an abnormal termination) are deleted.
+     * @param queueFiles existing queue files
+     * @throws IOException could not read queue files or blobs
+     */
+    void init(Stream<Path> queueFiles) throws IOException {
+        Files.createDirectories(dir);
+        refCounts.clear();
+        try {
+            queueFiles.forEach(f -> {
+                try {
+                    var key = FSQueueUtil.readBlobKey(f);
+                    if (key != null) {
+                        refCounts.merge(key, 1, Integer::sum);
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        var orphans = 0;
+        try (var files = Files.walk(dir)) {
+            for (var f : (Iterable<Path>) files
+                    .filter(Files::isRegularFile)::iterator) {
+                var name = f.getFileName().toString();
+                if (!refCounts.containsKey(name)) {
+                    Files.deleteIfExists(f);
+                    orphans++;
+                }
+            }
+        }
+        LOG.debug("Committer queue blob store has {} blob(s) referenced. "
+                + "{} orphan(s) deleted.", refCounts.size(), orphans);
+    }
+
+    /**
+     * Stores the given content, or references it if already stored.
+     * When a checksum is supplied and a blob already exists for it,
+     * the content is not read.
+     * @param checksum content checksum or {@code null} to hash the content
+     * @param content content to store
+     * @return the blob key
+     * @throws IOException could not store content
+     */
+    String store(String checksum, InputStream content) throws IOException {
+        if (StringUtils.isNotBlank(checksum)) {
+            var key = hash(checksum.getBytes(UTF_8));
+            if (refCounts.computeIfPresent(key, (k, c) -> c + 1) != null) {
+                return key;
+            }
+            return add(key, writeTemp(content, null));
+        }
+        var digest = newDigest();
+        var tmp = writeTemp(content, digest);
+        return add(HexFormat.of().formatHex(digest.digest()), tmp);
+    }
+
+    /**
+     * Opens a stream on the content of a blob.
+     * @param key blob key
+     * @return blob content
+     * @throws IOException blob not found or could not be read
+     */
+    InputStream open(String key) throws IOException {
+        return Files.newInputStream(blobPath(key));
+    }
+
+    /**
+     * Releases one reference to a blob, deleting the blob when no longer
+     * referenced.
+     * @param key blob key
+     */
+    void release(String key) {
+        refCounts.computeIfPresent(key, (k, c) -> {
+            if (c > 1) {
+                return c - 1;
+            }
+            try {
+                Files.deleteIfExists(blobPath(k));
+            } catch (IOException e) {
+                LOG.warn("Could not delete committer queue blob: {}",
+                        blobPath(k).toAbsolutePath(), e);
+            }
+            return null;
+        });
+    }
+
+    int size() {
+        return refCounts.size();
+    }
+
+    int refCount(String key) {
+        return refCounts.getOrDefault(key, 0);
+    }
+
+    // Moves the temporary file in place unless the blob was stored
+    // concurrently. All file changes for a key happen under its map entry.
+    private String add(String key, Path tmp) throws IOException {
+        try {
+            refCounts.compute(key, (k, c) -> {
+                if (c != null) {
+                    return c + 1;
+                }
+                try {
+                    var target = blobPath(k);
+                    Files.createDirectories(target.getParent());
+                    Files.move(tmp, target,
+                            StandardCopyOption.REPLACE_EXISTING,
+                            StandardCopyOption.ATOMIC_MOVE);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                return 1;
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+        return key;
+    }
+
+    private Path writeTemp(InputStream content, MessageDigest digest)
+            throws IOException {
+        var tmp = Files.createTempFile(dir, TEMP_PREFIX, null);
+        var is = digest == null
+                ? content
+                : new DigestInputStream(content, digest);
+        try (var os = Files.newOutputStream(tmp)) {
+            IOUtils.copy(is, os);
+        } catch (IOException e) {
+            Files.deleteIfExists(tmp);
+            throw e;
+        }
+        return tmp;
+    }
+
+    // Blobs are spread in sub-directories named after the first two
+    // key characters to keep directories small.
+    private Path blobPath(String key) {
+        return dir.resolve(key.substring(0, 2)).resolve(key);
+    }
+
+    private static String hash(byte[] bytes) {
+        return HexFormat.of().formatHex(newDigest().digest(bytes));
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(HASH_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            // all JVMs are required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+}
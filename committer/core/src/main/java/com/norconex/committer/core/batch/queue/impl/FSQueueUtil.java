@@ -15,6 +15,7 @@
 package com.norconex.committer.core.batch.queue.impl;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Optional.ofNullable;
 
 import java.io.FileFilter;
 import java.io.IOException;
@@ -33,14 +34,18 @@ import org.apache.commons.io.IOUtils;
 import com.norconex.committer.core.CommitterRequest;
 import com.norconex.committer.core.DeleteRequest;
 import com.norconex.committer.core.UpsertRequest;
+import com.norconex.committer.core.batch.queue.impl.FsQueue.SplitBatch;
 import com.norconex.commons.lang.file.FileUtil;
 import com.norconex.commons.lang.io.CachedInputStream;
 import com.norconex.commons.lang.io.CachedStreamFactory;
 import com.norconex.commons.lang.map.Properties;
 
+import lombok.extern.slf4j.Slf4j;
+
 /**
  * File sytem queue utility methods.
  */
+@Slf4j
 public final class FSQueueUtil {
 
     static final String EXT = ".zip";
@@ -77,7 +82,47 @@ public final class FSQueueUtil {
 
     public static void toZipFile(
             CommitterRequest request, Path targetFile) throws IOException {
+        toZipFile(request, targetFile, null, null);
+    }
+
+    /**
+     * Writes a request to a zip file. When a blob store is supplied,
+     * upsert content is stored in it and only its blob key is written
+     * to the zip file.
+     * @param request committer request
+     * @param targetFile zip file to write
+     * @param blobStore blob store or {@code null} to embed content
+     * @param checksumField metadata field holding the content checksum
+     *     used as blob key, or {@code null} to hash the content
+     * @throws IOException could not write the request
+     */
+    static void toZipFile(
+            CommitterRequest request,
+            Path targetFile,
+            BlobStore blobStore,
+            String checksumField) throws IOException {
+
+        String blobKey = null;
+        if (blobStore != null && request instanceof UpsertRequest upsert) {
+            blobKey = blobStore.store(
+                    checksumField == null ? null
+                            : upsert.getMetadata().getString(checksumField),
+                    upsert.getContent());
+        }
+        try {
+            writeZipFile(request, targetFile, blobKey);
+        } catch (IOException e) {
+            if (blobKey != null) {
+                blobStore.release(blobKey);
+                Files.deleteIfExists(targetFile);
+            }
+            throw e;
+        }
+    }
 
+    private static void writeZipFile(
+            CommitterRequest request, Path targetFile, String blobKey)
+            throws IOException {
         try (var zipOS = new ZipOutputStream(
                 IOUtils.buffer(Files.newOutputStream(targetFile)), UTF_8)) {
             // Reference
@@ -93,7 +138,12 @@ public final class FSQueueUtil {
             zipOS.closeEntry();
 
             // Content
-            if (request instanceof UpsertRequest upsert) {
+            if (blobKey != null) {
+                zipOS.putNextEntry(new ZipEntry("blob"));
+                IOUtils.write(blobKey, zipOS, UTF_8);
+                zipOS.flush();
+                zipOS.closeEntry();
+            } else if (request instanceof UpsertRequest upsert) {
                 zipOS.putNextEntry(new ZipEntry("content"));
                 IOUtils.copy(upsert.getContent(), zipOS);
                 zipOS.flush();
@@ -102,6 +152,41 @@ public final class FSQueueUtil {
         }
     }
 
+    /**
+     * Gets the next batch size to attempt after a batch failed to be
+     * consumed, according to the batch split strategy.
+     * @param lastTriedSize size of the failing batch
+     * @param splitBatch batch split strategy
+     * @return new batch size or -1 if the batch cannot be split further
+     */
+    static int reduceBatchSize(int lastTriedSize, SplitBatch splitBatch) {
+        // we do not got smaller than one, so we call it quit (-1)
+        if (lastTriedSize <= 1) {
+            return -1;
+        }
+
+        var sb = ofNullable(splitBatch).orElse(SplitBatch.OFF);
+        return switch (sb) {
+            case HALF -> {
+                var newMaxSize = (lastTriedSize + 1) / 2;
+                LOG.error(
+                        "Could not process batch of max size {}. Trying "
+                                + "again with max size {}...",
+                        lastTriedSize,
+                        newMaxSize);
+                yield newMaxSize;
+            }
+            case ONE -> {
+                LOG.error(
+                        "Could not process batch of max size {}. Trying "
+                                + "again one by one...",
+                        lastTriedSize);
+                yield 1;
+            }
+            default -> -1;
+        };
+    }
+
     public static CommitterRequest fromZipFile(Path sourceFile)
             throws IOException {
         return fromZipFile(sourceFile, null);
@@ -110,6 +195,13 @@ public final class FSQueueUtil {
     public static CommitterRequest fromZipFile(
             Path sourceFile, CachedStreamFactory streamFactory)
             throws IOException {
+        return fromZipFile(sourceFile, streamFactory, null);
+    }
+
+    static CommitterRequest fromZipFile(
+            Path sourceFile,
+            CachedStreamFactory streamFactory,
+            BlobStore blobStore) throws IOException {
         String ref = null;
         var meta = new Properties();
         CachedInputStream content = null;
@@ -133,6 +225,12 @@ public final class FSQueueUtil {
                         content = csf.newInputStream(is); //NOSONAR returns it
                         content.enforceFullCaching();
                         content.rewind();
+                    } else if ("blob".equals(name)) {
+                        content = fromBlob(
+                                IOUtils.toString(is, UTF_8),
+                                streamFactory,
+                                blobStore,
+                                sourceFile);
                     }
                 }
             }
@@ -148,4 +246,43 @@ public final class FSQueueUtil {
         }
         return new UpsertRequest(ref, meta, content);
     }
+
+    /**
+     * Gets the key of the blob holding the content of a queued request.
+     * @param sourceFile queue zip file
+     * @return blob key or {@code null} if the request has no blob
+     * @throws IOException could not read the zip file
+     */
+    static String readBlobKey(Path sourceFile) throws IOException {
+        try (var zipFile = new ZipFile(sourceFile.toFile())) {
+            var entry = zipFile.getEntry("blob");
+            if (entry == null) {
+                return null;
+            }
+            try (var is = zipFile.getInputStream(entry)) {
+                return IOUtils.toString(is, UTF_8);
+            }
+        }
+    }
+
+    private static CachedInputStream fromBlob(
+            String blobKey,
+            CachedStreamFactory streamFactory,
+            BlobStore blobStore,
+            Path sourceFile) throws IOException {
+        if (blobStore == null) {
+            throw new IOException(
+                    "Committer queue zip references blob \"" + blobKey
+                            + "\" but no blob store is configured: "
+                            + sourceFile);
+        }
+        var csf = Optional.ofNullable(
+                streamFactory).orElseGet(CachedStreamFactory::new);
+        try (var is = blobStore.open(blobKey)) {
+            var content = csf.newInputStream(is); //NOSONAR returns it
+            content.enforceFullCaching();
+            content.rewind();
+            return content;
+        }
+    }
 }
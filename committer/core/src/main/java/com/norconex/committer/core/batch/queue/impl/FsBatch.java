@@ -35,6 +35,7 @@ import com.norconex.commons.lang.io.CachedStreamFactory;
 class FsBatch implements Iterable<CommitterRequest> {
 
     private CachedStreamFactory streamFactory;
+    private final BlobStore blobStore;
     private final Path dir;
     private final long max;
 
@@ -46,7 +47,22 @@ class FsBatch implements Iterable<CommitterRequest> {
      *     value lower or equal to zero matches all requests found in directory
      */
     FsBatch(CachedStreamFactory streamFactory, Path dir, long max) {
+        this(streamFactory, null, dir, max);
+    }
+
+    /**
+     * Creates a new file system batch with content stored in a blob store.
+     * @param streamFactory stream factory
+     * @param blobStore blob store holding request content, or {@code null}
+     *     if content is embedded in queue files
+     * @param dir directory where requests are queued
+     * @param max Maximum number of committer request to iterate through. A
+     *     value lower or equal to zero matches all requests found in directory
+     */
+    FsBatch(CachedStreamFactory streamFactory, BlobStore blobStore,
+            Path dir, long max) {
         this.streamFactory = streamFactory;
+        this.blobStore = blobStore;
         this.dir = dir;
         this.max = max;
     }
@@ -69,7 +85,14 @@ class FsBatch implements Iterable<CommitterRequest> {
     public void delete() throws IOException {
         var it = zipIterator();
         while (it.hasNext()) {
-            FileUtil.delete(it.next().toFile());
+            var file = it.next();
+            var blobKey = blobStore != null
+                    ? FSQueueUtil.readBlobKey(file)
+                    : null;
+            FileUtil.delete(file.toFile());
+            if (blobKey != null) {
+                blobStore.release(blobKey);
+            }
         }
     }
 
@@ -97,7 +120,7 @@ class FsBatch implements Iterable<CommitterRequest> {
 
     private CommitterRequest loadCommitterRequest(Path file) {
         try {
-            return FSQueueUtil.fromZipFile(file, streamFactory);
+            return FSQueueUtil.fromZipFile(file, streamFactory, blobStore);
         } catch (IOException e) {
             throw new UncheckedIOException(e);
         }
@@ -17,7 +17,6 @@ package com.norconex.committer.core.batch.queue.impl;
 import static java.lang.Math.ceil;
 import static java.lang.Math.log;
 import static java.lang.Math.log10;
-import static java.util.Optional.ofNullable;
 import static org.apache.commons.lang3.StringUtils.leftPad;
 
 import java.io.IOException;
@@ -26,10 +25,17 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
 
 import org.apache.commons.io.FileUtils;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
 
 import com.norconex.committer.core.CommitterContext;
 import com.norconex.committer.core.CommitterRequest;
@@ -92,6 +98,32 @@ import lombok.extern.slf4j.Slf4j;
  * "maxRetry", the later then represents how many times to retry each new
  * smaller batches created.
  * </p>
+ *
+ * <h2>Asynchronous consumption</h2>
+ * <p>
+ * By default, a full batch is consumed by the thread queuing the request
+ * completing it, which is blocked until the batch is committed (retries
+ * included). Setting {@link FsQueueConfig#setAsyncConsumers(int)} to
+ * a positive value has full batches consumed in parallel by that many
+ * background threads instead. Up to
+ * {@link FsQueueConfig#setMaxInFlightBatches(int)} batches can be pending
+ * consumption before queuing blocks. A batch failure is reported
+ * on the next call to {@link #queue(CommitterRequest)} or on
+ * {@link #close()}, which waits for all pending batches to be consumed.
+ * </p>
+ *
+ * <h2>Content deduplication</h2>
+ * <p>
+ * By default, each queue file embeds the content of its upsert request.
+ * When {@link FsQueueConfig#setDeduplicateContent(boolean)} is
+ * <code>true</code>, content is instead stored once in a "blobs"
+ * sub-folder, keyed by the document checksum found in the
+ * {@link FsQueueConfig#setContentChecksumField(String)} metadata field
+ * (or by a hash of the content when that field is absent). Queue files
+ * then only reference their blob, which is deleted once no queued or
+ * failed request references it anymore. Queuing the same content
+ * under several references then writes it only once.
+ * </p>
  */
 @EqualsAndHashCode
 @ToString
@@ -118,12 +150,27 @@ public class FsQueue implements CommitterQueue, Configurable<FsQueueConfig> {
     @EqualsAndHashCode.Exclude
     @ToString.Exclude
     private CachedStreamFactory streamFactory;
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private BlobStore blobStore;
 
     // directory currently being written into (up to batch size).
     @EqualsAndHashCode.Exclude
     @ToString.Exclude
     private Path activeDir;
 
+    // asynchronous consumption
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private ExecutorService consumerPool;
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private Semaphore inFlightBatches;
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private final AtomicReference<Exception> asyncFailure =
+            new AtomicReference<>();
+
     private Retrier retrier = new Retrier(0);
 
     @Getter
@@ -167,6 +214,11 @@ public class FsQueue implements CommitterQueue, Configurable<FsQueueConfig> {
                             + workDir.toAbsolutePath());
         }
 
+        blobStore = null;
+        if (configuration.isDeduplicateContent()) {
+            initBlobStore(workDir.resolve("blobs"));
+        }
+
         if (configuration.isCommitLeftoversOnInit()) {
             // Resume by first processing existing batches not yet committed
             // from previous execution.
@@ -185,12 +237,44 @@ public class FsQueue implements CommitterQueue, Configurable<FsQueueConfig> {
         // directories so we initialize the batch counter properly
         // to honor maxPerFolder?
 
+        if (configuration.getAsyncConsumers() > 0) {
+            var threads = configuration.getAsyncConsumers();
+            LOG.info("Consuming batches asynchronously with {} threads.",
+                    threads);
+            consumerPool = Executors.newFixedThreadPool(
+                    threads,
+                    BasicThreadFactory.builder()
+                            .namingPattern("committer-queue-consumer-%d")
+                            .daemon(true)
+                            .build());
+            inFlightBatches = new Semaphore(Math.max(
+                    threads, configuration.getMaxInFlightBatches()));
+            asyncFailure.set(null);
+        }
+
         // Start for real
         activeDir = createActiveDir();
 
         LOG.info("File system Committer queue initialized.");
     }
 
+    private void initBlobStore(Path blobDir) throws CommitterQueueException {
+        var store = new BlobStore(blobDir);
+        // rebuild blob references from queued and failed requests
+        try (var queued = FSQueueUtil.findZipFiles(queueDir);
+                var failed = FSQueueUtil.findZipFiles(errorDir)) {
+            store.init(Stream.concat(queued, failed));
+        } catch (IOException e) {
+            throw new CommitterQueueException(
+                    "Could not initialize committer queue blob store: "
+                            + blobDir.toAbsolutePath(),
+                    e);
+        }
+        LOG.info("Committer queue content deduplicated under: {}",
+                blobDir.toAbsolutePath());
+        blobStore = store;
+    }
+
     public BatchConsumer getBatchConsumer() {
         return batchConsumer;
     }
@@ -204,7 +288,8 @@ public class FsQueue implements CommitterQueue, Configurable<FsQueueConfig> {
         var file = createQueueFile(request, fullBatchDir);
 
         try {
-            FSQueueUtil.toZipFile(request, file);
+            FSQueueUtil.toZipFile(request, file, blobStore,
+                    configuration.getContentChecksumField());
         } catch (IOException e) {
             throw new CommitterQueueException(
                     "Could not queue request for "
@@ -214,10 +299,77 @@ public class FsQueue implements CommitterQueue, Configurable<FsQueueConfig> {
         }
 
         if (fullBatchDir.get() != null) {
-            consumeBatchDirectory(fullBatchDir.get());
+            if (consumerPool != null) {
+                consumeBatchDirectoryAsync(fullBatchDir.get());
+            } else {
+                consumeBatchDirectory(fullBatchDir.get());
+            }
+        }
+    }
+
+    private void consumeBatchDirectoryAsync(Path dir)
+            throws CommitterQueueException {
+        throwAsyncFailure();
+        try {
+            // backpressure: wait for an in-flight batch slot
+            inFlightBatches.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CommitterQueueException(
+                    "Interrupted while waiting to consume batch: "
+                            + dir.toAbsolutePath(),
+                    e);
+        }
+        try {
+            consumerPool.execute(() -> {
+                try {
+                    consumeBatchDirectory(dir);
+                } catch (CommitterQueueException | RuntimeException e) {
+                    LOG.error("Could not consume batch: {}",
+                            dir.toAbsolutePath(), e);
+                    asyncFailure.compareAndSet(null, e);
+                } finally {
+                    inFlightBatches.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlightBatches.release();
+            throw new CommitterQueueException(
+                    "Committer queue is closed. Could not consume batch: "
+                            + dir.toAbsolutePath(),
+                    e);
+        }
+    }
+
+    private void throwAsyncFailure() throws CommitterQueueException {
+        var e = asyncFailure.getAndSet(null);
+        if (e != null) {
+            throw new CommitterQueueException(
+                    "A batch failed to be consumed asynchronously.", e);
         }
     }
 
+    // Waits for asynchronously consumed batches to be done.
+    private void drainConsumerPool() throws CommitterQueueException {
+        if (consumerPool == null) {
+            return;
+        }
+        LOG.info("Waiting for pending committer batches to be consumed...");
+        consumerPool.shutdown();
+        try {
+            while (!consumerPool.awaitTermination(1, TimeUnit.MINUTES)) {
+                LOG.info("Still waiting for pending committer batches...");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CommitterQueueException(
+                    "Interrupted while waiting for pending batches.", e);
+        } finally {
+            consumerPool = null;
+        }
+        throwAsyncFailure();
+    }
+
     // batch split(0) -> try(1) -> try(2) -> split(1) -> try(1) -> try(2) -> ...
     private int consumeBatchDirectory(Path dir) throws CommitterQueueException {
         try {
@@ -234,7 +386,7 @@ public class FsQueue implements CommitterQueue, Configurable<FsQueueConfig> {
 
         var totalConsumed = 0;
         var attemptDocConsumed = Math.max(1, configuration.getBatchSize());
-        var batch = new FsBatch(streamFactory, dir, -1);
+        var batch = new FsBatch(streamFactory, blobStore, dir, -1);
         var batchHadFailures = false;
         var batchRanSuccessfully = false;
         while (!FSQueueUtil.isEmpty(dir)) {
@@ -247,12 +399,15 @@ public class FsQueue implements CommitterQueue, Configurable<FsQueueConfig> {
                 }
             } catch (CommitterQueueException e) {
                 batchHadFailures = true;
-                attemptDocConsumed = reduceBatchSize(attemptDocConsumed);
+                attemptDocConsumed = FSQueueUtil.reduceBatchSize(
+                        attemptDocConsumed,
+                        configuration.getOnCommitFailure().getSplitBatch());
                 if (attemptDocConsumed == -1) {
                     moveUnrecoverableBatchError(batch, e);
                     break;
                 }
-                batch = new FsBatch(streamFactory, dir, attemptDocConsumed);
+                batch = new FsBatch(
+                        streamFactory, blobStore, dir, attemptDocConsumed);
             }
         }
 
@@ -320,37 +475,9 @@ public class FsQueue implements CommitterQueue, Configurable<FsQueueConfig> {
         LOG.error(msg, e);
     }
 
-    private int reduceBatchSize(int lastTriedSize) {
-        // we do not got smaller than one, so we call it quit (-1)
-        if (lastTriedSize <= 1) {
-            return -1;
-        }
-
-        var sb = ofNullable(configuration.getOnCommitFailure().getSplitBatch())
-                .orElse(SplitBatch.OFF);
-        return switch (sb) {
-            case HALF -> {
-                var newMaxSize = (lastTriedSize + 1) / 2;
-                LOG.error(
-                        "Could not process batch of max size {}. Trying "
-                                + "again with max size {}...",
-                        lastTriedSize,
-                        newMaxSize);
-                yield newMaxSize;
-            }
-            case ONE -> {
-                LOG.error(
-                        "Could not process batch of max size {}. Trying "
-                                + "again one by one...",
-                        lastTriedSize);
-                yield 1;
-            }
-            default -> -1;
-        };
-    }
-
     @Override
     public void close() throws CommitterQueueException {
+        drainConsumerPool();
         // specifying parent dir will process all that's left there.
         if (queueDir != null && Files.exists(queueDir)) {
             consumeRemainingBatches();
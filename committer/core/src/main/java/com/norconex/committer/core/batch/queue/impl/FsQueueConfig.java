@@ -25,6 +25,9 @@ public class FsQueueConfig {
 
     public static final int DEFAULT_BATCH_SIZE = 20;
     public static final int DEFAULT_MAX_PER_FOLDER = 500;
+    public static final int DEFAULT_MAX_IN_FLIGHT_BATCHES = 4;
+    public static final String DEFAULT_CONTENT_CHECKSUM_FIELD =
+            "crawler.checksum-doc";
 
     /**
      * The number of documents to be queued in a batch on disk before
@@ -51,6 +54,46 @@ public class FsQueueConfig {
      */
     private boolean commitLeftoversOnInit = false;
 
+    /**
+     * The number of background threads consuming full batches. When
+     * greater than zero, a full batch is handed to one of these threads
+     * and the thread queuing the request returns right away. Batch
+     * consumers (i.e., committers) must then support being invoked
+     * concurrently. Default is 0: a full batch is consumed by the thread
+     * queuing the request completing it.
+     */
+    private int asyncConsumers;
+
+    /**
+     * When consuming batches asynchronously, the maximum number of full
+     * batches waiting to be consumed or being consumed. Queuing a request
+     * completing a batch blocks until that number drops below this value.
+     * Cannot be lower than the number of asynchronous consumers. Default
+     * is {@value FsQueueConfig#DEFAULT_MAX_IN_FLIGHT_BATCHES}.
+     */
+    private int maxInFlightBatches = DEFAULT_MAX_IN_FLIGHT_BATCHES;
+
+    /**
+     * Whether to store upsert request content only once per distinct
+     * content, shared by all queued requests having the same content,
+     * instead of embedding it in each queue file. Default is
+     * <code>false</code>.
+     */
+    private boolean deduplicateContent;
+
+    /**
+     * When deduplicating content, the metadata field holding a checksum
+     * uniquely identifying a document content, used to find whether
+     * that content is already stored without reading it. When blank or
+     * absent from a document, the content is hashed instead. The default
+     * ({@value FsQueueConfig#DEFAULT_CONTENT_CHECKSUM_FIELD}) is where
+     * crawlers store the document checksum when the document checksummer
+     * is configured to keep it. Only use a field whose value differs
+     * whenever the content differs (e.g., not a checksum of a few
+     * metadata fields).
+     */
+    private String contentChecksumField = DEFAULT_CONTENT_CHECKSUM_FIELD;
+
     /**
      * Establishes how to handle commit failures.
      */
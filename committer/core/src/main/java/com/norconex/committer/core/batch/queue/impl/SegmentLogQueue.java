@@ -0,0 +1,367 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.committer.core.batch.queue.impl;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.apache.commons.io.FileUtils;
+
+import com.norconex.committer.core.CommitterContext;
+import com.norconex.committer.core.CommitterRequest;
+import com.norconex.committer.core.batch.BatchConsumer;
+import com.norconex.committer.core.batch.queue.CommitterQueue;
+import com.norconex.committer.core.batch.queue.CommitterQueueException;
+import com.norconex.commons.lang.TimeIdGenerator;
+import com.norconex.commons.lang.config.Configurable;
+import com.norconex.commons.lang.exec.RetriableException;
+import com.norconex.commons.lang.exec.Retrier;
+import com.norconex.commons.lang.file.FileUtil;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.ToString;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * <p>
+ * Append-only segment log queue. An alternative to {@link FsQueue}
+ * better suited to large numbers of small documents: instead of one zip
+ * file per request, requests are appended as length-prefixed records to
+ * a segment file, which rolls over when it reaches the batch size.
+ * A full segment is consumed as one batch by reading it sequentially,
+ * and deleted as a whole once committed.
+ * </p>
+ * <p>
+ * The top-level queue directory is the one defined in the
+ * {@link CommitterContext} initialization argument or the system
+ * temporary directory if {@code null}. A "segments" sub-folder will be
+ * created for queued requests, while an "error" one will also be created
+ * for failed batches.
+ * </p>
+ * <p>
+ * Each segment file ("*.log") has an index file ("*.idx") holding
+ * the offset of every record, used to split failing batches. Upsert
+ * content can optionally be compressed, and is streamed to
+ * the committer directly from the segment file.
+ * </p>
+ *
+ * <h2>Handling Failures</h2>
+ * <p>
+ * Retries and batch splitting on commit failures work the same as
+ * {@link FsQueue}. Records of a batch that could not be committed are
+ * moved to a new segment file under the "error" folder.
+ * </p>
+ * @since 4.0.0
+ */
+@EqualsAndHashCode
+@ToString
+@Slf4j
+public class SegmentLogQueue
+        implements CommitterQueue, Configurable<SegmentLogQueueConfig> {
+
+    private static final String SEGMENT_PREFIX = "segment-";
+
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private Path segmentDir;
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private Path errorDir;
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private BatchConsumer batchConsumer;
+
+    // segment currently being written into (up to batch size).
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private SegmentWriter activeSegment;
+
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private Retrier retrier = new Retrier(0);
+
+    @Getter
+    private final SegmentLogQueueConfig configuration =
+            new SegmentLogQueueConfig();
+
+    @Override
+    public void init(
+            CommitterContext committerContext,
+            @NonNull BatchConsumer batchConsumer)
+            throws CommitterQueueException {
+
+        this.batchConsumer = Objects.requireNonNull(
+                batchConsumer,
+                "'batchConsumer' must not be null.");
+
+        LOG.info("Initializing segment log Committer queue...");
+
+        var workDir = Optional.ofNullable(committerContext.getWorkDir())
+                .orElseGet(() -> Paths.get(FileUtils.getTempDirectoryPath()));
+
+        retrier = new Retrier();
+        retrier.setMaxRetries(
+                configuration.getOnCommitFailure().getMaxRetries());
+        retrier.setRetryDelay(
+                configuration.getOnCommitFailure().getRetryDelay());
+
+        LOG.info(
+                "Committer working directory: {}",
+                workDir.toAbsolutePath());
+        segmentDir = workDir.resolve("segments");
+        errorDir = workDir.resolve("error");
+        try {
+            FileUtils.forceMkdir(segmentDir.toFile());
+            FileUtils.forceMkdir(errorDir.toFile());
+        } catch (IOException e) {
+            throw new CommitterQueueException(
+                    "Could not create committer queue directory: "
+                            + workDir.toAbsolutePath(),
+                    e);
+        }
+
+        if (configuration.isCommitLeftoversOnInit()) {
+            LOG.info("Committing any leftovers...");
+            var cnt = consumeRemainingSegments();
+            if (cnt == 0) {
+                LOG.info("No leftovers.");
+            } else {
+                LOG.info("{} leftovers committed.", cnt);
+            }
+        }
+
+        LOG.info("Segment log Committer queue initialized.");
+    }
+
+    public BatchConsumer getBatchConsumer() {
+        return batchConsumer;
+    }
+
+    @Override
+    public void queue(CommitterRequest request)
+            throws CommitterQueueException {
+        Path fullSegment = null;
+        synchronized (this) {
+            try {
+                if (activeSegment == null) {
+                    activeSegment = new SegmentWriter(
+                            segmentDir.resolve(SEGMENT_PREFIX
+                                    + TimeIdGenerator.next()
+                                    + SegmentWriter.LOG_EXT),
+                            configuration.isCompress());
+                }
+                activeSegment.append(request);
+                if (activeSegment.getCount() >= Math.max(
+                        1, configuration.getBatchSize())) {
+                    fullSegment = rollActiveSegment();
+                }
+            } catch (IOException e) {
+                throw new CommitterQueueException(
+                        "Could not queue request for "
+                                + request.getReference() + " in segment "
+                                + (activeSegment != null
+                                        ? activeSegment.getLogFile()
+                                        : segmentDir),
+                        e);
+            }
+        }
+        // consumed outside the lock so other threads can keep queuing
+        if (fullSegment != null) {
+            consumeSegment(fullSegment);
+        }
+    }
+
+    @Override
+    public void close() throws CommitterQueueException {
+        synchronized (this) {
+            try {
+                rollActiveSegment();
+            } catch (IOException e) {
+                throw new CommitterQueueException(
+                        "Could not close active segment.", e);
+            }
+        }
+        if (segmentDir != null && Files.exists(segmentDir)) {
+            consumeRemainingSegments();
+        }
+    }
+
+    @Override
+    public void clean() throws CommitterQueueException {
+        if (segmentDir == null) {
+            LOG.error("Segment directory not found. Nothing not clean.");
+            return;
+        }
+        try {
+            FileUtil.delete(segmentDir.getParent().toFile());
+        } catch (IOException e) {
+            throw new CommitterQueueException(
+                    "Could not clean queue "
+                            + "directory located at "
+                            + segmentDir.getParent().toAbsolutePath(),
+                    e);
+        }
+    }
+
+    //--- Private methods ------------------------------------------------------
+
+    private Path rollActiveSegment() throws IOException {
+        if (activeSegment == null) {
+            return null;
+        }
+        var segment = activeSegment;
+        activeSegment = null;
+        segment.close();
+        return segment.getLogFile();
+    }
+
+    private int consumeRemainingSegments() throws CommitterQueueException {
+        var cnt = 0;
+        try (var files = Files.list(segmentDir)) {
+            // time-based names, so sorting by name keeps queuing order
+            for (Path log : files
+                    .filter(f -> f.getFileName().toString()
+                            .endsWith(SegmentWriter.LOG_EXT))
+                    .sorted()
+                    .toList()) {
+                cnt += consumeSegment(log);
+            }
+        } catch (IOException e) {
+            throw new CommitterQueueException(
+                    "Could not consume remaining segments at "
+                            + segmentDir.toAbsolutePath(),
+                    e);
+        }
+        return cnt;
+    }
+
+    // batch split(0) -> try(1) -> try(2) -> split(1) -> try(1) -> try(2) -> ...
+    private int consumeSegment(Path log) throws CommitterQueueException {
+        var consumed = 0;
+        Exception failure = null;
+        try (var reader = SegmentReader.open(log)) {
+            var total = reader.size();
+            var attemptSize = Math.max(1, configuration.getBatchSize());
+            var hadFailures = false;
+            while (consumed < total) {
+                var to = Math.min(total, consumed + attemptSize);
+                try {
+                    consumeRetriableBatch(reader, consumed, to);
+                    consumed = to;
+                } catch (CommitterQueueException e) {
+                    hadFailures = true;
+                    attemptSize = FSQueueUtil.reduceBatchSize(
+                            attemptSize,
+                            configuration.getOnCommitFailure()
+                                    .getSplitBatch());
+                    if (attemptSize == -1) {
+                        reader.copyTo(
+                                consumed, errorDir.resolve(log.getFileName()));
+                        failure = e;
+                        break;
+                    }
+                }
+            }
+            if (hadFailures && failure == null) {
+                LOG.info("Batch successfully recovered: {}",
+                        log.toAbsolutePath());
+            }
+        } catch (IOException e) {
+            throw new CommitterQueueException(
+                    "Could not read requests to commit from segment "
+                            + log.toAbsolutePath(),
+                    e);
+        }
+
+        // Whole segment processed (committed or moved to error folder).
+        try {
+            Files.deleteIfExists(SegmentWriter.indexFile(log));
+            Files.deleteIfExists(log);
+        } catch (IOException e) {
+            throw new CommitterQueueException(
+                    "Could not delete consumed committer segment "
+                            + log.toAbsolutePath(),
+                    e);
+        }
+
+        if (failure != null) {
+            var msg = "Could not process one or more requests from "
+                    + "committer segment " + log.toAbsolutePath()
+                    + ". Moved them to error directory: "
+                    + errorDir.toAbsolutePath();
+            if (!configuration.getOnCommitFailure().isIgnoreErrors()) {
+                throw new CommitterQueueException(msg, failure);
+            }
+            LOG.error(msg, failure);
+        }
+        return consumed;
+    }
+
+    private void consumeRetriableBatch(
+            SegmentReader reader, int from, int to)
+            throws CommitterQueueException {
+        try {
+            retrier.execute(() -> {
+                batchConsumer.consume(new RecordIterator(reader, from, to));
+                return null;
+            });
+        } catch (RetriableException e) {
+            throw new CommitterQueueException(
+                    "Could not consume batch. Number of attempts: "
+                            + (retrier.getMaxRetries() + 1),
+                    e);
+        }
+    }
+
+    //--- Inner Classes --------------------------------------------------------
+
+    private static class RecordIterator implements Iterator<CommitterRequest> {
+        private final SegmentReader reader;
+        private final int to;
+        private int next;
+
+        private RecordIterator(SegmentReader reader, int from, int to) {
+            this.reader = reader;
+            next = from;
+            this.to = to;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next < to;
+        }
+
+        @Override
+        public CommitterRequest next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            try {
+                return reader.read(next++);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,54 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.committer.core.batch.queue.impl;
+
+import com.norconex.committer.core.batch.queue.impl.FsQueueConfig.OnCommitFailure;
+
+import lombok.Data;
+import lombok.experimental.Accessors;
+
+@Data
+@Accessors(chain = true)
+public class SegmentLogQueueConfig {
+
+    public static final int DEFAULT_BATCH_SIZE = 20;
+
+    /**
+     * The number of requests appended to a segment file before consuming
+     * that segment as a batch. Default
+     * is {@value SegmentLogQueueConfig#DEFAULT_BATCH_SIZE}.
+     */
+    private int batchSize = DEFAULT_BATCH_SIZE;
+
+    /**
+     * During initialization, whether to attempt committing any leftover
+     * segments in the committer queue from a previous crawl session.
+     * Leftovers are typically associated with an abnormal termination
+     * (E.g., prematurely ended).
+     */
+    private boolean commitLeftoversOnInit = false;
+
+    /**
+     * Whether to compress (GZIP) the content of each upsert request
+     * written to segment files. Saves disk space at the expense of
+     * CPU usage. Default is <code>false</code>.
+     */
+    private boolean compress;
+
+    /**
+     * Establishes how to handle commit failures.
+     */
+    private final OnCommitFailure onCommitFailure = new OnCommitFailure();
+}
@@ -0,0 +1,294 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.committer.core.batch.queue.impl;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.zip.GZIPInputStream;
+
+import org.apache.commons.io.IOUtils;
+
+import com.norconex.committer.core.CommitterRequest;
+import com.norconex.committer.core.DeleteRequest;
+import com.norconex.committer.core.UpsertRequest;
+import com.norconex.commons.lang.map.Properties;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Reads committer requests from a segment file written by
+ * {@link SegmentWriter}. Record offsets are taken from the segment index
+ * file when valid, or obtained by scanning the segment otherwise.
+ * Incomplete records at the end of a segment are ignored.
+ * Upsert content is streamed straight from the segment file, without
+ * intermediate copies. Content streams are only valid until this
+ * reader is closed.
+ */
+@Slf4j
+class SegmentReader implements Closeable {
+
+    private final Path logFile;
+    private final FileChannel channel;
+    private final long[] offsets;
+    // end of last valid record
+    private final long end;
+
+    private SegmentReader(
+            Path logFile, FileChannel channel, long[] offsets, long end) {
+        this.logFile = logFile;
+        this.channel = channel;
+        this.offsets = offsets;
+        this.end = end;
+    }
+
+    static SegmentReader open(Path logFile) throws IOException {
+        var channel = FileChannel.open(logFile, StandardOpenOption.READ);
+        try {
+            var offsets = readIndex(logFile, channel);
+            if (offsets == null) {
+                offsets = scan(channel);
+            }
+            var end = offsets.length == 0 ? 0 : recordEnd(
+                    channel, offsets[offsets.length - 1]);
+            return new SegmentReader(logFile, channel, offsets, end);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    Path getLogFile() {
+        return logFile;
+    }
+
+    int size() {
+        return offsets.length;
+    }
+
+    CommitterRequest read(int recordIndex) throws IOException {
+        var pos = offsets[recordIndex] + 8;
+        var typeAndFlags = readBytes(pos, 2);
+        pos += 2;
+        var ref = readBytes(pos + 4, readInt(pos));
+        pos += 4 + ref.length;
+        var meta = readBytes(pos + 4, readInt(pos));
+        pos += 4 + meta.length;
+
+        var props = new Properties();
+        props.loadFromProperties(new ByteArrayInputStream(meta));
+        var reference = new String(ref, UTF_8);
+        if (typeAndFlags[0] == SegmentWriter.TYPE_DELETE) {
+            return new DeleteRequest(reference, props);
+        }
+        var contentLength = readLong(pos);
+        InputStream content =
+                new RegionInputStream(channel, pos + 8, contentLength);
+        if ((typeAndFlags[1] & SegmentWriter.FLAG_GZIP) != 0) {
+            content = new GZIPInputStream(content);
+        }
+        return new UpsertRequest(reference, props, content);
+    }
+
+    /**
+     * Copies records from the given index to a new segment, with its
+     * index file.
+     * @param fromRecord index of the first record to copy
+     * @param targetLogFile new segment file
+     * @throws IOException could not copy
+     */
+    void copyTo(int fromRecord, Path targetLogFile) throws IOException {
+        var start = offsets[fromRecord];
+        try (var target = FileChannel.open(targetLogFile,
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            var pos = start;
+            while (pos < end) {
+                pos += channel.transferTo(pos, end - pos, target);
+            }
+            target.force(false);
+        }
+        var idx = ByteBuffer.allocate(8 * (offsets.length - fromRecord));
+        for (var i = fromRecord; i < offsets.length; i++) {
+            idx.putLong(offsets[i] - start);
+        }
+        Files.write(SegmentWriter.indexFile(targetLogFile), idx.array());
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    //--- Private methods ------------------------------------------------------
+
+    // null if index is missing or not consistent with segment
+    private static long[] readIndex(Path logFile, FileChannel channel)
+            throws IOException {
+        var indexFile = SegmentWriter.indexFile(logFile);
+        if (!Files.isRegularFile(indexFile)
+                || Files.size(indexFile) % 8 != 0) {
+            return null;
+        }
+        var offsets = new long[(int) (Files.size(indexFile) / 8)];
+        try (var in = new DataInputStream(IOUtils.buffer(
+                Files.newInputStream(indexFile)))) {
+            for (var i = 0; i < offsets.length; i++) {
+                offsets[i] = in.readLong();
+            }
+        }
+        // the index must cover the whole segment to be trusted (it is
+        // not flushed on every record)
+        var indexedEnd = offsets.length == 0 ? 0 : recordEnd(
+                channel, offsets[offsets.length - 1]);
+        if (indexedEnd != channel.size()) {
+            LOG.warn("Segment index not matching segment, scanning "
+                    + "segment instead: {}", logFile);
+            return null;
+        }
+        return offsets;
+    }
+
+    private static long[] scan(FileChannel channel) throws IOException {
+        var offsets = new long[16];
+        var count = 0;
+        var pos = 0L;
+        long next;
+        while ((next = recordEnd(channel, pos)) != -1) {
+            if (count == offsets.length) {
+                offsets = Arrays.copyOf(offsets, count * 2);
+            }
+            offsets[count++] = pos;
+            pos = next;
+        }
+        return Arrays.copyOf(offsets, count);
+    }
+
+    // -1 if there is no complete record at position
+    private static long recordEnd(FileChannel channel, long pos)
+            throws IOException {
+        var size = channel.size();
+        if (pos + 8 > size) {
+            return -1;
+        }
+        var buf = ByteBuffer.allocate(8);
+        readFully(channel, buf, pos);
+        var length = buf.getLong(0);
+        if (length <= 0 || pos + 8 + length > size) {
+            return -1;
+        }
+        return pos + 8 + length;
+    }
+
+    private int readInt(long pos) throws IOException {
+        var buf = ByteBuffer.allocate(4);
+        readFully(channel, buf, pos);
+        return buf.getInt(0);
+    }
+
+    private long readLong(long pos) throws IOException {
+        var buf = ByteBuffer.allocate(8);
+        readFully(channel, buf, pos);
+        return buf.getLong(0);
+    }
+
+    private byte[] readBytes(long pos, int length) throws IOException {
+        var buf = ByteBuffer.allocate(length);
+        readFully(channel, buf, pos);
+        return buf.array();
+    }
+
+    private static void readFully(
+            FileChannel channel, ByteBuffer buf, long pos) throws IOException {
+        while (buf.hasRemaining()) {
+            if (channel.read(buf, pos + buf.position()) == -1) {
+                throw new EOFException("Unexpected end of segment.");
+            }
+        }
+    }
+
+    //--- Inner Classes --------------------------------------------------------
+
+    // Stream over a region of the segment file, using positional reads so
+    // many can share the same channel.
+    private static final class RegionInputStream extends InputStream {
+        private final FileChannel channel;
+        private long pos;
+        private final long end;
+
+        private RegionInputStream(FileChannel channel, long pos, long length) {
+            this.channel = channel;
+            this.pos = pos;
+            end = pos + length;
+        }
+
+        @Override
+        public int read() throws IOException {
+            var b = new byte[1];
+            return read(b, 0, 1) == -1 ? -1 : b[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (pos >= end) {
+                return -1;
+            }
+            var n = channel.read(ByteBuffer.wrap(
+                    b, off, (int) Math.min(len, end - pos)), pos);
+            if (n > 0) {
+                pos += n;
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(long n) {
+            var skipped = Math.max(0, Math.min(n, end - pos));
+            pos += skipped;
+            return skipped;
+        }
+
+        @Override
+        public int available() {
+            return (int) Math.min(Integer.MAX_VALUE, end - pos);
+        }
+
+        // Zero-copy when the target is backed by a file channel.
+        @Override
+        public long transferTo(OutputStream out) throws IOException {
+            var start = pos;
+            var target = out instanceof FileOutputStream fos
+                    ? fos.getChannel()
+                    : Channels.newChannel(out);
+            while (pos < end) {
+                pos += channel.transferTo(pos, end - pos, target);
+            }
+            return pos - start;
+        }
+    }
+}
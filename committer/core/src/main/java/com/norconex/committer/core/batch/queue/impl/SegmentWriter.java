@@ -0,0 +1,161 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.committer.core.batch.queue.impl;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.GZIPOutputStream;
+
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.io.output.CloseShieldOutputStream;
+
+import com.norconex.committer.core.CommitterRequest;
+import com.norconex.committer.core.UpsertRequest;
+
+/**
+ * <p>
+ * Appends committer requests to a segment file, as length-prefixed
+ * records. The offset of each record is written to an index file
+ * alongside the segment file. Record layout:
+ * </p>
+ * <pre>
+ * long   record length (bytes following this field)
+ * byte   type ({@value #TYPE_UPSERT} or {@value #TYPE_DELETE})
+ * byte   flags ({@value #FLAG_GZIP} when content is compressed)
+ * int    reference length, followed by UTF-8 reference
+ * int    metadata length, followed by metadata as properties
+ * long   content length, followed by content (upserts only)
+ * </pre>
+ * <p>
+ * The record length is written last, so a record interrupted by
+ * an abnormal termination is detected and ignored when read.
+ * Not thread-safe.
+ * </p>
+ */
+class SegmentWriter implements Closeable {
+
+    static final String LOG_EXT = ".log";
+    static final String INDEX_EXT = ".idx";
+
+    static final byte TYPE_UPSERT = 'U';
+    static final byte TYPE_DELETE = 'D';
+    static final byte FLAG_GZIP = 1;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Path logFile;
+    private final boolean compress;
+    private final FileChannel channel;
+    private final OutputStream out;
+    private final DataOutputStream index;
+    private int count;
+
+    SegmentWriter(Path logFile, boolean compress) throws IOException {
+        this.logFile = logFile;
+        this.compress = compress;
+        channel = FileChannel.open(logFile,
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        out = new BufferedOutputStream(
+                Channels.newOutputStream(channel), BUFFER_SIZE);
+        index = new DataOutputStream(new BufferedOutputStream(
+                Files.newOutputStream(indexFile(logFile),
+                        StandardOpenOption.CREATE_NEW,
+                        StandardOpenOption.WRITE)));
+    }
+
+    static Path indexFile(Path logFile) {
+        var name = logFile.getFileName().toString();
+        return logFile.resolveSibling(
+                name.substring(0, name.length() - LOG_EXT.length())
+                        + INDEX_EXT);
+    }
+
+    Path getLogFile() {
+        return logFile;
+    }
+
+    int getCount() {
+        return count;
+    }
+
+    void append(CommitterRequest request) throws IOException {
+        var start = channel.position();
+        var upsert = request instanceof UpsertRequest;
+        var ref = request.getReference().getBytes(UTF_8);
+        var metaOut = new ByteArrayOutputStream();
+        request.getMetadata().storeToProperties(metaOut);
+        var meta = metaOut.toByteArray();
+
+        var header = ByteBuffer.allocate(
+                8 + 1 + 1 + 4 + ref.length + 4 + meta.length
+                        + (upsert ? 8 : 0));
+        header.putLong(0); // record length, set once known
+        header.put(upsert ? TYPE_UPSERT : TYPE_DELETE);
+        header.put(upsert && compress ? FLAG_GZIP : 0);
+        header.putInt(ref.length).put(ref);
+        header.putInt(meta.length).put(meta);
+        if (upsert) {
+            header.putLong(0); // content length, set once known
+        }
+        out.write(header.array());
+        out.flush();
+
+        if (upsert) {
+            var contentStart = channel.position();
+            var content = ((UpsertRequest) request).getContent();
+            if (compress) {
+                try (var gzip = new GZIPOutputStream(
+                        CloseShieldOutputStream.wrap(out), BUFFER_SIZE)) {
+                    IOUtils.copy(content, gzip, BUFFER_SIZE);
+                }
+            } else {
+                IOUtils.copy(content, out, BUFFER_SIZE);
+            }
+            out.flush();
+            writeLong(channel.position() - contentStart, contentStart - 8);
+        }
+        writeLong(channel.position() - start - 8, start);
+        index.writeLong(start);
+        count++;
+    }
+
+    private void writeLong(long value, long position) throws IOException {
+        var buf = ByteBuffer.allocate(8).putLong(0, value);
+        while (buf.hasRemaining()) {
+            channel.write(buf, position + buf.position());
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try (var ch = channel; var idx = index) {
+            out.flush();
+            index.flush();
+            channel.force(false);
+        }
+    }
+}
@@ -0,0 +1,277 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.committer.core.http;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+import org.apache.commons.io.output.CloseShieldOutputStream;
+import org.apache.hc.client5.http.classic.methods.HttpPost;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.http.ClassicHttpResponse;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.io.entity.AbstractHttpEntity;
+import org.apache.hc.core5.http.io.entity.EntityUtils;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+
+import com.norconex.committer.core.CommitterException;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * <p>
+ * HTTP transport shared by HTTP-based committers. It keeps a pool of
+ * persistent connections to the target server, streams request bodies
+ * to the connection as they are serialized (optionally gzip-compressed),
+ * and can upload sub-batches of a batch in parallel.
+ * </p>
+ * <p>
+ * Request bodies are sent with chunked transfer encoding and are not
+ * repeatable, so failed requests are not retried by the HTTP client.
+ * Retrying is left to the committer queue.
+ * </p>
+ */
+@Slf4j
+public class HttpTransport implements Closeable {
+
+    private final HttpTransportConfig config;
+    private final CloseableHttpClient client;
+    private final UploadExecutor uploadExecutor;
+
+    /**
+     * Creates an HTTP transport using a default HTTP client builder.
+     * @param config transport configuration
+     * @param name short name used for naming upload threads
+     */
+    public HttpTransport(@NonNull HttpTransportConfig config, String name) {
+        this(config, HttpClientBuilder.create(), name);
+    }
+
+    /**
+     * Creates an HTTP transport using the supplied HTTP client builder,
+     * which can be pre-configured (e.g., with proxy or authentication
+     * settings). Connection pooling and timeouts are set by this class.
+     * @param config transport configuration
+     * @param builder HTTP client builder
+     * @param name short name used for naming upload threads
+     */
+    public HttpTransport(
+            @NonNull HttpTransportConfig config,
+            @NonNull HttpClientBuilder builder,
+            String name) {
+        this.config = config;
+        var maxConnections = Math.max(1, config.getMaxConnections());
+        var keepAlive = TimeValue.ofMilliseconds(
+                config.getKeepAlive().toMillis());
+        client = builder
+                .setConnectionManager(PoolingHttpClientConnectionManagerBuilder
+                        .create()
+                        .setMaxConnTotal(maxConnections)
+                        .setMaxConnPerRoute(maxConnections)
+                        .setDefaultConnectionConfig(ConnectionConfig.custom()
+                                .setConnectTimeout(Timeout.ofMilliseconds(
+                                        config.getConnectionTimeout()
+                                                .toMillis()))
+                                .setSocketTimeout(Timeout.ofMilliseconds(
+                                        config.getSocketTimeout().toMillis()))
+                                .build())
+                        .build())
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setResponseTimeout(Timeout.ofMilliseconds(
+                                config.getSocketTimeout().toMillis()))
+                        .build())
+                .setKeepAliveStrategy((response, context) -> keepAlive)
+                .evictIdleConnections(keepAlive)
+                .build();
+        uploadExecutor = new UploadExecutor(
+                config.getUploadParallelism(), name);
+    }
+
+    /**
+     * Posts a request, streaming its body to the connection.
+     * The response is released (and its connection returned to the pool)
+     * once the response handler returns.
+     * @param url target URL
+     * @param headers additional request headers (can be {@code null})
+     * @param contentType request body content type
+     * @param body writes the request body, {@code null} for no body
+     * @param handler handles the response
+     * @throws CommitterException could not write the body, send the
+     *     request, or the response handler failed
+     */
+    public void post(
+            @NonNull String url,
+            Map<String, String> headers,
+            ContentType contentType,
+            BodyWriter body,
+            @NonNull ResponseHandler handler) throws CommitterException {
+        var post = new HttpPost(url);
+        if (headers != null) {
+            headers.forEach(post::addHeader);
+        }
+        if (body != null) {
+            post.setEntity(new StreamingEntity(
+                    contentType, config.isCompressRequests(), body));
+        }
+        try (var response = client.executeOpen(null, post, null)) {
+            handler.handle(response);
+            EntityUtils.consume(response.getEntity());
+        } catch (BodyWriteException e) {
+            throw e.getCause();
+        } catch (IOException e) {
+            throw new CommitterException("Could not post to: " + url, e);
+        }
+    }
+
+    /**
+     * Splits the items of a batch into sub-batches, as per
+     * {@link HttpTransportConfig#getSubBatchSize()}.
+     * @param <T> item type
+     * @param items batch items
+     * @return sub-batches
+     */
+    public <T> List<List<T>> subBatches(List<T> items) {
+        return UploadExecutor.split(items, config.getSubBatchSize());
+    }
+
+    /**
+     * Starts tracking the uploads of a new batch, sent in parallel
+     * as per {@link HttpTransportConfig#getUploadParallelism()}.
+     * @return upload batch
+     */
+    public UploadExecutor.Batch newUploadBatch() {
+        return uploadExecutor.newBatch();
+    }
+
+    /**
+     * Reads the response body as a UTF-8 string.
+     * @param response HTTP response
+     * @return response body, never {@code null}
+     * @throws IOException could not read the response body
+     */
+    public static String responseBody(ClassicHttpResponse response)
+            throws IOException {
+        var entity = response.getEntity();
+        if (entity == null) {
+            return "";
+        }
+        try (InputStream is = entity.getContent()) {
+            return new String(is.readAllBytes(), UTF_8);
+        }
+    }
+
+    @Override
+    public void close() {
+        uploadExecutor.close();
+        client.close(CloseMode.GRACEFUL);
+        LOG.debug("HTTP transport closed.");
+    }
+
+    /**
+     * Writes a request body.
+     */
+    @FunctionalInterface
+    public interface BodyWriter {
+        void writeTo(OutputStream out) throws IOException, CommitterException;
+    }
+
+    /**
+     * Handles a response.
+     */
+    @FunctionalInterface
+    public interface ResponseHandler {
+        void handle(ClassicHttpResponse response)
+                throws IOException, CommitterException;
+    }
+
+    private static class StreamingEntity extends AbstractHttpEntity {
+        private final boolean gzip;
+        private final BodyWriter body;
+
+        StreamingEntity(
+                ContentType contentType, boolean gzip, BodyWriter body) {
+            super(contentType, gzip ? "gzip" : null, true);
+            this.gzip = gzip;
+            this.body = body;
+        }
+
+        @Override
+        public void writeTo(OutputStream out) throws IOException {
+            OutputStream target = CloseShieldOutputStream.wrap(out);
+            if (gzip) {
+                target = new GZIPOutputStream(target, 8192);
+            }
+            try (target) {
+                body.writeTo(target);
+            } catch (CommitterException e) {
+                throw new BodyWriteException(e);
+            }
+        }
+
+        @Override
+        public InputStream getContent() {
+            throw new UnsupportedOperationException(
+                    "Streaming entity content can only be written.");
+        }
+
+        @Override
+        public long getContentLength() {
+            return -1;
+        }
+
+        @Override
+        public boolean isStreaming() {
+            return false;
+        }
+
+        @Override
+        public boolean isRepeatable() {
+            return false;
+        }
+
+        @Override
+        public void close() {
+            //NOOP
+        }
+    }
+
+    // Carries a body serialization failure through the HTTP client.
+    private static class BodyWriteException extends IOException {
+        private static final long serialVersionUID = 1L;
+
+        BodyWriteException(CommitterException cause) {
+            super(cause);
+        }
+
+        @Override
+        public synchronized CommitterException getCause() {
+            return (CommitterException) super.getCause();
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.committer.core.http;
+
+import java.io.Serializable;
+import java.time.Duration;
+
+import lombok.Data;
+import lombok.NonNull;
+import lombok.experimental.Accessors;
+
+/**
+ * <p>
+ * Configuration of the {@link HttpTransport} shared by HTTP-based
+ * committers.
+ * </p>
+ */
+@Data
+@Accessors(chain = true)
+public class HttpTransportConfig implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    public static final int DEFAULT_MAX_CONNECTIONS = 8;
+    /** 10 seconds. */
+    public static final Duration DEFAULT_CONNECTION_TIMEOUT =
+            Duration.ofSeconds(10);
+    /** 60 seconds. */
+    public static final Duration DEFAULT_SOCKET_TIMEOUT =
+            Duration.ofSeconds(60);
+    /** 60 seconds. */
+    public static final Duration DEFAULT_KEEP_ALIVE = Duration.ofSeconds(60);
+
+    /**
+     * Maximum number of pooled connections kept open to the target
+     * server. Defaults to
+     * {@value HttpTransportConfig#DEFAULT_MAX_CONNECTIONS}.
+     */
+    private int maxConnections = DEFAULT_MAX_CONNECTIONS;
+
+    /**
+     * Maximum time to wait for a connection to be established. Defaults
+     * to {@link HttpTransportConfig#DEFAULT_CONNECTION_TIMEOUT}.
+     */
+    @NonNull
+    private Duration connectionTimeout = DEFAULT_CONNECTION_TIMEOUT;
+
+    /**
+     * Maximum time to wait for data once connected. Defaults to
+     * {@link HttpTransportConfig#DEFAULT_SOCKET_TIMEOUT}.
+     */
+    @NonNull
+    private Duration socketTimeout = DEFAULT_SOCKET_TIMEOUT;
+
+    /**
+     * How long an idle pooled connection is kept open for reuse.
+     * Defaults to {@link HttpTransportConfig#DEFAULT_KEEP_ALIVE}.
+     */
+    @NonNull
+    private Duration keepAlive = DEFAULT_KEEP_ALIVE;
+
+    /**
+     * Whether to gzip-compress request bodies. Only enable it when
+     * the target server accepts gzip-encoded requests. Default is
+     * {@code false}.
+     */
+    private boolean compressRequests;
+
+    /**
+     * Maximum number of requests sent as a single upload. A batch
+     * larger than this is split into sub-batches. Zero or less
+     * sends a batch as a single upload (default).
+     */
+    private int subBatchSize;
+
+    /**
+     * Maximum number of sub-batches uploaded at the same time.
+     * Default is 1 (one after the other).
+     */
+    private int uploadParallelism = 1;
+
+    /**
+     * Copies the supplied configuration into this one.
+     * @param other the configuration to copy
+     * @return this
+     */
+    public HttpTransportConfig copyFrom(@NonNull HttpTransportConfig other) {
+        maxConnections = other.maxConnections;
+        connectionTimeout = other.connectionTimeout;
+        socketTimeout = other.socketTimeout;
+        keepAlive = other.keepAlive;
+        compressRequests = other.compressRequests;
+        subBatchSize = other.subBatchSize;
+        uploadParallelism = other.uploadParallelism;
+        return this;
+    }
+}
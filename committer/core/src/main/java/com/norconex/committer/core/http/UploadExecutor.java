@@ -0,0 +1,184 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.committer.core.http;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+
+import com.norconex.committer.core.CommitterException;
+
+/**
+ * <p>
+ * Uploads the sub-batches of a committer batch, optionally in parallel.
+ * With a parallelism of one, uploads run on the calling thread.
+ * Otherwise, up to that many uploads run at the same time and
+ * submitting a new one blocks until one completes, bounding how many
+ * serialized sub-batches are held at once.
+ * </p>
+ */
+public class UploadExecutor implements Closeable {
+
+    private final int parallelism;
+    private final ExecutorService executor;
+
+    /**
+     * Creates an upload executor.
+     * @param parallelism maximum number of concurrent uploads
+     * @param threadNamePrefix prefix of upload thread names
+     */
+    public UploadExecutor(int parallelism, String threadNamePrefix) {
+        this.parallelism = Math.max(1, parallelism);
+        executor = this.parallelism == 1
+                ? null
+                : Executors.newFixedThreadPool(
+                        this.parallelism,
+                        BasicThreadFactory.builder()
+                                .namingPattern(threadNamePrefix + "-upload-%d")
+                                .daemon(true)
+                                .build());
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Starts tracking the uploads of a new batch.
+     * @return upload batch
+     */
+    public Batch newBatch() {
+        return new Batch();
+    }
+
+    /**
+     * Splits a list of items into sub-batches of at most the given size.
+     * @param <T> item type
+     * @param items the items to split
+     * @param subBatchSize maximum sub-batch size, zero or less to not split
+     * @return sub-batches
+     */
+    public static <T> List<List<T>> split(List<T> items, int subBatchSize) {
+        if (subBatchSize <= 0 || items.size() <= subBatchSize) {
+            return List.of(items);
+        }
+        List<List<T>> subBatches = new ArrayList<>();
+        for (var i = 0; i < items.size(); i += subBatchSize) {
+            subBatches.add(items.subList(
+                    i, Math.min(i + subBatchSize, items.size())));
+        }
+        return subBatches;
+    }
+
+    @Override
+    public void close() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * A single upload.
+     */
+    @FunctionalInterface
+    public interface Upload {
+        void run() throws CommitterException;
+    }
+
+    /**
+     * Uploads of a single committer batch.
+     */
+    public final class Batch {
+        private final Semaphore slots = new Semaphore(parallelism);
+        private final List<Future<?>> futures = new ArrayList<>();
+
+        private Batch() {
+        }
+
+        /**
+         * Runs or schedules an upload, blocking while the maximum number
+         * of concurrent uploads is reached.
+         * @param upload the upload
+         * @throws CommitterException upload failure (when not
+         *     running in parallel) or interrupted while waiting
+         */
+        public void submit(Upload upload) throws CommitterException {
+            if (executor == null) {
+                upload.run();
+                return;
+            }
+            try {
+                slots.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CommitterException(
+                        "Interrupted while waiting to upload.", e);
+            }
+            try {
+                futures.add(executor.submit(() -> {
+                    try {
+                        upload.run();
+                        return null;
+                    } finally {
+                        slots.release();
+                    }
+                }));
+            } catch (RuntimeException e) {
+                slots.release();
+                throw e;
+            }
+        }
+
+        /**
+         * Waits for all submitted uploads to complete.
+         * @throws CommitterException the first upload failure, with other
+         *     failures added as suppressed exceptions
+         */
+        public void await() throws CommitterException {
+            CommitterException failure = null;
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    futures.forEach(f -> f.cancel(true));
+                    throw new CommitterException(
+                            "Interrupted while waiting for uploads.", e);
+                } catch (ExecutionException e) {
+                    var cause = e.getCause() instanceof CommitterException ce
+                            ? ce
+                            : new CommitterException(
+                                    "Upload failed.", e.getCause());
+                    if (failure == null) {
+                        failure = cause;
+                    } else {
+                        failure.addSuppressed(cause);
+                    }
+                }
+            }
+            futures.clear();
+            if (failure != null) {
+                throw failure;
+            }
+        }
+    }
+}
@@ -1,4 +1,4 @@
-/* Copyright 2020-2025 Norconex Inc.
+/* Copyright 2020-2026 Norconex Inc.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -26,16 +26,29 @@ import static com.norconex.committer.core.service.CommitterServiceEvent.COMMITTE
 import static com.norconex.committer.core.service.CommitterServiceEvent.COMMITTER_SERVICE_UPSERT_END;
 
 import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.ClassUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
 
 import com.norconex.committer.core.Committer;
 import com.norconex.committer.core.CommitterContext;
@@ -43,12 +56,14 @@ import com.norconex.committer.core.CommitterException;
 import com.norconex.committer.core.DeleteRequest;
 import com.norconex.committer.core.UpsertRequest;
 import com.norconex.commons.lang.event.EventManager;
+import com.norconex.commons.lang.map.Properties;
 
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Builder.Default;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.NonNull;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
@@ -56,6 +71,17 @@ import lombok.extern.slf4j.Slf4j;
 /**
  * Wrapper around multiple Committers so they can all be handled as one
  * and facilitating integration with various clients.
+ * <p>
+ * By default, upserts and deletes are sent to each committer one after
+ * the other, on the calling thread. When {@link #isParallel()} is
+ * {@code true}, they are sent to all accepting committers concurrently
+ * instead, so the time taken is the one of the slowest committer rather
+ * than the sum of all of them. Each committer gets its own executor,
+ * bounded by {@link #getMaxThreadsPerCommitter()}. The document content
+ * is read once and shared by all accepting committers. Calls still only
+ * return once every accepting committer is done, and failures are
+ * reported the same way as in sequential mode.
+ * </p>
  * @param <T> type of committed objects
  */
 @Slf4j
@@ -68,6 +94,9 @@ public class CommitterService<T> implements Closeable {
     //NOTE: Takes a generic type given it may sometimes be used
     // for other types than CrawlDoc from the crawler-core project
 
+    /** Default maximum number of threads per committer: {@value}. */
+    public static final int DEFAULT_MAX_THREADS_PER_COMMITTER = 4;
+
     @Default
     private List<Committer> committers = Collections.emptyList();
     @Default
@@ -76,6 +105,28 @@ public class CommitterService<T> implements Closeable {
     private final Function<T, UpsertRequest> upsertRequestBuilder;
     @NonNull
     private final Function<T, DeleteRequest> deleteRequestBuilder;
+    /**
+     * Whether to send upserts and deletes to all accepting committers
+     * concurrently.
+     */
+    @Default
+    private boolean parallel = false;
+    /**
+     * When {@link #isParallel()} is {@code true}, the maximum number of
+     * requests a single committer can process concurrently.
+     */
+    @Default
+    private int maxThreadsPerCommitter = DEFAULT_MAX_THREADS_PER_COMMITTER;
+
+    @EqualsAndHashCode.Exclude
+    @Getter(AccessLevel.NONE)
+    private final Map<Committer, ExecutorService> executors =
+            Collections.synchronizedMap(new IdentityHashMap<>());
+    // Where shared content too large to be kept in memory is written
+    @EqualsAndHashCode.Exclude
+    @Getter(AccessLevel.NONE)
+    private final AtomicReference<Path> sharedContentDir =
+            new AtomicReference<>();
 
     public boolean isOperative() {
         return !committers.isEmpty();
@@ -85,6 +136,18 @@ public class CommitterService<T> implements Closeable {
             throws CommitterServiceException {
         fire(COMMITTER_SERVICE_INIT_BEGIN, committers, null);
 
+        if (parallel && baseContext.getWorkDir() != null) {
+            try {
+                sharedContentDir.set(Files.createDirectories(
+                        baseContext.getWorkDir()));
+            } catch (IOException e) {
+                throw new CommitterServiceException(
+                        "Could not create committer service work directory: "
+                                + baseContext.getWorkDir(),
+                        e);
+            }
+        }
+
         Set<String> uniqueDirNames = new HashSet<>();
         executeAll("init", c -> {
             var dirName = ClassUtils.getShortClassName(c.getClass());
@@ -117,7 +180,9 @@ public class CommitterService<T> implements Closeable {
         fire(COMMITTER_SERVICE_UPSERT_BEGIN, committers, object);
 
         List<Committer> actuals = new ArrayList<>();
-        if (!committers.isEmpty()) {
+        if (parallel && !committers.isEmpty()) {
+            upsertParallel(object, actuals);
+        } else if (!committers.isEmpty()) {
             executeAll("upsert", c -> {
                 var req = upsertRequestBuilder.apply(object);
                 if (c.accept(req)) {
@@ -143,7 +208,9 @@ public class CommitterService<T> implements Closeable {
         fire(COMMITTER_SERVICE_DELETE_BEGIN, committers, object);
 
         List<Committer> actuals = new ArrayList<>();
-        if (!committers.isEmpty()) {
+        if (parallel && !committers.isEmpty()) {
+            deleteParallel(object, actuals);
+        } else if (!committers.isEmpty()) {
             executeAll("delete", c -> {
                 var req = deleteRequestBuilder.apply(object);
                 if (c.accept(req)) {
@@ -167,7 +234,11 @@ public class CommitterService<T> implements Closeable {
     @Override
     public void close() throws CommitterServiceException {
         fire(COMMITTER_SERVICE_CLOSE_BEGIN, committers, null);
-        executeAll("close", Committer::close);
+        try {
+            executeAll("close", Committer::close);
+        } finally {
+            shutdownExecutors();
+        }
         fire(COMMITTER_SERVICE_CLOSE_END, committers, null);
     }
 
@@ -183,30 +254,145 @@ public class CommitterService<T> implements Closeable {
         fire(COMMITTER_SERVICE_CLEAN_END, committers, null);
     }
 
+    private void upsertParallel(T object, List<Committer> actuals) {
+        var req = upsertRequestBuilder.apply(object);
+        executeAll("upsert", c -> {
+            if (c.accept(req)) {
+                actuals.add(c);
+            }
+        });
+        if (actuals.size() <= 1) {
+            executeAll("upsert", actuals, c -> c.upsert(req));
+            return;
+        }
+        try (var content = SharedContent.of(
+                req.getContent(), sharedContentDir.get())) {
+            executeParallel("upsert", actuals, c -> {
+                // Committers modify metadata (e.g., field mappings), so
+                // each gets its own copy.
+                try (var in = content.newInputStream()) {
+                    c.upsert(new UpsertRequest(req.getReference(),
+                            new Properties(req.getMetadata()), in));
+                } catch (IOException e) {
+                    throw new CommitterException(
+                            "Could not read shared content of: "
+                                    + req.getReference(),
+                            e);
+                }
+            });
+        } catch (IOException e) {
+            throw new CommitterServiceException(
+                    "Could not share content of: " + req.getReference(), e);
+        }
+    }
+
+    private void deleteParallel(T object, List<Committer> actuals) {
+        var req = deleteRequestBuilder.apply(object);
+        executeAll("delete", c -> {
+            if (c.accept(req)) {
+                actuals.add(c);
+            }
+        });
+        executeParallel("delete", actuals, c -> c.delete(new DeleteRequest(
+                req.getReference(), new Properties(req.getMetadata()))));
+    }
+
+    // Runs the operation on every target concurrently, keeping the last one
+    // on the calling thread, and waits for all of them to complete.
+    private void executeParallel(
+            String operation,
+            List<Committer> targets,
+            CommitterConsumer consumer) throws CommitterServiceException {
+        if (targets.size() <= 1) {
+            executeAll(operation, targets, consumer);
+            return;
+        }
+
+        Map<Committer, Future<?>> futures = new IdentityHashMap<>();
+        for (Committer committer : targets.subList(0, targets.size() - 1)) {
+            futures.put(committer, executor(committer).submit(() -> {
+                consumer.accept(committer);
+                return null;
+            }));
+        }
+
+        var failures = new Failures(operation);
+        var last = targets.get(targets.size() - 1);
+        RuntimeException unexpected = null;
+        try {
+            consumer.accept(last);
+        } catch (CommitterException e) {
+            failures.add(last, e);
+        } catch (RuntimeException e) {
+            unexpected = e;
+        }
+        for (Map.Entry<Committer, Future<?>> en : futures.entrySet()) {
+            try {
+                en.getValue().get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                futures.values().forEach(f -> f.cancel(true));
+                throw new CommitterServiceException(
+                        "Interrupted while executing \"" + operation
+                                + "\" on committers.",
+                        e);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof CommitterException ce) {
+                    failures.add(en.getKey(), ce);
+                } else if (unexpected == null) {
+                    unexpected = e.getCause() instanceof RuntimeException re
+                            ? re
+                            : new CommitterServiceException(e.getCause());
+                }
+            }
+        }
+        if (unexpected != null) {
+            throw unexpected;
+        }
+        failures.throwIfAny();
+    }
+
+    private ExecutorService executor(Committer committer) {
+        return executors.computeIfAbsent(committer, c -> {
+            var threads = Math.max(1, maxThreadsPerCommitter);
+            var executor = new ThreadPoolExecutor(
+                    threads, threads, 60, TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<>(),
+                    BasicThreadFactory.builder()
+                            .namingPattern(c.getClass().getSimpleName()
+                                    + "-%d")
+                            .daemon(true)
+                            .build());
+            executor.allowCoreThreadTimeOut(true);
+            return executor;
+        });
+    }
+
+    private void shutdownExecutors() {
+        synchronized (executors) {
+            executors.values().forEach(ExecutorService::shutdown);
+            executors.clear();
+        }
+    }
+
     private void executeAll(String operation, CommitterConsumer consumer)
             throws CommitterServiceException {
-        List<String> failures = new ArrayList<>();
-        CommitterException exception = null;
-        for (Committer committer : committers) {
+        executeAll(operation, committers, consumer);
+    }
+
+    private void executeAll(
+            String operation,
+            List<Committer> targets,
+            CommitterConsumer consumer) throws CommitterServiceException {
+        var failures = new Failures(operation);
+        for (Committer committer : targets) {
             try {
                 consumer.accept(committer);
             } catch (CommitterException e) {
-                LOG.error(
-                        "Could not execute \"{}\" on committer: {}",
-                        operation, committer, e);
-                failures.add(committer.getClass().getSimpleName());
-                exception = e;
+                failures.add(committer, e);
             }
         }
-        if (!failures.isEmpty()) {
-            throw new CommitterServiceException(
-                    "Could not execute \"" + operation + "\" on "
-                            + failures.size() + " committer(s): \""
-                            + StringUtils.join(failures, ", ")
-                            + "\". Cause is the last exception captured. "
-                            + "Check the logs for more details.",
-                    exception);
-        }
+        failures.throwIfAny();
     }
 
     private void fire(String eventName, List<Committer> targets, T object) {
@@ -236,4 +422,34 @@ public class CommitterService<T> implements Closeable {
     private interface CommitterConsumer {
         void accept(Committer c) throws CommitterException;
     }
+
+    private static class Failures {
+        private final String operation;
+        private final List<String> committerNames = new ArrayList<>();
+        private CommitterException exception;
+
+        Failures(String operation) {
+            this.operation = operation;
+        }
+
+        void add(Committer committer, CommitterException e) {
+            LOG.error(
+                    "Could not execute \"{}\" on committer: {}",
+                    operation, committer, e);
+            committerNames.add(committer.getClass().getSimpleName());
+            exception = e;
+        }
+
+        void throwIfAny() throws CommitterServiceException {
+            if (!committerNames.isEmpty()) {
+                throw new CommitterServiceException(
+                        "Could not execute \"" + operation + "\" on "
+                                + committerNames.size() + " committer(s): \""
+                                + StringUtils.join(committerNames, ", ")
+                                + "\". Cause is the last exception captured. "
+                                + "Check the logs for more details.",
+                        exception);
+            }
+        }
+    }
 }
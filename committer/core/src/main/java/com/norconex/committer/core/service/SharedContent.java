@@ -0,0 +1,81 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.committer.core.service;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.apache.commons.io.output.DeferredFileOutputStream;
+
+/**
+ * Document content read once and made available to multiple
+ * committers at the same time, each through its own input stream.
+ * Content is kept in memory up to a threshold and written to a
+ * temporary file beyond it.
+ */
+final class SharedContent implements Closeable {
+
+    static final int MEMORY_THRESHOLD = 1024 * 1024;
+
+    private final DeferredFileOutputStream buffer;
+
+    private SharedContent(DeferredFileOutputStream buffer) {
+        this.buffer = buffer;
+    }
+
+    /**
+     * Reads the given content fully.
+     * @param content the content to share (can be {@code null})
+     * @param dir directory where to write large content, or {@code null}
+     *     to use the system temporary directory
+     * @return shared content
+     * @throws IOException could not read the content
+     */
+    static SharedContent of(InputStream content, Path dir)
+            throws IOException {
+        var buffer = DeferredFileOutputStream.builder()
+                .setThreshold(MEMORY_THRESHOLD)
+                .setPrefix("shared-content-")
+                .setSuffix(".tmp")
+                .setDirectory(dir != null ? dir.toFile() : null)
+                .get();
+        try (buffer) {
+            if (content != null) {
+                content.transferTo(buffer);
+            }
+        }
+        return new SharedContent(buffer);
+    }
+
+    /**
+     * Gets a new input stream over the shared content, starting
+     * at its beginning.
+     * @return input stream
+     * @throws IOException could not open the stream
+     */
+    InputStream newInputStream() throws IOException {
+        return buffer.toInputStream();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!buffer.isInMemory()) {
+            Files.deleteIfExists(buffer.getPath());
+        }
+    }
+}
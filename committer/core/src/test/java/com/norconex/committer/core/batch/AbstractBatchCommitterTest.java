@@ -17,11 +17,17 @@ package com.norconex.committer.core.batch;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatNoException;
 
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Timeout;
 
 import com.norconex.committer.core.CommitterContext;
 import com.norconex.committer.core.CommitterException;
+import com.norconex.committer.core.CommitterRequest;
+import com.norconex.committer.core.DeleteRequest;
 import com.norconex.committer.core.TestBatchCommitter;
 import com.norconex.committer.core.TestMemoryQueue;
 import com.norconex.committer.core.TestUtil;
@@ -68,4 +74,41 @@ class AbstractBatchCommitterTest {
             });
         }
     }
+
+    @Test
+    void testCoalesceBatch() throws CommitterException {
+        List<String> committed = new ArrayList<>();
+        try (var c = new TestBatchCommitter() {
+            @Override
+            protected void commitBatch(Iterator<CommitterRequest> it) {
+                it.forEachRemaining(req -> committed.add(
+                        (req instanceof DeleteRequest ? "D" : "U")
+                                + req.getReference().replaceAll("\\D", "")));
+            }
+        }) {
+            c.getConfiguration()
+                    .setCoalesceBatch(true)
+                    .setQueue(new TestMemoryQueue());
+            c.init(CommitterContext.builder().build());
+
+            c.consume(List.<CommitterRequest>of(
+                    TestUtil.upsertRequest(1),
+                    TestUtil.deleteRequest(2),
+                    TestUtil.upsertRequest(3),
+                    TestUtil.deleteRequest(1),
+                    TestUtil.upsertRequest(2),
+                    TestUtil.deleteRequest(4),
+                    TestUtil.upsertRequest(3)).iterator());
+
+            // last request per reference, deletions first
+            assertThat(committed).containsExactly("D1", "D4", "U2", "U3");
+
+            committed.clear();
+            c.getConfiguration().setCoalesceBatch(false);
+            c.consume(List.<CommitterRequest>of(
+                    TestUtil.upsertRequest(1),
+                    TestUtil.deleteRequest(1)).iterator());
+            assertThat(committed).containsExactly("U1", "D1");
+        }
+    }
 }
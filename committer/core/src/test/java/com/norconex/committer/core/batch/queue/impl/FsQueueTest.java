@@ -14,16 +14,22 @@
  */
 package com.norconex.committer.core.batch.queue.impl;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatNoException;
 
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import org.apache.commons.io.IOUtils;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -33,6 +39,9 @@ import org.junit.jupiter.api.io.TempDir;
 import com.norconex.committer.core.CommitterContext;
 import com.norconex.committer.core.CommitterException;
 import com.norconex.committer.core.TestUtil;
+import com.norconex.committer.core.UpsertRequest;
+import com.norconex.committer.core.batch.queue.CommitterQueueException;
+import com.norconex.commons.lang.Sleeper;
 
 @Timeout(30)
 class FsQueueTest {
@@ -89,6 +98,151 @@ class FsQueueTest {
         assertThat(queue.getBatchConsumer()).isNotNull();
     }
 
+    @Test
+    void testAsyncQueue() throws CommitterException {
+        final var batchQty = new AtomicInteger();
+        final var concurrent = new AtomicInteger();
+        final var maxConcurrent = new AtomicInteger();
+        final Set<String> batchRefs = new ConcurrentSkipListSet<>();
+        final Set<String> threadNames = new ConcurrentSkipListSet<>();
+
+        queue.getConfiguration()
+                .setBatchSize(5)
+                .setAsyncConsumers(2)
+                .setMaxInFlightBatches(2);
+        queue.init(ctx, it -> {
+            batchQty.incrementAndGet();
+            maxConcurrent.accumulateAndGet(
+                    concurrent.incrementAndGet(), Math::max);
+            threadNames.add(Thread.currentThread().getName());
+            Sleeper.sleepMillis(100);
+            while (it.hasNext()) {
+                batchRefs.add(it.next().getReference());
+            }
+            concurrent.decrementAndGet();
+        });
+
+        for (var i = 0; i < 23; i++) {
+            queue.queue(TestUtil.upsertRequest(i + 1));
+        }
+        queue.close();
+
+        // 4 full batches consumed asynchronously, last one on close
+        assertThat(batchQty.get()).isEqualTo(5);
+        assertThat(batchRefs).hasSize(23);
+        assertThat(maxConcurrent.get()).isBetween(1, 2);
+        assertThat(threadNames).anyMatch(
+                n -> n.startsWith("committer-queue-consumer-"));
+    }
+
+    @Test
+    void testAsyncQueueFailure(@TempDir Path workDir)
+            throws CommitterException {
+        // own work dir so failed batches are not leftovers for other tests
+        queue.getConfiguration()
+                .setBatchSize(2)
+                .setAsyncConsumers(1);
+        queue.init(
+                CommitterContext.builder().setWorkDir(workDir).build(),
+                it -> {
+                    throw new CommitterException("Simulated failure.");
+                });
+        assertThatExceptionOfType(CommitterQueueException.class)
+                .isThrownBy(() -> {
+                    for (var i = 0; i < 10; i++) {
+                        queue.queue(TestUtil.upsertRequest(i + 1));
+                    }
+                    queue.close();
+                });
+    }
+
+    @Test
+    void testDeduplicateContent(@TempDir Path workDir)
+            throws CommitterException, IOException {
+        final Map<String, String> contents = new ConcurrentHashMap<>();
+        final var blobsWhileConsuming = new AtomicInteger();
+        var blobDir = workDir.resolve("blobs");
+
+        queue.getConfiguration()
+                .setBatchSize(4)
+                .setDeduplicateContent(true);
+        queue.init(
+                CommitterContext.builder().setWorkDir(workDir).build(),
+                it -> {
+                    blobsWhileConsuming.set(blobCount(blobDir));
+                    while (it.hasNext()) {
+                        if (it.next() instanceof UpsertRequest req) {
+                            contents.put(req.getReference(), IOUtils.toString(
+                                    req.getContent(), UTF_8));
+                        }
+                    }
+                });
+
+        // with checksum: same checksum, same content
+        for (var i = 0; i < 3; i++) {
+            queue.queue(TestUtil.upsertRequest("ref-a" + i, "content A",
+                    FsQueueConfig.DEFAULT_CONTENT_CHECKSUM_FIELD, "sumA"));
+        }
+        // without checksum: content is hashed
+        queue.queue(TestUtil.upsertRequest("ref-b0", "content B"));
+        // batch of 4 consumed on next queuing
+        queue.queue(TestUtil.upsertRequest("ref-b1", "content B"));
+        assertThat(blobsWhileConsuming.get()).isEqualTo(2);
+        // blob "A" released, "B" still referenced by "ref-b1"
+        assertThat(blobCount(blobDir)).isOne();
+
+        queue.queue(TestUtil.deleteRequest(1));
+        queue.close();
+
+        assertThat(contents)
+                .hasSize(5)
+                .containsEntry("ref-a0", "content A")
+                .containsEntry("ref-a2", "content A")
+                .containsEntry("ref-b0", "content B")
+                .containsEntry("ref-b1", "content B");
+        assertThat(blobCount(blobDir)).isZero();
+    }
+
+    @Test
+    void testDeduplicateContentLeftovers(@TempDir Path workDir)
+            throws CommitterException, IOException {
+        var ctx = CommitterContext.builder().setWorkDir(workDir).build();
+        var blobDir = workDir.resolve("blobs");
+
+        // simulates an abnormal termination: batch not consumed
+        queue.getConfiguration()
+                .setBatchSize(10)
+                .setDeduplicateContent(true);
+        queue.init(ctx, it -> {});
+        queue.queue(TestUtil.upsertRequest("ref1", "same content"));
+        queue.queue(TestUtil.upsertRequest("ref2", "same content"));
+        assertThat(blobCount(blobDir)).isOne();
+
+        final Set<String> refs = new TreeSet<>();
+        var resumed = new FsQueue();
+        resumed.getConfiguration()
+                .setCommitLeftoversOnInit(true)
+                .setDeduplicateContent(true);
+        resumed.init(ctx, it -> {
+            while (it.hasNext()) {
+                var req = (UpsertRequest) it.next();
+                assertThat(IOUtils.toString(req.getContent(), UTF_8))
+                        .isEqualTo("same content");
+                refs.add(req.getReference());
+            }
+        });
+        resumed.close();
+
+        assertThat(refs).containsExactly("ref1", "ref2");
+        assertThat(blobCount(blobDir)).isZero();
+    }
+
+    private static int blobCount(Path blobDir) throws IOException {
+        try (var files = Files.walk(blobDir)) {
+            return (int) files.filter(Files::isRegularFile).count();
+        }
+    }
+
     @Test
     void testWriteRead() {
         var q = new FsQueue();
@@ -96,6 +250,10 @@ class FsQueueTest {
                 .setBatchSize(50)
                 .setMaxPerFolder(100)
                 .setCommitLeftoversOnInit(true)
+                .setAsyncConsumers(3)
+                .setMaxInFlightBatches(6)
+                .setDeduplicateContent(true)
+                .setContentChecksumField("myChecksum")
                 .getOnCommitFailure()
                 .setIgnoreErrors(true)
                 .setMaxRetries(6)
@@ -0,0 +1,231 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.committer.core.batch.queue.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.norconex.committer.core.CommitterContext;
+import com.norconex.committer.core.CommitterException;
+import com.norconex.committer.core.CommitterRequest;
+import com.norconex.committer.core.DeleteRequest;
+import com.norconex.committer.core.TestUtil;
+import com.norconex.committer.core.UpsertRequest;
+import com.norconex.committer.core.batch.queue.CommitterQueueException;
+import com.norconex.committer.core.batch.queue.impl.FsQueue.SplitBatch;
+
+@Timeout(30)
+class SegmentLogQueueTest {
+
+    @TempDir
+    private Path workDir;
+
+    @Test
+    void testQueue() throws CommitterException, IOException {
+        var batchQty = new AtomicInteger();
+        List<String> lines = new ArrayList<>();
+
+        var queue = new SegmentLogQueue();
+        queue.getConfiguration().setBatchSize(5);
+        queue.init(ctx(), it -> {
+            batchQty.incrementAndGet();
+            while (it.hasNext()) {
+                lines.add(describe(it.next()));
+            }
+        });
+
+        for (var req : TestUtil.mixedRequests(
+                1, 1, 0, 1, 1, 1, 0, 0, 1, 1, 1, 1, 0)) {
+            queue.queue(req);
+        }
+        queue.close();
+
+        // records should have been processed in 3 batches, in order.
+        assertThat(batchQty.get()).isEqualTo(3);
+        assertThat(lines).hasSize(13);
+        assertThat(lines.get(0)).isEqualTo(
+                "U|http://example.com/page1.html|Sample document 1"
+                        + "|This is fake content for sample document 1");
+        assertThat(lines.get(2)).isEqualTo(
+                "D|http://example.com/page3.html|Sample document 3");
+        assertThat(lines.get(12)).isEqualTo(
+                "D|http://example.com/page13.html|Sample document 13");
+
+        // segments should all be deleted
+        assertThat(segmentFiles("segments")).isEmpty();
+        assertThat(queue.getBatchConsumer()).isNotNull();
+    }
+
+    @Test
+    void testCompressedQueue() throws CommitterException {
+        List<String> lines = new ArrayList<>();
+        var queue = new SegmentLogQueue();
+        queue.getConfiguration().setBatchSize(3).setCompress(true);
+        queue.init(ctx(), it -> it.forEachRemaining(
+                req -> lines.add(describe(req))));
+        for (var req : TestUtil.upsertRequests(4)) {
+            queue.queue(req);
+        }
+        queue.close();
+
+        assertThat(lines).hasSize(4);
+        assertThat(lines.get(3)).endsWith(
+                "|This is fake content for sample document 4");
+    }
+
+    @Test
+    void testLeftoversOnInit() throws CommitterException {
+        // queue without closing, leaving a partial segment behind
+        var queue = new SegmentLogQueue();
+        queue.getConfiguration().setBatchSize(10);
+        queue.init(ctx(), it -> {});
+        for (var req : TestUtil.upsertRequests(4)) {
+            queue.queue(req);
+        }
+
+        var cnt = new AtomicInteger();
+        var otherQueue = new SegmentLogQueue();
+        otherQueue.getConfiguration()
+                .setBatchSize(10)
+                .setCommitLeftoversOnInit(true);
+        otherQueue.init(ctx(), it -> it.forEachRemaining(
+                req -> cnt.incrementAndGet()));
+        assertThat(cnt.get()).isEqualTo(4);
+    }
+
+    @Test
+    void testFailedBatchMovedToErrorDir() throws CommitterException {
+        var attempts = new AtomicInteger();
+        List<String> committed = new ArrayList<>();
+
+        var queue = new SegmentLogQueue();
+        queue.getConfiguration()
+                .setBatchSize(4)
+                .getOnCommitFailure()
+                .setSplitBatch(SplitBatch.ONE)
+                .setMaxRetries(0);
+        queue.init(ctx(), it -> {
+            attempts.incrementAndGet();
+            List<String> batch = new ArrayList<>();
+            while (it.hasNext()) {
+                var req = it.next();
+                if (req.getReference().endsWith("page3.html")) {
+                    throw new CommitterException("Simulated failure.");
+                }
+                batch.add(req.getReference());
+            }
+            committed.addAll(batch);
+        });
+
+        assertThatExceptionOfType(CommitterQueueException.class)
+                .isThrownBy(() -> {
+                    for (var req : TestUtil.upsertRequests(4)) {
+                        queue.queue(req);
+                    }
+                });
+
+        // full batch, then one by one until the failing record
+        assertThat(attempts.get()).isEqualTo(4);
+        assertThat(committed).containsExactly(
+                "http://example.com/page1.html",
+                "http://example.com/page2.html");
+        assertThat(segmentFiles("segments")).isEmpty();
+        assertThat(segmentFiles("error")).hasSize(1);
+    }
+
+    @Test
+    void testTruncatedSegment() throws IOException {
+        var log = workDir.resolve("segment-1.log");
+        var writer = new SegmentWriter(log, false);
+        for (var req : TestUtil.upsertRequests(3)) {
+            writer.append(req);
+        }
+        writer.close();
+        Files.delete(SegmentWriter.indexFile(log));
+
+        // simulate a crash in the middle of the last record
+        try (var ch = FileChannel.open(log, StandardOpenOption.WRITE)) {
+            ch.truncate(ch.size() - 5);
+        }
+
+        try (var reader = SegmentReader.open(log)) {
+            assertThat(reader.size()).isEqualTo(2);
+            assertThat(describe(reader.read(1))).endsWith(
+                    "|This is fake content for sample document 2");
+        }
+    }
+
+    @Test
+    void testWriteRead() {
+        var q = new SegmentLogQueue();
+        q.getConfiguration()
+                .setBatchSize(50)
+                .setCommitLeftoversOnInit(true)
+                .setCompress(true)
+                .getOnCommitFailure()
+                .setIgnoreErrors(true)
+                .setMaxRetries(6)
+                .setRetryDelay(666);
+
+        assertThatNoException().isThrownBy(() -> {
+            TestUtil.beanMapper().assertWriteRead(q);
+        });
+    }
+
+    private CommitterContext ctx() {
+        return CommitterContext.builder().setWorkDir(workDir).build();
+    }
+
+    private List<Path> segmentFiles(String dir) {
+        try (var files = Files.list(workDir.resolve(dir))) {
+            return files.filter(f -> f.toString().endsWith(
+                    SegmentWriter.LOG_EXT)).toList();
+        } catch (IOException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    private static String describe(CommitterRequest req) {
+        var b = new StringBuilder()
+                .append(req instanceof DeleteRequest ? "D" : "U")
+                .append('|').append(req.getReference())
+                .append('|').append(req.getMetadata().getString("title"));
+        if (req instanceof UpsertRequest upsert) {
+            try (var is = upsert.getContent()) {
+                b.append('|').append(
+                        IOUtils.toString(is, StandardCharsets.UTF_8));
+            } catch (IOException e) {
+                throw new AssertionError(e);
+            }
+        }
+        return b.toString();
+    }
+}
@@ -0,0 +1,128 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.committer.core.http;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.zip.GZIPInputStream;
+
+import org.apache.hc.core5.http.ContentType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import com.norconex.committer.core.CommitterException;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+@Timeout(30)
+class HttpTransportTest {
+
+    private HttpServer server;
+    private String url;
+    private final Queue<String> received = new ConcurrentLinkedQueue<>();
+    private final Queue<String> encodings = new ConcurrentLinkedQueue<>();
+
+    @BeforeEach
+    void beforeEach() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", this::handle);
+        server.start();
+        url = "http://localhost:" + server.getAddress().getPort() + "/";
+    }
+
+    @AfterEach
+    void afterEach() {
+        server.stop(0);
+    }
+
+    @Test
+    void testCompressedStreamingPost() throws CommitterException {
+        var cfg = new HttpTransportConfig().setCompressRequests(true);
+        try (var transport = new HttpTransport(cfg, "test")) {
+            var status = new int[1];
+            transport.post(url, null, ContentType.TEXT_PLAIN,
+                    out -> out.write("Hello world".getBytes(UTF_8)),
+                    res -> status[0] = res.getCode());
+            assertThat(status[0]).isEqualTo(200);
+        }
+        assertThat(received).containsExactly("Hello world");
+        assertThat(encodings).containsExactly("gzip");
+    }
+
+    @Test
+    void testParallelSubBatches() throws CommitterException {
+        var cfg = new HttpTransportConfig()
+                .setSubBatchSize(2)
+                .setUploadParallelism(3);
+        try (var transport = new HttpTransport(cfg, "test")) {
+            var subBatches = transport.subBatches(
+                    List.of("a", "b", "c", "d", "e"));
+            assertThat(subBatches).hasSize(3);
+
+            var uploads = transport.newUploadBatch();
+            for (List<String> subBatch : subBatches) {
+                uploads.submit(() -> transport.post(
+                        url, null, ContentType.TEXT_PLAIN,
+                        out -> out.write(
+                                String.join("", subBatch).getBytes(UTF_8)),
+                        res -> HttpTransport.responseBody(res)));
+            }
+            uploads.await();
+        }
+        assertThat(received).containsExactlyInAnyOrder("ab", "cd", "e");
+        assertThat(encodings).containsOnly("none");
+    }
+
+    @Test
+    void testBodyWriterFailure() {
+        try (var transport = new HttpTransport(
+                new HttpTransportConfig(), "test")) {
+            assertThatExceptionOfType(CommitterException.class)
+                    .isThrownBy(() -> transport.post(
+                            url, null, ContentType.TEXT_PLAIN,
+                            out -> {
+                                throw new CommitterException("Bad doc.");
+                            },
+                            res -> {}))
+                    .withMessage("Bad doc.");
+        }
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        var encoding = exchange.getRequestHeaders()
+                .getFirst("Content-Encoding");
+        InputStream in = exchange.getRequestBody();
+        if ("gzip".equals(encoding)) {
+            in = new GZIPInputStream(in);
+        }
+        received.add(new String(in.readAllBytes(), UTF_8));
+        encodings.add(encoding == null ? "none" : encoding);
+        var response = "OK".getBytes(UTF_8);
+        exchange.sendResponseHeaders(200, response.length);
+        try (var out = exchange.getResponseBody()) {
+            out.write(response);
+        }
+    }
+}
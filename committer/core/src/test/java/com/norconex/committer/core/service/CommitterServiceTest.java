@@ -15,13 +15,24 @@
 package com.norconex.committer.core.service;
 
 import static java.io.InputStream.nullInputStream;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.apache.commons.io.IOUtils;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -346,6 +357,140 @@ class CommitterServiceTest {
         assertThat(test.getService()).hasToString(expectedToString);
     }
 
+    @Test
+    void testParallelUpsertAndDelete(@TempDir Path tempDir)
+            throws IOException {
+        // Both committers must be inside their upsert at the same time
+        // for the barrier to trip, which only happens when run in parallel.
+        var barrier = new CyclicBarrier(2);
+        var c1 = new BarrierCommitter(barrier);
+        var c2 = new BarrierCommitter(barrier);
+        var content = "a".repeat(SharedContent.MEMORY_THRESHOLD + 10);
+
+        try (var service = CommitterService.<TestDoc>builder()
+                .committers(List.of(c1, c2))
+                .parallel(true)
+                .upsertRequestBuilder(doc -> new UpsertRequest(
+                        doc.getRef(), doc.getMeta(),
+                        new ByteArrayInputStream(
+                                content.getBytes(UTF_8))))
+                .deleteRequestBuilder(
+                        doc -> new DeleteRequest(doc.ref, doc.meta))
+                .build()) {
+            service.init(CommitterContext.builder()
+                    .setWorkDir(tempDir)
+                    .build());
+
+            assertThat(service.upsert(new TestDoc("aaa")))
+                    .containsExactly(c1, c2);
+            assertThat(service.delete(new TestDoc("aaa")))
+                    .containsExactly(c1, c2);
+        }
+
+        for (MemoryCommitter c : List.of(c1, c2)) {
+            assertThat(c.getUpsertCount()).isOne();
+            assertThat(c.getDeleteCount()).isOne();
+            assertThat(IOUtils.toString(
+                    c.getUpsertRequests().get(0).getContent(), UTF_8))
+                            .isEqualTo(content);
+        }
+        // large shared content written to disk was deleted
+        try (var files = Files.list(tempDir)) {
+            assertThat(files.filter(f -> f.getFileName().toString()
+                    .startsWith("shared-content-"))).isEmpty();
+        }
+    }
+
+    @Test
+    void testParallelFieldMappingsAreIsolated() {
+        var barrier = new CyclicBarrier(2);
+        var c1 = new BarrierCommitter(barrier);
+        c1.getConfiguration().setFieldMapping("title", "c1title");
+        var c2 = new BarrierCommitter(barrier);
+        c2.getConfiguration().setFieldMapping("title", "c2title");
+        var doc = new TestDoc("aaa");
+        doc.getMeta().set("title", "My Title");
+
+        try (var service = CommitterService.<TestDoc>builder()
+                .committers(List.of(c1, c2))
+                .parallel(true)
+                .upsertRequestBuilder(d -> new UpsertRequest(
+                        d.getRef(), d.getMeta(), nullInputStream()))
+                .deleteRequestBuilder(
+                        d -> new DeleteRequest(d.ref, d.meta))
+                .build()) {
+            service.init(CommitterContext.builder().build());
+            service.upsert(doc);
+            service.delete(doc);
+        }
+
+        for (var c : List.of(c1, c2)) {
+            var own = c == c1 ? "c1title" : "c2title";
+            var other = c == c1 ? "c2title" : "c1title";
+            var upsertMeta = c.getUpsertRequests().get(0).getMetadata();
+            var deleteMeta = c.getDeleteRequests().get(0).getMetadata();
+            for (var meta : List.of(upsertMeta, deleteMeta)) {
+                assertThat(meta.getString(own)).isEqualTo("My Title");
+                assertThat(meta.getString("document.reference"))
+                        .isEqualTo("aaa");
+                assertThat(meta).doesNotContainKeys(other, "title");
+            }
+        }
+        // source metadata untouched
+        assertThat(doc.getMeta().getString("title")).isEqualTo("My Title");
+        assertThat(doc.getMeta()).doesNotContainKeys("c1title", "c2title");
+    }
+
+    @Test
+    void testParallelFailures() {
+        var failing = new MemoryCommitter() {
+            @Override
+            protected void doUpsert(UpsertRequest upsertRequest)
+                    throws CommitterException {
+                throw new CommitterException("Simulated failure.");
+            }
+        };
+        var working = new MemoryCommitter();
+
+        try (var service = CommitterService.<TestDoc>builder()
+                .committers(List.of(failing, working))
+                .parallel(true)
+                .upsertRequestBuilder(doc -> new UpsertRequest(
+                        doc.getRef(), doc.getMeta(), null))
+                .deleteRequestBuilder(
+                        doc -> new DeleteRequest(doc.ref, doc.meta))
+                .build()) {
+            service.init(CommitterContext.builder().build());
+            var doc = new TestDoc("aaa");
+            assertThatExceptionOfType(CommitterServiceException.class)
+                    .isThrownBy(() -> service.upsert(doc))
+                    .withCauseInstanceOf(CommitterException.class);
+        }
+        assertThat(working.getUpsertCount()).isOne();
+    }
+
+    static class BarrierCommitter extends MemoryCommitter {
+        private final CyclicBarrier barrier;
+
+        BarrierCommitter(CyclicBarrier barrier) {
+            this.barrier = barrier;
+        }
+
+        @Override
+        protected void doUpsert(UpsertRequest upsertRequest)
+                throws CommitterException {
+            try {
+                barrier.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CommitterException(e);
+            } catch (BrokenBarrierException | TimeoutException e) {
+                throw new CommitterException(e);
+            }
+            super.doUpsert(upsertRequest);
+        }
+    }
+
     @Test
     void testCommitterDefaultDirs(@TempDir Path tempDir) {
         // Directory names bearing the committer class names should be created.
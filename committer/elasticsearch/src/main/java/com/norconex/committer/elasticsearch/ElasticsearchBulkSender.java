@@ -0,0 +1,397 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.committer.elasticsearch;
+
+import static com.norconex.committer.elasticsearch.ElasticsearchCommitter.ELASTICSEARCH_ID_FIELD;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.zip.GZIPOutputStream;
+
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.Strings;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import org.apache.commons.lang3.function.FailableFunction;
+import org.apache.http.HttpStatus;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.entity.ContentType;
+import org.elasticsearch.client.Request;
+import org.elasticsearch.client.Response;
+import org.elasticsearch.client.RestClient;
+import org.json.JSONObject;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonFactoryBuilder;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.norconex.committer.core.CommitterException;
+import com.norconex.committer.core.CommitterRequest;
+import com.norconex.committer.core.DeleteRequest;
+import com.norconex.committer.core.UpsertRequest;
+import com.norconex.commons.lang.Sleeper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Sends batches to Elasticsearch as size-bounded bulk requests,
+ * serializing each document with a streaming JSON generator as it is
+ * read from the batch. Bulk requests can be compressed and sent
+ * concurrently. Items rejected with a temporary error are resent
+ * on their own.
+ */
+@Slf4j
+class ElasticsearchBulkSender implements Closeable {
+
+    private static final int SC_TOO_MANY_REQUESTS = 429;
+    private static final ContentType NDJSON_CONTENT_TYPE =
+            ContentType.create("application/x-ndjson", UTF_8);
+
+    private final RestClient client;
+    private final ElasticsearchCommitterConfig config;
+    private final FailableFunction<CommitterRequest, String,
+            CommitterException> idResolver;
+    private final JsonFactory jsonFactory = new JsonFactoryBuilder()
+            .rootValueSeparator("\n")
+            .build();
+    // null when bulk requests are sent from the committing thread
+    private final ExecutorService executor;
+
+    ElasticsearchBulkSender(
+            RestClient client,
+            ElasticsearchCommitterConfig config,
+            FailableFunction<CommitterRequest, String,
+                    CommitterException> idResolver) {
+        this.client = client;
+        this.config = config;
+        this.idResolver = idResolver;
+        if (config.getBulkParallelism() > 1) {
+            executor = Executors.newFixedThreadPool(
+                    config.getBulkParallelism(),
+                    BasicThreadFactory.builder()
+                            .namingPattern("elasticsearch-bulk-%d")
+                            .daemon(true)
+                            .build());
+        } else {
+            executor = null;
+        }
+    }
+
+    /**
+     * Sends all requests of a batch, returning once every bulk request
+     * has been acknowledged.
+     * @param it batch requests
+     * @throws CommitterException could not send the batch, or
+     *     Elasticsearch reported errors that are not to be ignored
+     * @throws IOException problem communicating with Elasticsearch
+     */
+    void send(Iterator<CommitterRequest> it)
+            throws CommitterException, IOException {
+        var inFlight = new Semaphore(Math.max(1, config.getBulkParallelism()));
+        List<Future<List<String>>> futures = new ArrayList<>();
+        List<String> errors = new ArrayList<>();
+        List<BulkItem> chunk = new ArrayList<>();
+        var chunkBytes = 0L;
+        var docCount = 0;
+        var bulkCount = 0;
+        try {
+            while (it.hasNext()) {
+                var item = toBulkItem(it.next());
+                if (!chunk.isEmpty() && chunkBytes
+                        + item.bytes().length > config.getBulkMaxBytes()) {
+                    dispatch(chunk, inFlight, futures, errors);
+                    bulkCount++;
+                    chunk = new ArrayList<>();
+                    chunkBytes = 0;
+                }
+                chunk.add(item);
+                chunkBytes += item.bytes().length;
+                docCount++;
+            }
+            if (!chunk.isEmpty()) {
+                dispatch(chunk, inFlight, futures, errors);
+                bulkCount++;
+            }
+            for (Future<List<String>> future : futures) {
+                errors.addAll(await(future));
+            }
+        } finally {
+            // only has an effect if we are leaving on an exception
+            futures.forEach(f -> f.cancel(true));
+        }
+
+        if (!errors.isEmpty()) {
+            var error = "Elasticsearch returned one or more errors:\n["
+                    + String.join(",\n", errors) + "]";
+            if (!config.isIgnoreResponseErrors()) {
+                throw new CommitterException(error);
+            }
+            LOG.error(error);
+        }
+        LOG.info("Sent {} commit operations to Elasticsearch in {} bulk "
+                + "request(s).", docCount, bulkCount);
+    }
+
+    @Override
+    public void close() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    //--- Sending --------------------------------------------------------------
+
+    private void dispatch(
+            List<BulkItem> chunk,
+            Semaphore inFlight,
+            List<Future<List<String>>> futures,
+            List<String> errors) throws CommitterException, IOException {
+        if (executor == null) {
+            errors.addAll(sendBulk(chunk));
+            return;
+        }
+        try {
+            inFlight.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CommitterException(
+                    "Interrupted while waiting to send bulk request.", e);
+        }
+        try {
+            futures.add(executor.submit(() -> {
+                try {
+                    return sendBulk(chunk);
+                } finally {
+                    inFlight.release();
+                }
+            }));
+        } catch (RuntimeException e) {
+            inFlight.release();
+            throw e;
+        }
+    }
+
+    private List<String> await(Future<List<String>> future)
+            throws CommitterException, IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CommitterException(
+                    "Interrupted while waiting for bulk response.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof CommitterException ce) {
+                throw ce;
+            }
+            if (e.getCause() instanceof IOException ioe) {
+                throw ioe;
+            }
+            throw new CommitterException(
+                    "Could not send bulk request to Elasticsearch.",
+                    e.getCause());
+        }
+    }
+
+    // Returns item errors that could not be resolved by retrying.
+    private List<String> sendBulk(List<BulkItem> items)
+            throws CommitterException, IOException {
+        List<String> errors = new ArrayList<>();
+        var pending = items;
+        for (var attempt = 0;; attempt++) {
+            var response = client.performRequest(bulkRequest(pending));
+            List<BulkItem> retries = new ArrayList<>();
+            for (ItemFailure failure : parseFailures(response)) {
+                if (failure.isTemporary()
+                        && attempt < config.getBulkItemMaxRetries()) {
+                    retries.add(pending.get(failure.index()));
+                } else {
+                    errors.add(failure.error());
+                }
+            }
+            if (retries.isEmpty()) {
+                return errors;
+            }
+            LOG.warn("Elasticsearch rejected {} out of {} bulk items with "
+                    + "a temporary error. Resending them (retry {}/{})...",
+                    retries.size(), pending.size(), attempt + 1,
+                    config.getBulkItemMaxRetries());
+            Sleeper.sleepMillis(config.getBulkItemRetryDelay().toMillis());
+            pending = retries;
+        }
+    }
+
+    private Request bulkRequest(List<BulkItem> items) throws IOException {
+        var size = 0;
+        for (BulkItem item : items) {
+            size += item.bytes().length;
+        }
+        var body = new ByteArrayOutputStream(
+                config.isBulkCompression() ? size / 4 : size);
+        try (OutputStream out = config.isBulkCompression()
+                ? new GZIPOutputStream(body)
+                : body) {
+            for (BulkItem item : items) {
+                out.write(item.bytes());
+            }
+        }
+        var entity = new ByteArrayEntity(
+                body.toByteArray(), NDJSON_CONTENT_TYPE);
+        if (config.isBulkCompression()) {
+            entity.setContentEncoding("gzip");
+        }
+        var request = new Request("POST", "/_bulk");
+        request.setEntity(entity);
+        return request;
+    }
+
+    private List<ItemFailure> parseFailures(Response response)
+            throws IOException, CommitterException {
+        List<ItemFailure> failures = new ArrayList<>();
+        var respEntity = response.getEntity();
+        if (respEntity != null) {
+            var responseAsString = IOUtils.toString(
+                    respEntity.getContent(), UTF_8);
+            if (LOG.isTraceEnabled()) {
+                LOG.trace("Elasticsearch response:\n{}", responseAsString);
+            }
+            // Only parse the response when it reports errors.
+            if (StringUtils.substring(
+                    responseAsString, 0, 100).contains("\"errors\":true")) {
+                var items = new JSONObject(responseAsString)
+                        .getJSONArray("items");
+                for (var i = 0; i < items.length(); i++) {
+                    var item = items.getJSONObject(i);
+                    var result = item.getJSONObject(item.keys().next());
+                    if (result.has("error")) {
+                        failures.add(new ItemFailure(
+                                i, result.optInt("status"),
+                                result.toString(4)));
+                    }
+                }
+            }
+        }
+        if (response.getStatusLine().getStatusCode() != HttpStatus.SC_OK) {
+            throw new CommitterException(
+                    "Invalid HTTP response: " + response.getStatusLine());
+        }
+        return failures;
+    }
+
+    //--- Serializing ----------------------------------------------------------
+
+    private BulkItem toBulkItem(CommitterRequest req)
+            throws CommitterException, IOException {
+        String action;
+        if (req instanceof UpsertRequest) {
+            action = "index";
+        } else if (req instanceof DeleteRequest) {
+            action = "delete";
+        } else {
+            throw new CommitterException("Unsupported request: " + req);
+        }
+        var id = idResolver.apply(req);
+
+        var out = new ByteArrayOutputStream();
+        try (var gen = jsonFactory.createGenerator(out)) {
+            gen.writeStartObject();
+            gen.writeObjectFieldStart(action);
+            gen.writeStringField("_index", config.getIndexName());
+            if (StringUtils.isNotBlank(config.getTypeName())) {
+                gen.writeStringField("_type", config.getTypeName());
+            }
+            gen.writeStringField(ELASTICSEARCH_ID_FIELD, id);
+            gen.writeEndObject();
+            gen.writeEndObject();
+            if (req instanceof UpsertRequest upsert) {
+                writeSource(gen, upsert);
+            }
+        }
+        out.write('\n');
+        return new BulkItem(out.toByteArray());
+    }
+
+    private void writeSource(JsonGenerator gen, UpsertRequest req)
+            throws IOException {
+        var contentField = StringUtils.isNotBlank(
+                config.getTargetContentField())
+                        ? fieldName(config.getTargetContentField())
+                        : null;
+        gen.writeStartObject();
+        for (var entry : req.getMetadata().entrySet()) {
+            var field = fieldName(entry.getKey());
+            // Do not store _id as a field since it is passed above already.
+            if (ELASTICSEARCH_ID_FIELD.equals(field)
+                    || field.equals(contentField)) {
+                continue;
+            }
+            gen.writeFieldName(field);
+            var values = entry.getValue();
+            if (values.size() == 1) {
+                writeValue(gen, field, values.get(0));
+            } else {
+                gen.writeStartArray();
+                for (String value : values) {
+                    writeValue(gen, field, value);
+                }
+                gen.writeEndArray();
+            }
+        }
+        if (contentField != null) {
+            gen.writeFieldName(contentField);
+            try (var reader = new InputStreamReader(req.getContent(), UTF_8)) {
+                gen.writeString(reader, -1);
+            }
+        }
+        gen.writeEndObject();
+    }
+
+    private void writeValue(JsonGenerator gen, String field, String value)
+            throws IOException {
+        if (config.getJsonFieldsPattern() != null
+                && config.getJsonFieldsPattern().matches(field)) {
+            gen.writeRawValue(value);
+        } else {
+            gen.writeString(value);
+        }
+    }
+
+    private String fieldName(String field) {
+        return Strings.CS.replace(field, ".", config.getDotReplacement());
+    }
+
+    //--- Inner Classes --------------------------------------------------------
+
+    // Action and source lines of a single bulk operation.
+    private record BulkItem(byte[] bytes) {
+    }
+
+    private record ItemFailure(int index, int status, String error) {
+        boolean isTemporary() {
+            return status == SC_TOO_MANY_REQUESTS
+                    || status >= HttpStatus.SC_INTERNAL_SERVER_ERROR;
+        }
+    }
+}
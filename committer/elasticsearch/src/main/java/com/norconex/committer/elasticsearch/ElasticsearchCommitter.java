@@ -141,6 +141,17 @@ import lombok.extern.slf4j.Slf4j;
  * {@code Authorization: ApiKey ...} header).
  * </p>
  *
+ * <h2>Streaming bulk requests</h2>
+ * <p>
+ * By default, each batch is sent as a single bulk request built in memory.
+ * With {@link ElasticsearchCommitterConfig#setStreamingBulk(boolean)},
+ * documents are instead serialized one at a time as they are read from
+ * the batch, into bulk requests no larger than
+ * {@link ElasticsearchCommitterConfig#setBulkMaxBytes(long)}. Those can
+ * be compressed and sent concurrently. Only the items Elasticsearch
+ * rejected with a temporary error (e.g., HTTP 429) are resent.
+ * </p>
+ *
  * <h2>Timeouts</h2>
  * <p>
  * You can specify timeout values for when this committer sends documents
@@ -163,6 +174,9 @@ public class ElasticsearchCommitter
     @EqualsAndHashCode.Exclude
     @ToString.Exclude
     private Sniffer sniffer;
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private ElasticsearchBulkSender bulkSender;
 
     @Getter
     private final ElasticsearchCommitterConfig configuration =
@@ -177,6 +191,10 @@ public class ElasticsearchCommitter
         if (configuration.isDiscoverNodes()) {
             sniffer = createSniffer(client);
         }
+        if (configuration.isStreamingBulk()) {
+            bulkSender = new ElasticsearchBulkSender(
+                    client, configuration, this::extractId);
+        }
     }
 
     private String extractId(CommitterRequest req) throws CommitterException {
@@ -188,6 +206,16 @@ public class ElasticsearchCommitter
     protected void commitBatch(Iterator<CommitterRequest> it)
             throws CommitterException {
 
+        if (bulkSender != null) {
+            try {
+                bulkSender.send(it);
+            } catch (IOException e) {
+                throw new CommitterException(
+                        "Could not commit JSON batch to Elasticsearch.", e);
+            }
+            return;
+        }
+
         var json = new StringBuilder();
 
         var docCount = 0;
@@ -223,10 +251,12 @@ public class ElasticsearchCommitter
 
     @Override
     protected void closeBatchCommitter() throws CommitterException {
+        IoUtil.closeQuietly(bulkSender);
         IoUtil.closeQuietly(sniffer);
         IoUtil.closeQuietly(client);
         client = null;
         sniffer = null;
+        bulkSender = null;
         LOG.info("Elasticsearch RestClient closed.");
     }
 
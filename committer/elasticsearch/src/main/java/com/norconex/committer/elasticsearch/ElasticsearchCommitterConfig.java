@@ -40,6 +40,12 @@ public class ElasticsearchCommitterConfig extends BaseBatchCommitterConfig {
     /** 30 seconds. */
     public static final Duration DEFAULT_SOCKET_TIMEOUT =
             Duration.ofSeconds(30);
+    /** 5 MB. */
+    public static final long DEFAULT_BULK_MAX_BYTES = 5L * 1024 * 1024;
+    public static final int DEFAULT_BULK_ITEM_MAX_RETRIES = 3;
+    /** 1 second. */
+    public static final Duration DEFAULT_BULK_ITEM_RETRY_DELAY =
+            Duration.ofSeconds(1);
 
     /**
      * One or more Elasticsearch nodes to connect to.
@@ -133,6 +139,54 @@ public class ElasticsearchCommitterConfig extends BaseBatchCommitterConfig {
      */
     private String targetContentField = DEFAULT_ELASTICSEARCH_CONTENT_FIELD;
 
+    /**
+     * Whether to stream each batch to Elasticsearch as one or more
+     * size-bounded bulk requests, serializing documents as they are read
+     * instead of building the whole batch as a single string first.
+     * Only the items reported as failed by Elasticsearch are retried.
+     * Default is {@code false}.
+     */
+    private boolean streamingBulk;
+
+    /**
+     * When {@link #isStreamingBulk()} is {@code true}, whether to
+     * gzip-compress bulk requests. Default is {@code false}.
+     */
+    private boolean bulkCompression;
+
+    /**
+     * When {@link #isStreamingBulk()} is {@code true}, the maximum
+     * uncompressed size in bytes of a single bulk request. A batch
+     * exceeding it is split into multiple bulk requests. A single document
+     * larger than this value is sent on its own. Defaults to
+     * {@value ElasticsearchCommitterConfig#DEFAULT_BULK_MAX_BYTES}.
+     */
+    private long bulkMaxBytes = DEFAULT_BULK_MAX_BYTES;
+
+    /**
+     * When {@link #isStreamingBulk()} is {@code true}, the maximum number
+     * of bulk requests of the same batch sent concurrently. When greater
+     * than one, the order in which operations of the same batch are applied
+     * is no longer guaranteed. Default is 1.
+     */
+    private int bulkParallelism = 1;
+
+    /**
+     * When {@link #isStreamingBulk()} is {@code true}, how many times to
+     * resend bulk items Elasticsearch rejected with a temporary error
+     * (HTTP status 429 or 5xx). Defaults to
+     * {@value ElasticsearchCommitterConfig#DEFAULT_BULK_ITEM_MAX_RETRIES}.
+     */
+    private int bulkItemMaxRetries = DEFAULT_BULK_ITEM_MAX_RETRIES;
+
+    /**
+     * Delay between each retry of failed bulk items.
+     * Defaults to value of
+     * {@link ElasticsearchCommitterConfig#DEFAULT_BULK_ITEM_RETRY_DELAY}.
+     */
+    @NonNull
+    private Duration bulkItemRetryDelay = DEFAULT_BULK_ITEM_RETRY_DELAY;
+
     /**
      * Gets an unmodifiable list of Elasticsearch cluster node URLs.
      * Defaults to "http://localhost:9200".
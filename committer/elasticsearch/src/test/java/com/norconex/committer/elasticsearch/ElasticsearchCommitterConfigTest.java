@@ -84,6 +84,12 @@ class ElasticsearchCommitterConfigTest {
         cfg.setConnectionTimeout(Duration.ofMillis(200));
         cfg.setSocketTimeout(Duration.ofMillis(300));
         cfg.setFixBadIds(true);
+        cfg.setStreamingBulk(true);
+        cfg.setBulkCompression(true);
+        cfg.setBulkMaxBytes(1024);
+        cfg.setBulkParallelism(4);
+        cfg.setBulkItemMaxRetries(5);
+        cfg.setBulkItemRetryDelay(Duration.ofMillis(400));
 
         assertThatNoException().isThrownBy(
                 () -> BeanMapper.DEFAULT.assertWriteRead(c));
@@ -18,13 +18,19 @@ import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.apache.commons.io.IOUtils.toInputStream;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.zip.GZIPInputStream;
 
 import org.apache.commons.io.input.NullInputStream;
 import org.apache.commons.lang3.StringUtils;
@@ -40,6 +46,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Timeout;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -414,6 +421,136 @@ class ElasticsearchCommitterTest {
                 .withMessageContaining("Could not commit JSON batch");
     }
 
+    // -------------------------------------------------------------------------
+    // commitBatch – streaming bulk
+    // -------------------------------------------------------------------------
+
+    @Test
+    void testCommitBatch_streamingBulk_sendsNdjson() throws Exception {
+        stubSuccessResponse("{\"errors\":false}");
+        committer.getConfiguration()
+                .setStreamingBulk(true)
+                .setDotReplacement("_");
+
+        var metadata = new Properties();
+        metadata.set("some.title", "Hello \"you\"");
+        metadata.set("tags", "a", "b");
+        var upsert = new UpsertRequest(
+                "doc1", metadata, toInputStream("body\ntext", UTF_8));
+        var delete = new DeleteRequest("doc2", new Properties());
+        committer.initBatchCommitter();
+        committer.commitBatch(iteratorOf(upsert, delete));
+
+        var captor = ArgumentCaptor.forClass(Request.class);
+        verify(mockRestClient).performRequest(captor.capture());
+        assertThat(bodyOf(captor.getValue())).isEqualTo("""
+                {"index":{"_index":"test-index","_id":"doc1"}}
+                {"some_title":"Hello \\"you\\"","tags":["a","b"],\
+                "content":"body\\ntext"}
+                {"delete":{"_index":"test-index","_id":"doc2"}}
+                """);
+    }
+
+    @Test
+    void testCommitBatch_streamingBulk_splitsBySizeAndCompresses()
+            throws Exception {
+        when(mockStatusLine.getStatusCode()).thenReturn(HttpStatus.SC_OK);
+        when(mockResponse.getStatusLine()).thenReturn(mockStatusLine);
+        when(mockEntity.getContent()).thenAnswer(
+                inv -> toInputStream("{\"errors\":false}", UTF_8));
+        when(mockResponse.getEntity()).thenReturn(mockEntity);
+        when(mockRestClient.performRequest(any())).thenReturn(mockResponse);
+        committer.getConfiguration()
+                .setStreamingBulk(true)
+                .setBulkCompression(true)
+                .setBulkMaxBytes(100);
+
+        committer.initBatchCommitter();
+        committer.commitBatch(iteratorOf(
+                new DeleteRequest("doc1", new Properties()),
+                new DeleteRequest("doc2", new Properties()),
+                new DeleteRequest("doc3", new Properties())));
+
+        // each delete line is about 50 bytes: 2 fit in a bulk request
+        var captor = ArgumentCaptor.forClass(Request.class);
+        verify(mockRestClient, times(2)).performRequest(captor.capture());
+        var first = captor.getAllValues().get(0);
+        assertThat(first.getEntity().getContentEncoding().getValue())
+                .isEqualTo("gzip");
+        assertThat(bodyOf(first)).contains("doc1", "doc2")
+                .doesNotContain("doc3");
+        assertThat(bodyOf(captor.getAllValues().get(1))).contains("doc3");
+    }
+
+    @Test
+    void testCommitBatch_streamingBulk_retriesFailedItemsOnly()
+            throws Exception {
+        var rejected = mockResponse("""
+                {"took":3,"errors":true,"items":[\
+                {"delete":{"_id":"doc1","status":200}},\
+                {"delete":{"_id":"doc2","status":429,\
+                "error":{"type":"es_rejected_execution_exception"}}}]}""");
+        var accepted = mockResponse("{\"took\":1,\"errors\":false}");
+        when(mockRestClient.performRequest(any()))
+                .thenReturn(rejected, accepted);
+        committer.getConfiguration()
+                .setStreamingBulk(true)
+                .setBulkItemRetryDelay(Duration.ZERO);
+
+        committer.initBatchCommitter();
+        committer.commitBatch(iteratorOf(
+                new DeleteRequest("doc1", new Properties()),
+                new DeleteRequest("doc2", new Properties())));
+
+        var captor = ArgumentCaptor.forClass(Request.class);
+        verify(mockRestClient, times(2)).performRequest(captor.capture());
+        assertThat(bodyOf(captor.getAllValues().get(1)))
+                .contains("doc2")
+                .doesNotContain("doc1");
+    }
+
+    @Test
+    void testCommitBatch_streamingBulk_permanentItemError_throws()
+            throws Exception {
+        var rejected = mockResponse("""
+                {"took":3,"errors":true,"items":[\
+                {"index":{"_id":"doc1","status":400,\
+                "error":{"reason":"mapping error"}}}]}""");
+        when(mockRestClient.performRequest(any())).thenReturn(rejected);
+        committer.getConfiguration().setStreamingBulk(true);
+
+        var upsert = new UpsertRequest(
+                "doc1", new Properties(), new NullInputStream(0));
+        committer.initBatchCommitter();
+        assertThatExceptionOfType(CommitterException.class)
+                .isThrownBy(() -> committer.commitBatch(iteratorOf(upsert)))
+                .withMessageContaining("mapping error");
+        verify(mockRestClient).performRequest(any(Request.class));
+    }
+
+    @Test
+    void testCommitBatch_streamingBulk_parallel() throws Exception {
+        when(mockStatusLine.getStatusCode()).thenReturn(HttpStatus.SC_OK);
+        when(mockResponse.getStatusLine()).thenReturn(mockStatusLine);
+        when(mockResponse.getEntity()).thenReturn(null);
+        when(mockRestClient.performRequest(any())).thenReturn(mockResponse);
+        committer.getConfiguration()
+                .setStreamingBulk(true)
+                .setBulkParallelism(3)
+                .setBulkMaxBytes(1);
+
+        List<CommitterRequest> reqs = new ArrayList<>();
+        for (var i = 0; i < 10; i++) {
+            reqs.add(new UpsertRequest("doc" + i, new Properties(),
+                    toInputStream("content " + i, UTF_8)));
+        }
+        committer.initBatchCommitter();
+        committer.commitBatch(reqs.iterator());
+        committer.closeBatchCommitter();
+
+        verify(mockRestClient, times(10)).performRequest(any(Request.class));
+    }
+
     // -------------------------------------------------------------------------
     // fixBadIdValue – edge cases exercised through commitBatch
     // -------------------------------------------------------------------------
@@ -535,6 +672,27 @@ class ElasticsearchCommitterTest {
         when(mockRestClient.performRequest(any())).thenReturn(mockResponse);
     }
 
+    private Response mockResponse(String body) throws IOException {
+        var statusLine = mock(StatusLine.class);
+        when(statusLine.getStatusCode()).thenReturn(HttpStatus.SC_OK);
+        var entity = mock(HttpEntity.class);
+        when(entity.getContent()).thenReturn(toInputStream(body, UTF_8));
+        var response = mock(Response.class);
+        when(response.getStatusLine()).thenReturn(statusLine);
+        when(response.getEntity()).thenReturn(entity);
+        return response;
+    }
+
+    private static String bodyOf(Request request) throws IOException {
+        var entity = request.getEntity();
+        var in = entity.getContentEncoding() != null
+                ? new GZIPInputStream(entity.getContent())
+                : entity.getContent();
+        try (in) {
+            return new String(in.readAllBytes(), UTF_8);
+        }
+    }
+
     @SafeVarargs
     private static <T> Iterator<T> iteratorOf(T... items) {
         return List.of(items).iterator();
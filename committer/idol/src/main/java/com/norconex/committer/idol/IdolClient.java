@@ -14,36 +14,37 @@
  */
 package com.norconex.committer.idol;
 
-import java.io.BufferedWriter;
-import java.io.IOException;
 import java.io.OutputStreamWriter;
 import java.io.Writer;
-import java.net.HttpURLConnection;
-import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
 
-import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.Strings;
+import org.apache.hc.core5.http.ContentType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.norconex.committer.core.CommitterException;
 import com.norconex.committer.core.CommitterRequest;
 import com.norconex.committer.core.UpsertRequest;
+import com.norconex.committer.core.http.HttpTransport;
 import com.norconex.commons.lang.url.HttpURL;
 
 class IdolClient {
 
+    private static final ContentType CONTENT_TYPE =
+            ContentType.create("text/plain", StandardCharsets.UTF_8);
+
     private static final Logger LOG = LoggerFactory.getLogger(IdolClient.class);
 
     private final IdolCommitterConfig config;
     private final IdolIndexAction upsertAction;
     private final IdolIndexAction deleteAction;
+    private final HttpTransport transport;
 
     IdolClient(IdolCommitterConfig config) {
         this.config = Objects.requireNonNull(
@@ -59,6 +60,7 @@ class IdolClient {
             upsertAction = new DreAddDataAction(config);
             deleteAction = new DreDeleteRefAction(config);
         }
+        transport = new HttpTransport(config.getHttpTransport(), "idol");
     }
 
     public void post(Iterator<CommitterRequest> iterator)
@@ -68,25 +70,43 @@ class IdolClient {
         // add to/from delete.  That means when there is a mix of additions
         // and deletions, the number of operations sent at once does not
         // always match the desired batch size (would be smaller).
+        // Consecutive requests of the same type can be further split into
+        // sub-batches uploaded in parallel, as per the HTTP transport
+        // settings.
 
         Class<? extends CommitterRequest> prevType = null;
         var docCount = 0;
-        final List<CommitterRequest> batch = new ArrayList<>();
+        List<CommitterRequest> batch = new ArrayList<>();
 
         while (iterator.hasNext()) {
             var r = iterator.next();
             if (typeChanged(prevType, r)) {
-                doPost(batch, prevType);
-                batch.clear();
+                postSubBatches(batch, prevType);
+                batch = new ArrayList<>();
             }
             batch.add(r);
             prevType = r.getClass();
             docCount++;
         }
-        doPost(batch, prevType);
+        postSubBatches(batch, prevType);
         LOG.info("Sent {} upserts/deletes to IDOL.", docCount);
     }
 
+    public void close() {
+        transport.close();
+    }
+
+    private void postSubBatches(
+            List<CommitterRequest> batch,
+            Class<? extends CommitterRequest> reqType)
+            throws CommitterException {
+        var uploads = transport.newUploadBatch();
+        for (List<CommitterRequest> subBatch : transport.subBatches(batch)) {
+            uploads.submit(() -> doPost(subBatch, reqType));
+        }
+        uploads.await();
+    }
+
     private boolean typeChanged(
             Class<? extends CommitterRequest> prevType,
             CommitterRequest req) {
@@ -116,21 +136,17 @@ class IdolClient {
             config.getDreDeleteRefParams().forEach(qs::add);
         }
 
-        var con = openConnection(indexAction.url(batch, url));
-        try (Writer w = new BufferedWriter(
-                new OutputStreamWriter(
-                        con.getOutputStream(), StandardCharsets.UTF_8))) {
+        var targetUrl = indexAction.url(batch, url).toString();
+        LOG.debug(
+                "Sending {} {} to URL: {}",
+                batch.size(), reqType.getSimpleName(), config.getUrl());
+        transport.post(targetUrl, null, CONTENT_TYPE, out -> {
+            Writer w = new OutputStreamWriter(out, StandardCharsets.UTF_8);
             indexAction.writeTo(batch, w);
             w.flush();
-
-            // Get the response
-            var responseCode = con.getResponseCode();
-            LOG.debug(
-                    "Sending {} {} to URL: {}",
-                    batch.size(), reqType.getSimpleName(), config.getUrl());
-            LOG.debug("Server Response Code: {}", responseCode);
-            var response = IOUtils.toString(
-                    con.getInputStream(), StandardCharsets.UTF_8);
+        }, res -> {
+            LOG.debug("Server Response Code: {}", res.getCode());
+            var response = HttpTransport.responseBody(res);
             LOG.debug("Server Response Text: {}", response);
             if ((config.isCfs() && !Strings.CS.contains(response, "SUCCESS"))
                     || (!config.isCfs()
@@ -138,29 +154,6 @@ class IdolClient {
                 throw new CommitterException(
                         "Unexpected HTTP response: " + response);
             }
-        } catch (IOException e) {
-            throw new CommitterException(
-                    "Cannot post content to " + config.getUrl(), e);
-        } finally {
-            con.disconnect();
-        }
-    }
-
-    private HttpURLConnection openConnection(URL url)
-            throws CommitterException {
-        try {
-            var con = (HttpURLConnection) url.openConnection();
-            con.setDoInput(true);
-            con.setDoOutput(true);
-            con.setUseCaches(false);
-            con.setRequestProperty("Content-Type", "text/plain; charset=utf-8");
-            con.setRequestMethod("POST");
-            return con;
-        } catch (IOException e) {
-            throw new CommitterException(
-                    "Cannot open HTTP connection to IDOL at: "
-                            + config.getUrl(),
-                    e);
-        }
+        });
     }
 }
@@ -66,4 +66,12 @@ public class IdolCommitter
             throws CommitterException {
         idolClient.post(it);
     }
+
+    @Override
+    protected void closeBatchCommitter() throws CommitterException {
+        if (idolClient != null) {
+            idolClient.close();
+            idolClient = null;
+        }
+    }
 }
@@ -19,8 +19,10 @@ import java.util.HashMap;
 import java.util.Map;
 
 import com.norconex.committer.core.batch.BaseBatchCommitterConfig;
+import com.norconex.committer.core.http.HttpTransportConfig;
 
 import lombok.Data;
+import lombok.NonNull;
 import lombok.experimental.Accessors;
 
 /**
@@ -76,4 +78,17 @@ public class IdolCommitterConfig extends BaseBatchCommitterConfig
      * order to use the document content stream instead of a field (default).
      */
     private String sourceContentField;
+
+    /**
+     * HTTP settings used to connect to IDOL, such as connection pooling,
+     * request compression, and parallel uploads of sub-batches.
+     */
+    private final HttpTransportConfig httpTransport =
+            new HttpTransportConfig();
+
+    public IdolCommitterConfig setHttpTransport(
+            @NonNull HttpTransportConfig httpTransport) {
+        this.httpTransport.copyFrom(httpTransport);
+        return this;
+    }
 }
@@ -14,6 +14,8 @@
  */
 package com.norconex.committer.idol;
 
+import java.time.Duration;
+
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Timeout;
@@ -62,6 +64,12 @@ class IdolCommitterConfigTest {
         cfg.getDreAddDataParams().put("aparam2", "avalue2");
         cfg.getDreDeleteRefParams().put("dparam1", "dvalue1");
         cfg.getDreDeleteRefParams().put("dparam2", "dvalue2");
+        cfg.getHttpTransport()
+                .setMaxConnections(4)
+                .setCompressRequests(true)
+                .setSubBatchSize(50)
+                .setUploadParallelism(2)
+                .setSocketTimeout(Duration.ofSeconds(30));
 
         BeanMapper.DEFAULT.assertWriteRead(c);
     }
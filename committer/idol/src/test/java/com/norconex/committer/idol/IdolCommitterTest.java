@@ -23,6 +23,7 @@ import java.io.File;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
@@ -144,6 +145,38 @@ class IdolCommitterTest {
                 """);
     }
 
+    @Test
+    void testAddDocsInParallelSubBatches() throws CommitterException {
+        mockIdol.when(request().withPath("/DREADDDATA"))
+                .respond(response().withBody("INDEXID=1"));
+
+        List<CommitterRequest> docs = new ArrayList<>();
+        for (var i = 1; i <= 3; i++) {
+            docs.add(new UpsertRequest(
+                    "http://thesimpsons.com/" + i, null, null));
+        }
+
+        var committer = createIdolCommitterNoInitContext();
+        committer.getConfiguration().getHttpTransport()
+                .setSubBatchSize(1)
+                .setUploadParallelism(2);
+        committer.init(createIdolCommitterContext());
+        committer.commitBatch(docs.iterator());
+        committer.close();
+
+        var requests = mockIdol.retrieveRecordedRequests(
+                HttpRequest.request()
+                        .withPath("/DREADDDATA")
+                        .withMethod("POST"));
+        assertThat(requests).hasSize(3);
+        assertThat(requests)
+                .extracting(HttpRequest::getBodyAsString)
+                .allMatch(body -> body.contains("#DREENDDATANOOP"))
+                .anyMatch(body -> body.contains("thesimpsons.com/1"))
+                .anyMatch(body -> body.contains("thesimpsons.com/2"))
+                .anyMatch(body -> body.contains("thesimpsons.com/3"));
+    }
+
     @Test
     void testAddNoDoc() throws CommitterException {
         // setup
@@ -18,8 +18,10 @@ import static org.apache.commons.lang3.StringUtils.trimToNull;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
@@ -28,7 +30,10 @@ import org.apache.commons.lang3.StringUtils;
 import org.neo4j.driver.AuthTokens;
 import org.neo4j.driver.Driver;
 import org.neo4j.driver.GraphDatabase;
+import org.neo4j.driver.Session;
 import org.neo4j.driver.SessionConfig;
+import org.neo4j.driver.exceptions.Neo4jException;
+import org.neo4j.driver.exceptions.RetryableException;
 import org.neo4j.driver.internal.value.NullValue;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -37,6 +42,7 @@ import com.norconex.committer.core.CommitterException;
 import com.norconex.committer.core.CommitterRequest;
 import com.norconex.committer.core.DeleteRequest;
 import com.norconex.committer.core.UpsertRequest;
+import com.norconex.commons.lang.Sleeper;
 import com.norconex.commons.lang.encrypt.EncryptionUtil;
 import com.norconex.commons.lang.map.Properties;
 
@@ -53,6 +59,9 @@ class Neo4jClient {
     private static final Logger LOG =
             LoggerFactory.getLogger(Neo4jClient.class);
 
+    static final String BATCH_PARAM = "batch";
+    static final String ROW_VAR = "row";
+
     private final Neo4jCommitterConfig config;
 
     private final Driver neo4jDriver;
@@ -90,6 +99,10 @@ class Neo4jClient {
     }
 
     public void post(Iterator<CommitterRequest> it) throws CommitterException {
+        if (config.isBatchedWrites()) {
+            postBatch(it);
+            return;
+        }
         while (it.hasNext()) {
             try {
                 var req = it.next();
@@ -113,6 +126,26 @@ class Neo4jClient {
     }
 
     private void postUpsert(UpsertRequest req) throws IOException {
+        var meta = prepareUpsert(req);
+        try (var session = neo4jDriver.session(sessionConfig)) {
+            session.executeWrite(tx -> {
+                tx.run(config.getUpsertCypher(), toObjectMap(meta));
+                return null;
+            });
+        }
+    }
+
+    private void postDelete(DeleteRequest req) {
+        var meta = prepareDelete(req);
+        try (var session = neo4jDriver.session(sessionConfig)) {
+            session.executeWrite(tx -> {
+                tx.run(config.getDeleteCypher(), toObjectMap(meta));
+                return null;
+            });
+        }
+    }
+
+    private Properties prepareUpsert(UpsertRequest req) throws IOException {
         var meta = req.getMetadata();
         if (StringUtils.isNotBlank(config.getNodeIdProperty())) {
             meta.set(config.getNodeIdProperty(), req.getReference());
@@ -122,24 +155,147 @@ class Neo4jClient {
                     config.getNodeContentProperty(), IOUtils.toString(
                             req.getContent(), StandardCharsets.UTF_8));
         }
-        try (var session = neo4jDriver.session(sessionConfig)) {
-            session.executeWrite(tx -> {
-                tx.run(config.getUpsertCypher(), toObjectMap(meta));
-                return null;
-            });
-        }
+        return meta;
     }
 
-    private void postDelete(DeleteRequest req) {
+    private Properties prepareDelete(DeleteRequest req) {
         var meta = req.getMetadata();
         Optional.ofNullable(trimToNull(config.getNodeIdProperty())).ifPresent(
                 fld -> meta.set(fld, req.getReference()));
+        return meta;
+    }
+
+    //--- Batched writes -------------------------------------------------------
+
+    private void postBatch(Iterator<CommitterRequest> it)
+            throws CommitterException {
+        var upsertCypher = StringUtils.defaultIfBlank(
+                config.getUpsertBatchCypher(),
+                toUnwindCypher(config.getUpsertCypher()));
+        var deleteCypher = StringUtils.defaultIfBlank(
+                config.getDeleteBatchCypher(),
+                toUnwindCypher(config.getDeleteCypher()));
+        var chunkSize = Math.max(1, config.getBatchChunkSize());
+
+        // consecutive requests of the same type are written together,
+        // preserving the order of operations
+        List<Map<String, Object>> rows = new ArrayList<>();
+        String chunkCypher = null;
+        var docCount = 0;
         try (var session = neo4jDriver.session(sessionConfig)) {
-            session.executeWrite(tx -> {
-                tx.run(config.getDeleteCypher(), toObjectMap(meta));
-                return null;
-            });
+            while (it.hasNext()) {
+                var req = it.next();
+                String cypher;
+                Map<String, Object> row;
+                if (req instanceof UpsertRequest upsert) {
+                    cypher = upsertCypher;
+                    row = toObjectMap(prepareUpsert(upsert));
+                } else if (req instanceof DeleteRequest delete) {
+                    cypher = deleteCypher;
+                    row = toObjectMap(prepareDelete(delete));
+                } else {
+                    throw new CommitterException("Unsupported request:" + req);
+                }
+                if (StringUtils.isBlank(cypher)) {
+                    throw new CommitterException(
+                            "No Cypher query configured for request: "
+                                    + req.getReference());
+                }
+                // identity check: both queries could be identical strings
+                if (chunkCypher != null && (chunkCypher != cypher //NOSONAR
+                        || rows.size() >= chunkSize)) {
+                    writeChunk(session, chunkCypher, rows);
+                    rows = new ArrayList<>();
+                }
+                chunkCypher = cypher;
+                rows.add(row);
+                docCount++;
+            }
+            if (!rows.isEmpty()) {
+                writeChunk(session, chunkCypher, rows);
+            }
+        } catch (IOException e) {
+            throw new CommitterException(
+                    "Cannot perform commit request.", e);
+        }
+        LOG.info("Sent {} commit operations to Neo4j.", docCount);
+    }
+
+    private void writeChunk(
+            Session session, String cypher, List<Map<String, Object>> rows)
+            throws CommitterException {
+        Map<String, Object> params = Map.of(BATCH_PARAM, rows);
+        for (var attempt = 0;; attempt++) {
+            try (var tx = session.beginTransaction()) {
+                tx.run(cypher, params).consume();
+                tx.commit();
+                return;
+            } catch (Neo4jException e) {
+                if (!(e instanceof RetryableException)
+                        || attempt >= config.getBatchMaxRetries()) {
+                    throw new CommitterException(
+                            "Could not write chunk of " + rows.size()
+                                    + " entries to Neo4j (attempts: "
+                                    + (attempt + 1) + ").",
+                            e);
+                }
+                LOG.warn("Transient error writing chunk of {} entries to "
+                        + "Neo4j. Retrying ({}/{})... Cause: {}",
+                        rows.size(), attempt + 1,
+                        config.getBatchMaxRetries(), e.getMessage());
+                Sleeper.sleepMillis(config.getBatchRetryDelay().toMillis());
+            }
+        }
+    }
+
+    /**
+     * Converts a Cypher query written for a single document into one
+     * executed for every document of a {@code $batch} list parameter,
+     * by prefixing it with {@code UNWIND $batch AS row} and replacing
+     * its parameters with "row" properties. String literals are left
+     * untouched.
+     * @param cypher single document Cypher query
+     * @return batch Cypher query
+     */
+    static String toUnwindCypher(String cypher) {
+        if (StringUtils.isBlank(cypher)) {
+            return cypher;
+        }
+        var b = new StringBuilder("UNWIND $").append(BATCH_PARAM)
+                .append(" AS ").append(ROW_VAR).append('\n');
+        var len = cypher.length();
+        var i = 0;
+        while (i < len) {
+            var ch = cypher.charAt(i);
+            var next = i + 1 < len ? cypher.charAt(i + 1) : 0;
+            if (ch == '\'' || ch == '"') {
+                var end = i + 1;
+                while (end < len && cypher.charAt(end) != ch) {
+                    end += cypher.charAt(end) == '\\' ? 2 : 1;
+                }
+                end = Math.min(len, end + 1);
+                b.append(cypher, i, end);
+                i = end;
+            } else if (ch == '$' && next == '`') {
+                var end = cypher.indexOf('`', i + 2);
+                end = end == -1 ? len : end + 1;
+                b.append(ROW_VAR).append('.').append(cypher, i + 1, end);
+                i = end;
+            } else if (ch == '$' && (Character.isLetterOrDigit(next)
+                    || next == '_')) {
+                var end = i + 1;
+                while (end < len && (Character.isLetterOrDigit(
+                        cypher.charAt(end)) || cypher.charAt(end) == '_')) {
+                    end++;
+                }
+                b.append(ROW_VAR).append('.').append(cypher, i + 1, end);
+                i = end;
+            } else {
+                b.append(ch);
+                i++;
+            }
         }
+        return b.toString();
     }
 
     private Map<String, Object> toObjectMap(Properties meta) {
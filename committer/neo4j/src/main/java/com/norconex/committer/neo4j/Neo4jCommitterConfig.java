@@ -15,6 +15,7 @@
 package com.norconex.committer.neo4j;
 
 import java.io.Serializable;
+import java.time.Duration;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
@@ -26,6 +27,7 @@ import com.norconex.commons.lang.collection.CollectionUtil;
 import com.norconex.commons.lang.security.Credentials;
 
 import lombok.Data;
+import lombok.NonNull;
 import lombok.experimental.Accessors;
 
 /**
@@ -44,6 +46,11 @@ public class Neo4jCommitterConfig
 
     public static final String DEFAULT_NEO4J_ID_PROPERTY = "id";
     public static final String DEFAULT_NEO4J_CONTENT_PROPERTY = "content";
+    public static final int DEFAULT_BATCH_CHUNK_SIZE = 500;
+    public static final int DEFAULT_BATCH_MAX_RETRIES = 3;
+    /** 1 second. */
+    public static final Duration DEFAULT_BATCH_RETRY_DELAY =
+            Duration.ofSeconds(1);
 
     /**
      * Required connection URI. E.g., "bolt://localhost:7687".
@@ -96,6 +103,51 @@ public class Neo4jCommitterConfig
      */
     private final Set<String> optionalParameters = new HashSet<>();
 
+    /**
+     * Whether to write batches in chunks, running the upsert or delete
+     * Cypher once per chunk for all its documents, with
+     * {@code UNWIND $batch AS row}, instead of once per document.
+     * All chunks of a batch share the same session, and each chunk is
+     * written in its own transaction. Default is {@code false}.
+     */
+    private boolean batchedWrites;
+    /**
+     * When batched writes are enabled, the maximum number of documents
+     * written in a single transaction. Consecutive upserts or deletes
+     * form a chunk. Default is
+     * {@value Neo4jCommitterConfig#DEFAULT_BATCH_CHUNK_SIZE}.
+     */
+    private int batchChunkSize = DEFAULT_BATCH_CHUNK_SIZE;
+    /**
+     * When batched writes are enabled, how many times to retry a chunk
+     * failing with a transient error. Default is
+     * {@value Neo4jCommitterConfig#DEFAULT_BATCH_MAX_RETRIES}.
+     */
+    private int batchMaxRetries = DEFAULT_BATCH_MAX_RETRIES;
+    /**
+     * Delay between each retry of a failing chunk. Defaults to value of
+     * {@link Neo4jCommitterConfig#DEFAULT_BATCH_RETRY_DELAY}.
+     */
+    @NonNull
+    private Duration batchRetryDelay = DEFAULT_BATCH_RETRY_DELAY;
+    /**
+     * Cypher query run once per chunk of upserts when batched writes
+     * are enabled, receiving chunk documents as a list of maps in the
+     * {@code $batch} parameter. When blank, it is derived from
+     * the "upsertCypher" by prefixing it with
+     * {@code UNWIND $batch AS row} and replacing its parameters
+     * with "row" properties (e.g., {@code $title} becomes
+     * {@code row.title}). Set it when your upsert query does not lend
+     * itself to this conversion (e.g., it uses {@code WITH}).
+     */
+    private String upsertBatchCypher;
+    /**
+     * Cypher query run once per chunk of deletes when batched writes
+     * are enabled. Same as "upsertBatchCypher", but derived from the
+     * "deleteCypher" when blank.
+     */
+    private String deleteBatchCypher;
+
     public void setCredentials(Credentials credentials) {
         this.credentials.copyFrom(credentials);
     }
@@ -0,0 +1,47 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.committer.neo4j;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+@Timeout(30)
+class Neo4jClientTest {
+
+    @Test
+    void testToUnwindCypher() {
+        assertThat(Neo4jClient.toUnwindCypher("""
+                MERGE (m:Movie { id: $movieId, title: $title })
+                FOREACH (a IN COALESCE($actors, []) |
+                    MERGE (:Actor {name: a, note: '$notAParam'}))
+                SET m.`doc.ref` = $`document.reference`, m.x = "$nor\\"$this"\
+                """)).isEqualTo("""
+                UNWIND $batch AS row
+                MERGE (m:Movie { id: row.movieId, title: row.title })
+                FOREACH (a IN COALESCE(row.actors, []) |
+                    MERGE (:Actor {name: a, note: '$notAParam'}))
+                SET m.`doc.ref` = row.`document.reference`, \
+                m.x = "$nor\\"$this"\
+                """);
+    }
+
+    @Test
+    void testToUnwindCypherBlank() {
+        assertThat(Neo4jClient.toUnwindCypher(null)).isNull();
+        assertThat(Neo4jClient.toUnwindCypher(" ")).isEqualTo(" ");
+    }
+}
@@ -17,6 +17,7 @@ package com.norconex.committer.neo4j;
 import static org.assertj.core.api.Assertions.assertThatNoException;
 
 import java.io.IOException;
+import java.time.Duration;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -63,6 +64,12 @@ class Neo4jCommitterConfigTest {
         cfg.setNodeContentProperty("myContent");
         cfg.setUpsertCypher("my upsert cypher");
         cfg.setDeleteCypher("my delete cypher");
+        cfg.setBatchedWrites(true);
+        cfg.setBatchChunkSize(100);
+        cfg.setBatchMaxRetries(5);
+        cfg.setBatchRetryDelay(Duration.ofMillis(250));
+        cfg.setUpsertBatchCypher("my upsert batch cypher");
+        cfg.setDeleteBatchCypher("my delete batch cypher");
 
         assertThatNoException().isThrownBy(
                 () -> BeanMapper.DEFAULT.assertWriteRead(c));
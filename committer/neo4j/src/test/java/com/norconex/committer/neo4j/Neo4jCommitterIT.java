@@ -161,6 +161,35 @@ class Neo4jCommitterIT {
                 "Taylor Hackford", "Lilly Wachowski", "Lana Wachowski");
     }
 
+    @Test
+    void batchedWritesTest() throws CommitterException, IOException {
+        commitAllMovies(true);
+
+        var records = session.run("""
+                MATCH (movie:Movie)
+                RETURN movie.id""").list();
+        assertThat(records).hasSize(3);
+
+        withinCommitterSession(c -> {
+            var cfg = c.getConfiguration();
+            cfg.setBatchedWrites(true);
+            cfg.setBatchChunkSize(1);
+            cfg.setDeleteCypher("""
+                    MATCH (n:Movie {id: $movieId })
+                    DETACH DELETE n
+                    """);
+            c.delete(new DeleteRequest("matrix1", new Properties()));
+            c.delete(new DeleteRequest("matrix2", new Properties()));
+        });
+
+        records = session.run("""
+                MATCH (movie:Movie)
+                RETURN movie.id""").list();
+        assertThat(records).hasSize(1);
+        assertThat(prop(records.get(0), "movie.id"))
+                .isEqualTo("devilsAdvocate");
+    }
+
     @Test
     void deleteTest() throws CommitterException, IOException {
         //setup
@@ -208,8 +237,13 @@ class Neo4jCommitterIT {
     }
 
     private void commitAllMovies() throws CommitterException {
+        commitAllMovies(false);
+    }
+
+    private void commitAllMovies(boolean batched) throws CommitterException {
         withinCommitterSession(c -> {
             var cfg = c.getConfiguration();
+            cfg.setBatchedWrites(batched);
             cfg.addOptionalParameter("producers");
             cfg.setUpsertCypher("""
                     MERGE (m:Movie {
@@ -21,14 +21,22 @@ import java.io.FileNotFoundException;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.net.URLClassLoader;
+import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
 
 import org.apache.commons.dbcp2.BasicDataSource;
 import org.apache.commons.dbutils.QueryRunner;
@@ -56,6 +64,9 @@ class SqlClient {
 
     private static final Logger LOG = LoggerFactory.getLogger(SqlClient.class);
 
+    // Keeps "IN" clauses well under most database limits.
+    private static final int MAX_IN_PARAMS = 500;
+
     private final SqlCommitterConfig cfg;
 
     // When we create missing ones... so we do not check if exists each time.
@@ -63,6 +74,8 @@ class SqlClient {
     private final Map<String, Integer> existingFields = new HashMap<>();
     private BasicDataSource datasource;
     private QueryRunner queryRunner; // thread-safe
+    // resolved on first batched write when dialect is AUTO
+    private SqlDialect detectedDialect;
 
     //--- INIT -----------------------------------------------------------------
 
@@ -178,6 +191,10 @@ class SqlClient {
     //--- POST -----------------------------------------------------------------
 
     public void post(Iterator<CommitterRequest> it) throws CommitterException {
+        if (cfg.isBatchedWrites()) {
+            postBatch(it);
+            return;
+        }
 
         var upsertCount = 0;
         var deleteCount = 0;
@@ -209,16 +226,7 @@ class SqlClient {
             throws SQLException, CommitterException {
 
         var meta = req.getMetadata();
-
-        // For doc content stream, if target field is already set,
-        // the doc content is ignored.
-        if (StringUtils.isNotBlank(cfg.getTargetContentField())
-                && !isTargetFieldAlreadySet(
-                        req, "content", cfg.getTargetContentField())) {
-            meta.set(
-                    cfg.getTargetContentField(),
-                    CommitterUtil.getContentAsString(req));
-        }
+        applyTargetContent(req);
 
         // resolved must be called before creating SQL query fields/values
         var pkValue = resolvePkValue(req);
@@ -247,6 +255,19 @@ class SqlClient {
         runDelete(resolvePkValue(req));
     }
 
+    private void applyTargetContent(UpsertRequest req)
+            throws CommitterException {
+        // For doc content stream, if target field is already set,
+        // the doc content is ignored.
+        if (StringUtils.isNotBlank(cfg.getTargetContentField())
+                && !isTargetFieldAlreadySet(
+                        req, "content", cfg.getTargetContentField())) {
+            req.getMetadata().set(
+                    cfg.getTargetContentField(),
+                    CommitterUtil.getContentAsString(req));
+        }
+    }
+
     private String resolvePkValue(CommitterRequest req) {
         var meta = req.getMetadata();
 
@@ -258,6 +279,197 @@ class SqlClient {
         return meta.getString(cfg.getPrimaryKey());
     }
 
+    //--- BATCHED POST ---------------------------------------------------------
+
+    private void postBatch(Iterator<CommitterRequest> it)
+            throws CommitterException {
+        // Last request wins for a given primary key. Deleted keys are
+        // deleted before upserts are written, so a delete followed by an
+        // upsert of the same document results in a fresh insert.
+        Map<String, Map<String, String>> upserts = new LinkedHashMap<>();
+        Set<String> deletes = new LinkedHashSet<>();
+        var upsertCount = 0;
+        var deleteCount = 0;
+        try {
+            while (it.hasNext()) {
+                var req = it.next();
+                if (req instanceof UpsertRequest upsert) {
+                    applyTargetContent(upsert);
+                    var pkValue = resolvePkValue(upsert);
+                    Map<String, String> row = new TreeMap<>();
+                    for (Entry<String, List<String>> entry : upsert
+                            .getMetadata().entrySet()) {
+                        row.put(fixFieldName(entry.getKey()), join(
+                                entry.getValue(),
+                                cfg.getMultiValuesJoiner()));
+                    }
+                    upserts.put(pkValue, row);
+                    upsertCount++;
+                } else if (req instanceof DeleteRequest delete) {
+                    var pkValue = resolvePkValue(delete);
+                    upserts.remove(pkValue);
+                    deletes.add(pkValue);
+                    deleteCount++;
+                } else {
+                    throw new CommitterException("Unsupported request: " + req);
+                }
+            }
+
+            // Schema changes are done once per batch, before the
+            // transaction as some databases commit implicitly on DDL.
+            Set<String> fields = new TreeSet<>();
+            upserts.values().forEach(row -> fields.addAll(row.keySet()));
+            ensureFields(new ArrayList<>(fields));
+
+            writeBatch(upserts, deletes);
+            LOG.info(
+                    "Sent {} upserts and {} deletes to database in a "
+                            + "single transaction.",
+                    upsertCount, deleteCount);
+        } catch (CommitterException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new CommitterException(
+                    "Could not commit batch to database.", e);
+        }
+    }
+
+    private void writeBatch(
+            Map<String, Map<String, String>> upserts, Set<String> deletes)
+            throws SQLException {
+        try (var conn = datasource.getConnection()) {
+            var dialect = resolveDialect(conn);
+            Set<String> toDelete = new LinkedHashSet<>(deletes);
+            if (dialect == SqlDialect.GENERIC) {
+                toDelete.addAll(upserts.keySet());
+            } else {
+                addMissingColumns(upserts);
+            }
+
+            // Upserts are grouped by column set so each group is a
+            // single batched statement.
+            Map<List<String>, List<Map<String, String>>> groups =
+                    new LinkedHashMap<>();
+            for (Map<String, String> row : upserts.values()) {
+                groups.computeIfAbsent(
+                        List.copyOf(row.keySet()),
+                        k -> new ArrayList<>()).add(row);
+            }
+
+            conn.setAutoCommit(false);
+            try {
+                runBulkDelete(conn, toDelete);
+                for (Entry<List<String>, List<Map<String, String>>> group
+                        : groups.entrySet()) {
+                    runBatchUpsert(
+                            conn, dialect, group.getKey(), group.getValue());
+                }
+                conn.commit();
+            } catch (SQLException | RuntimeException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(true);
+            }
+        }
+    }
+
+    // Native upserts only update the columns they are given. To fully
+    // replace existing records like delete-then-insert does, known
+    // columns missing from a document are set to NULL.
+    private synchronized void addMissingColumns(
+            Map<String, Map<String, String>> upserts) throws SQLException {
+        if (existingFields.isEmpty()) {
+            loadFieldsMetadata();
+        }
+        for (Map<String, String> row : upserts.values()) {
+            Set<String> present = new HashSet<>();
+            row.keySet().forEach(f -> present.add(
+                    StringUtils.lowerCase(f, Locale.ENGLISH)));
+            for (String column : existingFields.keySet()) {
+                if (!present.contains(column)) {
+                    row.put(column, null);
+                }
+            }
+        }
+    }
+
+    private SqlDialect resolveDialect(Connection conn) throws SQLException {
+        if (cfg.getDialect() != null && cfg.getDialect() != SqlDialect.AUTO) {
+            return cfg.getDialect();
+        }
+        if (detectedDialect == null) {
+            var productName = conn.getMetaData().getDatabaseProductName();
+            detectedDialect = SqlDialect.fromProductName(productName);
+            LOG.info("Using {} SQL dialect for database \"{}\".",
+                    detectedDialect, productName);
+        }
+        return detectedDialect;
+    }
+
+    private void runBulkDelete(Connection conn, Set<String> pkValues)
+            throws SQLException {
+        List<String> ids = new ArrayList<>(pkValues);
+        for (var i = 0; i < ids.size(); i += MAX_IN_PARAMS) {
+            var chunk = ids.subList(i, Math.min(ids.size(), i + MAX_IN_PARAMS));
+            var deleteSQL = "DELETE FROM " + cfg.getTableName()
+                    + " WHERE " + fixFieldName(cfg.getPrimaryKey())
+                    + " IN (" + StringUtils.repeat("?", ", ", chunk.size())
+                    + ")";
+            LOG.trace(deleteSQL);
+            queryRunner.update(conn, deleteSQL, chunk.toArray());
+        }
+    }
+
+    private void runBatchUpsert(
+            Connection conn,
+            SqlDialect dialect,
+            List<String> fields,
+            List<Map<String, String>> rows) throws SQLException {
+        var sql = upsertSQL(dialect, fields);
+        if (LOG.isTraceEnabled()) {
+            LOG.trace("SQL: {}", sql);
+        }
+        var args = new Object[rows.size()][];
+        for (var i = 0; i < rows.size(); i++) {
+            var row = rows.get(i);
+            args[i] = new Object[fields.size()];
+            for (var j = 0; j < fields.size(); j++) {
+                var field = fields.get(j);
+                args[i][j] = fixFieldValue(field, row.get(field));
+            }
+        }
+        queryRunner.batch(conn, sql, args);
+    }
+
+    private String upsertSQL(SqlDialect dialect, List<String> fields) {
+        var table = cfg.getTableName();
+        var pk = fixFieldName(cfg.getPrimaryKey());
+        var columns = StringUtils.join(fields, ",");
+        var insert = "INSERT INTO " + table + "(" + columns
+                + ") VALUES (" + StringUtils.repeat("?", ", ", fields.size())
+                + ")";
+        var updatable = fields.stream()
+                .filter(f -> !f.equalsIgnoreCase(pk))
+                .toList();
+        return switch (dialect) {
+            case H2 -> "MERGE INTO " + table + "(" + columns + ") KEY ("
+                    + pk + ") VALUES ("
+                    + StringUtils.repeat("?", ", ", fields.size()) + ")";
+            case POSTGRESQL -> insert + " ON CONFLICT (" + pk + ") "
+                    + (updatable.isEmpty() ? "DO NOTHING"
+                            : "DO UPDATE SET " + updatable.stream()
+                                    .map(f -> f + " = EXCLUDED." + f)
+                                    .collect(Collectors.joining(", ")));
+            case MYSQL -> insert + " ON DUPLICATE KEY UPDATE "
+                    + (updatable.isEmpty() ? pk + " = " + pk
+                            : updatable.stream()
+                                    .map(f -> f + " = VALUES(" + f + ")")
+                                    .collect(Collectors.joining(", ")));
+            default -> insert;
+        };
+    }
+
     //--- CLOSE ----------------------------------------------------------------
 
     public void close() throws CommitterException {
@@ -269,6 +481,7 @@ class SqlClient {
             }
             datasource = null;
             queryRunner = null;
+            detectedDialect = null;
             existingFields.clear();
         }
     }
@@ -396,7 +609,7 @@ class SqlClient {
     }
 
     private String fixFieldValue(String fieldName, String value) {
-        if (!cfg.isFixFieldValues()) {
+        if (!cfg.isFixFieldValues() || value == null) {
             return value;
         }
         var size = existingFields.get(
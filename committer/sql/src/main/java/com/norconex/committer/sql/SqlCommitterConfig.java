@@ -118,6 +118,21 @@ public class SqlCommitterConfig
      */
     private String targetContentField = DEFAULT_SQL_CONTENT_FIELD;
 
+    /**
+     * Whether to write each batch in a single transaction using
+     * set-based statements (one bulk delete and one batched upsert
+     * per distinct column set), instead of up to three statements per
+     * document. When a batch holds more than one request for the same
+     * document, only the last one is applied. Default is {@code false}.
+     */
+    private boolean batchedWrites;
+
+    /**
+     * SQL dialect used to write batches when batched writes are enabled.
+     * Default is {@link SqlDialect#AUTO}.
+     */
+    private SqlDialect dialect = SqlDialect.AUTO;
+
     public Credentials getCredentials() {
         return credentials;
     }
@@ -0,0 +1,70 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.committer.sql;
+
+import java.util.Locale;
+
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * SQL dialects used to write batches when
+ * {@link SqlCommitterConfig#isBatchedWrites()} is {@code true}.
+ * Whatever the dialect, existing records are fully replaced: with native
+ * upserts, table columns missing from a document are set to
+ * {@code NULL}.
+ * @since 4.0.0
+ */
+public enum SqlDialect {
+
+    /**
+     * Detects the dialect from the database product name, falling back
+     * to {@link #GENERIC} for unsupported databases.
+     */
+    AUTO,
+    /**
+     * Deletes existing records of a batch with
+     * {@code DELETE ... WHERE pk IN (...)} before inserting them again.
+     * Works with any database and fully replaces existing records.
+     */
+    GENERIC,
+    /** H2 {@code MERGE INTO ... KEY (pk)}. */
+    H2,
+    /** PostgreSQL (or compatible) {@code INSERT ... ON CONFLICT}. */
+    POSTGRESQL,
+    /** MySQL or MariaDB {@code INSERT ... ON DUPLICATE KEY UPDATE}. */
+    MYSQL;
+
+    /**
+     * Gets the dialect matching a JDBC database product name.
+     * @param productName database product name
+     * @return SQL dialect, never {@code null}
+     */
+    public static SqlDialect fromProductName(String productName) {
+        var name = StringUtils.lowerCase(productName, Locale.ENGLISH);
+        if (name == null) {
+            return GENERIC;
+        }
+        if (name.startsWith("h2")) {
+            return H2;
+        }
+        if (name.contains("postgres")) {
+            return POSTGRESQL;
+        }
+        if (name.contains("mysql") || name.contains("mariadb")) {
+            return MYSQL;
+        }
+        return GENERIC;
+    }
+}
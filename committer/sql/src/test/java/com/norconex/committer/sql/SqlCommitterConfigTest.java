@@ -52,6 +52,8 @@ class SqlCommitterConfigTest {
                 .setFixFieldValues(true)
                 .setMultiValuesJoiner("^")
                 .setTargetContentField("targetContentField")
+                .setBatchedWrites(true)
+                .setDialect(SqlDialect.POSTGRESQL)
                 .setQueue(q)
                 .setFieldMapping("subject", "title")
                 .setFieldMapping("body", "content")
@@ -37,6 +37,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -271,6 +273,81 @@ class SqlCommitterTest {
                 .isEqualTo("test3");
     }
 
+    @ParameterizedTest
+    @EnumSource(value = SqlDialect.class, names = { "AUTO", "GENERIC" })
+    void testBatchedWrites(SqlDialect dialect) throws Exception {
+        withinCommitterSession(c -> {
+            c.getConfiguration().setBatchedWrites(true).setDialect(dialect);
+            c.upsert(upsertRequest("1", "Document 1"));
+            c.upsert(upsertRequest("2", "Document 2"));
+            c.upsert(upsertRequest("3", "Document 3"));
+        });
+        assertThat(getAllDocs()).hasSize(3);
+
+        withinCommitterSession(c -> {
+            c.getConfiguration().setBatchedWrites(true).setDialect(dialect);
+            c.upsert(upsertRequest("1", "Document 1 updated"));
+            c.delete(new DeleteRequest("2", new Properties()));
+            var metadata = new Properties();
+            metadata.set("EXTRA", "extra value");
+            c.upsert(upsertRequest("4", "Document 4", metadata));
+            c.delete(new DeleteRequest("4", new Properties()));
+            metadata = new Properties();
+            metadata.set("EXTRA", "extra value");
+            c.upsert(upsertRequest("4", "Document 4 again", metadata));
+            c.delete(new DeleteRequest("5", new Properties()));
+        });
+
+        Map<Object, Map<String, Object>> docs = new HashMap<>();
+        getAllDocs().forEach(doc -> docs.put(doc.get(TEST_FLD_PK), doc));
+        assertThat(docs).containsOnlyKeys("1", "3", "4");
+        assertThat(docs.get("1"))
+                .containsEntry(TEST_FLD_CONTENT, "Document 1 updated");
+        assertThat(docs.get("3"))
+                .containsEntry(TEST_FLD_CONTENT, "Document 3");
+        assertThat(docs.get("4"))
+                .containsEntry(TEST_FLD_CONTENT, "Document 4 again")
+                .containsEntry("EXTRA", "extra value");
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = SqlDialect.class, names = { "AUTO", "GENERIC", "H2" })
+    void testBatchedWritesReplaceRecords(SqlDialect dialect)
+            throws Exception {
+        withinCommitterSession(c -> {
+            c.getConfiguration().setBatchedWrites(true).setDialect(dialect);
+            var metadata = new Properties();
+            metadata.set("EXTRA", "extra value");
+            c.upsert(upsertRequest("1", "Document 1", metadata));
+        });
+        assertThat(getAllDocs().get(0)).containsEntry("EXTRA", "extra value");
+
+        // Re-committed without the extra field: the column is cleared.
+        withinCommitterSession(c -> {
+            c.getConfiguration().setBatchedWrites(true).setDialect(dialect);
+            c.upsert(upsertRequest("1", "Document 1 updated"));
+        });
+        var docs = getAllDocs();
+        assertThat(docs).hasSize(1);
+        assertThat(docs.get(0))
+                .containsEntry(TEST_FLD_CONTENT, "Document 1 updated")
+                .containsEntry("EXTRA", null);
+    }
+
+    @Test
+    void testDialectFromProductName() {
+        assertThat(SqlDialect.fromProductName("H2"))
+                .isEqualTo(SqlDialect.H2);
+        assertThat(SqlDialect.fromProductName("PostgreSQL"))
+                .isEqualTo(SqlDialect.POSTGRESQL);
+        assertThat(SqlDialect.fromProductName("MariaDB"))
+                .isEqualTo(SqlDialect.MYSQL);
+        assertThat(SqlDialect.fromProductName("Apache Derby"))
+                .isEqualTo(SqlDialect.GENERIC);
+        assertThat(SqlDialect.fromProductName(null))
+                .isEqualTo(SqlDialect.GENERIC);
+    }
+
     private UpsertRequest upsertRequest(String id, String content) {
         return upsertRequest(id, content, null);
     }
@@ -185,6 +185,76 @@ public class CrawlerConfig {
     @Min(1)
     private int numThreads = 2;
 
+    /**
+     * <p>
+     * Whether crawler threads are virtual threads instead of platform
+     * threads. Virtual threads are cheap to create and block, so
+     * {@link #getNumThreads()} can be set much higher (e.g., thousands)
+     * to hide network latency. CPU-intensive importing can then be
+     * limited with {@link #getMaxConcurrentImports()}.
+     * </p>
+     * <p>
+     * On JDK 21, a virtual thread blocking inside a {@code synchronized}
+     * block or method is pinned to its carrier (platform) thread, which
+     * cannot run other virtual threads meanwhile. For this reason,
+     * crawler code where threads may wait on shared state (delays,
+     * caches, queues) uses {@code java.util.concurrent} locks instead.
+     * </p>
+     * <p>
+     * Default is {@code false}.
+     * </p>
+     */
+    private boolean virtualThreads;
+
+    /**
+     * <p>
+     * The maximum number of documents being imported (parsed and
+     * transformed) at the same time on a node. Other crawler threads wait
+     * for their turn before importing. A value lower than 1 means no
+     * limit with platform threads, and the number of available processors
+     * with virtual threads (see {@link #isVirtualThreads()}).
+     * </p>
+     * <p>
+     * Default is 0.
+     * </p>
+     */
+    private int maxConcurrentImports;
+
+    /**
+     * <p>
+     * Whether to process documents in stages, each having its own threads,
+     * connected by bounded queues:
+     * </p>
+     * <ul>
+     *   <li><b>fetch</b>: importer pipeline stages before importing
+     *       (mostly I/O-bound), using {@link #getNumThreads()} threads.</li>
+     *   <li><b>import</b>: parsing and transformation (mostly CPU-bound),
+     *       using {@link #getMaxConcurrentImports()} threads, or the number
+     *       of available processors if lower than 1. Always platform
+     *       threads.</li>
+     *   <li><b>commit</b>: committer pipeline, using
+     *       {@link #getNumThreads()} threads.</li>
+     * </ul>
+     * <p>
+     * A stage waits when the queue of the next one is full, so a slow stage
+     * slows down the ones preceding it instead of accumulating documents.
+     * Stage queue sizes and latencies are reported as crawler metric gauges.
+     * Not used when deleting all queued documents.
+     * </p>
+     * <p>
+     * Default is {@code false}.
+     * </p>
+     */
+    private boolean stagedExecution;
+
+    /**
+     * The maximum number of documents waiting in each stage queue
+     * when {@link #isStagedExecution()} is {@code true}. A value lower
+     * than 1 uses twice the number of threads of the stage reading
+     * from the queue. Default is 0.
+     */
+    private int stageQueueSize;
+
     /**
      * <p>
      * The maximum number of documents that can be processed in a single
@@ -308,6 +378,15 @@ public class CrawlerConfig {
     @JacksonXmlProperty(localName = "committer")
     private final List<Committer> committers = new ArrayList<>();
 
+    /**
+     * Whether to send each document to all accepting committers
+     * concurrently rather than one committer after the other. Useful when
+     * more than one committer is configured, so that the slowest committer
+     * no longer delays the others. Each committer processes at most
+     * {@link #getNumThreads()} documents at once. Default is {@code false}.
+     */
+    private boolean parallelCommitters;
+
     /**
      * Whether to turn ON deduplication based on metadata checksum.
      * To enable, {@link #getMetadataChecksummer()} must not return
@@ -333,6 +412,18 @@ public class CrawlerConfig {
     private DocumentChecksummer documentChecksummer =
             new Md5DocumentChecksummer();
 
+    /**
+     * Whether to create a checksum of the raw fetched content, before it
+     * is imported, and reject documents whose raw content is the same as
+     * on the previous crawl as unmodified without importing them.
+     * Saves parsing and transforming unchanged documents. Only effective
+     * when {@link #getDocumentChecksummer()} is not {@code null}.
+     * Changes to the importer configuration are not picked up for
+     * unmodified documents until their raw content changes.
+     * Default is {@code false}.
+     */
+    private boolean rawContentChecksum;
+
     /**
      * The spoiled state strategy resolver. A spoiled document is one that
      * was crawled properly before but on a subsequent crawl, it can no longer
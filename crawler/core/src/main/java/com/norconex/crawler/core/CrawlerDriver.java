@@ -25,6 +25,7 @@ import com.norconex.crawler.core.cmd.crawl.pipeline.CrawlerPipelineFactory;
 import com.norconex.crawler.core.cmd.crawl.pipeline.DefaultCrawlPipelineFactory;
 import com.norconex.crawler.core.cmd.crawl.pipeline.bootstrap.CrawlerBootstrapper;
 import com.norconex.crawler.core.cmd.crawl.pipeline.bootstrap.ledger.CrawlerEntryLedgerBootstrapper;
+import com.norconex.crawler.core.cmd.crawl.pipeline.process.DispatchScheduler;
 import com.norconex.crawler.core.doc.pipelines.CrawlerDocPipelines;
 import com.norconex.crawler.core.fetch.MultiFetcher.ResponseAggregator;
 import com.norconex.crawler.core.fetch.MultiFetcher.UnsuccessfulResponseFactory;
@@ -89,6 +90,14 @@ public class CrawlerDriver {
     @Default
     private final Map<String, Class<?>> cacheTypes = new HashMap<>();
 
+    /**
+     * Optional scheduler deciding when queued entries can be handed to
+     * crawler threads (e.g., to honor per-site crawl delays without
+     * blocking threads). Entries are dispatched in queue order when
+     * {@code null}.
+     */
+    private final DispatchScheduler dispatchScheduler;
+
     @Accessors(fluent = true)
     @Data
     @NonNull
@@ -34,6 +34,20 @@ public interface CacheManager {
      */
     <T> CacheMap<T> getCacheMap(String name, Class<T> valueType);
 
+    /**
+     * Declares a value field to be indexed for the named cache map, so that
+     * {@link QueryFilter} queries, counts, and deletes on that field only
+     * touch matching entries instead of scanning the whole cache.
+     * Best invoked before the cache is first accessed. Declaring the
+     * same field more than once has no effect. Implementations that do
+     * not benefit from indexes may ignore it.
+     * @param cacheName cache name
+     * @param fieldName name of the value field to index
+     */
+    default void addIndexedField(String cacheName, String fieldName) {
+        // no-op by default
+    }
+
     /**
      * As string-based set, keeping only unique keys.
      * @param name cache name
@@ -93,6 +107,16 @@ public interface CacheManager {
      */
     <T> CacheQueue<T> getCacheQueue(String name, Class<T> valueType);
 
+    /**
+     * Gets a named counter shared by all nodes. Counters are persisted
+     * alongside the other persistent caches and survive restarts.
+     * Multiple calls with the same name return counters sharing the
+     * same value.
+     * @param name counter name
+     * @return named counter
+     */
+    Counter getCounter(String name);
+
     /**
      * Gets the admin cache for storing administrative data.
      * @return admin cache
@@ -14,10 +14,12 @@
  */
 package com.norconex.crawler.core.cluster;
 
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Function;
@@ -74,6 +76,25 @@ public interface CacheMap<T> {
      */
     T putIfAbsent(String key, T value);
 
+    /**
+     * Same as invoking {@link #putIfAbsent(String, Object)} for each entry,
+     * returning the keys that were absent. Implementations should override
+     * this method to perform it in bulk (i.e., with fewer round-trips
+     * to the underlying store). Each entry is added atomically, but not
+     * the whole batch.
+     * @param entries entries to add if their key is absent
+     * @return keys of the entries added
+     */
+    default Set<String> putAllIfAbsent(Map<String, T> entries) {
+        Set<String> added = new HashSet<>();
+        entries.forEach((key, value) -> {
+            if (putIfAbsent(key, value) == null) {
+                added.add(key);
+            }
+        });
+        return added;
+    }
+
     boolean replace(String key, T oldValue, T newValue);
 
     /**
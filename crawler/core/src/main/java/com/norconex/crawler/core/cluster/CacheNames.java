@@ -26,6 +26,7 @@ public final class CacheNames {
     public static final String CRAWL_SESSION = "crawlSession";
     public static final String CRAWL_RUN = "eph-crawlRun";
     public static final String REFERENCE_QUEUE = "queue-refs";
+    public static final String COUNTERS = "counters";
 
     private CacheNames() {
     }
@@ -15,12 +15,42 @@
 
 package com.norconex.crawler.core.cluster;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface CacheQueue<T> {
 
     void add(T item);
 
+    /**
+     * Adds all items, in iteration order. Implementations should override
+     * this method to perform it in bulk (i.e., with fewer round-trips
+     * to the underlying store).
+     * <p>
+     * Adding can stop before the end (e.g., a bounded queue remaining full
+     * for too long). The returned count then tells how many items were
+     * added, starting from the first one. The remaining items were not
+     * added. An exception is only thrown when no item was added.
+     * </p>
+     * @param items items to add
+     * @return number of items added, from the first one
+     */
+    default int addAll(Collection<? extends T> items) {
+        var count = 0;
+        for (T item : items) {
+            try {
+                add(item);
+            } catch (RuntimeException e) {
+                if (count == 0) {
+                    throw e;
+                }
+                return count;
+            }
+            count++;
+        }
+        return count;
+    }
+
     T poll();
 
     List<T> pollBatch(int batchSize);
@@ -31,6 +61,15 @@ public interface CacheQueue<T> {
 
     void clear();
 
+    /**
+     * Gets the signal raised every time items are added to this queue.
+     * For distributed implementations, this includes items added by
+     * other cluster nodes. Lets consumers wait for new items instead of
+     * polling the queue.
+     * @return work signal
+     */
+    WorkSignal getWorkSignal();
+
     /**
      * Returns whether this queue persists data across restarts.
      * @return true if the queue is persistent, false if ephemeral
@@ -0,0 +1,93 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.norconex.crawler.core.cluster;
+
+import java.time.Duration;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import lombok.NonNull;
+
+/**
+ * Local notification raised whenever work (e.g., a queue item) becomes
+ * available. Waiting threads block on a condition until signaled instead
+ * of polling the underlying store. Every signal increments a generation
+ * number so a waiter can tell whether work arrived since it last looked:
+ * <pre>
+ * long gen = signal.generation();
+ * if (noWorkFound()) {
+ *     signal.await(gen, timeout);
+ * }
+ * </pre>
+ */
+public class WorkSignal {
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+    private long generation;
+
+    /**
+     * Gets the number of signals received so far.
+     * @return signal generation
+     */
+    public long generation() {
+        lock.lock();
+        try {
+            return generation;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Notifies all waiting threads that work is available.
+     */
+    public void signal() {
+        lock.lock();
+        try {
+            generation++;
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Waits until a signal is received after the given generation or the
+     * timeout elapses. Returns immediately if a signal was already
+     * received since that generation.
+     * @param sinceGeneration generation obtained before checking for work
+     * @param timeout maximum time to wait
+     * @return <code>true</code> if signaled, <code>false</code> on timeout
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public boolean await(long sinceGeneration, @NonNull Duration timeout)
+            throws InterruptedException {
+        var nanos = timeout.toNanos();
+        lock.lock();
+        try {
+            while (generation == sinceGeneration) {
+                if (nanos <= 0) {
+                    return false;
+                }
+                nanos = changed.awaitNanos(nanos);
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
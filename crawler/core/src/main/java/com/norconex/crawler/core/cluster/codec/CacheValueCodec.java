@@ -0,0 +1,52 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.crawler.core.cluster.codec;
+
+/**
+ * Encodes and decodes cache values of a given type to and from a compact
+ * binary form, for cache implementations storing raw bytes. Codecs are
+ * discovered with {@link java.util.ServiceLoader} (see
+ * {@link CacheValueCodecs}) and must have a public no-argument constructor.
+ * Cache values without a matching codec are stored as JSON.
+ *
+ * <p>Encoded values are persisted across crawler versions. Implementations
+ * are expected to be schema-evolvable: able to read values written by
+ * older versions of themselves and to skip data they do not understand.
+ * </p>
+ *
+ * @param <T> type of the value encoded
+ */
+public interface CacheValueCodec<T> {
+
+    /**
+     * Gets the exact type of values handled by this codec.
+     * @return value type
+     */
+    Class<T> getValueType();
+
+    /**
+     * Encodes a value.
+     * @param value the value to encode (never {@code null})
+     * @return encoded value
+     */
+    byte[] encode(T value);
+
+    /**
+     * Decodes a value.
+     * @param data data previously produced by {@link #encode(Object)}
+     * @return decoded value
+     */
+    T decode(byte[] data);
+}
@@ -0,0 +1,71 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.crawler.core.cluster.codec;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Registry of {@link CacheValueCodec} implementations, loaded once from
+ * {@code META-INF/services/com.norconex.crawler.core.cluster.codec.CacheValueCodec}
+ * entries found on the classpath.
+ */
+@Slf4j
+public final class CacheValueCodecs {
+
+    private static final Map<Class<?>, CacheValueCodec<?>> CODECS =
+            loadCodecs();
+
+    private CacheValueCodecs() {
+    }
+
+    /**
+     * Gets the codec registered for the exact given value type, if any.
+     * @param <T> value type
+     * @param valueType value type
+     * @return optional codec
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Optional<CacheValueCodec<T>> get(Class<T> valueType) {
+        if (valueType == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable((CacheValueCodec<T>) CODECS.get(valueType));
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static Map<Class<?>, CacheValueCodec<?>> loadCodecs() {
+        Map<Class<?>, CacheValueCodec<?>> codecs = new ConcurrentHashMap<>();
+        for (CacheValueCodec codec : ServiceLoader.load(
+                CacheValueCodec.class,
+                CacheValueCodecs.class.getClassLoader())) {
+            var previous = codecs.put(codec.getValueType(), codec);
+            if (previous != null) {
+                LOG.warn("More than one cache value codec registered for {}: "
+                        + "{} replaces {}.", codec.getValueType().getName(),
+                        codec.getClass().getName(),
+                        previous.getClass().getName());
+            }
+            LOG.debug("Registered cache value codec {} for {}.",
+                    codec.getClass().getName(),
+                    codec.getValueType().getName());
+        }
+        return codecs;
+    }
+}
@@ -0,0 +1,218 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.crawler.core.cluster.codec;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads binary cache values written with {@link CodecOutput}. Typical usage
+ * is to loop on {@link #nextField()} until it returns zero, reading the
+ * fields one knows about and calling {@link #skipField()} on the others.
+ */
+public class CodecInput {
+
+    private final byte[] buffer;
+    private final int limit;
+    private int position;
+    private int wireType;
+
+    public CodecInput(byte[] data) {
+        this(data, 0, data.length);
+    }
+
+    private CodecInput(byte[] data, int offset, int limit) {
+        buffer = data;
+        position = offset;
+        this.limit = limit;
+    }
+
+    /**
+     * Reads and validates the format header.
+     * @param expectedFormatId expected format identifier
+     * @param maxVersion highest format version supported by the reader
+     * @return the version of the data read
+     * @throws CodecException if the header is invalid or the version
+     *     is not supported
+     */
+    public int header(int expectedFormatId, int maxVersion) {
+        var formatId = readByte();
+        if (formatId != expectedFormatId) {
+            throw new CodecException("Unexpected format identifier: "
+                    + formatId + " (expected " + expectedFormatId + ").");
+        }
+        var version = readByte();
+        if (version > maxVersion) {
+            throw new CodecException("Unsupported format version " + version
+                    + " (highest supported: " + maxVersion + ").");
+        }
+        return version;
+    }
+
+    /**
+     * Advances to the next field.
+     * @return the field number or zero when there are no more fields
+     */
+    public int nextField() {
+        if (position >= limit) {
+            return 0;
+        }
+        var key = readVarLong();
+        if (key == 0) {
+            return 0;
+        }
+        wireType = (int) (key & 1);
+        return (int) (key >>> 1);
+    }
+
+    public long readVarint() {
+        expectWireType(CodecOutput.WIRE_VARINT);
+        return unZigZag(readVarLong());
+    }
+
+    public int readInt() {
+        return (int) readVarint();
+    }
+
+    public boolean readBoolean() {
+        expectWireType(CodecOutput.WIRE_VARINT);
+        return readVarLong() != 0;
+    }
+
+    public String readString() {
+        expectWireType(CodecOutput.WIRE_BYTES);
+        return readRawString();
+    }
+
+    /**
+     * Reads a value written with
+     * {@link CodecOutput#internedField(int, String, List)}.
+     * @param dictionary well-known values
+     * @return string value
+     */
+    public String readInterned(List<String> dictionary) {
+        if (wireType == CodecOutput.WIRE_BYTES) {
+            return readRawString();
+        }
+        var index = (int) readVarLong();
+        if (index < 0 || index >= dictionary.size()) {
+            throw new CodecException(
+                    "Unknown dictionary index: " + index + ".");
+        }
+        return dictionary.get(index);
+    }
+
+    public ZonedDateTime readDate() {
+        var nested = nested();
+        var epochSecond = unZigZag(nested.readVarLong());
+        var nano = nested.readVarLong();
+        var zone = ZoneId.of(nested.readRawString());
+        return ZonedDateTime.ofInstant(
+                Instant.ofEpochSecond(epochSecond, nano), zone);
+    }
+
+    /**
+     * Reads a list written with
+     * {@link CodecOutput#deltaStringListField(int, List, String)}.
+     * @param base the same base value given when writing (nullable)
+     * @return string values
+     */
+    public List<String> readDeltaStringList(String base) {
+        var nested = nested();
+        var size = (int) nested.readVarLong();
+        var values = new ArrayList<String>(size);
+        var previous = base == null ? "" : base;
+        for (var i = 0; i < size; i++) {
+            var prefixLength = (int) nested.readVarLong();
+            var current = previous.substring(0, prefixLength)
+                    + nested.readRawString();
+            values.add(current);
+            previous = current;
+        }
+        return values;
+    }
+
+    /**
+     * Skips the current field.
+     */
+    public void skipField() {
+        if (wireType == CodecOutput.WIRE_VARINT) {
+            readVarLong();
+        } else {
+            var length = (int) readVarLong();
+            checkAvailable(length);
+            position += length;
+        }
+    }
+
+    //--- Private methods ------------------------------------------------------
+
+    private CodecInput nested() {
+        expectWireType(CodecOutput.WIRE_BYTES);
+        var length = (int) readVarLong();
+        checkAvailable(length);
+        var nested = new CodecInput(buffer, position, position + length);
+        position += length;
+        return nested;
+    }
+
+    private String readRawString() {
+        var length = (int) readVarLong();
+        checkAvailable(length);
+        var value = new String(
+                buffer, position, length, StandardCharsets.UTF_8);
+        position += length;
+        return value;
+    }
+
+    private long readVarLong() {
+        long value = 0;
+        for (var shift = 0; shift < 64; shift += 7) {
+            checkAvailable(1);
+            var b = buffer[position++];
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new CodecException("Malformed variable-length integer.");
+    }
+
+    private int readByte() {
+        checkAvailable(1);
+        return buffer[position++] & 0xFF;
+    }
+
+    private void expectWireType(int expected) {
+        if (wireType != expected) {
+            throw new CodecException("Unexpected wire type " + wireType
+                    + " (expected " + expected + ").");
+        }
+    }
+
+    private void checkAvailable(int length) {
+        if (length < 0 || position + length > limit) {
+            throw new CodecException("Unexpected end of encoded data.");
+        }
+    }
+
+    private static long unZigZag(long v) {
+        return (v >>> 1) ^ -(v & 1);
+    }
+}
@@ -0,0 +1,216 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.crawler.core.cluster.codec;
+
+import java.nio.charset.StandardCharsets;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Writes binary cache values as a sequence of tagged fields, to be read
+ * back with {@link CodecInput}. Each field starts with a variable-length
+ * key made of its field number and wire type (variable-length integer or
+ * length-delimited bytes), so readers can skip fields they do not know.
+ * Fields holding {@code null} or default values are omitted.
+ */
+public class CodecOutput {
+
+    static final int WIRE_VARINT = 0;
+    static final int WIRE_BYTES = 1;
+
+    private byte[] buffer;
+    private int position;
+
+    public CodecOutput() {
+        this(128);
+    }
+
+    public CodecOutput(int initialCapacity) {
+        buffer = new byte[Math.max(16, initialCapacity)];
+    }
+
+    /**
+     * Writes the format header. Must be invoked first.
+     * @param formatId identifies the encoded value type
+     * @param version format version
+     * @return this
+     */
+    public CodecOutput header(int formatId, int version) {
+        writeByte(formatId);
+        writeByte(version);
+        return this;
+    }
+
+    public CodecOutput varintField(int field, long value) {
+        writeKey(field, WIRE_VARINT);
+        writeVarLong(zigZag(value));
+        return this;
+    }
+
+    public CodecOutput booleanField(int field, boolean value) {
+        if (value) {
+            writeKey(field, WIRE_VARINT);
+            writeVarLong(1);
+        }
+        return this;
+    }
+
+    public CodecOutput stringField(int field, String value) {
+        if (value != null) {
+            writeKey(field, WIRE_BYTES);
+            writeString(value);
+        }
+        return this;
+    }
+
+    /**
+     * Writes a string as an index in the given dictionary when present
+     * in it, or as a string literal otherwise. Dictionaries are part of the
+     * format: entries can be appended but never removed or reordered.
+     * @param field field number
+     * @param value string value
+     * @param dictionary well-known values
+     * @return this
+     */
+    public CodecOutput internedField(
+            int field, String value, List<String> dictionary) {
+        if (value == null) {
+            return this;
+        }
+        var index = dictionary.indexOf(value);
+        if (index >= 0) {
+            writeKey(field, WIRE_VARINT);
+            writeVarLong(index);
+        } else {
+            writeKey(field, WIRE_BYTES);
+            writeString(value);
+        }
+        return this;
+    }
+
+    public CodecOutput dateField(int field, ZonedDateTime value) {
+        if (value == null) {
+            return this;
+        }
+        var nested = new CodecOutput(32);
+        nested.writeVarLong(zigZag(value.toEpochSecond()));
+        nested.writeVarLong(value.getNano());
+        nested.writeString(value.getZone().getId());
+        writeKey(field, WIRE_BYTES);
+        writeBytes(nested.buffer, nested.position);
+        return this;
+    }
+
+    /**
+     * Writes a list of strings, each one stored as the length of the prefix
+     * it shares with the previous one (or with the supplied base value for
+     * the first one) followed by the remaining characters. Efficient for
+     * lists of similar strings, such as URLs from the same site.
+     * @param field field number
+     * @param values string values
+     * @param base value the first element is compared with (nullable)
+     * @return this
+     */
+    public CodecOutput deltaStringListField(
+            int field, List<String> values, String base) {
+        if (values == null || values.isEmpty()) {
+            return this;
+        }
+        var nested = new CodecOutput(values.size() * 16);
+        nested.writeVarLong(values.size());
+        var previous = base == null ? "" : base;
+        for (String value : values) {
+            var current = value == null ? "" : value;
+            var prefixLength = commonPrefixLength(previous, current);
+            nested.writeVarLong(prefixLength);
+            nested.writeString(current.substring(prefixLength));
+            previous = current;
+        }
+        writeKey(field, WIRE_BYTES);
+        writeBytes(nested.buffer, nested.position);
+        return this;
+    }
+
+    /**
+     * Terminates the field sequence and returns the encoded bytes.
+     * @return encoded bytes
+     */
+    public byte[] toByteArray() {
+        writeVarLong(0);
+        return Arrays.copyOf(buffer, position);
+    }
+
+    //--- Private methods ------------------------------------------------------
+
+    private void writeKey(int field, int wireType) {
+        if (field <= 0) {
+            throw new IllegalArgumentException(
+                    "Field number must be greater than zero.");
+        }
+        writeVarLong(((long) field << 1) | wireType);
+    }
+
+    private void writeString(String value) {
+        var bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeBytes(bytes, bytes.length);
+    }
+
+    private void writeBytes(byte[] bytes, int length) {
+        writeVarLong(length);
+        ensureCapacity(length);
+        System.arraycopy(bytes, 0, buffer, position, length);
+        position += length;
+    }
+
+    private void writeVarLong(long value) {
+        ensureCapacity(10);
+        var v = value;
+        while ((v & ~0x7FL) != 0) {
+            buffer[position++] = (byte) ((v & 0x7F) | 0x80);
+            v >>>= 7;
+        }
+        buffer[position++] = (byte) v;
+    }
+
+    private void writeByte(int value) {
+        ensureCapacity(1);
+        buffer[position++] = (byte) value;
+    }
+
+    private void ensureCapacity(int extra) {
+        if (position + extra > buffer.length) {
+            buffer = Arrays.copyOf(
+                    buffer, Math.max(buffer.length * 2, position + extra));
+        }
+    }
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static int commonPrefixLength(String a, String b) {
+        var max = Math.min(a.length(), b.length());
+        var i = 0;
+        while (i < max && a.charAt(i) == b.charAt(i)) {
+            i++;
+        }
+        // never split a surrogate pair
+        if (i > 0 && Character.isHighSurrogate(b.charAt(i - 1))) {
+            i--;
+        }
+        return i;
+    }
+}
@@ -21,6 +21,9 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 
 import com.hazelcast.collection.IQueue;
+import com.hazelcast.collection.ItemEvent;
+import com.hazelcast.collection.ItemListener;
+import com.hazelcast.config.IndexType;
 import com.hazelcast.core.Hazelcast;
 import com.hazelcast.core.HazelcastInstance;
 import com.hazelcast.map.IMap;
@@ -30,7 +33,9 @@ import com.norconex.crawler.core.cluster.CacheNames;
 import com.norconex.crawler.core.cluster.CacheQueue;
 import com.norconex.crawler.core.cluster.CacheSet;
 import com.norconex.crawler.core.cluster.ClusterException;
+import com.norconex.crawler.core.cluster.Counter;
 import com.norconex.crawler.core.cluster.SerializedCache;
+import com.norconex.crawler.core.cluster.WorkSignal;
 import com.norconex.crawler.core.cluster.impl.hazelcast.event.CacheEntryChangeListener;
 import com.norconex.crawler.core.cluster.impl.hazelcast.event.CacheEntryChangeListenerAdapter;
 import com.norconex.crawler.core.cluster.pipeline.StepRecord;
@@ -47,6 +52,9 @@ public class HazelcastCacheManager implements CacheManager, Closeable {
     private final Map<CacheEntryChangeListener<?>,
             CacheEntryChangeListenerAdapter<?>> adapterMappings =
                     new ConcurrentHashMap<>();
+    // One signal per queue, fed by a cluster-wide item listener
+    private final Map<String, WorkSignal> queueSignals =
+            new ConcurrentHashMap<>();
 
     public HazelcastCacheManager(HazelcastInstance hazelcastInstance) {
         hazelcast = hazelcastInstance;
@@ -69,6 +77,14 @@ public class HazelcastCacheManager implements CacheManager, Closeable {
                 valueType);
     }
 
+    @Override
+    public void addIndexedField(String cacheName, String fieldName) {
+        // Hash index: ledger queries are equality matches. Adding an
+        // index that already exists is a no-op in Hazelcast.
+        getHazelcastMap(cacheName).addIndex(IndexType.HASH, fieldName);
+        LOG.debug("Indexing field '{}' of cache '{}'.", fieldName, cacheName);
+    }
+
     @Override
     public CacheSet getCacheSet(String name) {
         return new HazelcastSetAdapter(hazelcast.getSet(name));
@@ -81,7 +97,14 @@ public class HazelcastCacheManager implements CacheManager, Closeable {
         return new HazelcastQueueAdapter<>(
                 getHazelcastQueue(name),
                 hazelcast,
-                valueType);
+                valueType,
+                queueSignals.computeIfAbsent(name, this::createQueueSignal));
+    }
+
+    @Override
+    public Counter getCounter(String name) {
+        return new HazelcastCounter(
+                this.<Long>getHazelcastMap(CacheNames.COUNTERS), name);
     }
 
     @Override
@@ -206,6 +229,26 @@ public class HazelcastCacheManager implements CacheManager, Closeable {
 
     //--- Private methods ------------------------------------------------------
 
+    private WorkSignal createQueueSignal(String queueName) {
+        var signal = new WorkSignal();
+        // Item listeners are notified of additions made by any member.
+        // Values are not needed, only the fact that items were added.
+        this.<Object>getHazelcastQueue(queueName).addItemListener(
+                new ItemListener<>() {
+                    @Override
+                    public void itemAdded(ItemEvent<Object> item) {
+                        signal.signal();
+                    }
+
+                    @Override
+                    public void itemRemoved(ItemEvent<Object> item) {
+                        // not needed
+                    }
+                }, false);
+        LOG.debug("Listening for items added to queue '{}'.", queueName);
+        return signal;
+    }
+
     <T> IQueue<T> getHazelcastQueue(String queueName) {
         var lifecycle = hazelcast.getLifecycleService();
         if (!lifecycle.isRunning()) {
@@ -21,7 +21,6 @@ import com.norconex.crawler.core.cluster.Counter;
  * A distributed counter implementation using Hazelcast IMap.
  * Uses atomic operations to ensure thread-safety across the cluster.
  */
-//TODO Expose and use it or DELETE it if not used.
 class HazelcastCounter implements Counter {
 
     private final IMap<String, Long> counterMap;
@@ -16,6 +16,7 @@ package com.norconex.crawler.core.cluster.impl.hazelcast;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -37,6 +38,7 @@ import org.apache.commons.lang3.Strings;
 
 import com.hazelcast.core.HazelcastInstance;
 import com.hazelcast.core.OperationTimeoutException;
+import com.hazelcast.core.Pipelining;
 import com.hazelcast.map.IMap;
 import com.hazelcast.query.PagingPredicate;
 import com.hazelcast.query.Predicate;
@@ -44,6 +46,7 @@ import com.hazelcast.query.Predicates;
 import com.hazelcast.query.impl.predicates.PagingPredicateImpl;
 import com.norconex.commons.lang.Sleeper;
 import com.norconex.crawler.core.cluster.CacheMap;
+import com.norconex.crawler.core.cluster.ClusterException;
 import com.norconex.crawler.core.cluster.QueryFilter;
 import com.norconex.crawler.core.util.SerialUtil;
 
@@ -67,6 +70,8 @@ public class HazelcastMapAdapter<T> implements CacheMap<T> {
     private final IMap<String, Object> hzMap;
     private final HazelcastInstance hzInstance;
     private static final int DEFAULT_BATCH_SIZE = 100;
+    // Max number of put-if-absent operations in flight at once
+    private static final int PUT_PIPELINE_DEPTH = 100;
     private static final long EPH_GET_TIMEOUT_MS = 5_000L;
     private static final int EPH_GET_RETRIES = 24;
     private static final long EPH_GET_RETRY_DELAY_MS = 250L;
@@ -212,6 +217,49 @@ public class HazelcastMapAdapter<T> implements CacheMap<T> {
         }, null);
     }
 
+    /**
+     * Adds absent entries with pipelined asynchronous put-if-absent
+     * operations, instead of waiting on each entry in turn. Each entry
+     * value is only sent to the member owning its key.
+     */
+    @Override
+    public Set<String> putAllIfAbsent(Map<String, T> entries) {
+        if (entries.isEmpty()) {
+            return Set.of();
+        }
+        return supplyIfCache(() -> {
+            var keys = new ArrayList<String>(entries.size());
+            var pipelining = new Pipelining<Boolean>(PUT_PIPELINE_DEPTH);
+            try {
+                for (Entry<String, T> en : entries.entrySet()) {
+                    keys.add(en.getKey());
+                    pipelining.add(hzMap.putIfAbsentAsync(
+                            en.getKey(), toStored(en.getValue()))
+                            .thenApply(Objects::isNull));
+                }
+                var results = pipelining.results();
+                Set<String> added = new HashSet<>();
+                for (var i = 0; i < keys.size(); i++) {
+                    if (Boolean.TRUE.equals(results.get(i))) {
+                        added.add(keys.get(i));
+                    }
+                }
+                return added;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ClusterException(
+                        "Interrupted while adding entries to cache '%s'."
+                                .formatted(name),
+                        e);
+            } catch (Exception e) {
+                throw new ClusterException(
+                        "Could not add entries to cache '%s'."
+                                .formatted(name),
+                        e);
+            }
+        }, Set.of());
+    }
+
     @Override
     public boolean replace(String key, T oldValue, T newValue) {
         return supplyIfCache(
@@ -16,6 +16,7 @@
 package com.norconex.crawler.core.cluster.impl.hazelcast;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.TimeUnit;
@@ -26,6 +27,7 @@ import com.hazelcast.collection.IQueue;
 import com.hazelcast.core.HazelcastInstance;
 import com.norconex.crawler.core.cluster.CacheQueue;
 import com.norconex.crawler.core.cluster.ClusterException;
+import com.norconex.crawler.core.cluster.WorkSignal;
 import com.norconex.crawler.core.util.SerialUtil;
 
 import lombok.extern.slf4j.Slf4j;
@@ -39,17 +41,20 @@ public class HazelcastQueueAdapter<T> implements CacheQueue<T> {
     private final HazelcastInstance hzInstance;
     private final Class<T> valueType;
     private final String name;
+    private final WorkSignal workSignal;
 
     @SuppressWarnings("unchecked")
     public HazelcastQueueAdapter(
             IQueue<Object> hzQueue,
             HazelcastInstance hzInstance,
-            Class<T> valueType) {
+            Class<T> valueType,
+            WorkSignal workSignal) {
         this.hzQueue = Objects.requireNonNull(hzQueue, "queue");
         name = hzQueue.getName();
         this.hzInstance = hzInstance;
         this.valueType =
                 valueType == null ? (Class<T>) String.class : valueType;
+        this.workSignal = Objects.requireNonNull(workSignal, "workSignal");
     }
 
     @Override
@@ -57,20 +62,7 @@ public class HazelcastQueueAdapter<T> implements CacheQueue<T> {
         if (!isQueueAvailable() || item == null) {
             return;
         }
-        Object toStore;
-        // If the value is already a String, store as-is. Otherwise
-        // serialize to JSON for maximum JDBC portability.
-        if (item instanceof String || valueType == String.class) {
-            toStore = item;
-        } else {
-            try {
-                toStore = SerialUtil.toJsonString(item);
-            } catch (SerializationException e) {
-                LOG.debug("Could not serialize queue item; storing "
-                        + "toString: {}", e.toString());
-                toStore = item.toString();
-            }
-        }
+        var toStore = toStored(item);
         // Offer to the distributed FIFO queue with a hard timeout so queue
         // store/network stalls do not block a crawler thread indefinitely.
         try {
@@ -97,6 +89,52 @@ public class HazelcastQueueAdapter<T> implements CacheQueue<T> {
         }
     }
 
+    /**
+     * Offers items one by one, with the same hard timeout as
+     * {@link #add(Object)} shared by the whole batch. Offers are used
+     * rather than a bulk addition so that the number of items added is
+     * always known, even when the timeout is reached.
+     */
+    @Override
+    public int addAll(Collection<? extends T> items) {
+        if (!isQueueAvailable() || items.isEmpty()) {
+            // Ignored like add() when the instance is not running
+            return items.size();
+        }
+        var deadline = System.currentTimeMillis() + OFFER_TIMEOUT_MS;
+        var count = 0;
+        try {
+            for (T item : items) {
+                if (item != null && !hzQueue.offer(
+                        toStored(item),
+                        Math.max(0, deadline - System.currentTimeMillis()),
+                        TimeUnit.MILLISECONDS)) {
+                    LOG.warn("Could only add {} of {} items to queue '{}' "
+                            + "within {} ms.", count, items.size(),
+                            hzQueue.getName(), OFFER_TIMEOUT_MS);
+                    return count;
+                }
+                count++;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return partialAdd(count, items.size(), e);
+        } catch (Exception e) {
+            return partialAdd(count, items.size(), e);
+        }
+        return count;
+    }
+
+    private int partialAdd(int count, int total, Exception e) {
+        if (count == 0) {
+            throw new ClusterException("Could not add items to queue '%s'."
+                    .formatted(hzQueue.getName()), e);
+        }
+        LOG.warn("Could only add {} of {} items to queue '{}'.",
+                count, total, hzQueue.getName(), e);
+        return count;
+    }
+
     @Override
     public T poll() {
         var list = pollBatch(1);
@@ -186,6 +224,21 @@ public class HazelcastQueueAdapter<T> implements CacheQueue<T> {
         }
     }
 
+    private Object toStored(T item) {
+        // If the value is already a String, store as-is. Otherwise
+        // serialize to JSON for maximum JDBC portability.
+        if (item instanceof String || valueType == String.class) {
+            return item;
+        }
+        try {
+            return SerialUtil.toJsonString(item);
+        } catch (SerializationException e) {
+            LOG.debug("Could not serialize queue item; storing "
+                    + "toString: {}", e.toString());
+            return item.toString();
+        }
+    }
+
     private boolean isQueueAvailable() {
         var lifecycle = hzInstance.getLifecycleService();
         if (!lifecycle.isRunning()) {
@@ -197,6 +250,16 @@ public class HazelcastQueueAdapter<T> implements CacheQueue<T> {
         return true;
     }
 
+    /**
+     * Gets the signal raised by the queue item listener registered by
+     * {@link HazelcastCacheManager}, which is notified of items added
+     * from any cluster node.
+     */
+    @Override
+    public WorkSignal getWorkSignal() {
+        return workSignal;
+    }
+
     @Override
     public boolean isPersistent() {
         return HazelcastUtil.isPersistent(hzInstance, getName());
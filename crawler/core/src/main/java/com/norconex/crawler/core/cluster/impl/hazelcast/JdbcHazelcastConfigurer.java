@@ -29,6 +29,7 @@ import com.hazelcast.config.MapStoreConfig;
 import com.hazelcast.config.MapStoreConfig.InitialLoadMode;
 import com.hazelcast.config.QueueConfig;
 import com.hazelcast.config.QueueStoreConfig;
+import com.norconex.crawler.core.cluster.CacheNames;
 import com.norconex.crawler.core.cluster.impl.hazelcast.jdbc.TypedJdbcMapStoreFactory;
 import com.norconex.crawler.core.cluster.impl.hazelcast.jdbc.TypedJdbcQueueStoreFactory;
 import com.norconex.crawler.core.cluster.pipeline.StepRecord;
@@ -436,6 +437,11 @@ public class JdbcHazelcastConfigurer implements HazelcastConfigurer {
                 buildMapConfig("pipeWorkerStatuses", backups, stepClass,
                         effectiveSqlMerge, true));
 
+        // Counters: write-through so status counts stay in step with the
+        // ledger entries they describe when a crawl is resumed.
+        cfg.addMapConfig(buildMapConfig(CacheNames.COUNTERS, backups,
+                Long.class.getName(), effectiveSqlMerge, true));
+
         // Ledger wildcard: value-class-name is the base type here, but it is
         // overridden at startup by HazelcastCluster.applyCacheTypes() with the
         // concrete CrawlerEntry subclass registered by the driver.
@@ -15,11 +15,13 @@
 package com.norconex.crawler.core.cluster.impl.memory;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
 
 import com.norconex.crawler.core.cluster.CacheQueue;
+import com.norconex.crawler.core.cluster.WorkSignal;
 
 /**
  * In-memory {@link CacheQueue} backed by a {@link ConcurrentLinkedQueue}.
@@ -29,6 +31,7 @@ public class InMemoryCacheQueue<T> implements CacheQueue<T> {
 
     private final Queue<T> queue = new ConcurrentLinkedQueue<>();
     private final String name;
+    private final WorkSignal workSignal = new WorkSignal();
 
     public InMemoryCacheQueue(String name) {
         this.name = name;
@@ -37,6 +40,15 @@ public class InMemoryCacheQueue<T> implements CacheQueue<T> {
     @Override
     public void add(T item) {
         queue.offer(item);
+        workSignal.signal();
+    }
+
+    @Override
+    public int addAll(Collection<? extends T> items) {
+        if (queue.addAll(items)) {
+            workSignal.signal();
+        }
+        return items.size();
     }
 
     @Override
@@ -69,6 +81,11 @@ public class InMemoryCacheQueue<T> implements CacheQueue<T> {
         queue.clear();
     }
 
+    @Override
+    public WorkSignal getWorkSignal() {
+        return workSignal;
+    }
+
     @Override
     public boolean isPersistent() {
         return false;
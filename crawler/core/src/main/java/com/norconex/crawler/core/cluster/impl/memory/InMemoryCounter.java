@@ -0,0 +1,73 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.crawler.core.cluster.impl.memory;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.norconex.crawler.core.cluster.Counter;
+
+/**
+ * In-memory {@link Counter} backed by an {@link AtomicLong}.
+ * Not persistent.
+ */
+public class InMemoryCounter implements Counter {
+
+    private final AtomicLong value = new AtomicLong();
+
+    @Override
+    public long incrementAndGet() {
+        return value.incrementAndGet();
+    }
+
+    @Override
+    public long getAndIncrement() {
+        return value.getAndIncrement();
+    }
+
+    @Override
+    public long decrementAndGet() {
+        return value.decrementAndGet();
+    }
+
+    @Override
+    public long getAndDecrement() {
+        return value.getAndDecrement();
+    }
+
+    @Override
+    public long addAndGet(long delta) {
+        return value.addAndGet(delta);
+    }
+
+    @Override
+    public long getAndAdd(long delta) {
+        return value.getAndAdd(delta);
+    }
+
+    @Override
+    public void set(long newValue) {
+        value.set(newValue);
+    }
+
+    @Override
+    public long get() {
+        return value.get();
+    }
+
+    @Override
+    public void reset() {
+        value.set(0L);
+    }
+}
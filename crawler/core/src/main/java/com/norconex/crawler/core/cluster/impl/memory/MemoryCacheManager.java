@@ -23,6 +23,7 @@ import com.norconex.crawler.core.cluster.CacheManager;
 import com.norconex.crawler.core.cluster.CacheMap;
 import com.norconex.crawler.core.cluster.CacheQueue;
 import com.norconex.crawler.core.cluster.CacheSet;
+import com.norconex.crawler.core.cluster.Counter;
 import com.norconex.crawler.core.cluster.SerializedCache;
 import com.norconex.crawler.core.cluster.SerializedCache.CacheType;
 import com.norconex.crawler.core.cluster.SerializedCache.SerializedEntry;
@@ -44,6 +45,7 @@ public class MemoryCacheManager implements CacheManager {
     private final Map<String, InMemoryCacheMap<?>> maps = new HashMap<>();
     private final Map<String, InMemoryCacheQueue<?>> queues = new HashMap<>();
     private final Map<String, InMemoryCacheSet> sets = new HashMap<>();
+    private final Map<String, InMemoryCounter> counters = new HashMap<>();
 
     @SuppressWarnings("unchecked")
     @Override
@@ -94,6 +96,7 @@ public class MemoryCacheManager implements CacheManager {
         maps.values().forEach(InMemoryCacheMap::clear);
         queues.values().forEach(InMemoryCacheQueue::clear);
         sets.values().forEach(InMemoryCacheSet::clear);
+        counters.values().forEach(InMemoryCounter::reset);
     }
 
     @Override
@@ -118,6 +121,11 @@ public class MemoryCacheManager implements CacheManager {
                 name, InMemoryCacheQueue::new);
     }
 
+    @Override
+    public Counter getCounter(String name) {
+        return counters.computeIfAbsent(name, n -> new InMemoryCounter());
+    }
+
     @Override
     public CacheMap<String> getAdminCache() {
         return getCacheMap("admin", String.class);
@@ -17,6 +17,7 @@ package com.norconex.crawler.core.cluster.impl.mvstore;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 
@@ -27,13 +28,16 @@ import com.norconex.crawler.core.cluster.CacheMap;
 import com.norconex.crawler.core.cluster.CacheNames;
 import com.norconex.crawler.core.cluster.CacheQueue;
 import com.norconex.crawler.core.cluster.CacheSet;
+import com.norconex.crawler.core.cluster.Counter;
 import com.norconex.crawler.core.cluster.SerializedCache;
 import com.norconex.crawler.core.cluster.SerializedCache.CacheType;
 import com.norconex.crawler.core.cluster.SerializedCache.SerializedEntry;
+import com.norconex.crawler.core.cluster.codec.CacheValueCodecs;
 import com.norconex.crawler.core.cluster.impl.hazelcast.event.CacheEntryChangeListener;
 import com.norconex.crawler.core.cluster.impl.memory.InMemoryCacheMap;
 import com.norconex.crawler.core.cluster.impl.memory.InMemoryCacheQueue;
 import com.norconex.crawler.core.cluster.impl.memory.InMemoryCacheSet;
+import com.norconex.crawler.core.cluster.impl.memory.InMemoryCounter;
 import com.norconex.crawler.core.cluster.pipeline.StepRecord;
 import com.norconex.crawler.core.util.SerialUtil;
 
@@ -57,12 +61,17 @@ public class MVStoreCacheManager implements CacheManager {
 
     private MVStore store;
     private Path storePath;
+    private boolean jsonValues;
 
     // Cached wrapper instances (keyed by cache name)
     private final Map<String, CacheMap<?>> maps = new ConcurrentHashMap<>();
     private final Map<String, CacheQueue<?>> queues =
             new ConcurrentHashMap<>();
     private final Map<String, CacheSet> sets = new ConcurrentHashMap<>();
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+    // Declared indexed fields (keyed by cache name)
+    private final Map<String, Set<String>> indexedFields =
+            new ConcurrentHashMap<>();
 
     // Ephemeral caches (in-memory, not file-backed)
     private final Map<String, InMemoryCacheMap<?>> ephMaps =
@@ -71,6 +80,8 @@ public class MVStoreCacheManager implements CacheManager {
             new ConcurrentHashMap<>();
     private final Map<String, InMemoryCacheSet> ephSets =
             new ConcurrentHashMap<>();
+    private final Map<String, InMemoryCounter> ephCounters =
+            new ConcurrentHashMap<>();
 
     /**
      * Opens the MVStore file and prepares caches. Must be called before
@@ -80,6 +91,7 @@ public class MVStoreCacheManager implements CacheManager {
      */
     public void open(Path workDir, MVStoreClusterConnectorConfig config) {
         storePath = workDir.resolve(MVSTORE_FILE_NAME);
+        jsonValues = config.isJsonValues();
         LOG.debug("Opening MVStore at: {}", storePath);
         var builder = new MVStore.Builder()
                 .fileName(storePath.toString())
@@ -104,11 +116,32 @@ public class MVStoreCacheManager implements CacheManager {
                     name, InMemoryCacheMap::new);
         }
         return (CacheMap<T>) maps.computeIfAbsent(name, n -> {
-            var mvMap = store.<String, String>openMap("map." + n);
-            return new MVStoreCacheMap<>(mvMap, valueType, n, true);
+            var mvMap = store.<String, Object>openMap("map." + n);
+            var codec = jsonValues
+                    ? null
+                    : CacheValueCodecs.get(valueType).orElse(null);
+            var cacheMap = new MVStoreCacheMap<>(
+                    mvMap, valueType, codec, n, true);
+            indexedFields.getOrDefault(n, Set.of()).forEach(
+                    field -> cacheMap.addIndex(createIndex(n, field)));
+            return cacheMap;
         });
     }
 
+    @Override
+    public void addIndexedField(String cacheName, String fieldName) {
+        if (isEphemeral(cacheName) || !indexedFields
+                .computeIfAbsent(cacheName,
+                        n -> ConcurrentHashMap.newKeySet())
+                .add(fieldName)) {
+            return;
+        }
+        if (maps.get(cacheName) instanceof MVStoreCacheMap<?> cacheMap) {
+            cacheMap.addIndex(createIndex(cacheName, fieldName));
+        }
+        LOG.debug("Indexing field '{}' of cache '{}'.", fieldName, cacheName);
+    }
+
     @Override
     public CacheSet getCacheSet(String name) {
         if (isEphemeral(name)) {
@@ -170,9 +203,11 @@ public class MVStoreCacheManager implements CacheManager {
         maps.values().forEach(CacheMap::clear);
         queues.values().forEach(CacheQueue::clear);
         sets.values().forEach(CacheSet::clear);
+        counters.values().forEach(Counter::reset);
         ephMaps.values().forEach(InMemoryCacheMap::clear);
         ephQueues.values().forEach(InMemoryCacheQueue::clear);
         ephSets.values().forEach(InMemoryCacheSet::clear);
+        ephCounters.values().forEach(InMemoryCounter::reset);
     }
 
     @Override
@@ -203,6 +238,16 @@ public class MVStoreCacheManager implements CacheManager {
         });
     }
 
+    @Override
+    public Counter getCounter(String name) {
+        if (isEphemeral(name)) {
+            return ephCounters.computeIfAbsent(
+                    name, n -> new InMemoryCounter());
+        }
+        return counters.computeIfAbsent(name, n -> new MVStoreCounter(
+                store.<String, Long>openMap(CacheNames.COUNTERS), n));
+    }
+
     @Override
     public CacheMap<String> getAdminCache() {
         return getCacheMap(CacheNames.ADMIN, String.class);
@@ -273,6 +318,7 @@ public class MVStoreCacheManager implements CacheManager {
         maps.clear();
         queues.clear();
         sets.clear();
+        counters.clear();
         LOG.debug("MVStore closed.");
     }
 
@@ -290,6 +336,13 @@ public class MVStoreCacheManager implements CacheManager {
         return getAdminCache();
     }
 
+    private MVStoreFieldIndex createIndex(String cacheName, String fieldName) {
+        var prefix = cacheName + "." + fieldName;
+        return new MVStoreFieldIndex(fieldName,
+                store.<String, String>openMap("index." + prefix),
+                store.<String, String>openMap("indexval." + prefix));
+    }
+
     private static boolean isEphemeral(String name) {
         return name.startsWith(EPH_PREFIX);
     }
@@ -16,11 +16,15 @@ package com.norconex.crawler.core.cluster.impl.mvstore;
 
 import java.lang.reflect.Field;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Function;
@@ -30,33 +34,62 @@ import org.h2.mvstore.MVMap;
 
 import com.norconex.crawler.core.cluster.CacheMap;
 import com.norconex.crawler.core.cluster.QueryFilter;
+import com.norconex.crawler.core.cluster.codec.CacheValueCodec;
+import com.norconex.crawler.core.cluster.codec.CodecException;
 import com.norconex.crawler.core.util.SerialUtil;
 
 /**
  * File-backed {@link CacheMap} implementation using H2 MVStore.
- * Values are stored as JSON strings in the underlying {@link MVMap}
- * for type safety and debuggability. All compound operations that
+ * Values are stored as compact binary when a {@link CacheValueCodec} is
+ * supplied for the value type, or as JSON strings otherwise. Either form
+ * is accepted when reading, so stores written before a codec was
+ * registered remain readable. All compound operations that
  * require atomicity are synchronized (safe for single-JVM use).
  *
  * <p>Queries via {@link QueryFilter} are evaluated using field-level
- * reflection, same approach as the in-memory implementation.</p>
+ * reflection, same approach as the in-memory implementation. Fields
+ * registered with {@link #addIndex(MVStoreFieldIndex)} are backed by a
+ * companion index map maintained on write, so queries, counts, and deletes
+ * on those fields only touch matching entries.</p>
  *
  * @param <T> the value type
  */
 public class MVStoreCacheMap<T> implements CacheMap<T> {
 
-    private final MVMap<String, String> map;
+    private final MVMap<String, Object> map;
     private final Class<T> valueType;
+    private final CacheValueCodec<T> codec;
     private final String name;
     private final boolean persistent;
+    private final List<MVStoreFieldIndex> indexes =
+            new CopyOnWriteArrayList<>();
 
     public MVStoreCacheMap(
-            MVMap<String, String> map,
+            MVMap<String, Object> map,
             Class<T> valueType,
             String name,
             boolean persistent) {
+        this(map, valueType, null, name, persistent);
+    }
+
+    /**
+     * Creates a cache map storing values with the given codec.
+     * @param map the underlying MVStore map
+     * @param valueType the value type
+     * @param codec binary codec for values, or {@code null} to store values
+     *     as JSON
+     * @param name the cache name
+     * @param persistent whether the cache is persistent
+     */
+    public MVStoreCacheMap(
+            MVMap<String, Object> map,
+            Class<T> valueType,
+            CacheValueCodec<T> codec,
+            String name,
+            boolean persistent) {
         this.map = map;
         this.valueType = valueType;
+        this.codec = codec;
         this.name = name;
         this.persistent = persistent;
     }
@@ -81,14 +114,31 @@ public class MVStoreCacheMap<T> implements CacheMap<T> {
         return persistent;
     }
 
+    /**
+     * Adds a secondary index on a value field. If the index is empty while
+     * this map is not (e.g., newly declared index on existing data), it is
+     * rebuilt from all entries.
+     * @param index field index
+     */
+    synchronized void addIndex(MVStoreFieldIndex index) {
+        if (indexes.stream().anyMatch(
+                idx -> idx.getFieldName().equals(index.getFieldName()))) {
+            return;
+        }
+        if (index.isEmpty() && !map.isEmpty()) {
+            index.rebuild(map, this::deserialize);
+        }
+        indexes.add(index);
+    }
+
     @Override
     public void put(String key, T value) {
-        map.put(key, serialize(value));
+        write(key, value);
     }
 
     @Override
     public void putAll(Map<String, T> entries) {
-        entries.forEach((k, v) -> map.put(k, serialize(v)));
+        entries.forEach(this::write);
     }
 
     @Override
@@ -98,12 +148,13 @@ public class MVStoreCacheMap<T> implements CacheMap<T> {
 
     @Override
     public void remove(String key) {
-        map.remove(key);
+        erase(key);
     }
 
     @Override
-    public void clear() {
+    public synchronized void clear() {
         map.clear();
+        indexes.forEach(MVStoreFieldIndex::clear);
     }
 
     @Override
@@ -113,21 +164,21 @@ public class MVStoreCacheMap<T> implements CacheMap<T> {
 
     @Override
     public T getOrDefault(String key, T defaultValue) {
-        var json = map.get(key);
-        return json != null ? deserialize(json) : defaultValue;
+        var stored = map.get(key);
+        return stored != null ? deserialize(stored) : defaultValue;
     }
 
     @Override
     public synchronized T computeIfAbsent(
             String key,
             Function<String, ? extends T> mappingFunction) {
-        var json = map.get(key);
-        if (json != null) {
-            return deserialize(json);
+        var stored = map.get(key);
+        if (stored != null) {
+            return deserialize(stored);
         }
         var newValue = mappingFunction.apply(key);
         if (newValue != null) {
-            map.put(key, serialize(newValue));
+            write(key, newValue);
         }
         return newValue;
     }
@@ -136,16 +187,16 @@ public class MVStoreCacheMap<T> implements CacheMap<T> {
     public synchronized Optional<T> computeIfPresent(
             String key,
             BiFunction<String, ? super T, ? extends T> remappingFunction) {
-        var json = map.get(key);
-        if (json == null) {
+        var stored = map.get(key);
+        if (stored == null) {
             return Optional.empty();
         }
-        var oldValue = deserialize(json);
+        var oldValue = deserialize(stored);
         var newValue = remappingFunction.apply(key, oldValue);
         if (newValue != null) {
-            map.put(key, serialize(newValue));
+            write(key, newValue);
         } else {
-            map.remove(key);
+            erase(key);
         }
         return Optional.ofNullable(newValue);
     }
@@ -154,13 +205,13 @@ public class MVStoreCacheMap<T> implements CacheMap<T> {
     public synchronized Optional<T> compute(
             String key,
             BiFunction<String, ? super T, ? extends T> remappingFunction) {
-        var json = map.get(key);
-        var oldValue = json != null ? deserialize(json) : null;
+        var stored = map.get(key);
+        var oldValue = stored != null ? deserialize(stored) : null;
         var newValue = remappingFunction.apply(key, oldValue);
         if (newValue != null) {
-            map.put(key, serialize(newValue));
-        } else if (json != null) {
-            map.remove(key);
+            write(key, newValue);
+        } else if (stored != null) {
+            erase(key);
         }
         return Optional.ofNullable(newValue);
     }
@@ -169,38 +220,50 @@ public class MVStoreCacheMap<T> implements CacheMap<T> {
     public synchronized T merge(
             String key, T value,
             BiFunction<? super T, ? super T, ? extends T> remappingFunction) {
-        var json = map.get(key);
-        var oldValue = json != null ? deserialize(json) : null;
+        var stored = map.get(key);
+        var oldValue = stored != null ? deserialize(stored) : null;
         var newValue = oldValue == null
                 ? value
                 : remappingFunction.apply(oldValue, value);
         if (newValue != null) {
-            map.put(key, serialize(newValue));
+            write(key, newValue);
         } else {
-            map.remove(key);
+            erase(key);
         }
         return newValue;
     }
 
     @Override
     public synchronized T putIfAbsent(String key, T value) {
-        var json = map.get(key);
-        if (json != null) {
-            return deserialize(json);
+        var stored = map.get(key);
+        if (stored != null) {
+            return deserialize(stored);
         }
-        map.put(key, serialize(value));
+        write(key, value);
         return null;
     }
 
+    @Override
+    public synchronized Set<String> putAllIfAbsent(Map<String, T> entries) {
+        Set<String> added = new HashSet<>();
+        entries.forEach((key, value) -> {
+            if (!map.containsKey(key)) {
+                write(key, value);
+                added.add(key);
+            }
+        });
+        return added;
+    }
+
     @Override
     public synchronized boolean replace(String key, T oldValue, T newValue) {
-        var json = map.get(key);
-        if (json == null) {
+        var stored = map.get(key);
+        if (stored == null) {
             return false;
         }
-        var current = deserialize(json);
+        var current = deserialize(stored);
         if (Objects.equals(current, oldValue)) {
-            map.put(key, serialize(newValue));
+            write(key, newValue);
             return true;
         }
         return false;
@@ -213,29 +276,44 @@ public class MVStoreCacheMap<T> implements CacheMap<T> {
 
     @Override
     public Iterator<T> queryIterator(QueryFilter filter) {
-        return query(filter).iterator();
+        var index = findIndex(filter);
+        if (index != null) {
+            return new IndexedIterator(index.keys(
+                    Objects.toString(filter.getFieldValue(), null)), filter);
+        }
+        return filterStream(filter).iterator();
     }
 
     @Override
     public long count(QueryFilter filter) {
+        var index = findIndex(filter);
+        if (index != null) {
+            return index.count(Objects.toString(filter.getFieldValue(), null));
+        }
         return filterStream(filter).count();
     }
 
     @Override
     public void delete(QueryFilter filter) {
         if (filter == null || filter.getFieldName() == null) {
-            map.clear();
+            clear();
             return;
         }
         // Collect keys to remove first to avoid ConcurrentModification
         var keysToRemove = new ArrayList<String>();
-        for (var entry : map.entrySet()) {
-            var val = deserialize(entry.getValue());
-            if (matches(val, filter)) {
-                keysToRemove.add(entry.getKey());
+        var index = findIndex(filter);
+        if (index != null) {
+            index.keys(Objects.toString(filter.getFieldValue(), null))
+                    .forEachRemaining(keysToRemove::add);
+        } else {
+            for (var entry : map.entrySet()) {
+                var val = deserialize(entry.getValue());
+                if (matches(val, filter)) {
+                    keysToRemove.add(entry.getKey());
+                }
             }
         }
-        keysToRemove.forEach(map::remove);
+        keysToRemove.forEach(this::erase);
     }
 
     @Override
@@ -250,18 +328,63 @@ public class MVStoreCacheMap<T> implements CacheMap<T> {
         return new ArrayList<>(map.keySet());
     }
 
-    private String serialize(T value) {
+    private void write(String key, T value) {
+        if (indexes.isEmpty()) {
+            map.put(key, serialize(value));
+            return;
+        }
+        synchronized (this) {
+            map.put(key, serialize(value));
+            indexes.forEach(idx -> idx.update(key, value));
+        }
+    }
+
+    private void erase(String key) {
+        if (indexes.isEmpty()) {
+            map.remove(key);
+            return;
+        }
+        synchronized (this) {
+            map.remove(key);
+            indexes.forEach(idx -> idx.remove(key));
+        }
+    }
+
+    private MVStoreFieldIndex findIndex(QueryFilter filter) {
+        if (filter == null || filter.getFieldName() == null) {
+            return null;
+        }
+        for (var index : indexes) {
+            if (index.getFieldName().equals(filter.getFieldName())) {
+                return index;
+            }
+        }
+        return null;
+    }
+
+    private Object serialize(T value) {
         if (value instanceof String str) {
             return str;
         }
+        if (codec != null) {
+            return codec.encode(value);
+        }
         return SerialUtil.toJsonString(value);
     }
 
     @SuppressWarnings("unchecked")
-    private T deserialize(String json) {
-        if (json == null) {
+    private T deserialize(Object stored) {
+        if (stored == null) {
             return null;
         }
+        if (stored instanceof byte[] bytes) {
+            if (codec == null) {
+                throw new CodecException("No codec registered to decode "
+                        + "binary values of cache \"" + name + "\".");
+            }
+            return codec.decode(bytes);
+        }
+        var json = (String) stored;
         if (valueType == String.class) {
             return (T) json;
         }
@@ -297,6 +420,48 @@ public class MVStoreCacheMap<T> implements CacheMap<T> {
         }
     }
 
+    /**
+     * Iterates over indexed keys, loading values lazily. Values are
+     * re-checked against the filter in case they changed after the
+     * iterator was obtained.
+     */
+    private class IndexedIterator implements Iterator<T> {
+        private final Iterator<String> keys;
+        private final QueryFilter filter;
+        private T nextValue;
+
+        IndexedIterator(Iterator<String> keys, QueryFilter filter) {
+            this.keys = keys;
+            this.filter = filter;
+            nextValue = advance();
+        }
+
+        private T advance() {
+            while (keys.hasNext()) {
+                var value = deserialize(map.get(keys.next()));
+                if (value != null && matches(value, filter)) {
+                    return value;
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextValue != null;
+        }
+
+        @Override
+        public T next() {
+            if (nextValue == null) {
+                throw new NoSuchElementException();
+            }
+            var value = nextValue;
+            nextValue = advance();
+            return value;
+        }
+    }
+
     private static Field findField(Class<?> clazz, String fieldName) {
         for (var c = clazz; c != null && c != Object.class;
                 c = c.getSuperclass()) {
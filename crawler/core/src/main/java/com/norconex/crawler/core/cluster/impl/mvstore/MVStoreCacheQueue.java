@@ -15,12 +15,15 @@
 package com.norconex.crawler.core.cluster.impl.mvstore;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.h2.mvstore.MVMap;
 
 import com.norconex.crawler.core.cluster.CacheQueue;
+import com.norconex.crawler.core.cluster.WorkSignal;
 import com.norconex.crawler.core.util.SerialUtil;
 
 /**
@@ -38,6 +41,9 @@ public class MVStoreCacheQueue<T> implements CacheQueue<T> {
     private final Class<T> valueType;
     private final String name;
     private final AtomicLong tailSeq;
+    // Serializes polling. Deserialization is done outside of it.
+    private final ReentrantLock pollLock = new ReentrantLock();
+    private final WorkSignal workSignal = new WorkSignal();
 
     public MVStoreCacheQueue(
             MVMap<Long, String> map,
@@ -54,29 +60,54 @@ public class MVStoreCacheQueue<T> implements CacheQueue<T> {
     @Override
     public void add(T item) {
         map.put(tailSeq.incrementAndGet(), serialize(item));
+        workSignal.signal();
     }
 
     @Override
-    public synchronized T poll() {
-        if (map.isEmpty()) {
-            return null;
+    public int addAll(Collection<? extends T> items) {
+        if (items.isEmpty()) {
+            return 0;
         }
-        var key = map.firstKey();
-        var json = map.remove(key);
-        return deserialize(json);
+        // Reserve a contiguous sequence range so the batch stays together
+        var seq = tailSeq.getAndAdd(items.size());
+        for (T item : items) {
+            map.put(++seq, serialize(item));
+        }
+        workSignal.signal();
+        return items.size();
     }
 
     @Override
-    public synchronized List<T> pollBatch(int batchSize) {
-        var batch = new ArrayList<T>(batchSize);
-        for (var i = 0; i < batchSize; i++) {
+    public T poll() {
+        String json;
+        pollLock.lock();
+        try {
             if (map.isEmpty()) {
-                break;
+                return null;
+            }
+            json = map.remove(map.firstKey());
+        } finally {
+            pollLock.unlock();
+        }
+        return deserialize(json);
+    }
+
+    @Override
+    public List<T> pollBatch(int batchSize) {
+        var jsons = new ArrayList<String>(batchSize);
+        pollLock.lock();
+        try {
+            for (var i = 0; i < batchSize; i++) {
+                if (map.isEmpty()) {
+                    break;
+                }
+                jsons.add(map.remove(map.firstKey()));
             }
-            var key = map.firstKey();
-            var json = map.remove(key);
-            batch.add(deserialize(json));
+        } finally {
+            pollLock.unlock();
         }
+        var batch = new ArrayList<T>(jsons.size());
+        jsons.forEach(json -> batch.add(deserialize(json)));
         return batch;
     }
 
@@ -96,6 +127,11 @@ public class MVStoreCacheQueue<T> implements CacheQueue<T> {
         tailSeq.set(0);
     }
 
+    @Override
+    public WorkSignal getWorkSignal() {
+        return workSignal;
+    }
+
     @Override
     public boolean isPersistent() {
         return true;
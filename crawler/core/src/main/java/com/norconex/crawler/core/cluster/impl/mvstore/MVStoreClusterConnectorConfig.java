@@ -61,4 +61,13 @@ public class MVStoreClusterConnectorConfig {
      * by buffer size).
      */
     private int autoCommitDelay = 1000;
+
+    /**
+     * Whether to store cache values as JSON strings even when a compact
+     * binary codec is registered for their type (e.g., crawler entries).
+     * JSON is larger and slower to read and write, but can be inspected
+     * with generic MVStore tools. Stores holding either form remain
+     * readable regardless of this setting. Default is {@code false}.
+     */
+    private boolean jsonValues;
 }
@@ -0,0 +1,92 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.crawler.core.cluster.impl.mvstore;
+
+import org.h2.mvstore.MVMap;
+
+import com.norconex.crawler.core.cluster.Counter;
+
+/**
+ * File-backed {@link Counter} implementation using H2 MVStore.
+ * All counters share the same {@link MVMap}&lt;String, Long&gt;, keyed
+ * by counter name, so they are committed together with the caches they
+ * describe. Updates are synchronized on the map (safe for single-JVM use).
+ */
+public class MVStoreCounter implements Counter {
+
+    private final MVMap<String, Long> map;
+    private final String key;
+
+    public MVStoreCounter(MVMap<String, Long> map, String key) {
+        this.map = map;
+        this.key = key;
+    }
+
+    @Override
+    public long incrementAndGet() {
+        return addAndGet(1);
+    }
+
+    @Override
+    public long getAndIncrement() {
+        return getAndAdd(1);
+    }
+
+    @Override
+    public long decrementAndGet() {
+        return addAndGet(-1);
+    }
+
+    @Override
+    public long getAndDecrement() {
+        return getAndAdd(-1);
+    }
+
+    @Override
+    public long addAndGet(long delta) {
+        synchronized (map) {
+            var newValue = get() + delta;
+            map.put(key, newValue);
+            return newValue;
+        }
+    }
+
+    @Override
+    public long getAndAdd(long delta) {
+        synchronized (map) {
+            var current = get();
+            map.put(key, current + delta);
+            return current;
+        }
+    }
+
+    @Override
+    public void set(long value) {
+        synchronized (map) {
+            map.put(key, value);
+        }
+    }
+
+    @Override
+    public long get() {
+        var value = map.get(key);
+        return value != null ? value : 0L;
+    }
+
+    @Override
+    public void reset() {
+        set(0L);
+    }
+}
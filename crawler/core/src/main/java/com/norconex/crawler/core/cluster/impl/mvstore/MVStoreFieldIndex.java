@@ -0,0 +1,193 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.crawler.core.cluster.impl.mvstore;
+
+import java.lang.reflect.Field;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.h2.mvstore.MVMap;
+
+/**
+ * Secondary index over a single value field of an {@link MVStoreCacheMap}.
+ * Made of two companion maps persisted in the same MVStore:
+ * <ul>
+ *   <li><b>entries:</b> {@code <fieldValue>|<key> -> ""}, sorted so that
+ *       all keys for a given field value are contiguous.</li>
+ *   <li><b>values:</b> {@code <key> -> <fieldValue>}, so the previous
+ *       index entry can be removed without deserializing the old value.</li>
+ * </ul>
+ * Field values are compared using their {@code toString()} representation,
+ * as per the {@link com.norconex.crawler.core.cluster.QueryFilter}
+ * contract. Not thread-safe: callers are expected to synchronize writes.
+ */
+class MVStoreFieldIndex {
+
+    // Separates the field value from the key in index entries. A control
+    // character is used so it sorts before any printable character.
+    private static final char SEPARATOR = '\u0000';
+    private static final Map<String, Field> FIELD_CACHE =
+            new ConcurrentHashMap<>();
+
+    private final String fieldName;
+    private final MVMap<String, String> entries;
+    private final MVMap<String, String> values;
+
+    MVStoreFieldIndex(
+            String fieldName,
+            MVMap<String, String> entries,
+            MVMap<String, String> values) {
+        this.fieldName = fieldName;
+        this.entries = entries;
+        this.values = values;
+    }
+
+    String getFieldName() {
+        return fieldName;
+    }
+
+    boolean isEmpty() {
+        return values.isEmpty();
+    }
+
+    void update(String key, Object value) {
+        var newFieldValue = fieldValue(value);
+        var oldFieldValue = newFieldValue == null
+                ? values.remove(key)
+                : values.put(key, newFieldValue);
+        if (Objects.equals(oldFieldValue, newFieldValue)) {
+            return;
+        }
+        if (oldFieldValue != null) {
+            entries.remove(entryKey(oldFieldValue, key));
+        }
+        if (newFieldValue != null) {
+            entries.put(entryKey(newFieldValue, key), "");
+        }
+    }
+
+    void remove(String key) {
+        var oldFieldValue = values.remove(key);
+        if (oldFieldValue != null) {
+            entries.remove(entryKey(oldFieldValue, key));
+        }
+    }
+
+    void clear() {
+        entries.clear();
+        values.clear();
+    }
+
+    long count(String fieldValue) {
+        var count = 0L;
+        var it = keys(fieldValue);
+        while (it.hasNext()) {
+            it.next();
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Lazily iterates over the keys of entries having the given field value.
+     * @param fieldValue field value
+     * @return key iterator
+     */
+    Iterator<String> keys(String fieldValue) {
+        var prefix = fieldValue + SEPARATOR;
+        var it = entries.keyIterator(prefix);
+        return new Iterator<>() {
+            private String nextKey = advance();
+
+            private String advance() {
+                if (it.hasNext()) {
+                    var entryKey = it.next();
+                    if (entryKey.startsWith(prefix)) {
+                        return entryKey.substring(prefix.length());
+                    }
+                }
+                return null;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return nextKey != null;
+            }
+
+            @Override
+            public String next() {
+                if (nextKey == null) {
+                    throw new NoSuchElementException();
+                }
+                var key = nextKey;
+                nextKey = advance();
+                return key;
+            }
+        };
+    }
+
+    /**
+     * Re-creates the index from all entries of the given data map.
+     * @param data data map of the indexed cache
+     * @param deserializer converts stored values to indexed objects
+     */
+    void rebuild(
+            MVMap<String, Object> data,
+            Function<Object, Object> deserializer) {
+        clear();
+        for (var e : data.entrySet()) {
+            update(e.getKey(), deserializer.apply(e.getValue()));
+        }
+    }
+
+    private String fieldValue(Object value) {
+        if (value == null) {
+            return null;
+        }
+        var field = FIELD_CACHE.computeIfAbsent(
+                value.getClass().getName() + "#" + fieldName,
+                k -> findField(value.getClass(), fieldName));
+        if (field == null) {
+            return null;
+        }
+        try {
+            return Objects.toString(field.get(value), null);
+        } catch (IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    private static String entryKey(String fieldValue, String key) {
+        return fieldValue + SEPARATOR + key;
+    }
+
+    private static Field findField(Class<?> clazz, String fieldName) {
+        for (var c = clazz; c != null && c != Object.class;
+                c = c.getSuperclass()) {
+            try {
+                var field = c.getDeclaredField(fieldName);
+                field.setAccessible(true); //NOSONAR
+                return field;
+            } catch (NoSuchFieldException ignored) {
+                // continue up the hierarchy
+            }
+        }
+        return null;
+    }
+}
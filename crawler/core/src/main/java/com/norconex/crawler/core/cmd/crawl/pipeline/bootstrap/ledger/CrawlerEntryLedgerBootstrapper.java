@@ -75,6 +75,10 @@ public final class CrawlerEntryLedgerBootstrapper
         // before any operations (important for cluster synchronization)
         ledger.ensureCurrentLedgerAliasExists();
 
+        // Realign status counters with the stored entries once, before
+        // relying on them for the decisions below.
+        ledger.syncStatusCounters();
+
         LOG.info(
                 "Bootstrap prepareForCrawl: isResumed={}, queueCount={}, processedCount={}",
                 session.isResumed(), ledger.getQueueCount(),
@@ -25,6 +25,7 @@ import org.apache.commons.collections4.CollectionUtils;
 
 import com.norconex.crawler.core.CrawlerConfig;
 import com.norconex.crawler.core.cmd.crawl.pipeline.bootstrap.CrawlerBootstrapper;
+import com.norconex.crawler.core.doc.pipelines.queue.QueueBatch;
 import com.norconex.crawler.core.doc.pipelines.queue.QueuePipelineContext;
 import com.norconex.crawler.core.session.CrawlerSession;
 import com.norconex.crawler.core.util.LogUtil;
@@ -53,6 +54,9 @@ public class QueueBootstrapper implements CrawlerBootstrapper {
 
     //TODO XXX ******** make summary about crawl run, just total process for session? Or show delta? ***********
 
+    // Start references accepted by the queue pipeline are queued in batches
+    private static final int QUEUE_BATCH_SIZE = 100;
+
     private final List<ReferenceEnqueuer> enqueuers = new ArrayList<>();
 
     public QueueBootstrapper() {
@@ -94,15 +98,22 @@ public class QueueBootstrapper implements CrawlerBootstrapper {
         // more sophisticated so we can resume in the middle of it
         // (this last option would likely be very impractical).
         LOG.info("Queueing initial references...");
+        var batch = new QueueBatch(
+                crawlContext.getCrawlEntryLedger(), QUEUE_BATCH_SIZE);
         var queueInitContext = new QueueBootstrapContext(
                 session,
-                docCtx -> queue(new QueuePipelineContext(session, docCtx)));
+                docCtx -> {
+                    var queueCtx = new QueuePipelineContext(session, docCtx);
+                    queueCtx.setQueueBatch(batch);
+                    queue(queueCtx);
+                });
 
         var callback = (Consumer<QueueBootstrapContext>) ctx -> {
             var cnt = 0;
             for (var enqueuer : enqueuers) {
                 cnt += enqueuer.enqueue(ctx);
             }
+            batch.flush();
             if (LOG.isInfoEnabled()) {
                 LOG.info("{} start URLs identified.",
                         NumberFormat.getNumberInstance().format(cnt));
@@ -14,8 +14,15 @@
  */
 package com.norconex.crawler.core.cmd.crawl.pipeline.process;
 
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 
 import com.norconex.crawler.core.ledger.CrawlerEntry;
 import com.norconex.crawler.core.session.CrawlerSession;
@@ -23,9 +30,31 @@ import com.norconex.crawler.core.session.CrawlerSession;
 import lombok.Builder;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * <p>
+ * Hands queued entries to crawler threads, polling them from the global
+ * queue in batches and keeping them in a local buffer.
+ * </p>
+ * <p>
+ * When a {@link DispatchScheduler} is set, buffered entries are grouped
+ * as per the scheduler and an entry is only handed out when its group is
+ * eligible. Threads never wait for a group while entries of another
+ * group are eligible. When no buffered entry is eligible, more entries
+ * are polled from the global queue (up to a few batches) before waiting
+ * for the next group to become eligible.
+ * </p>
+ */
 @Slf4j
 @Builder
 public class BatchDispatcher {
+
+    // Max number of batches to buffer locally when looking for entries
+    // of eligible groups
+    private static final int MAX_BUFFERED_BATCHES = 4;
+    // Max wait time before re-checking for new entries when no buffered
+    // entry is eligible
+    private static final long MAX_WAIT_MS = 1000;
+
     /**
      * Maximum number of references for a node to poll at once from the
      * queue for processing.
@@ -37,85 +66,225 @@ public class BatchDispatcher {
      */
     private final int lowWatermark;
     private final CrawlerSession session;
+    /**
+     * Optional scheduler deciding when buffered entries can be handed out.
+     * When {@code null}, entries are handed out in the order received.
+     */
+    private final DispatchScheduler scheduler;
 
-    private final BlockingQueue<CrawlerEntry> localQueue =
-            new LinkedBlockingQueue<>();
-    private final Object refillLock = new Object();
+    // Guards buffered entries and groups.
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+    private final ReentrantLock refillLock = new ReentrantLock();
+    // Entries not subject to scheduling
+    private final Deque<CrawlerEntry> unscheduled = new ArrayDeque<>();
+    // Scheduling groups, kept after they are emptied to remember when
+    // they are next eligible
+    private final Map<String, Group> groups = new HashMap<>();
+    // Groups having entries and not being dispatched, by eligibility time
+    private final PriorityQueue<Group> pendingGroups = new PriorityQueue<>(
+            Comparator.comparingLong(g -> g.readyAt));
+    private int bufferedCount;
+    // Last time polling the global queue returned nothing
+    private long emptyRefillAt;
 
     public CrawlerEntry take() {
-        var ledger = session.getCrawlContext().getCrawlEntryLedger();
         var nodeName = session.getCluster().getLocalNode().getNodeName();
         while (true) {
-            var entry = localQueue.poll();
-            if (entry != null) {
-                LOG.trace("[{}] BatchDispatcher.take() returning local "
-                        + "entry {}. localQueueSize={}.",
-                        nodeName, entry.getReference(), localQueue.size());
-                maybeRefill();
-                return entry;
+            if (needsRefill()) {
+                refill(nodeName);
             }
-            // Only one thread should try to refill when empty
-            synchronized (refillLock) {
-                if (localQueue.isEmpty()) {
-                    var batchSize = computeBatchSize();
-                    var queueCount = ledger.getQueuedEntryCount();
-                    LOG.trace("[{}] BatchDispatcher.take() refilling from "
-                            + "global queue (batchSize={}, queueCount={}).",
-                            nodeName, batchSize, queueCount);
-                    var batch = ledger.nextQueuedBatch(batchSize);
-                    LOG.trace("[{}] BatchDispatcher.take() got batch of {} "
-                            + "entries from global queue.",
-                            nodeName, batch.size());
-                    if (!batch.isEmpty()) {
-                        localQueue.addAll(batch);
-                        continue;
+            Group group;
+            CrawlerEntry entry;
+            lock.lock();
+            try {
+                var now = System.currentTimeMillis();
+                entry = unscheduled.poll();
+                if (entry != null) {
+                    bufferedCount--;
+                    LOG.trace("[{}] BatchDispatcher.take() returning local "
+                            + "entry {}. localQueueSize={}.",
+                            nodeName, entry.getReference(), bufferedCount);
+                    return entry;
+                }
+                if (bufferedCount == 0) {
+                    LOG.trace("[{}] BatchDispatcher.take() found no entries "
+                            + "in local or global queue.", nodeName);
+                    // Return null immediately if queue is empty
+                    // Let CrawlerActivityChecker handle idle timeout logic
+                    return null;
+                }
+                group = pendingGroups.peek();
+                if (group == null || group.readyAt > now) {
+                    // Buffered entries are all in groups not yet eligible
+                    // or being dispatched.
+                    var waitMs = group == null
+                            ? MAX_WAIT_MS
+                            : Math.min(MAX_WAIT_MS, group.readyAt - now);
+                    if (!await(waitMs)) {
+                        return null;
                     }
+                    continue;
                 }
+                pendingGroups.poll();
+                entry = group.entries.poll();
+                bufferedCount--;
+                group.dispatching = true;
+            } finally {
+                lock.unlock();
             }
-            LOG.trace("[{}] BatchDispatcher.take() found no entries in local "
-                    + "or global queue.",
-                    nodeName);
-            // Return null immediately if queue is empty
-            // Let CrawlerActivityChecker handle idle timeout logic
-            return null;
+            scheduleNext(group, entry);
+            LOG.trace("[{}] BatchDispatcher.take() returning scheduled "
+                    + "entry {} (group: {}).",
+                    nodeName, entry.getReference(), group.key);
+            return entry;
         }
     }
 
-    private void maybeRefill() {
-        var ledger = session.getCrawlContext().getCrawlEntryLedger();
-        var nodeName = session.getCluster().getLocalNode().getNodeName();
-        if (localQueue.size() <= lowWatermark) {
-            synchronized (refillLock) {
-                if (localQueue.size() <= lowWatermark) {
-                    var batchSize = computeBatchSize();
-                    var queueCount = ledger.getQueuedEntryCount();
-                    LOG.trace("""
-                        [{}] BatchDispatcher.maybeRefill() refilling \
-                        (batchSize={}, queueCount={}, \
-                        localQueueSize(before)={}).""",
-                            nodeName, batchSize, queueCount, localQueue.size());
-                    var batch = ledger.nextQueuedBatch(batchSize);
-                    LOG.trace("[{}] BatchDispatcher.maybeRefill() got batch of "
-                            + "{} entries.",
-                            nodeName, batch.size());
-                    localQueue.addAll(batch);
-                    LOG.trace("[{}] BatchDispatcher.maybeRefill() "
-                            + "localQueueSize(after)={}",
-                            nodeName, localQueue.size());
+    public int localQueueSize() {
+        lock.lock();
+        try {
+            return bufferedCount;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Resolve the delay outside the lock as it may be slow (e.g., fetching
+    // robots.txt). The group stays out of the pending groups meanwhile.
+    private void scheduleNext(Group group, CrawlerEntry entry) {
+        var delayMs = 0L;
+        try {
+            delayMs = scheduler.getDelayMillis(session, entry);
+        } catch (RuntimeException e) {
+            LOG.warn("Could not resolve dispatch delay for {}. "
+                    + "No delay applied.", entry.getReference(), e);
+        }
+        lock.lock();
+        try {
+            group.readyAt = System.currentTimeMillis() + Math.max(0, delayMs);
+            group.dispatching = false;
+            if (!group.entries.isEmpty()) {
+                pendingGroups.add(group);
+            }
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // True if below low watermark or if no buffered entries are eligible
+    // and we can buffer more.
+    private boolean needsRefill() {
+        lock.lock();
+        try {
+            if (bufferedCount <= lowWatermark) {
+                return true;
+            }
+            var now = System.currentTimeMillis();
+            return !isAnyEligible(now)
+                    && bufferedCount < maxBatchSize * MAX_BUFFERED_BATCHES
+                    && now - emptyRefillAt >= MAX_WAIT_MS;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Only one thread refills at a time
+    private void refill(String nodeName) {
+        refillLock.lock();
+        try {
+            // may have been refilled while waiting for the lock
+            if (!needsRefill()) {
+                return;
+            }
+            var ledger = session.getCrawlContext().getCrawlEntryLedger();
+            var batchSize = computeBatchSize();
+            LOG.trace("[{}] BatchDispatcher refilling from global queue "
+                    + "(batchSize={}, localQueueSize(before)={}).",
+                    nodeName, batchSize, localQueueSize());
+            var batch = ledger.nextQueuedBatch(batchSize);
+            LOG.trace("[{}] BatchDispatcher got batch of {} entries from "
+                    + "global queue.", nodeName, batch.size());
+            lock.lock();
+            try {
+                if (batch.isEmpty()) {
+                    emptyRefillAt = System.currentTimeMillis();
+                    return;
                 }
+                pruneIdleGroups();
+                batch.forEach(this::buffer);
+                changed.signalAll();
+            } finally {
+                lock.unlock();
             }
+        } finally {
+            refillLock.unlock();
         }
     }
 
-    public int localQueueSize() {
-        return localQueue.size();
+    // Must be called while holding the lock
+    private boolean isAnyEligible(long now) {
+        if (!unscheduled.isEmpty()) {
+            return true;
+        }
+        var group = pendingGroups.peek();
+        return group != null && group.readyAt <= now;
+    }
+
+    // Must be called while holding the lock
+    private boolean await(long waitMs) {
+        try {
+            changed.await(Math.max(1, waitMs), TimeUnit.MILLISECONDS);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    // Must be called while holding the lock
+    private void buffer(CrawlerEntry entry) {
+        bufferedCount++;
+        var key = groupOf(entry);
+        if (key == null) {
+            unscheduled.add(entry);
+            return;
+        }
+        var group = groups.computeIfAbsent(key, Group::new);
+        var wasEmpty = group.entries.isEmpty();
+        group.entries.add(entry);
+        if (wasEmpty && !group.dispatching) {
+            pendingGroups.add(group);
+        }
+    }
+
+    private String groupOf(CrawlerEntry entry) {
+        if (scheduler == null) {
+            return null;
+        }
+        try {
+            return scheduler.getGroup(session, entry);
+        } catch (RuntimeException e) {
+            LOG.warn("Could not resolve dispatch group for {}. "
+                    + "Dispatching it unscheduled.", entry.getReference(), e);
+            return null;
+        }
+    }
+
+    // Forget about empty groups already eligible again.
+    // Must be called while holding the lock
+    private void pruneIdleGroups() {
+        var now = System.currentTimeMillis();
+        groups.values().removeIf(g -> g.entries.isEmpty()
+                && !g.dispatching && g.readyAt <= now);
     }
 
     private int computeBatchSize() {
         var ledger = session.getCrawlContext().getCrawlEntryLedger();
         var queueCount = ledger.getQueuedEntryCount();
         var nodeCount = session.getCluster().getNodeCount();
-        var localQueueSize = localQueue.size();
+        var localQueueSize = localQueueSize();
 
         // Calculate total work available (global + what this node already has)
         var totalAvailable = queueCount + localQueueSize;
@@ -143,4 +312,16 @@ public class BatchDispatcher {
         return batchSize;
     }
 
+    private static final class Group {
+        private final String key;
+        private final Deque<CrawlerEntry> entries = new ArrayDeque<>();
+        // When the next entry of this group can be dispatched
+        private long readyAt;
+        // Whether an entry of this group is being dispatched
+        private boolean dispatching;
+
+        private Group(String key) {
+            this.key = key;
+        }
+    }
 }
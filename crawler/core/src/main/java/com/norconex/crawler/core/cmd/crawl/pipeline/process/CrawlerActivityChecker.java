@@ -17,9 +17,10 @@ package com.norconex.crawler.core.cmd.crawl.pipeline.process;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
 
-import com.norconex.commons.lang.Sleeper;
 import com.norconex.commons.lang.time.DurationFormatter;
+import com.norconex.crawler.core.cluster.WorkSignal;
 import com.norconex.crawler.core.session.CrawlerSession;
 import com.norconex.crawler.core.session.CrawlerState;
 
@@ -34,6 +35,11 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 //TODO still needed? Done by cluster?
 class CrawlerActivityChecker {
+    private static final Duration START_REFS_CHECK_INTERVAL =
+            Duration.ofSeconds(1);
+    private static final Duration START_REFS_MAX_WAIT =
+            Duration.ofSeconds(30);
+
     private final CrawlerSession session;
     @Getter
     private final boolean deleting;
@@ -42,6 +48,7 @@ class CrawlerActivityChecker {
     private boolean isResolving;
     private boolean isPresumedActive = true;
     private AtomicBoolean canContinue = new AtomicBoolean(true);
+    private final ReentrantLock lock = new ReentrantLock();
     //    private boolean maxDocsReached;
 
     public CrawlerActivityChecker(CrawlerSession session, boolean deleting) {
@@ -55,30 +62,38 @@ class CrawlerActivityChecker {
                         : Instant.now().plus(maxDuration);
     }
 
-    //TODO can we do without synchronize?
-    synchronized boolean isActive() {
-        if (!isPresumedActive) {
-            LOG.trace("isActive(): presumed inactive; returning false.");
-            return false;
-        }
-        if (isResolving) {
-            LOG.trace("isActive(): another thread is already resolving; "
-                    + "returning presumed active (true).");
-            return true;
-        }
-        isResolving = true;
+    boolean isActive() {
+        lock.lock();
         try {
-            var active = doIsActive();
-            LOG.trace("isActive(): resolved active={} (prevPresumed={}).",
-                    active, isPresumedActive);
-            isPresumedActive = active;
+            if (!isPresumedActive) {
+                LOG.trace("isActive(): presumed inactive; returning false.");
+                return false;
+            }
+            if (isResolving) {
+                LOG.trace("isActive(): another thread is already resolving; "
+                        + "returning presumed active (true).");
+                return true;
+            }
+            isResolving = true;
+            try {
+                var active = doIsActive();
+                LOG.trace("isActive(): resolved active={} (prevPresumed={}).",
+                        active, isPresumedActive);
+                isPresumedActive = active;
+            } finally {
+                isResolving = false;
+            }
+            return isPresumedActive;
         } finally {
-            isResolving = false;
+            lock.unlock();
         }
-        return isPresumedActive;
     }
 
     private boolean doIsActive() {
+        // Obtained before looking at the queue so that references added
+        // from then on are not missed while waiting.
+        var queueSignal = queueSignal();
+        var signalGen = queueSignal.generation();
         var queuedEntryCount = queuedEntryCount();
         if (LOG.isTraceEnabled()) {
             LOG.trace("""
@@ -97,8 +112,10 @@ class CrawlerActivityChecker {
                     + "considered inactive.");
             return false;
         }
-        if (isQueueInitializedAndEmpty()) {
-            var stillEmpty = isQueueStillEmptyAfterIdleTimeout();
+        if (isQueueInitializedAndEmpty(
+                queuedEntryCount == 0, queueSignal, signalGen)) {
+            var stillEmpty =
+                    isQueueStillEmptyAfterIdleTimeout(queueSignal, signalGen);
             LOG.trace("doIsActive(): queue initialized and empty; "
                     + "stillEmptyAfterIdleTimeout={}.", stillEmpty);
             return !stillEmpty;
@@ -161,68 +178,20 @@ class CrawlerActivityChecker {
         return expired;
     }
 
-    private boolean isQueueInitializedAndEmpty() {
-        var queueEmpty = isQueuedEntryEmpty();
+    private boolean isQueueInitializedAndEmpty(
+            boolean queueEmpty, WorkSignal queueSignal, long signalGen) {
         if (LOG.isTraceEnabled()) {
             LOG.trace("isQueueInitializedAndEmpty(): start queueEmpty={} "
                     + "startRefsQueuedComplete={}",
                     queueEmpty,
                     session.isStartRefsQueueingComplete());
         }
-        if (queueEmpty) {
-            var queueInitialized = session.isStartRefsQueueingComplete();
-            if (!queueInitialized) {
-                LOG.info("""
-                    References are still being queued. \
-                    Waiting for new references or initial queuing \
-                    to be over...""");
-                var noWorkPollCount = 0;
-                var waitStart = Instant.now();
-                do {
-                    Sleeper.sleepMillis(200);
-                    queueEmpty = isQueuedEntryEmpty();
-                    queueInitialized =
-                            session.isStartRefsQueueingComplete();
-                    if (LOG.isTraceEnabled()) {
-                        LOG.trace("""
-                            isQueueInitializedAndEmpty(): \
-                            poll loop queueEmpty={} \
-                            queueInitialized={}.""",
-                                queueEmpty, queueInitialized);
-                    }
-                    // Guard against the start-refs-queuing flag becoming
-                    // permanently unavailable (e.g., due to partition
-                    // migration after a coordinator crash). Exit the loop if:
-                    //  (a) Queue and processing have both been empty for ~1s,
-                    //      meaning no more work exists at all; OR
-                    //  (b) We have been waiting >30s, after which even
-                    //      orphaned PROCESSING entries left by a crashed node
-                    //      should not prevent idle timeout from firing.
-                    if (!queueInitialized && queueEmpty) {
-                        var processingCount = session.getCrawlContext()
-                                .getCrawlEntryLedger().getProcessingCount();
-                        if (processingCount == 0) {
-                            noWorkPollCount++;
-                        } else {
-                            noWorkPollCount = 0;
-                        }
-                        var waited =
-                                Duration.between(waitStart, Instant.now());
-                        if (noWorkPollCount >= 5
-                                || waited.toMillis() >= 30_000) {
-                            LOG.info("Treating start-refs queuing as "
-                                    + "complete (no-work polls: {}, "
-                                    + "waited: {}). The flag may be "
-                                    + "temporarily unavailable due to a "
-                                    + "coordinator crash.",
-                                    noWorkPollCount, waited);
-                            queueInitialized = true;
-                        }
-                    } else {
-                        noWorkPollCount = 0;
-                    }
-                } while (queueEmpty && !queueInitialized);
-            }
+        if (queueEmpty && !session.isStartRefsQueueingComplete()) {
+            LOG.info("""
+                References are still being queued. \
+                Waiting for new references or initial queuing \
+                to be over...""");
+            queueEmpty = !awaitWorkOrStartRefsQueued(queueSignal, signalGen);
         }
         if (queueEmpty) {
             LOG.debug("Reference queue is empty.");
@@ -233,7 +202,52 @@ class CrawlerActivityChecker {
         return queueEmpty;
     }
 
-    private boolean isQueueStillEmptyAfterIdleTimeout() {
+    // Returns true if references were queued while waiting.
+    private boolean awaitWorkOrStartRefsQueued(
+            WorkSignal queueSignal, long signalGen) {
+        var waitStart = Instant.now();
+        var processingChecked = false;
+        while (true) {
+            if (awaitWork(queueSignal, signalGen,
+                    START_REFS_CHECK_INTERVAL)) {
+                LOG.trace("awaitWorkOrStartRefsQueued(): references "
+                        + "were queued.");
+                return true;
+            }
+            if (Thread.currentThread().isInterrupted()
+                    || session.isStartRefsQueueingComplete()) {
+                return false;
+            }
+            // Guard against the start-refs-queuing flag becoming
+            // permanently unavailable (e.g., due to partition
+            // migration after a coordinator crash). Stop waiting if:
+            //  (a) Nothing was queued for a while and nothing is being
+            //      processed, meaning no more work exists at all; OR
+            //  (b) We have been waiting >30s, after which even
+            //      orphaned PROCESSING entries left by a crashed node
+            //      should not prevent idle timeout from firing.
+            // The processing count is only queried once.
+            var waited = Duration.between(waitStart, Instant.now());
+            var noWork = false;
+            if (!processingChecked) {
+                processingChecked = true;
+                noWork = session.getCrawlContext()
+                        .getCrawlEntryLedger().getProcessingCount() == 0;
+            }
+            if (noWork || waited.compareTo(START_REFS_MAX_WAIT) >= 0) {
+                LOG.info("Treating start-refs queuing as "
+                        + "complete (nothing processing: {}, "
+                        + "waited: {}). The flag may be "
+                        + "temporarily unavailable due to a "
+                        + "coordinator crash.",
+                        noWork, waited);
+                return false;
+            }
+        }
+    }
+
+    private boolean isQueueStillEmptyAfterIdleTimeout(
+            WorkSignal queueSignal, long signalGen) {
         var duration =
                 session.getCrawlContext().getCrawlConfig().getIdleTimeout();
         if (duration == null || duration.isZero()) {
@@ -246,29 +260,34 @@ class CrawlerActivityChecker {
 
         LOG.info("Waiting up to {} for references to be added to the queue.",
                 idleTimeoutAsText());
-        var timeoutMs = duration.toMillis();
-        var start = Instant.now();
-        while (Duration.between(start, Instant.now()).toMillis() < timeoutMs) {
-            Sleeper.sleepMillis(200);
-            var empty = isQueuedEntryEmpty();
-            if (LOG.isTraceEnabled()) {
-                LOG.trace("isQueueStillEmptyAfterIdleTimeout(): polled "
-                        + "queueEmpty={} after {} (timeout={} ms).",
-                        empty,
-                        Duration.between(start, Instant.now()),
-                        timeoutMs);
-            }
-            if (!empty) {
-                return false;
-            }
+        // Woken up as soon as references are queued (by any node) rather
+        // than polling the queued entry count.
+        if (awaitWork(queueSignal, signalGen, duration)) {
+            LOG.trace("isQueueStillEmptyAfterIdleTimeout(): references "
+                    + "were queued.");
+            return false;
         }
         LOG.info("This crawler node has been idle for more than {}.",
                 idleTimeoutAsText());
         return true;
     }
 
-    private boolean isQueuedEntryEmpty() {
-        return queuedEntryCount() == 0;
+    private boolean awaitWork(
+            WorkSignal queueSignal, long signalGen, Duration timeout) {
+        try {
+            return queueSignal.await(signalGen, timeout);
+        } catch (InterruptedException e) {
+            LOG.debug("Interrupted while waiting for references to be "
+                    + "queued.");
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private WorkSignal queueSignal() {
+        return session.getCrawlContext()
+                .getCrawlEntryLedger()
+                .getQueueSignal();
     }
 
     private long queuedEntryCount() {
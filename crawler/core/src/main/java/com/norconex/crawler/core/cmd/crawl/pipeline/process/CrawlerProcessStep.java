@@ -54,6 +54,8 @@ public class CrawlerProcessStep extends BaseStep {
 
     private final ProcessQueueAction queueAction;
     private BatchDispatcher batchDispatcher;
+    // Only set when documents are processed in stages
+    private StagedProcessor stagedProcessor;
     // Keep a reference to the session so getProgress() can compute
     // cluster-wide progress
     private volatile CrawlerSession sessionRef;
@@ -81,11 +83,20 @@ public class CrawlerProcessStep extends BaseStep {
                 .lowWatermark(Math.max(1,
                         cfg.getMaxQueueBatchSize() / 5))
                 .session(session)
+                .scheduler(ctx.getDispatchScheduler())
                 .build();
 
-        var executor = Executors.newFixedThreadPool(
-                numThreads, ctx.getThreadFactoryCreator()
-                        .create(session.getCrawlerId()));
+        var threadFactory = ctx.getThreadFactoryCreator().create(
+                session.getCrawlerId(), cfg.isVirtualThreads());
+        var executor = cfg.isVirtualThreads()
+                ? Executors.newThreadPerTaskExecutor(threadFactory)
+                : Executors.newFixedThreadPool(numThreads, threadFactory);
+
+        if (cfg.isStagedExecution()
+                && queueAction != ProcessQueueAction.DELETE_ALL) {
+            stagedProcessor = new StagedProcessor(
+                    this, session, batchDispatcher::localQueueSize);
+        }
 
         var futures = IntStream.range(0, numThreads)
                 .mapToObj(i -> CompletableFuture
@@ -105,10 +116,17 @@ public class CrawlerProcessStep extends BaseStep {
                             }
                         }, executor))
                 .toList();
-        CompletableFuture.allOf(
-                futures.toArray(new CompletableFuture[0]))
-                .join();
-        ConcurrentUtil.cleanShutdown(executor);
+        try {
+            CompletableFuture.allOf(
+                    futures.toArray(new CompletableFuture[0]))
+                    .join();
+        } finally {
+            ConcurrentUtil.cleanShutdown(executor);
+            if (stagedProcessor != null) {
+                stagedProcessor.close();
+                stagedProcessor = null;
+            }
+        }
     }
 
     @Override
@@ -205,6 +223,7 @@ public class CrawlerProcessStep extends BaseStep {
         var docProcessCtx = new ProcessContext().crawlSession(session);
         var nodeName = session.getCluster().getLocalNode()
                 .getNodeName();
+        var handedOff = false;
         try {
             var currentEntry = batchDispatcher.take();
 
@@ -217,6 +236,12 @@ public class CrawlerProcessStep extends BaseStep {
             }
 
             if (currentEntry == null) {
+                // Documents still going through stages may queue more
+                // references.
+                if (stagedProcessor != null
+                        && stagedProcessor.awaitInFlight()) {
+                    return true;
+                }
                 LOG.trace("[{}] processNextInQueue got null entry from "
                         + "dispatcher. Checking isActive()...",
                         nodeName);
@@ -262,48 +287,67 @@ public class CrawlerProcessStep extends BaseStep {
 
             if (activityChecker.isDeleting()) {
                 ProcessDelete.execute(docProcessCtx);
+            } else if (stagedProcessor != null) {
+                // Import and commit stages take it from here, if not
+                // rejected
+                handedOff = stagedProcessor.fetch(docProcessCtx);
             } else {
                 ProcessUpsert.execute(docProcessCtx);
             }
 
-            // After document processing
-            var processedDoc = docProcessCtx.docContext().getDoc();
-            if (processedDoc != null) {
-                session.fire(CrawlerEvent.builder()
-                        .name(CrawlerEvent.DOCUMENT_PROCESSING_END)
-                        .crawlSession(session)
-                        .source(processedDoc)
-                        .build());
+            if (!handedOff) {
+                fireProcessingEnd(session, docProcessCtx);
             }
             return true;
         } catch (Exception e) {
-            if (e instanceof InterruptedException) {
-                Thread.currentThread().interrupt();
-            }
-            // If stop was requested while a document was being processed,
-            // leave it in PROCESSING state rather than finalizing it as
-            // PROCESSED-ERROR. This allows requeueProcessingEntries() to
-            // correctly restore it to QUEUED on the next resume.
-            var stopInProgress = isStopRequested()
-                    || session.getCrawlState() == CrawlerState.STOPPED;
-            if (stopInProgress
-                    && docProcessCtx.docContext() != null) {
-                LOG.info("Stop requested during processing of '{}'; "
-                        + "leaving in PROCESSING state for resume.",
-                        docProcessCtx.docContext()
-                                .getReference());
-                docProcessCtx.finalized(true);
-                return false;
-            }
-            if (handleExceptionAndCheckIfStopCrawler(
-                    session, docProcessCtx, e)) {
-                session.getCluster().stop();
-                return false;
-            }
+            return !handleProcessingException(session, docProcessCtx, e);
         } finally {
-            ProcessFinalize.execute(docProcessCtx);
+            if (!handedOff) {
+                ProcessFinalize.execute(docProcessCtx);
+            }
+        }
+    }
+
+    // After document processing
+    void fireProcessingEnd(
+            CrawlerSession session, ProcessContext docProcessCtx) {
+        var processedDoc = docProcessCtx.docContext().getDoc();
+        if (processedDoc != null) {
+            session.fire(CrawlerEvent.builder()
+                    .name(CrawlerEvent.DOCUMENT_PROCESSING_END)
+                    .crawlSession(session)
+                    .source(processedDoc)
+                    .build());
+        }
+    }
+
+    // true if the current thread should stop processing documents
+    boolean handleProcessingException(
+            CrawlerSession session, ProcessContext docProcessCtx, Exception e) {
+        if (e instanceof InterruptedException) {
+            Thread.currentThread().interrupt();
+        }
+        // If stop was requested while a document was being processed,
+        // leave it in PROCESSING state rather than finalizing it as
+        // PROCESSED-ERROR. This allows requeueProcessingEntries() to
+        // correctly restore it to QUEUED on the next resume.
+        var stopInProgress = isStopRequested()
+                || session.getCrawlState() == CrawlerState.STOPPED;
+        if (stopInProgress
+                && docProcessCtx.docContext() != null) {
+            LOG.info("Stop requested during processing of '{}'; "
+                    + "leaving in PROCESSING state for resume.",
+                    docProcessCtx.docContext()
+                            .getReference());
+            docProcessCtx.finalized(true);
+            return true;
+        }
+        if (handleExceptionAndCheckIfStopCrawler(
+                session, docProcessCtx, e)) {
+            session.getCluster().stop();
+            return true;
         }
-        return true;
+        return false;
     }
 
     // true to stop crawler
@@ -0,0 +1,50 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.crawler.core.cmd.crawl.pipeline.process;
+
+import com.norconex.crawler.core.ledger.CrawlerEntry;
+import com.norconex.crawler.core.session.CrawlerSession;
+
+/**
+ * Decides when queued entries can be handed to crawler threads. Entries
+ * sharing the same scheduling group (e.g., the same web site) are
+ * dispatched no faster than the delay returned for each of them, while
+ * entries from other groups remain available to other threads. This
+ * allows crawl delays to be honored without putting crawler threads
+ * to sleep.
+ */
+public interface DispatchScheduler {
+
+    /**
+     * Gets the scheduling group of an entry. Entries of the same group
+     * are dispatched one at a time, with a delay between each.
+     * Invoked often, so implementations should be fast.
+     * @param session crawl session
+     * @param entry crawl entry
+     * @return group key, or {@code null} if the entry is not subject to
+     *     scheduling and can be dispatched right away
+     */
+    String getGroup(CrawlerSession session, CrawlerEntry entry);
+
+    /**
+     * Gets how long to wait after dispatching the given entry before the
+     * next entry of the same group can be dispatched. Invoked by the
+     * thread the entry is dispatched to, once per scheduled entry.
+     * @param session crawl session
+     * @param entry the entry being dispatched
+     * @return delay in milliseconds (zero or less for no delay)
+     */
+    long getDelayMillis(CrawlerSession session, CrawlerEntry entry);
+}
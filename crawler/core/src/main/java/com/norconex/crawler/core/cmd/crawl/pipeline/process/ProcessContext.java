@@ -15,6 +15,7 @@
 package com.norconex.crawler.core.cmd.crawl.pipeline.process;
 
 import com.norconex.crawler.core.doc.CrawlerDocContext;
+import com.norconex.crawler.core.doc.pipelines.importer.ImporterPipelineContext;
 import com.norconex.crawler.core.session.CrawlerSession;
 import com.norconex.importer.response.ImporterResponse;
 
@@ -28,6 +29,8 @@ class ProcessContext {
     private CrawlerDocContext docContext;
     //private CrawlerEntry crawlEntry;
     private ImporterResponse importerResponse;
+    // Only set between staged execution fetch and import
+    private ImporterPipelineContext importerContext;
     //    private boolean orphan;
     private boolean finalized;
 }
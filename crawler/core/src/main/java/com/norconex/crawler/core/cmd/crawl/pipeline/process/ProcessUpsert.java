@@ -16,6 +16,7 @@ package com.norconex.crawler.core.cmd.crawl.pipeline.process;
 
 import com.norconex.crawler.core.doc.CrawlerDocContext;
 import com.norconex.crawler.core.doc.pipelines.committer.CommitterPipelineContext;
+import com.norconex.crawler.core.doc.pipelines.importer.ImporterPipeline;
 import com.norconex.crawler.core.doc.pipelines.importer.ImporterPipelineContext;
 import com.norconex.crawler.core.event.CrawlerEvent;
 import com.norconex.crawler.core.ledger.ProcessingOutcome;
@@ -39,20 +40,79 @@ final class ProcessUpsert {
         }
     }
 
+    //--- Staged execution ----------------------------------------------------
+    // Same as execute(...), split in three parts meant to be invoked
+    // one after the other, possibly from different threads.
+
+    /**
+     * Runs the importer pipeline stages preceding the import module
+     * (e.g., fetching).
+     * @param ctx process context
+     * @return <code>true</code> if the document shall be imported next.
+     *     Otherwise, the document is either finalized or has an importer
+     *     response to commit.
+     */
+    static boolean fetchDocument(ProcessContext ctx) {
+        var pipeline = importerPipeline(ctx);
+        var currentEntry = ctx.docContext().getCurrentCrawlEntry();
+
+        LOG.debug("Processing reference: {}", currentEntry.getReference());
+
+        var importerCtx = pipeline.adapt(new ImporterPipelineContext(
+                ctx.crawlSession(), ctx.docContext()));
+        ctx.importerContext(importerCtx);
+        if (pipeline.testFetchStages(importerCtx)) {
+            return true;
+        }
+        acceptResponse(ctx, importerCtx.getImporterResponse());
+        return false;
+    }
+
+    /**
+     * Runs the importer pipeline stages from the import module onward,
+     * after {@link #fetchDocument(ProcessContext)} returned
+     * <code>true</code>.
+     * @param ctx process context
+     * @return <code>true</code> if there is an importer response to commit
+     */
+    static boolean importFetchedDocument(ProcessContext ctx) {
+        return acceptResponse(ctx, importerPipeline(ctx)
+                .applyImportStages(ctx.importerContext()));
+    }
+
+    /**
+     * Commits or rejects the importer response and its nested responses.
+     * @param ctx process context
+     */
+    static void commitDocument(ProcessContext ctx) {
+        processImportResponse(ctx);
+    }
+
+    //--- Private methods ------------------------------------------------------
+
+    private static ImporterPipeline importerPipeline(ProcessContext ctx) {
+        return ctx.crawlSession()
+                .getCrawlContext()
+                .getDocPipelines()
+                .getImporterPipeline();
+    }
+
     private static boolean importDocument(ProcessContext ctx) {
         // The importer pipeline also takes care of fetching
         //TODO shall fetching be handled by core, and we just pass
         // fetched doc to importer pipeline?
-        var crawlCtx = ctx.crawlSession().getCrawlContext();
         var currentEntry = ctx.docContext().getCurrentCrawlEntry();
 
         LOG.debug("Processing reference: {}", currentEntry.getReference());
 
-        var response = crawlCtx
-                .getDocPipelines()
-                .getImporterPipeline()
+        return acceptResponse(ctx, importerPipeline(ctx)
                 .apply(new ImporterPipelineContext(
-                        ctx.crawlSession(), ctx.docContext()));
+                        ctx.crawlSession(), ctx.docContext())));
+    }
+
+    private static boolean acceptResponse(
+            ProcessContext ctx, ImporterResponse response) {
+        var currentEntry = ctx.docContext().getCurrentCrawlEntry();
         ctx.importerResponse(response);
 
         // no response means rejected even if it should not be the
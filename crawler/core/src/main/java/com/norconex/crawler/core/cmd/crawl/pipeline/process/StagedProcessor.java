@@ -0,0 +1,358 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.crawler.core.cmd.crawl.pipeline.process;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
+
+import com.norconex.crawler.core.metrics.CrawlerMetrics;
+import com.norconex.crawler.core.session.CrawlerSession;
+import com.norconex.crawler.core.util.LogUtil;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * <p>
+ * Processes documents in stages, each having its own threads:
+ * </p>
+ * <ol>
+ *   <li><b>fetch</b>: invoked by crawler threads, with documents taken from
+ *       the crawler queue.</li>
+ *   <li><b>import</b>: platform threads, one per available processor
+ *       unless "maxConcurrentImports" is set.</li>
+ *   <li><b>commit</b>: as many threads as crawler threads.</li>
+ * </ol>
+ * <p>
+ * Stages are connected by bounded queues. Handing off a document to a
+ * stage having a full queue blocks until there is room, so slow stages
+ * slow down the ones preceding them.
+ * </p>
+ * <p>
+ * Each stage queue size, number of documents being processed,
+ * number of documents processed, average wait time in queue and
+ * average processing time are registered as crawler metrics gauges named
+ * <code>stage.&lt;stageName&gt;.&lt;gaugeName&gt;</code>.
+ * </p>
+ */
+@Slf4j
+class StagedProcessor implements Closeable {
+
+    static final String FETCH_STAGE = "fetch";
+    static final String IMPORT_STAGE = "import";
+    static final String COMMIT_STAGE = "commit";
+
+    private static final long POLL_MS = 100;
+
+    private final CrawlerProcessStep step;
+    private final CrawlerSession session;
+    private final StageStats fetchStats = new StageStats();
+    private final Stage importStage;
+    private final Stage commitStage;
+    private final List<String> gaugeNames = new ArrayList<>();
+
+    // Documents handed off by the fetch stage and not yet finalized
+    private final ReentrantLock inFlightLock = new ReentrantLock();
+    private final Condition inFlightChanged = inFlightLock.newCondition();
+    private int inFlight;
+
+    StagedProcessor(CrawlerProcessStep step, CrawlerSession session,
+            IntSupplier fetchQueueSize) {
+        this.step = step;
+        this.session = session;
+        var ctx = session.getCrawlContext();
+        var cfg = ctx.getCrawlConfig();
+
+        var importThreads = cfg.getMaxConcurrentImports() > 0
+                ? cfg.getMaxConcurrentImports()
+                : Runtime.getRuntime().availableProcessors();
+        var commitThreads = cfg.getNumThreads();
+
+        importStage = new Stage(IMPORT_STAGE,
+                queueSize(cfg.getStageQueueSize(), importThreads),
+                this::importDocument);
+        commitStage = new Stage(COMMIT_STAGE,
+                queueSize(cfg.getStageQueueSize(), commitThreads),
+                this::commitDocument);
+
+        registerGauges(FETCH_STAGE, fetchStats, fetchQueueSize::getAsInt);
+        registerGauges(
+                IMPORT_STAGE, importStage.stats, importStage.queue::size);
+        registerGauges(
+                COMMIT_STAGE, commitStage.stats, commitStage.queue::size);
+
+        var factories = ctx.getThreadFactoryCreator();
+        importStage.start(importThreads, factories.create(
+                session.getCrawlerId() + "-" + IMPORT_STAGE, false));
+        commitStage.start(commitThreads, factories.create(
+                session.getCrawlerId() + "-" + COMMIT_STAGE,
+                cfg.isVirtualThreads()));
+        LOG.info("Staged execution started with {} import thread(s) and {} "
+                + "commit thread(s).", importThreads, commitThreads);
+    }
+
+    /**
+     * Runs the fetch stage for a document and hands it off to the next
+     * stage, if any. Invoked by crawler threads.
+     * @param ctx process context
+     * @return <code>true</code> if the document was handed off, in which
+     *     case it must not be finalized by the caller
+     * @throws InterruptedException if interrupted while waiting for room
+     *     in the next stage queue
+     */
+    boolean fetch(ProcessContext ctx) throws InterruptedException {
+        var start = System.nanoTime();
+        fetchStats.active.incrementAndGet();
+        boolean toImport;
+        try {
+            toImport = ProcessUpsert.fetchDocument(ctx);
+        } finally {
+            fetchStats.processed(System.nanoTime() - start);
+        }
+        if (toImport) {
+            handOff(importStage, ctx);
+            return true;
+        }
+        if (ctx.importerResponse() != null) {
+            handOff(commitStage, ctx);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Waits a short while for documents handed off by the fetch stage
+     * to be finalized, if any.
+     * @return <code>true</code> if documents were still going through stages
+     */
+    boolean awaitInFlight() {
+        inFlightLock.lock();
+        try {
+            if (inFlight == 0) {
+                return false;
+            }
+            inFlightChanged.await(POLL_MS, TimeUnit.MILLISECONDS);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            inFlightLock.unlock();
+        }
+    }
+
+    /**
+     * Processes documents remaining in stage queues and stops stage threads.
+     * Invoke once the fetch stage is done.
+     */
+    @Override
+    public void close() {
+        importStage.close();
+        commitStage.close();
+        gaugeNames.forEach(session.getCrawlContext().getMetrics()
+                ::unregisterGauge);
+        LOG.info("Staged execution ended.");
+    }
+
+    //--- Stage tasks ----------------------------------------------------------
+
+    private boolean importDocument(ProcessContext ctx)
+            throws InterruptedException {
+        if (ProcessUpsert.importFetchedDocument(ctx)) {
+            commitStage.put(ctx);
+            return true;
+        }
+        step.fireProcessingEnd(session, ctx);
+        return false;
+    }
+
+    private boolean commitDocument(ProcessContext ctx) {
+        ProcessUpsert.commitDocument(ctx);
+        step.fireProcessingEnd(session, ctx);
+        return false;
+    }
+
+    //--- Private methods ------------------------------------------------------
+
+    private void handOff(Stage stage, ProcessContext ctx)
+            throws InterruptedException {
+        updateInFlight(1);
+        try {
+            stage.put(ctx);
+        } catch (InterruptedException e) {
+            updateInFlight(-1);
+            throw e;
+        }
+    }
+
+    private void updateInFlight(int delta) {
+        inFlightLock.lock();
+        try {
+            inFlight += delta;
+            inFlightChanged.signalAll();
+        } finally {
+            inFlightLock.unlock();
+        }
+    }
+
+    private void registerGauges(
+            String stageName, StageStats stats, LongSupplier queueSize) {
+        var metrics = session.getCrawlContext().getMetrics();
+        var prefix = "stage." + stageName + ".";
+        registerGauge(metrics, prefix + "queueSize", queueSize);
+        registerGauge(metrics, prefix + "active", stats.active::get);
+        registerGauge(metrics, prefix + "completed", stats.completed::sum);
+        registerGauge(metrics, prefix + "avgWaitMillis",
+                () -> stats.average(stats.waitNanos));
+        registerGauge(metrics, prefix + "avgProcessMillis",
+                () -> stats.average(stats.processNanos));
+    }
+
+    private void registerGauge(
+            CrawlerMetrics metrics, String name, LongSupplier gauge) {
+        metrics.registerGauge(name, gauge);
+        gaugeNames.add(name);
+    }
+
+    private static int queueSize(int configured, int numThreads) {
+        return configured > 0 ? configured : Math.max(1, numThreads * 2);
+    }
+
+    //--- Inner classes --------------------------------------------------------
+
+    @FunctionalInterface
+    private interface StageTask {
+        // true if handed off to another stage
+        boolean process(ProcessContext ctx) throws Exception;
+    }
+
+    private record Handoff(ProcessContext ctx, long queuedAt) {
+    }
+
+    private static final class StageStats {
+        private final AtomicInteger active = new AtomicInteger();
+        private final LongAdder completed = new LongAdder();
+        private final LongAdder waitNanos = new LongAdder();
+        private final LongAdder processNanos = new LongAdder();
+
+        private void processed(long nanos) {
+            processNanos.add(nanos);
+            completed.increment();
+            active.decrementAndGet();
+        }
+
+        private long average(LongAdder totalNanos) {
+            var count = completed.sum();
+            return count == 0
+                    ? 0
+                    : TimeUnit.NANOSECONDS.toMillis(totalNanos.sum() / count);
+        }
+    }
+
+    private final class Stage {
+        private final String name;
+        private final BlockingQueue<Handoff> queue;
+        private final StageTask task;
+        private final StageStats stats = new StageStats();
+        private final List<Thread> workers = new ArrayList<>();
+        private volatile boolean closing;
+
+        private Stage(String name, int queueSize, StageTask task) {
+            this.name = name;
+            queue = new ArrayBlockingQueue<>(queueSize);
+            this.task = task;
+        }
+
+        private void start(int numThreads, ThreadFactory threadFactory) {
+            for (var i = 0; i < numThreads; i++) {
+                var worker = threadFactory.newThread(this::work);
+                workers.add(worker);
+                worker.start();
+            }
+        }
+
+        // Blocks until there is room in the queue
+        private void put(ProcessContext ctx) throws InterruptedException {
+            queue.put(new Handoff(ctx, System.nanoTime()));
+        }
+
+        private void close() {
+            closing = true;
+            for (Thread worker : workers) {
+                try {
+                    worker.join();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    LOG.warn("Interrupted while waiting for {} stage to "
+                            + "complete.", name);
+                    return;
+                }
+            }
+        }
+
+        private void work() {
+            LogUtil.setMdcCrawlerId(session.getCrawlerId());
+            while (true) {
+                Handoff handoff;
+                try {
+                    handoff = queue.poll(POLL_MS, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                if (handoff != null) {
+                    process(handoff);
+                } else if (closing) {
+                    return;
+                }
+            }
+        }
+
+        private void process(Handoff handoff) {
+            var ctx = handoff.ctx();
+            var start = System.nanoTime();
+            stats.waitNanos.add(start - handoff.queuedAt());
+            stats.active.incrementAndGet();
+            var handedOff = false;
+            try {
+                if (step.isStopRequested()) {
+                    // Same as documents being processed when stopping:
+                    // leave it in PROCESSING state for resume.
+                    ctx.finalized(true);
+                } else {
+                    handedOff = task.process(ctx);
+                }
+            } catch (Exception e) {
+                step.handleProcessingException(session, ctx, e);
+            } finally {
+                stats.processed(System.nanoTime() - start);
+                if (!handedOff) {
+                    ProcessFinalize.execute(ctx);
+                    updateInFlight(-1);
+                }
+            }
+        }
+    }
+}
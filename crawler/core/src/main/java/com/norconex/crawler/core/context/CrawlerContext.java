@@ -39,6 +39,7 @@ import com.norconex.commons.lang.time.DurationFormatter;
 import com.norconex.crawler.core.CrawlerCallbacks;
 import com.norconex.crawler.core.CrawlerConfig;
 import com.norconex.crawler.core.cmd.crawl.pipeline.bootstrap.CrawlerBootstrapper;
+import com.norconex.crawler.core.cmd.crawl.pipeline.process.DispatchScheduler;
 import com.norconex.crawler.core.doc.pipelines.CrawlerDocPipelines;
 import com.norconex.crawler.core.doc.pipelines.DedupService;
 import com.norconex.crawler.core.event.CrawlerEvent;
@@ -110,6 +111,10 @@ public class CrawlerContext implements Closeable {
      */
     private final Map<String, Class<?>> cacheTypes;
     private final ScopedThreadFactoryCreator threadFactoryCreator;
+    /**
+     * Optional scheduler deciding when queued entries can be dispatched.
+     */
+    private final DispatchScheduler dispatchScheduler;
 
     //--- Convenience methods --------------------------------------------------
 
@@ -81,6 +81,8 @@ public final class CrawlerContextFactory {
                         .committers(config
                                 .getCommitters())
                         .eventManager(eventManager)
+                        .parallel(config.isParallelCommitters())
+                        .maxThreadsPerCommitter(config.getNumThreads())
                         .upsertRequestBuilder(
                                 doc -> new UpsertRequest(
                                         doc.getReference(),
@@ -97,6 +99,7 @@ public final class CrawlerContextFactory {
                 .crawlEntryType(driver.crawlEntryType())
                 .cacheTypes(driver.cacheTypes())
                 .docPipelines(driver.docPipelines())
+                .dispatchScheduler(driver.dispatchScheduler())
                 .crawlEntryLedger(new CrawlerEntryLedger())
                 .eventManager(eventManager)
                 .fetcher(MultiFetcher.builder()
@@ -15,10 +15,13 @@
 package com.norconex.crawler.core.doc.pipelines;
 
 import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 
 import org.apache.commons.lang3.StringUtils;
 
 import com.norconex.crawler.core.doc.CrawlerDocContext;
+import com.norconex.crawler.core.ledger.CrawlerEntry;
 import com.norconex.crawler.core.ledger.ProcessingOutcome;
 
 import lombok.extern.slf4j.Slf4j;
@@ -34,30 +37,45 @@ public final class ChecksumStageUtil {
 
     public static boolean resolveMetaChecksum(
             String newChecksum, CrawlerDocContext docCtx) {
-        return resolveChecksum(true, newChecksum, docCtx);
+        return resolveChecksum(
+                "metadata",
+                CrawlerEntry::getMetaChecksum,
+                CrawlerEntry::setMetaChecksum,
+                newChecksum,
+                docCtx);
     }
 
     public static boolean resolveDocumentChecksum(
             String newChecksum, CrawlerDocContext docCtx) {
-        return resolveChecksum(false, newChecksum, docCtx);
+        return resolveChecksum(
+                "document",
+                CrawlerEntry::getContentChecksum,
+                CrawlerEntry::setContentChecksum,
+                newChecksum,
+                docCtx);
+    }
+
+    public static boolean resolveRawContentChecksum(
+            String newChecksum, CrawlerDocContext docCtx) {
+        return resolveChecksum(
+                "raw content",
+                CrawlerEntry::getRawContentChecksum,
+                CrawlerEntry::setRawContentChecksum,
+                newChecksum,
+                docCtx);
     }
 
     // return false if checksum is rejected/unmodified
     private static boolean resolveChecksum(
-            boolean isMeta,
+            String type,
+            Function<CrawlerEntry, String> getter,
+            BiConsumer<CrawlerEntry, String> setter,
             String newChecksum,
             CrawlerDocContext docCtx) {
         var currentCrawlEntry = docCtx.getCurrentCrawlEntry();
 
         // Set new checksum on crawlData + metadata
-        String type;
-        if (isMeta) {
-            currentCrawlEntry.setMetaChecksum(newChecksum);
-            type = "metadata";
-        } else {
-            currentCrawlEntry.setContentChecksum(newChecksum);
-            type = "document";
-        }
+        setter.accept(currentCrawlEntry, newChecksum);
 
         // Get old checksum from cache
         var prevCrawlEntry = docCtx.getPreviousCrawlEntry();
@@ -78,12 +96,7 @@ public final class ChecksumStageUtil {
             return true;
         }
 
-        String oldChecksum = null;
-        if (isMeta) {
-            oldChecksum = prevCrawlEntry.getMetaChecksum();
-        } else {
-            oldChecksum = prevCrawlEntry.getContentChecksum();
-        }
+        var oldChecksum = getter.apply(prevCrawlEntry);
 
         // Compare checksums
         if (StringUtils.isNotBlank(newChecksum)
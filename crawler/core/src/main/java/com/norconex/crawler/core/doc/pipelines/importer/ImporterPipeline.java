@@ -1,4 +1,4 @@
-/* Copyright 2023-2025 Norconex Inc.
+/* Copyright 2023-2026 Norconex Inc.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -14,11 +14,13 @@
  */
 package com.norconex.crawler.core.doc.pipelines.importer;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
 import com.norconex.commons.lang.function.Predicates;
+import com.norconex.crawler.core.doc.pipelines.importer.stages.ImportModuleStage;
 import com.norconex.importer.response.ImporterResponse;
 
 import lombok.Builder;
@@ -26,10 +28,18 @@ import lombok.Getter;
 import lombok.NonNull;
 import lombok.Singular;
 
+/**
+ * Importer pipeline. Normally applied in full, it can also be applied in
+ * two parts for staged execution: the "fetch" stages, preceding the first
+ * {@link ImportModuleStage} (mostly I/O-bound), and the "import" stages,
+ * from that stage onward (mostly CPU-bound).
+ */
 public class ImporterPipeline
         implements Function<ImporterPipelineContext, ImporterResponse> {
 
     private final Predicates<ImporterPipelineContext> stages;
+    private final Predicates<ImporterPipelineContext> fetchStages;
+    private final Predicates<ImporterPipelineContext> importStages;
     @Getter
     private final Function<ImporterPipelineContext,
             ? extends ImporterPipelineContext> contextAdapter;
@@ -42,14 +52,59 @@ public class ImporterPipeline
                     ? extends ImporterPipelineContext> contextAdapter) {
         this.stages = new Predicates<>(stages);
         this.contextAdapter = contextAdapter;
+
+        var importIndex = stages.size();
+        for (var i = 0; i < stages.size(); i++) {
+            if (stages.get(i) instanceof ImportModuleStage) {
+                importIndex = i;
+                break;
+            }
+        }
+        fetchStages = new Predicates<>(
+                new ArrayList<>(stages.subList(0, importIndex)));
+        importStages = new Predicates<>(
+                new ArrayList<>(stages.subList(importIndex, stages.size())));
     }
 
     @Override
     public ImporterResponse apply(ImporterPipelineContext context) {
-        var ctx = contextAdapter != null
-                ? contextAdapter.apply(context)
-                : context;
+        var ctx = adapt(context);
         stages.test(ctx);
         return ctx.getImporterResponse();
     }
+
+    /**
+     * Adapts the given context using this pipeline context adapter, if any.
+     * Invoke once before applying the pipeline in parts.
+     * @param context importer pipeline context
+     * @return adapted context
+     */
+    public ImporterPipelineContext adapt(ImporterPipelineContext context) {
+        return contextAdapter != null
+                ? contextAdapter.apply(context)
+                : context;
+    }
+
+    /**
+     * Tests the stages preceding the first {@link ImportModuleStage}.
+     * @param adaptedContext context returned by {@link #adapt}
+     * @return <code>true</code> if the document shall be imported
+     */
+    public boolean testFetchStages(ImporterPipelineContext adaptedContext) {
+        return fetchStages.isEmpty() || fetchStages.test(adaptedContext);
+    }
+
+    /**
+     * Applies the stages from the first {@link ImportModuleStage} onward,
+     * after {@link #testFetchStages} returned <code>true</code>.
+     * @param adaptedContext context returned by {@link #adapt}
+     * @return importer response, or <code>null</code> if rejected
+     */
+    public ImporterResponse applyImportStages(
+            ImporterPipelineContext adaptedContext) {
+        if (!importStages.isEmpty()) {
+            importStages.test(adaptedContext);
+        }
+        return adaptedContext.getImporterResponse();
+    }
 }
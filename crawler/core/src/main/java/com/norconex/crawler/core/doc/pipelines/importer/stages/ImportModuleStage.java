@@ -14,24 +14,33 @@
  */
 package com.norconex.crawler.core.doc.pipelines.importer.stages;
 
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Predicate;
 
+import com.norconex.crawler.core.CrawlerConfig;
+import com.norconex.crawler.core.CrawlerException;
 import com.norconex.crawler.core.doc.pipelines.importer.ImporterPipelineContext;
 import com.norconex.importer.doc.Doc;
+import com.norconex.importer.response.ImporterResponse;
 
 /**
- * Common pipeline stage for importing documents.
+ * Common pipeline stage for importing documents. The number of documents
+ * imported at once is limited as per
+ * {@link CrawlerConfig#getMaxConcurrentImports()}.
  */
 public class ImportModuleStage implements Predicate<ImporterPipelineContext> {
 
+    private final AtomicReference<Semaphore> importPermits =
+            new AtomicReference<>();
+
     @Override
     public boolean test(ImporterPipelineContext ctx) {
-        var importer = ctx.getCrawlSession().getCrawlContext().getImporter();
         var docContext = ctx.getDocContext();
         Doc doc = docContext.getDoc();
 
         var isContentTypeSet = doc.getContentType() != null;
-        var response = importer.importDocument(doc);
+        var response = importDocument(ctx, doc);
         ctx.setImporterResponse(response);
 
         //TODO is it possible for content type not to be set here??
@@ -56,4 +65,35 @@ public class ImportModuleStage implements Predicate<ImporterPipelineContext> {
 
         return true;
     }
+
+    private ImporterResponse importDocument(
+            ImporterPipelineContext ctx, Doc doc) {
+        var crawlContext = ctx.getCrawlSession().getCrawlContext();
+        var permits = importPermits.updateAndGet(s -> s != null ? s
+                : new Semaphore(maxConcurrentImports(
+                        crawlContext.getCrawlConfig()), true));
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CrawlerException(
+                    "Interrupted while waiting to import: "
+                            + doc.getReference(),
+                    e);
+        }
+        try {
+            return crawlContext.getImporter().importDocument(doc);
+        } finally {
+            permits.release();
+        }
+    }
+
+    static int maxConcurrentImports(CrawlerConfig cfg) {
+        if (cfg.getMaxConcurrentImports() > 0) {
+            return cfg.getMaxConcurrentImports();
+        }
+        return cfg.isVirtualThreads()
+                ? Runtime.getRuntime().availableProcessors()
+                : Integer.MAX_VALUE;
+    }
 }
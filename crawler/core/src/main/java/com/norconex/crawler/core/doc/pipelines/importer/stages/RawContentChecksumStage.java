@@ -0,0 +1,95 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.crawler.core.doc.pipelines.importer.stages;
+
+import java.io.IOException;
+
+import org.apache.commons.codec.digest.DigestUtils;
+
+import com.norconex.crawler.core.CrawlerException;
+import com.norconex.crawler.core.doc.pipelines.ChecksumStageUtil;
+import com.norconex.crawler.core.doc.pipelines.importer.ImporterPipelineContext;
+import com.norconex.crawler.core.event.CrawlerEvent;
+import com.norconex.crawler.core.ledger.ProcessingOutcome;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Creates a checksum of the raw fetched content, before it is imported,
+ * and rejects the document as unmodified if that checksum is the same
+ * as on the previous crawl. Only invoked when enabled with
+ * {@link com.norconex.crawler.core.CrawlerConfig#setRawContentChecksum(
+ * boolean)} and a document checksummer is configured.
+ */
+@Slf4j
+public class RawContentChecksumStage extends AbstractImporterStage {
+
+    @Override
+    protected boolean executeStage(ImporterPipelineContext ctx) {
+        var cfg = ctx.getCrawlSession().getCrawlContext().getCrawlConfig();
+        if (!cfg.isRawContentChecksum()
+                || cfg.getDocumentChecksummer() == null) {
+            return true;
+        }
+
+        var docContext = ctx.getDocContext();
+        var newChecksum = checksum(ctx);
+
+        // Only trust a previous raw checksum if the document made it
+        // through successfully then. It could otherwise have been rejected
+        // or failed after this stage and must be processed again.
+        var prevEntry = docContext.getPreviousCrawlEntry();
+        if (prevEntry != null && !ProcessingOutcome.isGoodState(
+                prevEntry.getProcessingOutcome())) {
+            docContext.getCurrentCrawlEntry()
+                    .setRawContentChecksum(newChecksum);
+            return true;
+        }
+
+        var accepted = ChecksumStageUtil.resolveRawContentChecksum(
+                newChecksum, docContext);
+        if (!accepted) {
+            ctx.getCrawlSession().fire(CrawlerEvent.builder()
+                    .name(CrawlerEvent.REJECTED_UNMODIFIED)
+                    .crawlSession(ctx.getCrawlSession())
+                    .crawlEntry(docContext.getCurrentCrawlEntry())
+                    .source(this)
+                    .message(getClass().getSimpleName()
+                            + " - Checksum=" + newChecksum)
+                    .build());
+        }
+        return accepted;
+    }
+
+    // Streams the content through the digest. The content is cached
+    // as it is read so it can be read again by the next stages.
+    private String checksum(ImporterPipelineContext ctx) {
+        var doc = ctx.getDocContext().getDoc();
+        try {
+            var checksum = DigestUtils.md5Hex( //NOSONAR not sensitive
+                    doc.getInputStream());
+            LOG.debug("Raw content checksum for {}: {}",
+                    doc.getReference(), checksum);
+            return checksum;
+        } catch (IOException e) {
+            throw new CrawlerException(
+                    "Cannot create raw content checksum on: "
+                            + doc.getReference(),
+                    e);
+        } finally {
+            doc.getInputStream().rewind();
+        }
+    }
+}
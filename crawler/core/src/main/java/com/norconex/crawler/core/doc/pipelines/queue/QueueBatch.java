@@ -0,0 +1,101 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.crawler.core.doc.pipelines.queue;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.norconex.crawler.core.ledger.CrawlerEntry;
+import com.norconex.crawler.core.ledger.CrawlerEntryLedger;
+
+import lombok.NonNull;
+
+/**
+ * Collects entries accepted by the queue pipeline so they are queued
+ * together with {@link CrawlerEntryLedger#queueAll(Collection)} instead
+ * of one by one. Set it on a {@link QueuePipelineContext} for
+ * entries to be added to it, then invoke {@link #flush()} once done.
+ * Thread-safe.
+ */
+public class QueueBatch {
+
+    private final CrawlerEntryLedger ledger;
+    private final int maxSize;
+    private final ReentrantLock lock = new ReentrantLock();
+    private List<CrawlerEntry> entries = new ArrayList<>();
+
+    /**
+     * Creates a batch flushed only when {@link #flush()} is invoked.
+     * @param ledger crawler entry ledger
+     */
+    public QueueBatch(@NonNull CrawlerEntryLedger ledger) {
+        this(ledger, 0);
+    }
+
+    /**
+     * Creates a batch flushed when {@link #flush()} is invoked or when
+     * it reaches the given size.
+     * @param ledger crawler entry ledger
+     * @param maxSize number of entries triggering a flush (0 for no
+     *     automatic flush)
+     */
+    public QueueBatch(@NonNull CrawlerEntryLedger ledger, int maxSize) {
+        this.ledger = ledger;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Adds an entry to be queued on the next flush.
+     * @param entry crawl entry
+     */
+    public void add(@NonNull CrawlerEntry entry) {
+        List<CrawlerEntry> full = null;
+        lock.lock();
+        try {
+            entries.add(entry);
+            if (maxSize > 0 && entries.size() >= maxSize) {
+                full = entries;
+                entries = new ArrayList<>();
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (full != null) {
+            ledger.queueAll(full);
+        }
+    }
+
+    /**
+     * Queues all entries added since the last flush.
+     * @return the number of entries queued (excludes those already
+     *     in the ledger)
+     */
+    public int flush() {
+        List<CrawlerEntry> batch;
+        lock.lock();
+        try {
+            if (entries.isEmpty()) {
+                return 0;
+            }
+            batch = entries;
+            entries = new ArrayList<>();
+        } finally {
+            lock.unlock();
+        }
+        return ledger.queueAll(batch);
+    }
+}
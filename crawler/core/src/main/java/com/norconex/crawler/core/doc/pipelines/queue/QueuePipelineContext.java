@@ -31,4 +31,6 @@ import lombok.Data;
 public class QueuePipelineContext {
     private final CrawlerSession crawlSession;
     private final CrawlerEntry crawlEntry;
+    // When set, accepted entries are queued when the batch is flushed
+    private QueueBatch queueBatch;
 }
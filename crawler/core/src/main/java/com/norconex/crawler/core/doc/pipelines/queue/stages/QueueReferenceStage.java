@@ -36,10 +36,14 @@ public class QueueReferenceStage implements Predicate<QueuePipelineContext> {
             return true;
         }
 
-        ctx.getCrawlSession()
-                .getCrawlContext()
-                .getCrawlEntryLedger()
-                .queue(ctx.getCrawlEntry());
+        if (ctx.getQueueBatch() != null) {
+            ctx.getQueueBatch().add(ctx.getCrawlEntry());
+        } else {
+            ctx.getCrawlSession()
+                    .getCrawlContext()
+                    .getCrawlEntryLedger()
+                    .queue(ctx.getCrawlEntry());
+        }
         return true;
     }
 }
@@ -125,8 +125,12 @@ public class MultiFetcher implements Fetcher {
                         CrawlerDocMetaConstants.FETCHER,
                         fetcher.getClass().getName());
 
+                // a rejection is a decision, not a failure to retry
                 if (fetchResponse.getProcessingOutcome() != null
-                        && fetchResponse.getProcessingOutcome().isGoodState()) {
+                        && (fetchResponse.getProcessingOutcome().isGoodState()
+                                || ProcessingOutcome.REJECTED.equals(
+                                        fetchResponse
+                                                .getProcessingOutcome()))) {
                     return responseAggregator.aggregate(
                             fetchRequest, allResponses);
                 }
@@ -0,0 +1,227 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.crawler.core.ledger;
+
+import java.nio.charset.Charset;
+import java.util.List;
+
+import com.norconex.commons.lang.file.ContentType;
+import com.norconex.crawler.core.cluster.codec.CacheValueCodec;
+import com.norconex.crawler.core.cluster.codec.CodecInput;
+import com.norconex.crawler.core.cluster.codec.CodecOutput;
+
+/**
+ * <p>
+ * Base binary codec for {@link CrawlerEntry} and its subclasses, used by
+ * caches storing ledger entries. Compared to JSON, field names are not
+ * repeated, dates are stored as numbers, processing statuses, outcomes and
+ * common content types are stored as small integers, and reference trails
+ * are delta-encoded against the entry reference.
+ * </p>
+ * <p>
+ * Each field is tagged with a number so fields can be added over time and
+ * unknown ones skipped. Field numbers below {@value #FIRST_SUBCLASS_FIELD}
+ * are reserved for {@link CrawlerEntry}. Subclasses add their own fields by
+ * overriding {@link #writeFields(CrawlerEntry, CodecOutput)} and
+ * {@link #readField(int, CrawlerEntry, CodecInput)}, using field numbers
+ * starting at {@value #FIRST_SUBCLASS_FIELD}. Field numbers and dictionary
+ * entries must never be reused or reordered once released.
+ * </p>
+ * @param <T> crawler entry type
+ */
+public abstract class AbstractCrawlerEntryCodec<T extends CrawlerEntry>
+        implements CacheValueCodec<T> {
+
+    /** First field number available to subclasses. */
+    protected static final int FIRST_SUBCLASS_FIELD = 64;
+
+    private static final int FORMAT_ID = 0xCE;
+    private static final int FORMAT_VERSION = 1;
+
+    private static final int F_REFERENCE = 1;
+    private static final int F_DEPTH = 2;
+    private static final int F_PROCESSING_STATUS = 3;
+    private static final int F_PROCESSING_OUTCOME = 4;
+    private static final int F_REFERENCE_TRAIL = 5;
+    private static final int F_META_CHECKSUM = 6;
+    private static final int F_CONTENT_CHECKSUM = 7;
+    private static final int F_QUEUED_AT = 8;
+    private static final int F_PROCESSING_AT = 9;
+    private static final int F_PROCESSED_AT = 10;
+    private static final int F_LAST_MODIFIED = 11;
+    private static final int F_CONTENT_TYPE = 12;
+    private static final int F_ORPHAN = 13;
+    private static final int F_DELETED = 14;
+    private static final int F_CHARSET = 15;
+    private static final int F_RAW_CONTENT_CHECKSUM = 16;
+
+    // Append-only dictionaries
+    private static final List<String> STATUSES = List.of(
+            "UNTRACKED", "QUEUED", "PROCESSING", "PROCESSED");
+    private static final List<String> OUTCOMES = List.of(
+            "NEW", "MODIFIED", "UNMODIFIED", "ERROR", "REJECTED",
+            "BAD_STATUS", "DELETED", "NOT_FOUND", "PREMATURE",
+            "UNSUPPORTED", "TOO_DEEP");
+    private static final List<String> CONTENT_TYPES = List.of(
+            "text/html",
+            "application/xhtml+xml",
+            "application/pdf",
+            "text/plain",
+            "application/xml",
+            "text/xml",
+            "application/json",
+            "text/css",
+            "application/javascript",
+            "text/csv",
+            "image/jpeg",
+            "image/png",
+            "image/gif",
+            "image/svg+xml",
+            "application/zip",
+            "application/octet-stream",
+            "application/msword",
+            "application/vnd.openxmlformats-officedocument"
+                    + ".wordprocessingml.document",
+            "application/vnd.ms-excel",
+            "application/vnd.openxmlformats-officedocument"
+                    + ".spreadsheetml.sheet",
+            "application/vnd.ms-powerpoint",
+            "application/vnd.openxmlformats-officedocument"
+                    + ".presentationml.presentation",
+            "application/rss+xml",
+            "application/atom+xml");
+
+    private final Class<T> valueType;
+
+    protected AbstractCrawlerEntryCodec(Class<T> valueType) {
+        this.valueType = valueType;
+    }
+
+    @Override
+    public Class<T> getValueType() {
+        return valueType;
+    }
+
+    @Override
+    public byte[] encode(T entry) {
+        var out = new CodecOutput().header(FORMAT_ID, FORMAT_VERSION);
+        var reference = entry.getReference();
+        out.stringField(F_REFERENCE, reference);
+        if (entry.getDepth() != 0) {
+            out.varintField(F_DEPTH, entry.getDepth());
+        }
+        out.internedField(F_PROCESSING_STATUS,
+                entry.getProcessingStatus().name(), STATUSES);
+        if (entry.getProcessingOutcome() != null) {
+            out.internedField(F_PROCESSING_OUTCOME,
+                    entry.getProcessingOutcome().toString(), OUTCOMES);
+        }
+        out.deltaStringListField(
+                F_REFERENCE_TRAIL, entry.getReferenceTrail(), reference);
+        out.stringField(F_META_CHECKSUM, entry.getMetaChecksum());
+        out.stringField(F_CONTENT_CHECKSUM, entry.getContentChecksum());
+        out.dateField(F_QUEUED_AT, entry.getQueuedAt());
+        out.dateField(F_PROCESSING_AT, entry.getProcessingAt());
+        out.dateField(F_PROCESSED_AT, entry.getProcessedAt());
+        out.dateField(F_LAST_MODIFIED, entry.getLastModified());
+        if (entry.getContentType() != null) {
+            out.internedField(F_CONTENT_TYPE,
+                    entry.getContentType().toString(), CONTENT_TYPES);
+        }
+        out.booleanField(F_ORPHAN, entry.isOrphan());
+        out.booleanField(F_DELETED, entry.isDeleted());
+        if (entry.getCharset() != null) {
+            out.stringField(F_CHARSET, entry.getCharset().name());
+        }
+        out.stringField(
+                F_RAW_CONTENT_CHECKSUM, entry.getRawContentChecksum());
+        writeFields(entry, out);
+        return out.toByteArray();
+    }
+
+    @Override
+    public T decode(byte[] data) {
+        var in = new CodecInput(data);
+        in.header(FORMAT_ID, FORMAT_VERSION);
+        var entry = newEntry();
+        int field;
+        while ((field = in.nextField()) != 0) {
+            if (!readCoreField(field, entry, in)
+                    && !readField(field, entry, in)) {
+                in.skipField();
+            }
+        }
+        return entry;
+    }
+
+    /**
+     * Creates a new empty entry to be populated when decoding.
+     * @return new entry
+     */
+    protected abstract T newEntry();
+
+    /**
+     * Writes subclass-specific fields. Default does nothing.
+     * @param entry the entry being encoded
+     * @param out codec output
+     */
+    protected void writeFields(T entry, CodecOutput out) {
+        // NOOP
+    }
+
+    /**
+     * Reads a subclass-specific field. Default does nothing.
+     * @param field field number
+     * @param entry the entry being decoded
+     * @param in codec input
+     * @return {@code true} if the field was read, {@code false} if it
+     *     is not known and should be skipped
+     */
+    protected boolean readField(int field, T entry, CodecInput in) {
+        return false;
+    }
+
+    private boolean readCoreField(int field, T entry, CodecInput in) {
+        switch (field) {
+            case F_REFERENCE -> entry.setReference(in.readString());
+            case F_DEPTH -> entry.setDepth(in.readInt());
+            case F_PROCESSING_STATUS -> entry.setProcessingStatus(
+                    ProcessingStatus.valueOf(in.readInterned(STATUSES)));
+            case F_PROCESSING_OUTCOME -> entry.setProcessingOutcome(
+                    ProcessingOutcome.valueOf(in.readInterned(OUTCOMES)));
+            case F_REFERENCE_TRAIL -> entry.setReferenceTrail(
+                    in.readDeltaStringList(entry.getReference()));
+            case F_META_CHECKSUM -> entry.setMetaChecksum(in.readString());
+            case F_CONTENT_CHECKSUM -> entry
+                    .setContentChecksum(in.readString());
+            case F_QUEUED_AT -> entry.setQueuedAt(in.readDate());
+            case F_PROCESSING_AT -> entry.setProcessingAt(in.readDate());
+            case F_PROCESSED_AT -> entry.setProcessedAt(in.readDate());
+            case F_LAST_MODIFIED -> entry.setLastModified(in.readDate());
+            case F_CONTENT_TYPE -> entry.setContentType(
+                    ContentType.valueOf(in.readInterned(CONTENT_TYPES)));
+            case F_ORPHAN -> entry.setOrphan(in.readBoolean());
+            case F_DELETED -> entry.setDeleted(in.readBoolean());
+            case F_CHARSET -> entry.setCharset(
+                    Charset.forName(in.readString()));
+            case F_RAW_CONTENT_CHECKSUM -> entry
+                    .setRawContentChecksum(in.readString());
+            default -> {
+                return false;
+            }
+        }
+        return true;
+    }
+}
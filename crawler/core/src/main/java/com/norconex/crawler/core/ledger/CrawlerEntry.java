@@ -58,6 +58,9 @@ public class CrawlerEntry implements Serializable {
     private String metaChecksum;
     @ToString.Exclude
     private String contentChecksum;
+    /** Checksum of the content as fetched, before it was imported. */
+    @ToString.Exclude
+    private String rawContentChecksum;
     @ToString.Exclude
     private ZonedDateTime queuedAt;
     @ToString.Exclude
@@ -0,0 +1,30 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.crawler.core.ledger;
+
+/**
+ * Binary cache value codec for {@link CrawlerEntry}.
+ */
+public class CrawlerEntryCodec extends AbstractCrawlerEntryCodec<CrawlerEntry> {
+
+    public CrawlerEntryCodec() {
+        super(CrawlerEntry.class);
+    }
+
+    @Override
+    protected CrawlerEntry newEntry() {
+        return new CrawlerEntry();
+    }
+}
@@ -15,8 +15,12 @@
 package com.norconex.crawler.core.ledger;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Consumer;
 
@@ -26,7 +30,9 @@ import com.norconex.crawler.core.cluster.CacheMap;
 import com.norconex.crawler.core.cluster.CacheNames;
 import com.norconex.crawler.core.cluster.CacheQueue;
 import com.norconex.crawler.core.cluster.ClusterException;
+import com.norconex.crawler.core.cluster.Counter;
 import com.norconex.crawler.core.cluster.QueryFilter;
+import com.norconex.crawler.core.cluster.WorkSignal;
 import com.norconex.crawler.core.session.CrawlerSession;
 
 import lombok.NonNull;
@@ -54,6 +60,11 @@ import lombok.extern.slf4j.Slf4j;
  *   Once a crawl completes, processed references become "cached" on the
  *   next run and are used to establish deltas and save processing.</li>
  * </p>
+ * <p>
+ *   The number of entries in each processing status is tracked with
+ *   cluster counters updated as entries change status, so obtaining
+ *   status counts does not require scanning the ledger.
+ * </p>
  */
 @Slf4j
 public final class CrawlerEntryLedger {
@@ -66,6 +77,7 @@ public final class CrawlerEntryLedger {
     // too inefficient.
     private static final String LEDGER_A = "ledger_a";
     private static final String LEDGER_B = "ledger_b";
+    private static final String STATUS_COUNTER_INFIX = ".status.";
 
     private CacheMap<CrawlerEntry> currentLedger;
     private CacheMap<CrawlerEntry> baselineLedger;
@@ -75,6 +87,10 @@ public final class CrawlerEntryLedger {
     // These two structures are intentionally separate: one provides ordering,
     // the other provides status-based queries and key-value access.
     private CacheQueue<String> queue;
+    // Per-status entry counts for the current ledger. Bound to the
+    // current ledger alias and re-bound when the ledger rotates.
+    private Map<ProcessingStatus, Counter> statusCounters =
+            new EnumMap<>(ProcessingStatus.class);
     private long totalMaxDocsThisRun;
 
     // Invoked after a reference is added to the queue. Defaults to a no-op;
@@ -101,6 +117,7 @@ public final class CrawlerEntryLedger {
                     session.getCrawlContext().getCrawlEntryType());
             currentLedger.loadAll();
             currentLedgerAlias = currentAlias;
+            bindStatusCounters(currentAlias);
             LOG.debug("Lazy-initialized current ledger to: {}", currentAlias);
         }
         return currentLedger;
@@ -168,6 +185,13 @@ public final class CrawlerEntryLedger {
         this.session = session;
         cacheManager = session.getCluster().getCacheManager();
 
+        // Index both ledgers on processing status so status-based
+        // queries (e.g., requeuing on resume) only touch matching entries.
+        cacheManager.addIndexedField(
+                LEDGER_A, CrawlerEntry.Fields.processingStatus);
+        cacheManager.addIndexedField(
+                LEDGER_B, CrawlerEntry.Fields.processingStatus);
+
         // Caches:
         // currentLedger and baselineLedger are lazily initialized on first
         // access to ensure they're reference the correct ledger after bootstrap
@@ -250,6 +274,9 @@ public final class CrawlerEntryLedger {
         var current = getCurrentLedger();
         var previous = current.get(reference);
         current.put(reference, entry);
+        trackStatusChange(
+                previous.map(CrawlerEntry::getProcessingStatus).orElse(null),
+                entry.getProcessingStatus());
         if (ProcessingStatus.PROCESSED.is(entry.getProcessingStatus())) {
             var baseline = getBaselineLedger();
             if (baseline != null) {
@@ -268,8 +295,8 @@ public final class CrawlerEntryLedger {
         var current = getCurrentLedger();
         var entry = current.get(reference);
         if (entry.isPresent()) {
-            entry.get().getProcessingStatus();
             current.remove(reference);
+            trackStatusChange(entry.get().getProcessingStatus(), null);
         }
         return entry;
     }
@@ -338,9 +365,19 @@ public final class CrawlerEntryLedger {
         return getQueuedEntryCount() == 0;
     }
 
+    /**
+     * Gets the signal raised whenever references are added to the queue,
+     * by this node or any other. Lets idle workers wait for new work
+     * without repeatedly counting queued entries.
+     * @return queue work signal
+     */
+    public WorkSignal getQueueSignal() {
+        return queue.getWorkSignal();
+    }
+
     public void clearQueue() {
         queue.clear();
-        getCurrentLedger().delete(statusQueryFilter(ProcessingStatus.QUEUED));
+        deleteByStatus(ProcessingStatus.QUEUED);
     }
 
     /**
@@ -348,7 +385,7 @@ public final class CrawlerEntryLedger {
      * physical distributed queue clear.
      */
     public void clearQueuedEntriesInLedger() {
-        getCurrentLedger().delete(statusQueryFilter(ProcessingStatus.QUEUED));
+        deleteByStatus(ProcessingStatus.QUEUED);
     }
 
     public void forEachQueued(Consumer<CrawlerEntry> c) {
@@ -356,32 +393,81 @@ public final class CrawlerEntryLedger {
     }
 
     public void queue(@NonNull CrawlerEntry crawlEntry) {
-        var current = getCurrentLedger();
-        var reference = crawlEntry.getReference();
-        if (current.containsKey(reference)) {
-            LOG.debug("Reference already accounted for: {}",
-                    reference);
-            return;
-        }
+        queueAll(List.of(crawlEntry));
+    }
 
-        var queuedEntry = BeanUtil.clone(crawlEntry);
+    /**
+     * Queues entries whose reference is not already in the current ledger.
+     * Entries are added to the ledger with a single bulk "put if absent"
+     * operation and their references to the queue with a single bulk add,
+     * instead of a few cache operations per entry.
+     * When a reference appears more than once, only the first entry is
+     * considered. If only some references could be added to the queue,
+     * the others are removed from the ledger and a
+     * {@link ClusterException} is thrown.
+     * @param crawlEntries entries to queue
+     * @return the number of entries queued
+     */
+    public int queueAll(
+            @NonNull Collection<? extends CrawlerEntry> crawlEntries) {
+        if (crawlEntries.isEmpty()) {
+            return 0;
+        }
+        var current = getCurrentLedger();
 
         // Store the full entry in the ledger and only the reference
         // in the queue
-        queuedEntry.setProcessingStatus(ProcessingStatus.QUEUED);
-        current.put(reference, queuedEntry);
+        Map<String, CrawlerEntry> queuedEntries = new LinkedHashMap<>();
+        for (CrawlerEntry crawlEntry : crawlEntries) {
+            queuedEntries.computeIfAbsent(crawlEntry.getReference(), ref -> {
+                var queuedEntry = BeanUtil.clone(crawlEntry);
+                queuedEntry.setProcessingStatus(ProcessingStatus.QUEUED);
+                return queuedEntry;
+            });
+        }
+        var added = current.putAllIfAbsent(queuedEntries);
+        var references = queuedEntries.keySet().stream()
+                .filter(ref -> {
+                    if (added.contains(ref)) {
+                        return true;
+                    }
+                    LOG.debug("Reference already accounted for: {}", ref);
+                    return false;
+                })
+                .toList();
+        if (references.isEmpty()) {
+            return 0;
+        }
+
+        int addedCount;
         try {
-            queue.add(reference);
+            addedCount = queue.addAll(references);
         } catch (RuntimeException e) {
             // Keep ledger and queue consistent when queue store is unavailable.
-            current.remove(reference);
+            references.forEach(current::remove);
             throw new ClusterException(
-                    "Failed to queue reference '%s'; ledger update rolled back."
-                            .formatted(reference),
+                    "Failed to queue %d reference(s) (first: '%s'); ledger "
+                            .formatted(references.size(), references.get(0))
+                            + "update rolled back.",
                     e);
         }
-        LOG.debug("Queued for processing: {}", reference);
-        onQueued.accept(queuedEntry);
+        // Only roll back references that did not make it to the queue
+        var notQueued = references.subList(addedCount, references.size());
+        notQueued.forEach(current::remove);
+
+        var queued = references.subList(0, addedCount);
+        statusCounters.get(ProcessingStatus.QUEUED).addAndGet(queued.size());
+        for (String ref : queued) {
+            LOG.debug("Queued for processing: {}", ref);
+            onQueued.accept(queuedEntries.get(ref));
+        }
+        if (!notQueued.isEmpty()) {
+            throw new ClusterException(("Failed to queue %d of %d "
+                    + "reference(s) (first: '%s'); ledger update rolled "
+                    + "back for those.").formatted(notQueued.size(),
+                            references.size(), notQueued.get(0)));
+        }
+        return queued.size();
     }
 
     public boolean requeueEntry(@NonNull String reference) {
@@ -428,6 +514,8 @@ public final class CrawlerEntryLedger {
                             .formatted(reference),
                     e);
         }
+        trackStatusChange(existingEntry.getProcessingStatus(),
+                ProcessingStatus.QUEUED);
         LOG.debug("Re-queued tracked reference for processing: {}",
                 reference);
         onQueued.accept(queuedEntry);
@@ -443,8 +531,7 @@ public final class CrawlerEntryLedger {
         var activeLedger = getCurrentLedger();
 
         if (LOG.isTraceEnabled()) {
-            var queuedCount = activeLedger.count(
-                    statusQueryFilter(ProcessingStatus.QUEUED));
+            var queuedCount = countByStatus(ProcessingStatus.QUEUED);
             LOG.trace("[{}] CrawlerEntryLedger.nextQueuedBatch(batchSize={}) "
                     + "called. queuedCount={}.",
                     nodeName, batchSize, queuedCount);
@@ -459,9 +546,12 @@ public final class CrawlerEntryLedger {
             var entryOpt = activeLedger.get(reference);
             if (entryOpt.isPresent()) {
                 var entry = entryOpt.get();
+                var previousStatus = entry.getProcessingStatus();
                 // Update status to PROCESSING
                 entry.setProcessingStatus(ProcessingStatus.PROCESSING);
                 activeLedger.put(reference, entry);
+                trackStatusChange(
+                        previousStatus, ProcessingStatus.PROCESSING);
                 batch.add(entry);
             } else {
                 LOG.warn("[{}] Reference {} polled from queue but not "
@@ -505,6 +595,8 @@ public final class CrawlerEntryLedger {
                                 .formatted(reference),
                         e);
             }
+            trackStatusChange(
+                    ProcessingStatus.PROCESSING, ProcessingStatus.QUEUED);
             requeuedCount++;
         }
         return requeuedCount;
@@ -524,8 +616,7 @@ public final class CrawlerEntryLedger {
     //--- Processing ---
 
     public long getProcessingCount() {
-        return getCurrentLedger().count(
-                statusQueryFilter(ProcessingStatus.PROCESSING));
+        return countByStatus(ProcessingStatus.PROCESSING);
     }
 
     public boolean isProcessingEmpty() {
@@ -546,8 +637,7 @@ public final class CrawlerEntryLedger {
     //--- Processed ---
 
     public long getProcessedCount() {
-        return getCurrentLedger().count(
-                statusQueryFilter(ProcessingStatus.PROCESSED));
+        return countByStatus(ProcessingStatus.PROCESSED);
     }
 
     public boolean isProcessedEmpty() {
@@ -597,7 +687,8 @@ public final class CrawlerEntryLedger {
      * @return count of entries with the given status
      */
     public long countByStatus(ProcessingStatus status) {
-        return getCurrentLedger().count(statusQueryFilter(status));
+        getCurrentLedger();
+        return Math.max(0L, statusCounters.get(status).get());
     }
 
     /**
@@ -607,6 +698,23 @@ public final class CrawlerEntryLedger {
      */
     public void deleteByStatus(ProcessingStatus status) {
         getCurrentLedger().delete(statusQueryFilter(status));
+        statusCounters.get(status).reset();
+    }
+
+    /**
+     * Recomputes the status counters from the current ledger entries.
+     * This scans the whole ledger and is meant to be invoked once, when
+     * preparing for a crawl, to realign counters that may have drifted
+     * from the stored entries (e.g., after an abnormal termination or
+     * when the ledger was created before counters were tracked).
+     */
+    public void syncStatusCounters() {
+        var current = getCurrentLedger();
+        for (var status : ProcessingStatus.values()) {
+            var count = current.count(statusQueryFilter(status));
+            statusCounters.get(status).set(count);
+            LOG.debug("Synchronized {} status counter: {}", status, count);
+        }
     }
 
     /**
@@ -650,6 +758,8 @@ public final class CrawlerEntryLedger {
                     : null;
             baselineLedgerAlias = baselineLedger == null ? null : previousAlias;
             clearLedgerEntries(currentLedger, "new current");
+            bindStatusCounters(newAlias);
+            statusCounters.values().forEach(Counter::reset);
         } else {
             LOG.info("Alias unchanged; caches not recreated.");
         }
@@ -735,6 +845,30 @@ public final class CrawlerEntryLedger {
     //        return Optional.empty();
     //    }
 
+    private void bindStatusCounters(String ledgerAlias) {
+        var counters =
+                new EnumMap<ProcessingStatus, Counter>(ProcessingStatus.class);
+        for (var status : ProcessingStatus.values()) {
+            counters.put(status, cacheManager.getCounter(
+                    ledgerAlias + STATUS_COUNTER_INFIX + status.name()));
+        }
+        statusCounters = counters;
+    }
+
+    // Either status can be null for entries being added or removed.
+    private void trackStatusChange(
+            ProcessingStatus fromStatus, ProcessingStatus toStatus) {
+        if (fromStatus == toStatus) {
+            return;
+        }
+        if (fromStatus != null) {
+            statusCounters.get(fromStatus).decrementAndGet();
+        }
+        if (toStatus != null) {
+            statusCounters.get(toStatus).incrementAndGet();
+        }
+    }
+
     private QueryFilter statusQueryFilter(ProcessingStatus status) {
         return QueryFilter.of(
                 CrawlerEntry.Fields.processingStatus, status.name());
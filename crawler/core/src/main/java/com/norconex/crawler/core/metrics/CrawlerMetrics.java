@@ -15,6 +15,7 @@
 package com.norconex.crawler.core.metrics;
 
 import java.io.Closeable;
+import java.util.function.LongSupplier;
 
 import com.norconex.crawler.core.session.CrawlerSession;
 
@@ -32,6 +33,31 @@ public interface CrawlerMetrics extends CrawlerMetricsMXBean, Closeable {
      */
     void flush();
 
+    /**
+     * Increments a named counter, reported along with event counts
+     * (see {@link #getEventCounts()}). Implementations should make this
+     * cheap enough to be invoked for frequent occurrences (e.g., cache hits).
+     * @param name counter name
+     * @param incrementBy increment value
+     */
+    void incrementCounter(String name, long incrementBy);
+
+    /**
+     * Registers a gauge, reported with other gauges
+     * (see {@link #getGauges()}). Gauges are local to the node they are
+     * registered on and evaluated each time they are reported. A gauge
+     * registered under an existing name replaces it.
+     * @param name gauge name
+     * @param gauge supplier of the current gauge value
+     */
+    void registerGauge(String name, LongSupplier gauge);
+
+    /**
+     * Unregisters a gauge. Does nothing if no gauge has the given name.
+     * @param name gauge name
+     */
+    void unregisterGauge(String name);
+
     @Override
     void close();
 }
@@ -14,9 +14,19 @@
  */
 package com.norconex.crawler.core.metrics;
 
+import java.time.Duration;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
 
 import com.norconex.crawler.core.cluster.CacheMap;
 import com.norconex.crawler.core.ledger.CrawlerEntryLedger;
@@ -24,9 +34,20 @@ import com.norconex.crawler.core.session.CrawlerSession;
 
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * Default {@link CrawlerMetrics} implementation. Event counts are
+ * aggregated locally and merged into the cluster-wide event counts cache
+ * by a background flusher at a regular interval, as well as on
+ * {@link #flush()} and {@link #close()}. Cluster-wide event counts are
+ * therefore eventually consistent. Document state counts are obtained
+ * from the crawl entry ledger.
+ */
 @Slf4j
 public class CrawlerMetricsImpl implements CrawlerMetrics {
 
+    public static final Duration DEFAULT_FLUSH_INTERVAL =
+            Duration.ofSeconds(5);
+
     private static final String EVENT_COUNTS_CACHE = "crawlEventCounts";
     //    private static final String PROCESSED_TOTAL_CACHE =
     //            "crawlProcessedTotal";
@@ -38,15 +59,34 @@ public class CrawlerMetricsImpl implements CrawlerMetrics {
     private boolean closed;
 
     private final MetricsMemCache memCache = new MetricsMemCache();
+    // Event increments not yet merged into the cluster store
+    private final Map<String, LongAdder> pendingEventCounts =
+            new ConcurrentHashMap<>();
+    // Node-local gauges, evaluated when reported
+    private final Map<String, LongSupplier> gauges =
+            new ConcurrentHashMap<>();
+    private final Duration flushInterval;
+    private ScheduledExecutorService flusher;
 
     public CrawlerMetricsImpl() {
+        this(DEFAULT_FLUSH_INTERVAL);
+    }
+
+    /**
+     * Creates metrics flushing locally aggregated event counts to the
+     * cluster at the given interval.
+     * @param flushInterval flush interval
+     */
+    public CrawlerMetricsImpl(Duration flushInterval) {
+        this.flushInterval = flushInterval;
         LOG.info("[CrawlerMetricsImpl] Created instance: {}",
                 System.identityHashCode(this));
     }
 
     @Override
-    public void init(CrawlerSession crawlSession) {
+    public synchronized void init(CrawlerSession crawlSession) {
         memCache.clear();
+        pendingEventCounts.clear();
         var ctx = crawlSession.getCrawlContext();
         ledger = ctx.getCrawlEntryLedger();
         var cacheManager = crawlSession.getCluster().getCacheManager();
@@ -75,26 +115,34 @@ public class CrawlerMetricsImpl implements CrawlerMetrics {
             //                incrementProcessedTotal(1L);
             //            }
         });
+
+        stopFlusher();
+        flusher = Executors.newSingleThreadScheduledExecutor(
+                BasicThreadFactory.builder()
+                        .namingPattern("crawler-metrics-flusher")
+                        .daemon(true)
+                        .build());
+        var intervalMs = Math.max(1, flushInterval.toMillis());
+        flusher.scheduleWithFixedDelay(this::flush,
+                intervalMs, intervalMs, TimeUnit.MILLISECONDS);
     }
 
     //--- Event counts ------------------------------------------------------
 
+    /**
+     * Increments an event counter locally. The increment is merged into
+     * the cluster-wide event counts on the next flush.
+     * @param eventName event name
+     * @param incrementBy increment value
+     */
+    @Override
     public void incrementCounter(String eventName, long incrementBy) {
         if (incrementBy == 0) {
             return;
         }
-        if (eventCountsStore == null) {
-            LOG.warn("Event counts store is not initialized yet. "
-                    + "Increment will only be reflected in memory.");
-        } else {
-            try {
-                atomicIncrement(eventCountsStore, eventName, incrementBy);
-            } catch (Exception e) {
-                LOG.error("Error updating event count cache for event: "
-                        + eventName, e);
-            }
-        }
-        memCache.eventCounts.merge(eventName, incrementBy, Long::sum);
+        pendingEventCounts
+                .computeIfAbsent(eventName, k -> new LongAdder())
+                .add(incrementBy);
     }
 
     //    private void incrementProcessedTotal(long incrementBy) {
@@ -121,7 +169,7 @@ public class CrawlerMetricsImpl implements CrawlerMetrics {
     public Map<String, Long> getEventCounts() {
         if (!isClosed()) {
             try {
-                eventCountsStore.forEach(memCache.eventCounts::put);
+                syncEventCounts();
             } catch (Exception e) {
                 LOG.warn("CrawlerMetrics: Could not sync event counts from "
                         + "cluster (cluster may be shutting down): {}",
@@ -131,7 +179,40 @@ public class CrawlerMetricsImpl implements CrawlerMetrics {
             LOG.info("CrawlerMetrics: Cluster is closed, returning last known "
                     + "event counts (not syncing).");
         }
-        return memCache.eventCounts;
+        // Add local increments not yet flushed
+        Map<String, Long> counts = new HashMap<>(memCache.eventCounts);
+        pendingEventCounts.forEach((name, adder) -> {
+            var pending = adder.sum();
+            if (pending != 0) {
+                counts.merge(name, pending, Long::sum);
+            }
+        });
+        return counts;
+    }
+
+    //--- Gauges ------------------------------------------------------------
+
+    @Override
+    public void registerGauge(String name, LongSupplier gauge) {
+        gauges.put(name, gauge);
+    }
+
+    @Override
+    public void unregisterGauge(String name) {
+        gauges.remove(name);
+    }
+
+    @Override
+    public Map<String, Long> getGauges() {
+        Map<String, Long> values = new TreeMap<>();
+        gauges.forEach((name, gauge) -> {
+            try {
+                values.put(name, gauge.getAsLong());
+            } catch (Exception e) {
+                LOG.debug("Could not evaluate gauge '{}'.", name, e);
+            }
+        });
+        return values;
     }
 
     //--- Document state counts --------------------------------------------
@@ -189,7 +270,13 @@ public class CrawlerMetricsImpl implements CrawlerMetrics {
 
     private static final int ATOMIC_INCREMENT_MAX_ATTEMPTS = 10;
 
-    private static void atomicIncrement(
+    private synchronized void syncEventCounts() {
+        if (eventCountsStore != null) {
+            eventCountsStore.forEach(memCache.eventCounts::put);
+        }
+    }
+
+    private static boolean atomicIncrement(
             CacheMap<Long> store, String key, long increment) {
         for (var attempt = 0; attempt < ATOMIC_INCREMENT_MAX_ATTEMPTS;
                 attempt++) {
@@ -216,19 +303,43 @@ public class CrawlerMetricsImpl implements CrawlerMetrics {
                 updated = store.replace(key, currentLongValue, newValue);
             }
             if (updated) {
-                return;
+                return true;
             }
         }
-        LOG.warn("Failed to atomically increment metric '{}' after {} "
-                + "attempts; increment of {} was dropped.",
-                key, ATOMIC_INCREMENT_MAX_ATTEMPTS, increment);
+        return false;
     }
 
+    /**
+     * Merges locally aggregated event counts into the cluster-wide event
+     * counts cache. Increments that could not be merged are kept for the
+     * next flush. Invoked periodically once initialized.
+     */
     @Override
-    public void flush() {
-        // No-op for now: metrics are written directly to the cache
-        // on each increment and ledger counts are queried on demand.
-        // This method is kept for API compatibility and future hooks.
+    public synchronized void flush() {
+        if (eventCountsStore == null) {
+            return;
+        }
+        pendingEventCounts.forEach((name, adder) -> {
+            var delta = adder.sumThenReset();
+            if (delta == 0) {
+                return;
+            }
+            var merged = false;
+            try {
+                merged = atomicIncrement(eventCountsStore, name, delta);
+            } catch (Exception e) {
+                LOG.error("Error updating event count cache for event: "
+                        + name, e);
+            }
+            if (merged) {
+                memCache.eventCounts.merge(name, delta, Long::sum);
+            } else {
+                LOG.warn("Could not merge {} increment(s) of event '{}' into "
+                        + "the cluster store; will retry on next flush.",
+                        delta, name);
+                adder.add(delta);
+            }
+        });
     }
 
     @Override
@@ -239,12 +350,13 @@ public class CrawlerMetricsImpl implements CrawlerMetrics {
             return;
         }
 
-        // Best-effort final sync from cluster caches into memory so
-        // we can still report accurate metrics after shutdown.
+        stopFlusher();
+
+        // Best-effort final flush and sync from cluster caches into memory
+        // so we can still report accurate metrics after shutdown.
         try {
-            if (eventCountsStore != null) {
-                eventCountsStore.forEach(memCache.eventCounts::put);
-            }
+            flush();
+            syncEventCounts();
         } catch (Exception e) {
             LOG.warn("Could not sync event counts on close: {}",
                     e.getMessage());
@@ -277,6 +389,13 @@ public class CrawlerMetricsImpl implements CrawlerMetrics {
         LOG.info("CrawlerMetrics closed.");
     }
 
+    private synchronized void stopFlusher() {
+        if (flusher != null) {
+            flusher.shutdownNow();
+            flusher = null;
+        }
+    }
+
     /**
      * Caching of metrics so they can be referenced after close/shutdown.
      */
@@ -27,4 +27,6 @@ public interface CrawlerMetricsMXBean {
     long getQueuedCount();
 
     long getBaselineCount();
+
+    Map<String, Long> getGauges();
 }
@@ -45,6 +45,16 @@ public class ScopedThreadFactoryCreator {
     private final String scopeName;
 
     public ThreadFactory create(String threadName) {
+        return create(threadName, false);
+    }
+
+    /**
+     * Creates a thread factory.
+     * @param threadName thread name, appended to the scope name
+     * @param virtual whether to create virtual threads
+     * @return thread factory
+     */
+    public ThreadFactory create(String threadName, boolean virtual) {
         return new ThreadFactory() {
 
             @Override
@@ -54,11 +64,14 @@ public class ScopedThreadFactoryCreator {
                         scopeName, k -> new AtomicInteger())
                         .incrementAndGet();
                 var fullName = scopeName + "-" + threadName + "-" + scopedCount;
-                var t = new Thread(LOG.isTraceEnabled() ? () -> {
+                Runnable task = LOG.isTraceEnabled() ? () -> {
                     debug(false, fullName, scopedCount);
                     r.run();
                     debug(true, fullName, scopedCount);
-                } : r);
+                } : r;
+                var t = virtual
+                        ? Thread.ofVirtual().unstarted(task)
+                        : new Thread(task);
                 t.setName(fullName);
                 return t;
             }
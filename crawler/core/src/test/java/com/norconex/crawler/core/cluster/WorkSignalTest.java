@@ -0,0 +1,56 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.crawler.core.cluster;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import com.norconex.commons.lang.Sleeper;
+
+@Timeout(30)
+class WorkSignalTest {
+
+    @Test
+    void testAwait_timesOutWithoutSignal() throws InterruptedException {
+        var signal = new WorkSignal();
+        assertThat(signal.await(signal.generation(), Duration.ofMillis(50)))
+                .isFalse();
+    }
+
+    @Test
+    void testAwait_returnsImmediatelyIfSignaledSinceGeneration()
+            throws InterruptedException {
+        var signal = new WorkSignal();
+        var gen = signal.generation();
+        signal.signal();
+        assertThat(signal.generation()).isEqualTo(gen + 1);
+        assertThat(signal.await(gen, Duration.ZERO)).isTrue();
+    }
+
+    @Test
+    void testAwait_wokenUpBySignal() throws InterruptedException {
+        var signal = new WorkSignal();
+        var gen = signal.generation();
+        Thread.ofVirtual().start(() -> {
+            Sleeper.sleepMillis(100);
+            signal.signal();
+        });
+        assertThat(signal.await(gen, Duration.ofSeconds(20))).isTrue();
+    }
+}
@@ -0,0 +1,125 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.crawler.core.cluster.impl.mvstore;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.h2.mvstore.MVStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.norconex.crawler.core.cluster.QueryFilter;
+import com.norconex.crawler.core.ledger.CrawlerEntry;
+import com.norconex.crawler.core.ledger.CrawlerEntryCodec;
+import com.norconex.crawler.core.ledger.ProcessingStatus;
+
+class MVStoreCacheMapTest {
+
+    private static final String STATUS = CrawlerEntry.Fields.processingStatus;
+
+    private MVStore store;
+    private MVStoreCacheMap<CrawlerEntry> cacheMap;
+
+    @BeforeEach
+    void setUp() {
+        store = MVStore.open(null);
+        cacheMap = new MVStoreCacheMap<>(
+                store.openMap("map.test"), CrawlerEntry.class, "test", true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        store.close();
+    }
+
+    @Test
+    void testIndexedQueryCountAndDelete() {
+        cacheMap.addIndex(index());
+        cacheMap.put("a", entry("a", ProcessingStatus.QUEUED));
+        cacheMap.put("b", entry("b", ProcessingStatus.QUEUED));
+        cacheMap.put("c", entry("c", ProcessingStatus.PROCESSED));
+        // status change must move the entry in the index
+        cacheMap.put("b", entry("b", ProcessingStatus.PROCESSING));
+
+        assertThat(cacheMap.count(filter(ProcessingStatus.QUEUED)))
+                .isEqualTo(1);
+        assertThat(refs(filter(ProcessingStatus.PROCESSING)))
+                .containsExactly("b");
+
+        cacheMap.remove("a");
+        assertThat(cacheMap.count(filter(ProcessingStatus.QUEUED))).isZero();
+
+        cacheMap.delete(filter(ProcessingStatus.PROCESSED));
+        assertThat(cacheMap.containsKey("c")).isFalse();
+        assertThat(cacheMap.containsKey("b")).isTrue();
+    }
+
+    @Test
+    void testIndexRebuiltFromExistingEntries() {
+        cacheMap.put("a", entry("a", ProcessingStatus.QUEUED));
+        cacheMap.put("b", entry("b", ProcessingStatus.PROCESSED));
+
+        cacheMap.addIndex(index());
+
+        assertThat(refs(filter(ProcessingStatus.QUEUED)))
+                .containsExactly("a");
+        assertThat(cacheMap.count(filter(ProcessingStatus.PROCESSED)))
+                .isEqualTo(1);
+    }
+
+    @Test
+    void testBinaryCodecWithLegacyJsonValues() {
+        var codecMap = new MVStoreCacheMap<>(store.openMap("map.test"),
+                CrawlerEntry.class, new CrawlerEntryCodec(), "test", true);
+        // written without codec, as JSON
+        cacheMap.put("a", entry("a", ProcessingStatus.QUEUED));
+        // written with codec, as binary
+        codecMap.put("b", entry("b", ProcessingStatus.PROCESSED));
+
+        assertThat(store.openMap("map.test").get("b"))
+                .isInstanceOf(byte[].class);
+        assertThat(codecMap.get("a")).map(CrawlerEntry::getProcessingStatus)
+                .contains(ProcessingStatus.QUEUED);
+        assertThat(codecMap.get("b")).map(CrawlerEntry::getProcessingStatus)
+                .contains(ProcessingStatus.PROCESSED);
+    }
+
+    private MVStoreFieldIndex index() {
+        return new MVStoreFieldIndex(STATUS,
+                store.openMap("index.test." + STATUS),
+                store.openMap("indexval.test." + STATUS));
+    }
+
+    private List<String> refs(QueryFilter filter) {
+        var refs = new ArrayList<String>();
+        cacheMap.queryIterator(filter)
+                .forEachRemaining(e -> refs.add(e.getReference()));
+        return refs;
+    }
+
+    private static QueryFilter filter(ProcessingStatus status) {
+        return QueryFilter.of(STATUS, status.name());
+    }
+
+    private static CrawlerEntry entry(String ref, ProcessingStatus status) {
+        var entry = new CrawlerEntry(ref);
+        entry.setProcessingStatus(status);
+        return entry;
+    }
+}
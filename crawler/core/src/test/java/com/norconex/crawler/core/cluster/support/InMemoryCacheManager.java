@@ -23,8 +23,10 @@ import com.norconex.crawler.core.cluster.CacheManager;
 import com.norconex.crawler.core.cluster.CacheMap;
 import com.norconex.crawler.core.cluster.CacheQueue;
 import com.norconex.crawler.core.cluster.CacheSet;
+import com.norconex.crawler.core.cluster.Counter;
 import com.norconex.crawler.core.cluster.SerializedCache;
 import com.norconex.crawler.core.cluster.impl.hazelcast.event.CacheEntryChangeListener;
+import com.norconex.crawler.core.cluster.impl.memory.InMemoryCounter;
 import com.norconex.crawler.core.cluster.pipeline.StepRecord;
 
 /**
@@ -42,6 +44,7 @@ public class InMemoryCacheManager implements CacheManager {
 
     private final Map<String, InMemoryCacheMap<?>> maps = new HashMap<>();
     private final Map<String, InMemoryCacheQueue<?>> queues = new HashMap<>();
+    private final Map<String, InMemoryCounter> counters = new HashMap<>();
 
     @SuppressWarnings("unchecked")
     @Override
@@ -78,6 +81,7 @@ public class InMemoryCacheManager implements CacheManager {
     public void clearCaches() {
         maps.values().forEach(InMemoryCacheMap::clear);
         queues.values().forEach(InMemoryCacheQueue::clear);
+        counters.values().forEach(InMemoryCounter::reset);
     }
 
     @Override
@@ -102,6 +106,11 @@ public class InMemoryCacheManager implements CacheManager {
                 InMemoryCacheQueue::new);
     }
 
+    @Override
+    public Counter getCounter(String name) {
+        return counters.computeIfAbsent(name, n -> new InMemoryCounter());
+    }
+
     @Override
     public CacheMap<String> getAdminCache() {
         return getCacheMap("admin", String.class);
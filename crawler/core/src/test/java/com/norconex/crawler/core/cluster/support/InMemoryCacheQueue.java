@@ -20,6 +20,7 @@ import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
 
 import com.norconex.crawler.core.cluster.CacheQueue;
+import com.norconex.crawler.core.cluster.WorkSignal;
 
 /**
  * In-memory {@link CacheQueue} backed by a {@link ConcurrentLinkedQueue}.
@@ -29,14 +30,28 @@ public class InMemoryCacheQueue<T> implements CacheQueue<T> {
 
     private final Queue<T> queue = new ConcurrentLinkedQueue<>();
     private final String name;
+    private final WorkSignal workSignal = new WorkSignal();
+    private int capacity = Integer.MAX_VALUE;
 
     public InMemoryCacheQueue(String name) {
         this.name = name;
     }
 
+    /**
+     * Sets the maximum number of items, to simulate a bounded queue.
+     * @param capacity maximum number of items
+     */
+    public void setCapacity(int capacity) {
+        this.capacity = capacity;
+    }
+
     @Override
     public void add(T item) {
+        if (queue.size() >= capacity) {
+            throw new IllegalStateException("Queue full.");
+        }
         queue.offer(item);
+        workSignal.signal();
     }
 
     @Override
@@ -69,6 +84,11 @@ public class InMemoryCacheQueue<T> implements CacheQueue<T> {
         queue.clear();
     }
 
+    @Override
+    public WorkSignal getWorkSignal() {
+        return workSignal;
+    }
+
     @Override
     public boolean isPersistent() {
         return false;
@@ -0,0 +1,132 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.crawler.core.cmd.crawl.pipeline.process;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+import org.apache.commons.lang3.StringUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import com.norconex.crawler.core.ledger.CrawlerEntry;
+import com.norconex.crawler.core.ledger.CrawlerEntryLedger;
+import com.norconex.crawler.core.session.CrawlerSession;
+
+/**
+ * Tests for {@link BatchDispatcher}.
+ */
+@Timeout(30)
+class BatchDispatcherTest {
+
+    @Test
+    void take_withoutScheduler_returnsEntriesInQueueOrder() {
+        var dispatcher = dispatcher(null, "a/1", "a/2", "b/1");
+
+        assertThat(takeAll(dispatcher, 3))
+                .containsExactly("a/1", "a/2", "b/1");
+        assertThat(dispatcher.take()).isNull();
+    }
+
+    @Test
+    void take_withScheduler_skipsGroupsNotYetEligible() {
+        // group "a" has a long delay, group "b" has none
+        var scheduler = new DispatchScheduler() {
+            @Override
+            public String getGroup(
+                    CrawlerSession session, CrawlerEntry entry) {
+                return StringUtils.substringBefore(entry.getReference(), "/");
+            }
+
+            @Override
+            public long getDelayMillis(
+                    CrawlerSession session, CrawlerEntry entry) {
+                return entry.getReference().startsWith("a/") ? 60_000 : 0;
+            }
+        };
+        var dispatcher = dispatcher(scheduler, "a/1", "a/2", "b/1", "b/2");
+
+        // "a/2" must wait for "a" to be eligible again, without holding
+        // back entries from "b".
+        assertThat(takeAll(dispatcher, 3))
+                .containsExactlyInAnyOrder("a/1", "b/1", "b/2");
+        assertThat(dispatcher.localQueueSize()).isEqualTo(1);
+    }
+
+    @Test
+    void take_withSchedulerNullGroup_dispatchesRightAway() {
+        var scheduler = new DispatchScheduler() {
+            @Override
+            public String getGroup(
+                    CrawlerSession session, CrawlerEntry entry) {
+                return null;
+            }
+
+            @Override
+            public long getDelayMillis(
+                    CrawlerSession session, CrawlerEntry entry) {
+                return 60_000;
+            }
+        };
+        var dispatcher = dispatcher(scheduler, "a/1", "a/2");
+
+        assertThat(takeAll(dispatcher, 2)).containsExactly("a/1", "a/2");
+    }
+
+    private static List<String> takeAll(BatchDispatcher dispatcher, int num) {
+        var refs = new ArrayList<String>();
+        for (var i = 0; i < num; i++) {
+            refs.add(dispatcher.take().getReference());
+        }
+        return refs;
+    }
+
+    private static BatchDispatcher dispatcher(
+            DispatchScheduler scheduler, String... refs) {
+        Deque<CrawlerEntry> queue = new ArrayDeque<>();
+        for (String ref : refs) {
+            queue.add(new CrawlerEntry(ref));
+        }
+        var ledger = mock(CrawlerEntryLedger.class);
+        when(ledger.getQueuedEntryCount())
+                .thenAnswer(inv -> (long) queue.size());
+        when(ledger.nextQueuedBatch(anyInt())).thenAnswer(inv -> {
+            int size = inv.getArgument(0);
+            var batch = new ArrayList<CrawlerEntry>();
+            while (batch.size() < size && !queue.isEmpty()) {
+                batch.add(queue.poll());
+            }
+            return batch;
+        });
+        var session = mock(CrawlerSession.class, RETURNS_DEEP_STUBS);
+        when(session.getCrawlContext().getCrawlEntryLedger())
+                .thenReturn(ledger);
+        when(session.getCluster().getNodeCount()).thenReturn(1);
+        return BatchDispatcher.builder()
+                .maxBatchSize(2)
+                .lowWatermark(1)
+                .session(session)
+                .scheduler(scheduler)
+                .build();
+    }
+}
@@ -16,6 +16,8 @@ package com.norconex.crawler.core.cmd.crawl.pipeline.process;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.time.Duration;
@@ -23,7 +25,9 @@ import java.time.Duration;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Timeout;
 
+import com.norconex.commons.lang.Sleeper;
 import com.norconex.crawler.core.CrawlerConfig;
+import com.norconex.crawler.core.cluster.WorkSignal;
 import com.norconex.crawler.core.context.CrawlerContext;
 import com.norconex.crawler.core.ledger.CrawlerEntryLedger;
 import com.norconex.crawler.core.session.CrawlerSession;
@@ -38,6 +42,7 @@ class CrawlerActivityCheckerTest {
             boolean maxDocsReached) {
         var ledger = mock(CrawlerEntryLedger.class);
         when(ledger.getQueuedEntryCount()).thenReturn(queueEmpty ? 0L : 1L);
+        when(ledger.getQueueSignal()).thenReturn(new WorkSignal());
         when(ledger.isMaxDocsProcessedReached()).thenReturn(maxDocsReached);
 
         var config = mock(CrawlerConfig.class);
@@ -114,6 +119,7 @@ class CrawlerActivityCheckerTest {
             throws InterruptedException {
         var ledger = mock(CrawlerEntryLedger.class);
         when(ledger.getQueuedEntryCount()).thenReturn(1L);
+        when(ledger.getQueueSignal()).thenReturn(new WorkSignal());
         when(ledger.isMaxDocsProcessedReached()).thenReturn(false);
 
         var config = mock(CrawlerConfig.class);
@@ -165,9 +171,10 @@ class CrawlerActivityCheckerTest {
 
     @Test
     void isActive_withShortIdleTimeout_queueStillEmpty_returnsFalse() {
-        // queue initialized + empty + idleTimeout=50ms → wait loop runs ≈1s
+        // queue initialized + empty + idleTimeout=50ms → no signal received
         var ledger = mock(CrawlerEntryLedger.class);
         when(ledger.getQueuedEntryCount()).thenReturn(0L);
+        when(ledger.getQueueSignal()).thenReturn(new WorkSignal());
         when(ledger.isMaxDocsProcessedReached()).thenReturn(false);
 
         var config = mock(CrawlerConfig.class);
@@ -183,8 +190,8 @@ class CrawlerActivityCheckerTest {
         when(session.isStartRefsQueueingComplete()).thenReturn(true);
 
         var checker = new CrawlerActivityChecker(session, false);
-        // Queue is empty + 50ms timeout elapses before poll loop finishes →
-        // considered still empty → doIsActive returns false
+        // Queue is empty + 50ms timeout elapses without references being
+        // queued → considered still empty → doIsActive returns false
         assertThat(checker.isActive()).isFalse();
     }
 
@@ -192,9 +199,10 @@ class CrawlerActivityCheckerTest {
     void isActive_withQueueEmptyAndNotYetInitialized_waitsForInit()
             throws InterruptedException {
         // Session: queue empty + first call to isStartRefsQueueingComplete
-        // returns false, second returns true → tests the do-while wait loop
+        // returns false, second returns true → tests the wait loop
         var ledger = mock(CrawlerEntryLedger.class);
         when(ledger.getQueuedEntryCount()).thenReturn(0L);
+        when(ledger.getQueueSignal()).thenReturn(new WorkSignal());
         when(ledger.isMaxDocsProcessedReached()).thenReturn(false);
 
         var config = mock(CrawlerConfig.class);
@@ -213,8 +221,41 @@ class CrawlerActivityCheckerTest {
                 .thenReturn(true);
 
         var checker = new CrawlerActivityChecker(session, false);
-        // do-while loop fires once (sleeps 1s), then sees initialized=true
+        // waits once for a signal (1s), then sees initialized=true
         // → queue is empty+initialized → idle check returns true → inactive
         assertThat(checker.isActive()).isFalse();
     }
+
+    @Test
+    void isActive_whenReferencesQueuedDuringIdleTimeout_returnsTrue() {
+        var signal = new WorkSignal();
+        var ledger = mock(CrawlerEntryLedger.class);
+        when(ledger.getQueuedEntryCount()).thenReturn(0L);
+        when(ledger.getQueueSignal()).thenReturn(signal);
+        when(ledger.isMaxDocsProcessedReached()).thenReturn(false);
+
+        var config = mock(CrawlerConfig.class);
+        when(config.getMaxCrawlDuration()).thenReturn(null);
+        when(config.getIdleTimeout()).thenReturn(Duration.ofSeconds(20));
+
+        var crawlContext = mock(CrawlerContext.class);
+        when(crawlContext.getCrawlEntryLedger()).thenReturn(ledger);
+        when(crawlContext.getCrawlConfig()).thenReturn(config);
+
+        var session = mock(CrawlerSession.class);
+        when(session.getCrawlContext()).thenReturn(crawlContext);
+        when(session.isStartRefsQueueingComplete()).thenReturn(true);
+
+        var checker = new CrawlerActivityChecker(session, false);
+        Thread.ofVirtual().start(() -> {
+            Sleeper.sleepMillis(100);
+            signal.signal();
+        });
+        var start = System.currentTimeMillis();
+        // Woken up by the signal well before the idle timeout, without
+        // counting queued entries again.
+        assertThat(checker.isActive()).isTrue();
+        assertThat(System.currentTimeMillis() - start).isLessThan(10_000);
+        verify(ledger, times(1)).getQueuedEntryCount();
+    }
 }
@@ -0,0 +1,114 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.crawler.core.cmd.crawl.pipeline.process;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.norconex.committer.core.impl.MemoryCommitter;
+import com.norconex.committer.core.service.CommitterServiceEvent;
+import com.norconex.commons.lang.config.Configurable;
+import com.norconex.crawler.core.CrawlerConfig;
+import com.norconex.crawler.core.event.CrawlerEvent;
+import com.norconex.crawler.core.junit.WithTestWatcherLogging;
+import com.norconex.crawler.core.mocks.fetch.MockFetcher;
+import com.norconex.crawler.core.test.CrawlerTestHarness;
+import com.norconex.crawler.core.test.CrawlerTestInstrument;
+
+/**
+ * End-to-end tests for {@link StagedProcessor}.
+ */
+@Timeout(60)
+@WithTestWatcherLogging
+class StagedProcessorTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void stagedExecution_allDocumentsProcessed() throws IOException {
+        var numRefs = 20;
+        try (var harness = harness(buildRefs(numRefs), cfg -> {
+            cfg.setId("test-staged");
+            cfg.setNumThreads(3);
+            cfg.setMaxConcurrentImports(2);
+            // Small queues to exercise back pressure
+            cfg.setStageQueueSize(1);
+            cfg.setCommitters(List.of(new MemoryCommitter()));
+        })) {
+            var bag = harness.launchSync("node-1").getAllNodesEventNameBag();
+
+            assertThat(bag.getCount(CrawlerEvent.DOCUMENT_IMPORTED))
+                    .isEqualTo(numRefs);
+            assertThat(bag.getCount(CrawlerEvent.DOCUMENT_PROCESSING_END))
+                    .isEqualTo(numRefs);
+            // every document handed to the commit stage was committed
+            assertThat(bag.getCount(
+                    CommitterServiceEvent.COMMITTER_SERVICE_UPSERT_END))
+                            .isEqualTo(numRefs);
+        }
+    }
+
+    @Test
+    void stagedExecution_fetchErrors_crawlContinues() throws IOException {
+        var throwRefs = List.of("ref-0", "ref-1");
+        try (var harness = harness(buildRefs(5), cfg -> {
+            cfg.setId("test-staged-errors");
+            cfg.setNumThreads(1);
+            cfg.setFetchers(List.of(Configurable.configure(
+                    new MockFetcher(),
+                    fcfg -> fcfg.setThrowOnAcceptRefs(throwRefs))));
+        })) {
+            var bag = harness.launchSync("node-1").getAllNodesEventNameBag();
+
+            assertThat(bag.getCount(CrawlerEvent.REJECTED_ERROR)).isEqualTo(2);
+            assertThat(bag.getCount(CrawlerEvent.DOCUMENT_IMPORTED))
+                    .isEqualTo(3);
+        }
+    }
+
+    private List<String> buildRefs(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> "ref-" + i)
+                .toList();
+    }
+
+    private CrawlerTestHarness harness(
+            List<String> startRefs,
+            Consumer<CrawlerConfig> cfgOverride) {
+        return new CrawlerTestHarness(new CrawlerTestInstrument()
+                .setRecordEvents(true)
+                .setConfigModifier(cfg -> {
+                    cfg.setStartReferences(startRefs);
+                    cfg.setIdleTimeout(Duration.ofMillis(500));
+                    cfg.setMaxQueueBatchSize(10);
+                    cfg.setStagedExecution(true);
+                    cfgOverride.accept(cfg);
+                })
+                .setWorkDir(tempDir)
+                .setNewJvm(false)
+                .setClustered(false));
+    }
+}
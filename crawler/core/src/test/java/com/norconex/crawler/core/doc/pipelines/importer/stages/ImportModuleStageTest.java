@@ -0,0 +1,105 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.crawler.core.doc.pipelines.importer.stages;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import com.norconex.commons.lang.Sleeper;
+import com.norconex.commons.lang.file.ContentType;
+import com.norconex.crawler.core.CrawlerConfig;
+import com.norconex.crawler.core.context.CrawlerContext;
+import com.norconex.crawler.core.doc.CrawlerDocContext;
+import com.norconex.crawler.core.doc.pipelines.importer.ImporterPipelineContext;
+import com.norconex.crawler.core.ledger.CrawlerEntry;
+import com.norconex.crawler.core.session.CrawlerSession;
+import com.norconex.importer.Importer;
+import com.norconex.importer.doc.Doc;
+import com.norconex.importer.response.ImporterResponse;
+
+/**
+ * Tests for {@link ImportModuleStage}.
+ */
+@Timeout(30)
+class ImportModuleStageTest {
+
+    @Test
+    void maxConcurrentImports_resolvedFromConfig() {
+        var cfg = new CrawlerConfig();
+        assertThat(ImportModuleStage.maxConcurrentImports(cfg))
+                .isEqualTo(Integer.MAX_VALUE);
+        cfg.setVirtualThreads(true);
+        assertThat(ImportModuleStage.maxConcurrentImports(cfg))
+                .isEqualTo(Runtime.getRuntime().availableProcessors());
+        cfg.setMaxConcurrentImports(3);
+        assertThat(ImportModuleStage.maxConcurrentImports(cfg)).isEqualTo(3);
+    }
+
+    @Test
+    void test_limitsConcurrentImports() throws Exception {
+        var cfg = new CrawlerConfig()
+                .setVirtualThreads(true)
+                .setMaxConcurrentImports(2);
+        var running = new AtomicInteger();
+        var maxRunning = new AtomicInteger();
+        var importer = mock(Importer.class);
+        when(importer.importDocument(any(Doc.class))).thenAnswer(inv -> {
+            maxRunning.accumulateAndGet(
+                    running.incrementAndGet(), Math::max);
+            Sleeper.sleepMillis(20);
+            running.decrementAndGet();
+            return mock(ImporterResponse.class);
+        });
+        var session = mock(CrawlerSession.class);
+        var crawlContext = mock(CrawlerContext.class);
+        when(session.getCrawlContext()).thenReturn(crawlContext);
+        when(crawlContext.getCrawlConfig()).thenReturn(cfg);
+        when(crawlContext.getImporter()).thenReturn(importer);
+
+        var stage = new ImportModuleStage();
+        var futures = new ArrayList<Future<Boolean>>();
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (var i = 0; i < 10; i++) {
+                var ctx = newContext(session, "ref" + i);
+                futures.add(executor.submit(() -> stage.test(ctx)));
+            }
+            for (Future<Boolean> future : futures) {
+                assertThat(future.get()).isTrue();
+            }
+        }
+        assertThat(maxRunning.get()).isBetween(1, 2);
+    }
+
+    private static ImporterPipelineContext newContext(
+            CrawlerSession session, String ref) {
+        var doc = new Doc(ref);
+        doc.setContentType(ContentType.TEXT);
+        return new ImporterPipelineContext(session, CrawlerDocContext
+                .builder()
+                .doc(doc)
+                .currentCrawlEntry(new CrawlerEntry(ref))
+                .build());
+    }
+}
@@ -0,0 +1,149 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.crawler.core.doc.pipelines.importer.stages;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.commons.io.IOUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import com.norconex.crawler.core.CrawlerConfig;
+import com.norconex.crawler.core.context.CrawlerContext;
+import com.norconex.crawler.core.doc.CrawlerDocContext;
+import com.norconex.crawler.core.doc.pipelines.importer.ImporterPipelineContext;
+import com.norconex.crawler.core.ledger.CrawlerEntry;
+import com.norconex.crawler.core.ledger.ProcessingOutcome;
+import com.norconex.crawler.core.session.CrawlerSession;
+import com.norconex.importer.doc.Doc;
+
+/**
+ * Tests for {@link RawContentChecksumStage}.
+ */
+@Timeout(30)
+class RawContentChecksumStageTest {
+
+    private static final String CONTENT = "Some raw content.";
+    private static final String CHECKSUM = DigestUtils.md5Hex(CONTENT);
+
+    @Test
+    void disabled_returnsTrueWithoutChecksum() {
+        var entry = new CrawlerEntry("ref");
+        var ctx = buildCtx(new CrawlerConfig(), entry, null);
+
+        assertThat(new RawContentChecksumStage().test(ctx)).isTrue();
+        assertThat(entry.getRawContentChecksum()).isNull();
+    }
+
+    @Test
+    void noDocumentChecksummer_returnsTrueWithoutChecksum() {
+        var config = new CrawlerConfig()
+                .setRawContentChecksum(true)
+                .setDocumentChecksummer(null);
+        var entry = new CrawlerEntry("ref");
+        var ctx = buildCtx(config, entry, null);
+
+        assertThat(new RawContentChecksumStage().test(ctx)).isTrue();
+        assertThat(entry.getRawContentChecksum()).isNull();
+    }
+
+    @Test
+    void noPreviousEntry_returnsTrueAsNew() throws IOException {
+        var entry = new CrawlerEntry("ref");
+        var ctx = buildCtx(enabledConfig(), entry, null);
+
+        assertThat(new RawContentChecksumStage().test(ctx)).isTrue();
+        assertThat(entry.getRawContentChecksum()).isEqualTo(CHECKSUM);
+        assertThat(entry.getProcessingOutcome())
+                .isEqualTo(ProcessingOutcome.NEW);
+        // content can still be read by next stages
+        assertThat(IOUtils.toString(ctx.getDocContext().getDoc()
+                .getInputStream(), StandardCharsets.UTF_8))
+                        .isEqualTo(CONTENT);
+    }
+
+    @Test
+    void sameChecksum_returnsFalseAndFiresEvent() {
+        var entry = new CrawlerEntry("ref");
+        var prevEntry = new CrawlerEntry("ref");
+        prevEntry.setRawContentChecksum(CHECKSUM);
+        prevEntry.setProcessingOutcome(ProcessingOutcome.MODIFIED);
+        var ctx = buildCtx(enabledConfig(), entry, prevEntry);
+
+        assertThat(new RawContentChecksumStage().test(ctx)).isFalse();
+        assertThat(entry.getProcessingOutcome())
+                .isEqualTo(ProcessingOutcome.UNMODIFIED);
+        verify(ctx.getCrawlSession()).fire(any());
+    }
+
+    @Test
+    void differentChecksum_returnsTrue() {
+        var entry = new CrawlerEntry("ref");
+        var prevEntry = new CrawlerEntry("ref");
+        prevEntry.setRawContentChecksum("old-checksum");
+        prevEntry.setProcessingOutcome(ProcessingOutcome.NEW);
+        var ctx = buildCtx(enabledConfig(), entry, prevEntry);
+
+        assertThat(new RawContentChecksumStage().test(ctx)).isTrue();
+        assertThat(entry.getRawContentChecksum()).isEqualTo(CHECKSUM);
+        assertThat(entry.getProcessingOutcome())
+                .isEqualTo(ProcessingOutcome.MODIFIED);
+        verify(ctx.getCrawlSession(), never()).fire(any());
+    }
+
+    @Test
+    void sameChecksumAfterBadOutcome_returnsTrue() {
+        var entry = new CrawlerEntry("ref");
+        var prevEntry = new CrawlerEntry("ref");
+        prevEntry.setRawContentChecksum(CHECKSUM);
+        prevEntry.setProcessingOutcome(ProcessingOutcome.ERROR);
+        var ctx = buildCtx(enabledConfig(), entry, prevEntry);
+
+        assertThat(new RawContentChecksumStage().test(ctx)).isTrue();
+        assertThat(entry.getRawContentChecksum()).isEqualTo(CHECKSUM);
+        verify(ctx.getCrawlSession(), never()).fire(any());
+    }
+
+    private static CrawlerConfig enabledConfig() {
+        return new CrawlerConfig().setRawContentChecksum(true);
+    }
+
+    private static ImporterPipelineContext buildCtx(
+            CrawlerConfig config,
+            CrawlerEntry entry,
+            CrawlerEntry prevEntry) {
+        var session = mock(CrawlerSession.class);
+        var crawlContext = mock(CrawlerContext.class);
+        when(session.getCrawlContext()).thenReturn(crawlContext);
+        when(crawlContext.getCrawlConfig()).thenReturn(config);
+        var doc = new Doc("ref").setInputStream(
+                IOUtils.toInputStream(CONTENT, StandardCharsets.UTF_8));
+        return new ImporterPipelineContext(session, CrawlerDocContext
+                .builder()
+                .doc(doc)
+                .currentCrawlEntry(entry)
+                .previousCrawlEntry(prevEntry)
+                .build());
+    }
+}
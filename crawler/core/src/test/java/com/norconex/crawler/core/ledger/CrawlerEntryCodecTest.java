@@ -0,0 +1,98 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.crawler.core.ledger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.norconex.commons.lang.file.ContentType;
+import com.norconex.crawler.core.cluster.codec.CacheValueCodecs;
+import com.norconex.crawler.core.cluster.codec.CodecException;
+import com.norconex.crawler.core.util.SerialUtil;
+
+class CrawlerEntryCodecTest {
+
+    private final CrawlerEntryCodec codec = new CrawlerEntryCodec();
+
+    @Test
+    void testRoundTrip() {
+        var entry = new CrawlerEntry("http://example.com/a/b/page.html");
+        entry.setDepth(3);
+        entry.setProcessingStatus(ProcessingStatus.PROCESSED);
+        entry.setProcessingOutcome(ProcessingOutcome.MODIFIED);
+        entry.setReferenceTrail(List.of(
+                "http://example.com/a/b/page.htm",
+                "http://example.com/a/page.htm"));
+        entry.setMetaChecksum("meta123");
+        entry.setContentChecksum("content456");
+        entry.setRawContentChecksum("raw789");
+        entry.setQueuedAt(ZonedDateTime.of(
+                2026, 1, 2, 3, 4, 5, 6, ZoneId.of("UTC")));
+        entry.setProcessedAt(ZonedDateTime.of(
+                2026, 1, 2, 3, 4, 6, 0, ZoneId.of("America/Montreal")));
+        entry.setContentType(ContentType.HTML);
+        entry.setCharset(StandardCharsets.UTF_8);
+        entry.setOrphan(true);
+
+        var decoded = codec.decode(codec.encode(entry));
+
+        assertThat(decoded).isEqualTo(entry);
+        assertThat(decoded.getCharset()).isEqualTo(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void testValuesOutsideDictionaries() {
+        var entry = new CrawlerEntry("file:///tmp/doc.custom");
+        entry.setProcessingOutcome(ProcessingOutcome.valueOf("CUSTOM"));
+        entry.setContentType(ContentType.valueOf("application/x-custom"));
+
+        var decoded = codec.decode(codec.encode(entry));
+
+        assertThat(decoded.getProcessingOutcome())
+                .hasToString("CUSTOM");
+        assertThat(decoded.getContentType())
+                .hasToString("application/x-custom");
+    }
+
+    @Test
+    void testSmallerThanJson() {
+        var entry = new CrawlerEntry("http://example.com/page.html");
+        entry.setProcessingStatus(ProcessingStatus.QUEUED);
+        entry.setQueuedAt(ZonedDateTime.now());
+
+        assertThat(codec.encode(entry).length).isLessThan(
+                SerialUtil.toJsonString(entry).getBytes(
+                        StandardCharsets.UTF_8).length / 2);
+    }
+
+    @Test
+    void testInvalidData() {
+        assertThatExceptionOfType(CodecException.class).isThrownBy(
+                () -> codec.decode("{}".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void testRegisteredAsService() {
+        assertThat(CacheValueCodecs.get(CrawlerEntry.class))
+                .containsInstanceOf(CrawlerEntryCodec.class);
+    }
+}
@@ -15,8 +15,11 @@
 package com.norconex.crawler.core.ledger;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.mockito.Mockito.lenient;
 
+import java.util.List;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Timeout;
@@ -26,10 +29,14 @@ import org.mockito.Mock.Strictness;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.norconex.crawler.core.CrawlerConfig;
+import com.norconex.crawler.core.cluster.CacheNames;
 import com.norconex.crawler.core.cluster.Cluster;
+import com.norconex.crawler.core.cluster.ClusterException;
 import com.norconex.crawler.core.cluster.ClusterNode;
 import com.norconex.crawler.core.cluster.support.InMemoryCacheManager;
+import com.norconex.crawler.core.cluster.support.InMemoryCacheQueue;
 import com.norconex.crawler.core.context.CrawlerContext;
+import com.norconex.crawler.core.doc.pipelines.queue.QueueBatch;
 import com.norconex.crawler.core.session.CrawlerSession;
 
 /**
@@ -112,6 +119,56 @@ class CrawlerEntryLedgerTest {
         assertThat(ledger.isQueueEmpty()).isFalse();
     }
 
+    @Test
+    void testQueueAll_skipsDuplicatesAndExistingEntries() {
+        ledger.queue(entry("ref-1"));
+
+        var queued = ledger.queueAll(List.of(
+                entry("ref-1"), entry("ref-2"), entry("ref-3"),
+                entry("ref-2")));
+
+        assertThat(queued).isEqualTo(2);
+        assertThat(ledger.getQueueCount()).isEqualTo(3);
+        assertThat(ledger.countByStatus(ProcessingStatus.QUEUED))
+                .isEqualTo(3);
+        assertThat(ledger.getProcessingStatus("ref-3"))
+                .isEqualTo(ProcessingStatus.QUEUED);
+    }
+
+    @Test
+    void testQueueAll_queueWithLessRoomThanBatch_rollsBackOnlyRest() {
+        ((InMemoryCacheQueue<?>) cacheManager.getCacheQueue(
+                CacheNames.REFERENCE_QUEUE, String.class)).setCapacity(2);
+
+        var entries = List.of(entry("ref-1"), entry("ref-2"), entry("ref-3"));
+        assertThatExceptionOfType(ClusterException.class)
+                .isThrownBy(() -> ledger.queueAll(entries));
+
+        // Queued references remain in the ledger, the other one does not
+        assertThat(ledger.exists("ref-1")).isTrue();
+        assertThat(ledger.exists("ref-2")).isTrue();
+        assertThat(ledger.exists("ref-3")).isFalse();
+        assertThat(ledger.countByStatus(ProcessingStatus.QUEUED))
+                .isEqualTo(2);
+        assertThat(ledger.nextQueuedBatch(10))
+                .extracting(CrawlerEntry::getReference)
+                .containsExactly("ref-1", "ref-2");
+    }
+
+    @Test
+    void testQueueBatch_flushesWhenFullAndOnDemand() {
+        var batch = new QueueBatch(ledger, 2);
+        batch.add(entry("ref-1"));
+        assertThat(ledger.getQueueCount()).isZero();
+        batch.add(entry("ref-2")); // reaches max size: auto-flush
+        assertThat(ledger.getQueueCount()).isEqualTo(2);
+        batch.add(entry("ref-3"));
+
+        assertThat(batch.flush()).isEqualTo(1);
+        assertThat(batch.flush()).isZero();
+        assertThat(ledger.getQueueCount()).isEqualTo(3);
+    }
+
     // -----------------------------------------------------------------
     // Batch dequeuing → PROCESSING state
     // -----------------------------------------------------------------
@@ -349,6 +406,43 @@ class CrawlerEntryLedgerTest {
         assertThat(ledger.countByStatus(ProcessingStatus.QUEUED)).isZero();
     }
 
+    // -----------------------------------------------------------------
+    // Status counters
+    // -----------------------------------------------------------------
+
+    @Test
+    void testStatusCounters_followEntryLifecycle() {
+        for (var i = 0; i < 4; i++) {
+            ledger.queue(entry("ref-" + i));
+        }
+        var batch = ledger.nextQueuedBatch(3);
+        var processed = batch.get(0);
+        processed.setProcessingStatus(ProcessingStatus.PROCESSED);
+        ledger.updateEntry(processed);
+        ledger.removeEntry(batch.get(1).getReference());
+
+        assertThat(ledger.getQueuedEntryCount()).isEqualTo(1);
+        assertThat(ledger.getProcessingCount()).isEqualTo(1);
+        assertThat(ledger.getProcessedCount()).isEqualTo(1);
+
+        ledger.deleteByStatus(ProcessingStatus.PROCESSING);
+
+        assertThat(ledger.getProcessingCount()).isZero();
+        assertThat(ledger.getQueuedEntryCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testSyncStatusCounters_realignsWithLedgerEntries() {
+        ledger.queue(entry("ref-1"));
+        ledger.queue(entry("ref-2"));
+        cacheManager.getCounter("ledger_a.status.QUEUED").set(42);
+
+        ledger.syncStatusCounters();
+
+        assertThat(ledger.getQueuedEntryCount()).isEqualTo(2);
+        assertThat(ledger.getProcessingCount()).isZero();
+    }
+
     // -----------------------------------------------------------------
     // Helpers
     // -----------------------------------------------------------------
@@ -22,6 +22,7 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Timeout;
@@ -30,6 +31,7 @@ import com.norconex.commons.lang.event.EventManager;
 import com.norconex.crawler.core.cluster.CacheManager;
 import com.norconex.crawler.core.cluster.CacheMap;
 import com.norconex.crawler.core.cluster.Cluster;
+import com.norconex.crawler.core.cluster.impl.memory.InMemoryCacheMap;
 import com.norconex.crawler.core.context.CrawlerContext;
 import com.norconex.crawler.core.ledger.CrawlerEntryLedger;
 import com.norconex.crawler.core.session.CrawlerSession;
@@ -81,9 +83,9 @@ class CrawlerMetricsImplTest {
     }
 
     @Test
-    void flush_noOp_doesNotThrow() {
+    void flush_beforeInit_doesNotThrow() {
         var metrics = new CrawlerMetricsImpl();
-        // flush() is documented as a no-op; must not throw
+        // nowhere to flush to yet; must not throw
         metrics.flush();
         metrics.close();
     }
@@ -111,6 +113,21 @@ class CrawlerMetricsImplTest {
         metrics.close();
     }
 
+    @Test
+    void registerGauge_reportsCurrentValueUntilUnregistered() {
+        var metrics = new CrawlerMetricsImpl();
+        var value = new AtomicLong(1);
+        metrics.registerGauge("stage.test.queueSize", value::get);
+        assertThat(metrics.getGauges())
+                .containsEntry("stage.test.queueSize", 1L);
+        value.set(5);
+        assertThat(metrics.getGauges())
+                .containsEntry("stage.test.queueSize", 5L);
+        metrics.unregisterGauge("stage.test.queueSize");
+        assertThat(metrics.getGauges()).isEmpty();
+        metrics.close();
+    }
+
     // ------------------------------------------------------------------
     // close (before init — ledger and eventCountsStore are both null)
     // ------------------------------------------------------------------
@@ -225,6 +242,62 @@ class CrawlerMetricsImplTest {
         assertThat(metrics.getEventCounts()).containsEntry("DOC_PROCESSED", 1L);
     }
 
+    @Test
+    void flush_mergesLocalCountsIntoStore() {
+        var ledger = mock(CrawlerEntryLedger.class);
+        var store = new InMemoryCacheMap<Long>("crawlEventCounts");
+        store.put("DOC_PROCESSED", 10L);
+        var metrics = buildInitialized(ledger, store);
+
+        metrics.incrementCounter("DOC_PROCESSED", 1L);
+        metrics.incrementCounter("DOC_PROCESSED", 2L);
+        metrics.incrementCounter("DOC_QUEUED", 4L);
+        // not flushed yet
+        assertThat(store.get("DOC_PROCESSED")).contains(10L);
+
+        metrics.flush();
+        assertThat(store.get("DOC_PROCESSED")).contains(13L);
+        assertThat(store.get("DOC_QUEUED")).contains(4L);
+
+        // nothing left to flush
+        metrics.flush();
+        assertThat(store.get("DOC_PROCESSED")).contains(13L);
+        assertThat(metrics.getEventCounts())
+                .containsEntry("DOC_PROCESSED", 13L)
+                .containsEntry("DOC_QUEUED", 4L);
+        metrics.close();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void flush_failedMerge_keepsLocalCounts() {
+        var ledger = mock(CrawlerEntryLedger.class);
+        CacheMap<Long> store = mock(CacheMap.class);
+        when(store.get(anyString())).thenThrow(new IllegalStateException());
+        var metrics = buildInitialized(ledger, store);
+
+        metrics.incrementCounter("DOC_PROCESSED", 2L);
+        metrics.flush();
+
+        assertThat(metrics.getEventCounts())
+                .containsEntry("DOC_PROCESSED", 2L);
+        metrics.close();
+    }
+
+    @Test
+    void close_flushesLocalCounts() {
+        var ledger = mock(CrawlerEntryLedger.class);
+        var store = new InMemoryCacheMap<Long>("crawlEventCounts");
+        var metrics = buildInitialized(ledger, store);
+
+        metrics.incrementCounter("DOC_PROCESSED", 5L);
+        metrics.close();
+
+        assertThat(store.get("DOC_PROCESSED")).contains(5L);
+        assertThat(metrics.getEventCounts())
+                .containsEntry("DOC_PROCESSED", 5L);
+    }
+
     // ------------------------------------------------------------------
     // close with initialized store and ledger
     // ------------------------------------------------------------------
@@ -47,6 +47,23 @@ class ScopedThreadFactoryCreatorTest {
         assertThat(executed.get()).isTrue();
     }
 
+    @Test
+    void create_virtual_producesVirtualThread() throws InterruptedException {
+        var creator = new ScopedThreadFactoryCreator("virtualScope");
+        var factory = creator.create("worker", true);
+        var executed = new AtomicBoolean(false);
+
+        var thread = factory.newThread(() -> executed.set(true));
+        assertThat(thread.isVirtual()).isTrue();
+        assertThat(thread.getName()).startsWith("virtualScope-worker-");
+
+        thread.start();
+        thread.join(3000);
+        assertThat(executed.get()).isTrue();
+        assertThat(creator.create("worker").newThread(() -> {}).isVirtual())
+                .isFalse();
+    }
+
     @Test
     void create_multipleThreads_haveUniqueIncreasingNames() {
         var creator = new ScopedThreadFactoryCreator("multiScope");
@@ -31,6 +31,7 @@ import com.norconex.crawler.core.doc.pipelines.importer.stages.ImportModuleStage
 import com.norconex.crawler.core.doc.pipelines.importer.stages.MetadataChecksumStage;
 import com.norconex.crawler.core.doc.pipelines.importer.stages.MetadataDedupStage;
 import com.norconex.crawler.core.doc.pipelines.importer.stages.MetadataFiltersStage;
+import com.norconex.crawler.core.doc.pipelines.importer.stages.RawContentChecksumStage;
 import com.norconex.crawler.core.doc.pipelines.queue.QueuePipeline;
 import com.norconex.crawler.core.doc.pipelines.queue.stages.DepthValidationStage;
 import com.norconex.crawler.core.doc.pipelines.queue.stages.QueueReferenceStage;
@@ -85,6 +86,9 @@ public final class FsPipelines {
                                         DOCUMENT),
                                 new MetadataDedupStage(
                                         DOCUMENT),
+                                // Before importing so unchanged documents are
+                                // not parsed:
+                                new RawContentChecksumStage(),
                                 new DocumentFiltersStage(),
                                 new DocumentPreProcessingStage(),
                                 new ImportModuleStage()))
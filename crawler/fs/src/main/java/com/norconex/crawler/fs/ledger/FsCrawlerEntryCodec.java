@@ -0,0 +1,57 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.crawler.fs.ledger;
+
+import com.norconex.crawler.core.cluster.codec.CodecInput;
+import com.norconex.crawler.core.cluster.codec.CodecOutput;
+import com.norconex.crawler.core.ledger.AbstractCrawlerEntryCodec;
+
+/**
+ * Binary cache value codec for {@link FsCrawlerEntry}.
+ */
+public class FsCrawlerEntryCodec
+        extends AbstractCrawlerEntryCodec<FsCrawlerEntry> {
+
+    private static final int F_FILE = FIRST_SUBCLASS_FIELD;
+    private static final int F_FOLDER = FIRST_SUBCLASS_FIELD + 1;
+
+    public FsCrawlerEntryCodec() {
+        super(FsCrawlerEntry.class);
+    }
+
+    @Override
+    protected FsCrawlerEntry newEntry() {
+        return new FsCrawlerEntry();
+    }
+
+    @Override
+    protected void writeFields(FsCrawlerEntry entry, CodecOutput out) {
+        out.booleanField(F_FILE, entry.isFile());
+        out.booleanField(F_FOLDER, entry.isFolder());
+    }
+
+    @Override
+    protected boolean readField(
+            int field, FsCrawlerEntry entry, CodecInput in) {
+        switch (field) {
+            case F_FILE -> entry.setFile(in.readBoolean());
+            case F_FOLDER -> entry.setFolder(in.readBoolean());
+            default -> {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -25,6 +25,7 @@ import com.norconex.crawler.core.cmd.crawl.pipeline.bootstrap.queue.RefFileEnque
 import com.norconex.crawler.core.cmd.crawl.pipeline.bootstrap.queue.RefListEnqueuer;
 import com.norconex.crawler.core.cmd.crawl.pipeline.bootstrap.queue.RefProviderEnqueuer;
 import com.norconex.crawler.web.callbacks.WebCrawlerCallbacks;
+import com.norconex.crawler.web.doc.operations.delay.DelayDispatchScheduler;
 import com.norconex.crawler.web.doc.pipelines.WebDocPipelines;
 import com.norconex.crawler.web.doc.pipelines.queue.SitemapEnqueuer;
 import com.norconex.crawler.web.fetch.AggregatedWebFetchResponse;
@@ -52,6 +53,7 @@ public class WebCrawlerDriverFactory implements Supplier<CrawlerDriver> {
                 .callbacks(WebCrawlerCallbacks.get())
                 .docPipelines(WebDocPipelines.create())
                 .crawlEntryType(WebCrawlerEntry.class)
+                .dispatchScheduler(new DelayDispatchScheduler())
                 .build();
     }
 
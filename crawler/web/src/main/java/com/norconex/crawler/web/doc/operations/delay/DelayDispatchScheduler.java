@@ -0,0 +1,65 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.crawler.web.doc.operations.delay;
+
+import com.norconex.crawler.core.cmd.crawl.pipeline.process.DispatchScheduler;
+import com.norconex.crawler.core.ledger.CrawlerEntry;
+import com.norconex.crawler.core.session.CrawlerSession;
+import com.norconex.crawler.web.util.Web;
+
+/**
+ * Schedules URLs handed to crawler threads as per the configured
+ * {@link SchedulableDelayResolver}, so crawl delays (including robots.txt
+ * "Crawl-delay") are honored without crawler threads sleeping. URLs from
+ * sites with pending delays wait in the dispatcher while other sites
+ * are being crawled. Has no effect for other delay resolvers.
+ */
+public class DelayDispatchScheduler implements DispatchScheduler {
+
+    @Override
+    public String getGroup(CrawlerSession session, CrawlerEntry entry) {
+        if (resolver(session) instanceof SchedulableDelayResolver resolver) {
+            return resolver.getScheduleKey(entry.getReference());
+        }
+        return null;
+    }
+
+    @Override
+    public long getDelayMillis(CrawlerSession session, CrawlerEntry entry) {
+        if (resolver(session) instanceof SchedulableDelayResolver resolver) {
+            var url = entry.getReference();
+            return resolver.getDelayMillis(
+                    Web.robotsTxt(session.getCrawlContext(), url), url);
+        }
+        return 0;
+    }
+
+    /**
+     * Whether delays for the given URL are honored when dispatching it.
+     * @param session crawl session
+     * @param url the URL
+     * @return {@code true} if delays were honored on dispatch
+     */
+    public static boolean isScheduled(CrawlerSession session, String url) {
+        return session.getCrawlContext()
+                .getDispatchScheduler() instanceof DelayDispatchScheduler
+                && resolver(session) instanceof SchedulableDelayResolver r
+                && r.getScheduleKey(url) != null;
+    }
+
+    private static DelayResolver resolver(CrawlerSession session) {
+        return Web.config(session.getCrawlContext()).getDelayResolver();
+    }
+}
@@ -0,0 +1,45 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.crawler.web.doc.operations.delay;
+
+import com.norconex.crawler.web.doc.operations.robot.RobotsTxt;
+
+/**
+ * A {@link DelayResolver} whose delays can be honored by scheduling when
+ * URLs are handed to crawler threads, instead of having threads sleep.
+ * URLs sharing the same schedule key are never handed out faster than
+ * the delay obtained for each of them.
+ */
+public interface SchedulableDelayResolver extends DelayResolver {
+
+    /**
+     * Gets the key identifying URLs subject to the same delays (e.g., the
+     * URL site).
+     * @param url the URL being crawled
+     * @return schedule key or {@code null} if delays for the URL cannot
+     *     be scheduled (in which case {@link #delay(RobotsTxt, String)}
+     *     is invoked when processing it)
+     */
+    String getScheduleKey(String url);
+
+    /**
+     * Gets the delay to observe after crawling the given URL, before
+     * crawling the next one with the same schedule key.
+     * @param robotsTxt robots.txt instance (if applicable)
+     * @param url the URL being crawled
+     * @return delay in milliseconds
+     */
+    long getDelayMillis(RobotsTxt robotsTxt, String url);
+}
@@ -21,8 +21,11 @@ import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import org.apache.commons.lang3.StringUtils;
+
 import com.norconex.commons.lang.config.Configurable;
-import com.norconex.crawler.web.doc.operations.delay.DelayResolver;
+import com.norconex.commons.lang.url.HttpURL;
+import com.norconex.crawler.web.doc.operations.delay.SchedulableDelayResolver;
 import com.norconex.crawler.web.doc.operations.delay.impl.BaseDelayResolverConfig.DelayResolverScope;
 import com.norconex.crawler.web.doc.operations.robot.RobotsTxt;
 
@@ -61,6 +64,11 @@ import lombok.extern.slf4j.Slf4j;
  *       any given thread.  The more threads you have the less of an
  *       impact the delay will have.</li>
  * </ul>
+ * <p>
+ * With the <b>crawler</b> and <b>site</b> scopes, delays are honored when
+ * URLs are handed to crawler threads: URLs of a site waiting for its delay
+ * to expire do not hold threads that can crawl other sites.
+ * </p>
  * @param <T> type of configuration class
  * @since 2.5.0
  */
@@ -68,7 +76,9 @@ import lombok.extern.slf4j.Slf4j;
 @EqualsAndHashCode
 @ToString
 public abstract class AbstractDelayResolver<T extends BaseDelayResolverConfig>
-        implements DelayResolver, Configurable<T> {
+        implements SchedulableDelayResolver, Configurable<T> {
+
+    private static final String CRAWLER_SCHEDULE_KEY = "*";
 
     @JsonIgnore
     private final Map<DelayResolverScope, AbstractDelay> delays =
@@ -86,15 +96,32 @@ public abstract class AbstractDelayResolver<T extends BaseDelayResolverConfig>
         if (expectedDelayMillis <= 0) {
             return;
         }
-        var delay = delays.get(getConfiguration().getScope());
-        if (delay == null) {
+        delays.get(getScope()).delay(expectedDelayMillis, url);
+    }
+
+    @Override
+    public String getScheduleKey(String url) {
+        return switch (getScope()) {
+            case CRAWLER -> CRAWLER_SCHEDULE_KEY;
+            case SITE -> StringUtils.lowerCase(HttpURL.getRoot(url));
+            default -> null;
+        };
+    }
+
+    @Override
+    public long getDelayMillis(RobotsTxt robotsTxt, String url) {
+        return getExpectedDelayMillis(robotsTxt, url);
+    }
+
+    private DelayResolverScope getScope() {
+        var scope = getConfiguration().getScope();
+        if (scope == null || !delays.containsKey(scope)) {
             LOG.warn("Unspecified or unsupported delay scope: {}. "
                     + "Using {} scope.",
-                    getConfiguration().getScope(),
-                    BaseDelayResolverConfig.DEFAULT_SCOPE);
-            delay = delays.get(BaseDelayResolverConfig.DEFAULT_SCOPE);
+                    scope, BaseDelayResolverConfig.DEFAULT_SCOPE);
+            return BaseDelayResolverConfig.DEFAULT_SCOPE;
         }
-        delay.delay(expectedDelayMillis, url);
+        return scope;
     }
 
     private long getExpectedDelayMillis(RobotsTxt robotsTxt, String url) {
@@ -14,9 +14,9 @@
  */
 package com.norconex.crawler.web.doc.operations.delay.impl;
 
-import org.apache.commons.lang3.mutable.MutableLong;
+import java.util.concurrent.locks.ReentrantLock;
 
-import com.norconex.commons.lang.Sleeper;
+import org.apache.commons.lang3.mutable.MutableLong;
 
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -28,26 +28,21 @@ import lombok.ToString;
 @ToString(onlyExplicitlyIncluded = true)
 public class CrawlerDelay extends AbstractDelay {
 
-    private MutableLong lastHitEpochMillis = new MutableLong(-1);
-    private boolean sleeping = false;
+    private final MutableLong lastHitEpochMillis = new MutableLong(-1);
+    // Fair, so threads take turns in arrival order.
+    private final ReentrantLock lock = new ReentrantLock(true);
 
     @Override
     public void delay(long expectedDelayMillis, String url) {
         if (expectedDelayMillis <= 0) {
             return;
         }
+        lock.lock();
         try {
-            synchronized (lastHitEpochMillis) {
-                while (sleeping) {
-                    Sleeper.sleepMillis(Math.min(
-                            TINY_SLEEP_MS, expectedDelayMillis));
-                }
-                sleeping = true;
-            }
             delay(expectedDelayMillis, lastHitEpochMillis.longValue());
             lastHitEpochMillis.setValue(System.currentTimeMillis());
         } finally {
-            sleeping = false;
+            lock.unlock();
         }
     }
 }
@@ -16,10 +16,10 @@ package com.norconex.crawler.web.doc.operations.delay.impl;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.apache.commons.lang3.StringUtils;
 
-import com.norconex.commons.lang.Sleeper;
 import com.norconex.commons.lang.url.HttpURL;
 
 import lombok.EqualsAndHashCode;
@@ -39,30 +39,24 @@ public class SiteDelay extends AbstractDelay {
         }
 
         var site = StringUtils.lowerCase(HttpURL.getRoot(url));
-        SleepState sleepState = null;
+        var sleepState = siteLastHitMillis.computeIfAbsent(
+                site, k -> new SleepState());
+        // Only threads crawling the same site wait on each other.
+        sleepState.lock.lock();
         try {
-            synchronized (siteLastHitMillis) {
-                sleepState = siteLastHitMillis.computeIfAbsent(
-                        site, k -> new SleepState());
-                while (sleepState.sleeping) {
-                    Sleeper.sleepMillis(
-                            Math.min(TINY_SLEEP_MS, expectedDelayMillis));
-                }
-                sleepState.sleeping = true;
-            }
             delay(expectedDelayMillis, sleepState.lastHitEpochMillis);
             sleepState.lastHitEpochMillis = System.currentTimeMillis();
         } finally {
-            if (sleepState != null) {
-                sleepState.sleeping = false;
-            }
+            sleepState.lock.unlock();
         }
     }
 
     @EqualsAndHashCode
     @ToString
     private static class SleepState {
+        @EqualsAndHashCode.Exclude
+        @ToString.Exclude
+        private final ReentrantLock lock = new ReentrantLock();
         private long lastHitEpochMillis = System.currentTimeMillis();
-        private boolean sleeping;
     }
 }
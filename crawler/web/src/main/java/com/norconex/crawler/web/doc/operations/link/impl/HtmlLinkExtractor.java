@@ -208,6 +208,13 @@ import lombok.extern.slf4j.Slf4j;
  * {@link HtmlLinkExtractorConfig#setExtractSelectors(List)} and
  * {@link HtmlLinkExtractorConfig#setNoExtractSelectors(List)}.
  * </p>
+ *
+ * <h2>Streaming tokenizer</h2>
+ * <p>Instead of regular expressions, links can be extracted with a
+ * single-pass tokenizer scanning each chunk of text once, with
+ * {@link HtmlLinkExtractorConfig#setStreamingTokenizer(boolean)}.
+ * It is recommended for large pages or pages with many tags.
+ * </p>
  */
 @Slf4j
 @EqualsAndHashCode
@@ -320,12 +327,28 @@ public class HtmlLinkExtractor
             doc.getMetadata()
                     .matchKeys(configuration.getFieldMatcher())
                     .valueList()
-                    .forEach(val -> extractLinksFromText(
-                            links, val, refererUrl, true));
+                    .forEach(val -> {
+                        if (configuration.isStreamingTokenizer()) {
+                            var tokenizer = newTokenizer(links, refererUrl);
+                            tokenizer.feed(excludeUnwantedContent(val));
+                            tokenizer.end();
+                        } else {
+                            extractLinksFromText(links, val, refererUrl, true);
+                        }
+                    });
         } else {
             // Body
             try (var r = new TextReader(
                     new InputStreamReader(doc.getInputStream()))) {
+                if (configuration.isStreamingTokenizer()) {
+                    var tokenizer = newTokenizer(links, refererUrl);
+                    String text = null;
+                    while ((text = r.readText()) != null) {
+                        tokenizer.feed(excludeUnwantedContent(text));
+                    }
+                    tokenizer.end();
+                    return links;
+                }
                 var firstChunk = true;
                 String text = null;
                 while ((text = r.readText()) != null) {
@@ -338,6 +361,38 @@ public class HtmlLinkExtractor
 
     //--- Non-public methods ---------------------------------------------------
 
+    private HtmlLinkTokenizer newTokenizer(Set<Link> links, String url) {
+        return new HtmlLinkTokenizer(
+                targetTagNames(),
+                configuration.isCommentsEnabled(),
+                new HtmlLinkTokenizer.Listener() {
+                    private String referrer = url;
+
+                    @Override
+                    public void baseHref(String href) {
+                        if (StringUtils.isNotBlank(href)) {
+                            var baseUrl = toCleanAbsoluteURL(url, href);
+                            if (baseUrl != null) {
+                                referrer = baseUrl;
+                            }
+                        }
+                    }
+
+                    @Override
+                    public void tag(String name, Properties attribs,
+                            String bodyText, String bodyMarkup) {
+                        var tag = new Tag();
+                        tag.name = name;
+                        tag.bodyText = bodyText;
+                        tag.bodyMarkup = bodyMarkup;
+                        tag.referrer = referrer;
+                        tag.attribs.putAll(attribs);
+                        tag.configAttribNames.addAll(configAttribNames(name));
+                        tagLinksExtractor.test(tag, links);
+                    }
+                });
+    }
+
     private void extractLinksFromText(
             Set<Link> links, String text, String url, boolean checkBaseHref) {
         var content = normalizeWhiteSpaces(text);
@@ -382,12 +437,7 @@ public class HtmlLinkExtractor
             content = content.replaceAll("(?is)<!--.*?-->", "");
         }
 
-        Set<String> lcTagNames = new HashSet<>(
-                configuration.getTagAttribs()
-                        .keySet()
-                        .stream()
-                        .map(String::toLowerCase)
-                        .toList());
+        var lcTagNames = targetTagNames();
 
         var tagNameMatcher = Pattern.compile("<([\\w-]+)").matcher(content);
         while (tagNameMatcher.find()) {
@@ -429,14 +479,26 @@ public class HtmlLinkExtractor
 
         tag.attribs.putAll(Web.parseDomAttributes(attribsStr));
 
-        tag.configAttribNames.addAll(
+        tag.configAttribNames.addAll(configAttribNames(tag.name));
+
+        return tag;
+    }
+
+    private Set<String> targetTagNames() {
+        return new HashSet<>(
                 configuration.getTagAttribs()
-                        .getStrings(tag.name)
+                        .keySet()
                         .stream()
-                        .filter(StringUtils::isNotBlank)
+                        .map(String::toLowerCase)
                         .toList());
+    }
 
-        return tag;
+    private List<String> configAttribNames(String tagName) {
+        return configuration.getTagAttribs()
+                .getStrings(tagName)
+                .stream()
+                .filter(StringUtils::isNotBlank)
+                .toList();
     }
 
     private String normalizeWhiteSpaces(String content) {
@@ -105,6 +105,20 @@ public class HtmlLinkExtractorConfig {
      */
     private boolean commentsEnabled;
 
+    /**
+     * Whether to extract links with a single-pass streaming tokenizer
+     * instead of regular expressions. The tokenizer scans each chunk of
+     * text once, only parsing attributes of configured tags, making
+     * extraction time grow linearly with page size. Differences with the
+     * regular expression approach: quoted attribute values may contain
+     * "&gt;", attribute names are case-insensitive, a tag split
+     * between two chunks of text is still extracted, and a
+     * <code>&lt;base&gt;</code> URL applies to links following it only.
+     * Default is <code>false</code>.
+     * @since 4.0.0
+     */
+    private boolean streamingTokenizer;
+
     private final Properties tagAttribs = new Properties(true);
     private final List<String> schemes = new ArrayList<>(DEFAULT_SCHEMES);
     private final List<String> extractSelectors = new ArrayList<>();
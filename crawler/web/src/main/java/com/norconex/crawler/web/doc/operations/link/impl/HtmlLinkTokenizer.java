@@ -0,0 +1,445 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.crawler.web.doc.operations.link.impl;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import com.norconex.commons.lang.map.Properties;
+
+/**
+ * <p>
+ * Single-pass HTML tokenizer used by {@link HtmlLinkExtractor} in streaming
+ * mode. It is a state machine fed with consecutive text chunks, reporting
+ * target tags (with their attributes and body) and <code>&lt;base&gt;</code>
+ * URLs as it encounters them. Only target tags have their attributes
+ * parsed and their body captured. Script content is skipped, and so
+ * are comments unless enabled.
+ * </p>
+ * <p>
+ * Tags, comments, or scripts split across chunks are carried over to the
+ * next chunk. A tag body must be found in the same chunk as its opening
+ * tag to be captured, like the regular expression implementation.
+ * Tags are reported in the order they appear.
+ * </p>
+ * <p>
+ * Not thread-safe. Create one instance per document.
+ * </p>
+ */
+class HtmlLinkTokenizer {
+
+    // Past this length, an incomplete tag is no longer carried over to the
+    // next chunk and quotes are no longer honored when looking for its end.
+    static final int MAX_CARRY_LENGTH = 64 * 1024;
+
+    private static final String COMMENT_START = "<!--";
+    private static final String COMMENT_END = "-->";
+    private static final String SCRIPT_END = "</script";
+
+    interface Listener {
+        void baseHref(String href);
+
+        void tag(String name, Properties attribs,
+                String bodyText, String bodyMarkup);
+    }
+
+    private final Set<String> tagNames;
+    private final boolean commentsEnabled;
+    private final Listener listener;
+
+    // Tags waiting to be reported, in document order
+    private final Deque<PendingTag> pendingTags = new ArrayDeque<>();
+    // Opened tags waiting for their body, by name
+    private final Map<String, List<PendingTag>> openTags = new HashMap<>();
+
+    private String carry = "";
+    private boolean inScript;
+    private boolean inComment;
+
+    /**
+     * @param tagNames lower-case names of tags to report
+     * @param commentsEnabled whether to parse content of comments
+     * @param listener tokenizer events listener
+     */
+    HtmlLinkTokenizer(
+            Set<String> tagNames, boolean commentsEnabled, Listener listener) {
+        this.tagNames = tagNames;
+        this.commentsEnabled = commentsEnabled;
+        this.listener = listener;
+    }
+
+    /**
+     * Tokenizes the next chunk of text.
+     * @param chunk text chunk
+     */
+    void feed(String chunk) {
+        var buf = carry.isEmpty() ? chunk : carry + chunk;
+        carry = "";
+        tokenize(buf);
+        // bodies are not captured across chunks
+        flushAll();
+    }
+
+    /**
+     * Signals the end of the document. Incomplete markup left over from
+     * the last chunk is discarded.
+     */
+    void end() {
+        carry = "";
+        inScript = false;
+        inComment = false;
+        flushAll();
+    }
+
+    //--- Private methods ------------------------------------------------------
+
+    private void tokenize(String buf) {
+        var len = buf.length();
+        var i = 0;
+        while (i < len) {
+            if (inScript) {
+                var idx = indexOfIgnoreCase(buf, SCRIPT_END, i);
+                if (idx == -1) {
+                    carryTail(buf, SCRIPT_END.length() - 1);
+                    return;
+                }
+                inScript = false;
+                i = idx;
+            } else if (inComment) {
+                var idx = buf.indexOf(COMMENT_END, i);
+                if (idx == -1) {
+                    carryTail(buf, COMMENT_END.length() - 1);
+                    return;
+                }
+                inComment = false;
+                i = idx + COMMENT_END.length();
+                continue;
+            }
+
+            var lt = buf.indexOf('<', i);
+            if (lt == -1) {
+                return;
+            }
+            var next = skipSpaces(buf, lt + 1);
+            if (next >= len) {
+                carry = buf.substring(lt);
+                return;
+            }
+            var ch = buf.charAt(next);
+            if (ch == '!') {
+                if (len - lt < COMMENT_START.length()) {
+                    carry = buf.substring(lt);
+                    return;
+                }
+                if (buf.startsWith(COMMENT_START, lt)) {
+                    // when enabled, comment content is parsed as markup
+                    inComment = !commentsEnabled;
+                    i = lt + COMMENT_START.length();
+                } else {
+                    i = lt + 1;
+                }
+            } else if (ch == '/') {
+                i = endTag(buf, lt, skipSpaces(buf, next + 1));
+            } else if (isNameChar(ch)) {
+                i = startTag(buf, lt, next);
+            } else {
+                i = lt + 1;
+            }
+            if (i == -1) {
+                carry = buf.substring(lt);
+                return;
+            }
+        }
+    }
+
+    // Returns position to resume from, or -1 if incomplete.
+    private int endTag(String buf, int lt, int nameStart) {
+        var nameEnd = nameEnd(buf, nameStart);
+        if (nameEnd == buf.length()) {
+            return -1;
+        }
+        if (nameEnd > nameStart) {
+            var name = buf.substring(nameStart, nameEnd)
+                    .toLowerCase(Locale.ROOT);
+            var opened = openTags.remove(name);
+            if (opened != null) {
+                for (PendingTag tag : opened) {
+                    tag.setBody(buf, lt);
+                }
+                flushCompleted();
+            }
+        }
+        return nameEnd;
+    }
+
+    // Returns position to resume from, or -1 if incomplete.
+    private int startTag(String buf, int lt, int nameStart) {
+        var len = buf.length();
+        var nameEnd = nameEnd(buf, nameStart);
+        var gt = nameEnd == len ? -1 : tagEnd(buf, nameEnd);
+        if (gt == -1) {
+            if (len - lt <= MAX_CARRY_LENGTH) {
+                return -1;
+            }
+            gt = buf.indexOf('>', nameEnd);
+            if (gt == -1) {
+                return lt + 1;
+            }
+        }
+        var selfClosed = buf.charAt(gt - 1) == '/';
+        var attrsEnd = selfClosed ? gt - 1 : gt;
+        var name = buf.substring(nameStart, nameEnd).toLowerCase(Locale.ROOT);
+
+        if ("base".equals(name)) {
+            var href = parseAttributes(buf, nameEnd, attrsEnd)
+                    .getString("href");
+            if (href != null) {
+                // reported in order, so it applies to following tags only
+                var base = new PendingTag(null, null);
+                base.bodyText = href;
+                base.complete = true;
+                pendingTags.add(base);
+                flushCompleted();
+            }
+        }
+        if (tagNames.contains(name)) {
+            var tag = new PendingTag(
+                    name, parseAttributes(buf, nameEnd, attrsEnd));
+            pendingTags.add(tag);
+            if (selfClosed) {
+                tag.complete = true;
+                flushCompleted();
+            } else {
+                tag.bodyStart = gt + 1;
+                openTags.computeIfAbsent(
+                        name, k -> new ArrayList<>()).add(tag);
+            }
+        }
+        if ("script".equals(name) && !selfClosed) {
+            inScript = true;
+        }
+        return gt + 1;
+    }
+
+    private void flushCompleted() {
+        while (!pendingTags.isEmpty() && pendingTags.peekFirst().complete) {
+            report(pendingTags.pollFirst());
+        }
+    }
+
+    private void flushAll() {
+        while (!pendingTags.isEmpty()) {
+            report(pendingTags.pollFirst());
+        }
+        openTags.clear();
+    }
+
+    private void report(PendingTag tag) {
+        if (tag.name == null) {
+            listener.baseHref(tag.bodyText);
+        } else {
+            listener.tag(tag.name, tag.attribs, tag.bodyText, tag.bodyMarkup);
+        }
+    }
+
+    private void carryTail(String buf, int length) {
+        carry = buf.substring(Math.max(0, buf.length() - length));
+    }
+
+    // Finds the closing angle bracket of a tag, honoring quoted values.
+    private static int tagEnd(String buf, int from) {
+        var len = buf.length();
+        var i = from;
+        while (i < len) {
+            var ch = buf.charAt(i);
+            if (ch == '>') {
+                return i;
+            }
+            i++;
+            if (ch == '=') {
+                i = skipSpaces(buf, i);
+                if (i < len && isQuote(buf.charAt(i))) {
+                    var close = buf.indexOf(buf.charAt(i), i + 1);
+                    if (close == -1) {
+                        return -1;
+                    }
+                    i = close + 1;
+                }
+            }
+        }
+        return -1;
+    }
+
+    // Parses name=value pairs. Attributes without values are ignored.
+    static Properties parseAttributes(String buf, int from, int to) {
+        var attribs = new Properties();
+        var i = from;
+        while (i < to) {
+            i = skipSpaces(buf, i);
+            var nameStart = i;
+            while (i < to && !isSpace(buf.charAt(i))
+                    && buf.charAt(i) != '=' && buf.charAt(i) != '/') {
+                i++;
+            }
+            var nameEnd = i;
+            i = skipSpaces(buf, i);
+            if (i >= to || buf.charAt(i) != '=') {
+                if (i == nameStart) {
+                    i++; // stray character, such as '/'
+                }
+                continue;
+            }
+            i = skipSpaces(buf, i + 1);
+            if (i >= to) {
+                break;
+            }
+            int valueStart;
+            int valueEnd;
+            if (isQuote(buf.charAt(i))) {
+                valueStart = i + 1;
+                valueEnd = buf.indexOf(buf.charAt(i), valueStart);
+                if (valueEnd == -1 || valueEnd > to) {
+                    valueEnd = to;
+                }
+                i = valueEnd + 1;
+            } else {
+                valueStart = i;
+                while (i < to && !isSpace(buf.charAt(i))) {
+                    i++;
+                }
+                valueEnd = i;
+            }
+            if (nameEnd > nameStart) {
+                attribs.add(
+                        buf.substring(nameStart, nameEnd)
+                                .toLowerCase(Locale.ROOT),
+                        collapseSpaces(buf, valueStart, valueEnd));
+            }
+        }
+        return attribs;
+    }
+
+    // Replaces consecutive white spaces with a single space.
+    static String collapseSpaces(String buf, int from, int to) {
+        StringBuilder b = null;
+        var prevSpace = false;
+        for (var i = from; i < to; i++) {
+            var ch = buf.charAt(i);
+            var space = isSpace(ch);
+            if (space && (prevSpace || ch != ' ') && b == null) {
+                b = new StringBuilder(to - from).append(buf, from, i);
+            }
+            if (b != null && !(space && prevSpace)) {
+                b.append(space ? ' ' : ch);
+            }
+            prevSpace = space;
+        }
+        return b == null ? buf.substring(from, to) : b.toString();
+    }
+
+    // Removes mark-up tags, keeping the text.
+    static String stripTags(String markup) {
+        if (markup.indexOf('<') == -1) {
+            return markup;
+        }
+        var b = new StringBuilder(markup.length());
+        var len = markup.length();
+        var i = 0;
+        while (i < len) {
+            var ch = markup.charAt(i);
+            if (ch == '<') {
+                var gt = markup.indexOf('>', i + 1);
+                var lt = markup.indexOf('<', i + 1);
+                if (gt > i + 1 && (lt == -1 || gt < lt)) {
+                    i = gt + 1;
+                    continue;
+                }
+            }
+            b.append(ch);
+            i++;
+        }
+        return b.toString();
+    }
+
+    private static int nameEnd(String buf, int from) {
+        var i = from;
+        while (i < buf.length() && isNameChar(buf.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    private static int skipSpaces(String buf, int from) {
+        var i = from;
+        while (i < buf.length() && isSpace(buf.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    private static int indexOfIgnoreCase(String buf, String str, int from) {
+        var max = buf.length() - str.length();
+        for (var i = from; i <= max; i++) {
+            if (buf.regionMatches(true, i, str, 0, str.length())) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isNameChar(char ch) {
+        return Character.isLetterOrDigit(ch) || ch == '_' || ch == '-';
+    }
+
+    private static boolean isSpace(char ch) {
+        return Character.isWhitespace(ch);
+    }
+
+    private static boolean isQuote(char ch) {
+        return ch == '"' || ch == '\'';
+    }
+
+    //--- Inner Classes --------------------------------------------------------
+
+    // A tag with a null name holds a base URL as its body text.
+    private static class PendingTag {
+        private final String name;
+        private final Properties attribs;
+        private int bodyStart = -1;
+        private String bodyText;
+        private String bodyMarkup;
+        private boolean complete;
+
+        private PendingTag(String name, Properties attribs) {
+            this.name = name;
+            this.attribs = attribs;
+        }
+
+        private void setBody(String buf, int bodyEnd) {
+            var markup = collapseSpaces(buf, bodyStart, bodyEnd);
+            bodyText = stripTags(markup);
+            if (!bodyText.equals(markup)) {
+                bodyMarkup = markup;
+            }
+            complete = true;
+        }
+    }
+}
@@ -40,6 +40,9 @@ public class RobotsTxt {
     private final List<RobotsTxtFilter> allowFilters;
     private final float crawlDelay;
     private final List<String> sitemapLocations;
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private final RobotsTxtMatcher matcher;
 
     @Builder
     RobotsTxt(
@@ -61,6 +64,7 @@ public class RobotsTxt {
         }
         disallowFilters = Collections.unmodifiableList(disallows);
         allowFilters = Collections.unmodifiableList(allows);
+        matcher = RobotsTxtMatcher.compile(ListUtils.emptyIfNull(filters));
     }
 
     /**
@@ -81,6 +85,22 @@ public class RobotsTxt {
         return allowFilters;
     }
 
+    /**
+     * Gets the "Disallow" filter rejecting the given URL, if any. A
+     * "Disallow" rule is overruled by a matching "Allow" rule having
+     * an equal or longer path.
+     * @param url the URL to test
+     * @return the rejecting filter or {@code null} if the URL is allowed
+     * @since 4.0.0
+     */
+    public RobotsTxtFilter findRejectingFilter(String url) {
+        var filter = matcher.match(url);
+        if (filter != null && filter.getOnMatch() == OnMatch.EXCLUDE) {
+            return filter;
+        }
+        return null;
+    }
+
     public List<String> getSitemapLocations() {
         return sitemapLocations;
     }
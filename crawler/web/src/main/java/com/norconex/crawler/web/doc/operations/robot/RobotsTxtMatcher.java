@@ -0,0 +1,267 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.crawler.web.doc.operations.robot;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.norconex.crawler.core.doc.operations.filter.OnMatch;
+
+/**
+ * <p>
+ * Compiled form of a set of robots.txt rules, evaluating all "Allow" and
+ * "Disallow" paths in a single pass over a URL path.
+ * </p>
+ * <p>
+ * Rules are indexed in a character trie keyed on their literal prefix (the
+ * part before the first <code>*</code> wildcard or end-of-path
+ * <code>$</code> anchor). Walking a URL path down the trie only visits
+ * rules whose prefix matches, and only those have the remainder of their
+ * pattern evaluated. The matching rule with the longest path wins, and
+ * "Allow" wins over "Disallow" when both have the same length, as
+ * described by <a href="https://www.rfc-editor.org/rfc/rfc9309">RFC 9309</a>.
+ * </p>
+ * <p>
+ * To remain consistent with regular-expression based
+ * {@link RobotsTxtFilter} implementations, matching is case-insensitive and
+ * a <code>$</code>-anchored pattern also matches a path with an extra
+ * trailing slash.
+ * </p>
+ * <p>
+ * Instances are immutable and thread-safe.
+ * </p>
+ * @since 4.0.0
+ */
+public final class RobotsTxtMatcher {
+
+    private static final RobotsTxtMatcher EMPTY =
+            new RobotsTxtMatcher(new Node(null, new Node[0], new Rule[0]));
+
+    private final Node root;
+
+    private RobotsTxtMatcher(Node root) {
+        this.root = root;
+    }
+
+    /**
+     * Compiles the given robots.txt filters into a matcher. Filters with
+     * a blank path are ignored.
+     * @param filters robots.txt filters (can be {@code null})
+     * @return compiled matcher (never {@code null})
+     */
+    public static RobotsTxtMatcher compile(
+            Collection<? extends RobotsTxtFilter> filters) {
+        if (filters == null || filters.isEmpty()) {
+            return EMPTY;
+        }
+        var builderRoot = new NodeBuilder();
+        for (RobotsTxtFilter filter : filters) {
+            var path = filter.getPath();
+            if (path == null || path.isBlank()) {
+                continue;
+            }
+            var pattern = path.toLowerCase(Locale.ROOT);
+            var anchored = pattern.endsWith("$");
+            if (anchored) {
+                pattern = pattern.substring(0, pattern.length() - 1);
+            }
+            var star = pattern.indexOf('*');
+            var prefix = star == -1 ? pattern : pattern.substring(0, star);
+            var remainder = star == -1 ? "" : pattern.substring(star);
+
+            var node = builderRoot;
+            for (var i = 0; i < prefix.length(); i++) {
+                node = node.children.computeIfAbsent(
+                        prefix.charAt(i), c -> new NodeBuilder());
+            }
+            node.rules.add(new Rule(
+                    filter,
+                    filter.getOnMatch() != OnMatch.EXCLUDE,
+                    path.length(),
+                    remainder.split("\\*", -1),
+                    anchored));
+        }
+        return new RobotsTxtMatcher(builderRoot.build());
+    }
+
+    /**
+     * Whether this matcher has no rules.
+     * @return <code>true</code> if empty
+     */
+    public boolean isEmpty() {
+        return root.keys == null && root.rules.length == 0;
+    }
+
+    /**
+     * Finds the rule that applies to the given URL: the matching rule with
+     * the longest path, favoring "Allow" rules on ties.
+     * @param url absolute URL, or URL path (starting with a slash)
+     * @return the matching filter or {@code null} if no rule matches
+     */
+    public RobotsTxtFilter match(String url) {
+        if (url == null || isEmpty()) {
+            return null;
+        }
+        var path = extractPath(url).toLowerCase(Locale.ROOT);
+        Rule best = null;
+        var node = root;
+        var i = 0;
+        while (true) {
+            for (Rule rule : node.rules) {
+                if (rule.isPreferredOver(best) && rule.matches(path, i)) {
+                    best = rule;
+                }
+            }
+            if (i == path.length()) {
+                break;
+            }
+            node = node.child(path.charAt(i));
+            if (node == null) {
+                break;
+            }
+            i++;
+        }
+        return best == null ? null : best.filter;
+    }
+
+    // Keeps the path, query string included, without the fragment.
+    static String extractPath(String url) {
+        var start = 0;
+        var scheme = url.indexOf("://");
+        if (scheme != -1) {
+            start = scheme + 3;
+            while (start < url.length()) {
+                var ch = url.charAt(start);
+                if (ch == '/' || ch == '?' || ch == '#') {
+                    break;
+                }
+                start++;
+            }
+        }
+        var end = url.indexOf('#', start);
+        if (end == -1) {
+            end = url.length();
+        }
+        if (start == end) {
+            return "/";
+        }
+        if (url.charAt(start) != '/') {
+            return "/" + url.substring(start, end);
+        }
+        return url.substring(start, end);
+    }
+
+    //--- Inner classes --------------------------------------------------------
+
+    private record Rule(
+            RobotsTxtFilter filter,
+            boolean allow,
+            int length,
+            // remainder of the pattern after the literal prefix, split on
+            // wildcards (first part is always empty when not null)
+            String[] parts,
+            boolean anchored) {
+
+        private boolean isPreferredOver(Rule other) {
+            return other == null
+                    || length > other.length
+                    || (length == other.length && allow && !other.allow);
+        }
+
+        // "from" is the position right after the literal prefix.
+        private boolean matches(String path, int from) {
+            var pos = from;
+            var last = parts.length - 1;
+            for (var k = 1; k < last; k++) {
+                var idx = path.indexOf(parts[k], pos);
+                if (idx == -1) {
+                    return false;
+                }
+                pos = idx + parts[k].length();
+            }
+            if (last == 0) {
+                return !anchored || endsAt(path, pos);
+            }
+            var tail = parts[last];
+            if (!anchored) {
+                return path.indexOf(tail, pos) != -1;
+            }
+            return endsWith(path, tail, pos);
+        }
+
+        private static boolean endsAt(String path, int pos) {
+            return pos == path.length()
+                    || (pos == path.length() - 1 && path.charAt(pos) == '/');
+        }
+
+        // Also true if followed by a single trailing slash.
+        private static boolean endsWith(String path, String tail, int pos) {
+            var start = path.length() - tail.length();
+            if (start >= pos && path.startsWith(tail, start)) {
+                return true;
+            }
+            start--;
+            return start >= pos
+                    && path.charAt(path.length() - 1) == '/'
+                    && path.startsWith(tail, start);
+        }
+    }
+
+    // Immutable trie node with children sorted by character.
+    private static final class Node {
+        private final char[] keys;
+        private final Node[] children;
+        private final Rule[] rules;
+
+        private Node(char[] keys, Node[] children, Rule[] rules) {
+            this.keys = keys;
+            this.children = children;
+            this.rules = rules;
+        }
+
+        private Node child(char ch) {
+            if (keys == null) {
+                return null;
+            }
+            var idx = Arrays.binarySearch(keys, ch);
+            return idx < 0 ? null : children[idx];
+        }
+    }
+
+    private static final class NodeBuilder {
+        private final Map<Character, NodeBuilder> children = new TreeMap<>();
+        private final List<Rule> rules = new ArrayList<>();
+
+        private Node build() {
+            char[] keys = null;
+            var nodes = new Node[children.size()];
+            if (!children.isEmpty()) {
+                keys = new char[children.size()];
+                var i = 0;
+                for (var entry : children.entrySet()) {
+                    keys[i] = entry.getKey();
+                    nodes[i] = entry.getValue().build();
+                    i++;
+                }
+            }
+            return new Node(keys, nodes, rules.toArray(new Rule[0]));
+        }
+    }
+}
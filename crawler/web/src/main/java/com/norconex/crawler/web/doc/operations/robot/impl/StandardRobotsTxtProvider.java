@@ -15,31 +15,39 @@
 package com.norconex.crawler.web.doc.operations.robot.impl;
 
 import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.regex.Pattern;
 
 import org.apache.commons.collections4.map.ListOrderedMap;
+import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.Strings;
 import org.apache.commons.lang3.math.NumberUtils;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.norconex.commons.lang.config.Configurable;
 import com.norconex.commons.lang.text.TextMatcher;
 import com.norconex.commons.lang.url.HttpURL;
+import com.norconex.crawler.core.cluster.CacheMap;
 import com.norconex.crawler.core.doc.operations.filter.OnMatch;
 import com.norconex.crawler.core.doc.operations.filter.impl.GenericReferenceFilter;
 import com.norconex.crawler.core.event.CrawlerEvent;
 import com.norconex.crawler.core.event.listeners.CrawlerLifeCycleListener;
 import com.norconex.crawler.core.fetch.Fetcher;
 import com.norconex.crawler.core.session.CrawlerSession;
+import com.norconex.crawler.core.util.SerialUtil;
 import com.norconex.crawler.web.doc.operations.robot.RobotsTxt;
 import com.norconex.crawler.web.doc.operations.robot.RobotsTxtFilter;
 import com.norconex.crawler.web.doc.operations.robot.RobotsTxtProvider;
@@ -47,10 +55,14 @@ import com.norconex.crawler.web.event.WebCrawlerEvent;
 import com.norconex.crawler.web.fetch.HttpMethod;
 import com.norconex.crawler.web.fetch.WebFetchRequest;
 import com.norconex.crawler.web.fetch.WebFetchResponse;
+import com.norconex.crawler.web.util.Web;
 import com.norconex.importer.doc.Doc;
 
+import lombok.Data;
 import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.ToString;
+import lombok.experimental.Accessors;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -59,38 +71,123 @@ import lombok.extern.slf4j.Slf4j;
  * described at <a href="http://www.robotstxt.org/robotstxt.html">
  * http://www.robotstxt.org/robotstxt.html</a>.
  * </p>
+ * <p>
+ * Fetched robots.txt are cached in memory, up to a maximum number of sites
+ * and for a limited time (see {@link StandardRobotsTxtProviderConfig}).
+ * A given robots.txt is only fetched by one thread at a time, while threads
+ * needing robots.txt of other sites are not blocked. Fetched robots.txt can
+ * optionally be shared with other cluster nodes through a persistent
+ * cache. Cache hits, misses, fetches, and total fetch time (in
+ * milliseconds) are reported in crawler metrics event counts.
+ * </p>
  */
 @Slf4j
 @EqualsAndHashCode
 @ToString
 public class StandardRobotsTxtProvider
         extends CrawlerLifeCycleListener
-        implements RobotsTxtProvider {
+        implements RobotsTxtProvider,
+        Configurable<StandardRobotsTxtProviderConfig> {
+
+    public static final String SHARED_CACHE_NAME = "robotsTxt";
+
+    public static final String METRIC_CACHE_HIT = "ROBOTS_TXT_CACHE_HIT";
+    public static final String METRIC_CACHE_MISS = "ROBOTS_TXT_CACHE_MISS";
+    public static final String METRIC_FETCH = "ROBOTS_TXT_FETCH";
+    public static final String METRIC_FETCH_MILLIS = "ROBOTS_TXT_FETCH_MILLIS";
+
+    @Getter
+    private final StandardRobotsTxtProviderConfig configuration =
+            new StandardRobotsTxtProviderConfig();
+
+    // LRU, access-ordered. Guarded by the cache lock.
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    @JsonIgnore
+    private final Map<String, CachedEntry> robotsTxtCache =
+            new LinkedHashMap<>(16, 0.75f, true);
+
+    // Guards robotsTxtCache.
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    @JsonIgnore
+    private final ReentrantLock cacheLock = new ReentrantLock();
 
+    // Loads in progress, one per site
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     @JsonIgnore
-    private final Map<String, RobotsTxt> robotsTxtCache = new HashMap<>();
+    private final Map<String, CompletableFuture<RobotsTxt>> loading =
+            new ConcurrentHashMap<>();
 
     @ToString.Exclude
     @EqualsAndHashCode.Exclude
     @JsonIgnore
     private CrawlerSession crawler;
 
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    @JsonIgnore
+    private CacheMap<String> sharedCache;
+
     @Override
     protected void onCrawlerCrawlBegin(CrawlerEvent event) {
         crawler = (CrawlerSession) event.getSource();
+        if (configuration.isSharedCache()) {
+            sharedCache = Web.gridCache(
+                    crawler, SHARED_CACHE_NAME, String.class);
+        }
     }
 
     @Override
-    public synchronized RobotsTxt getRobotsTxt(
-            Fetcher fetcher, String url) {
+    public RobotsTxt getRobotsTxt(Fetcher fetcher, String url) {
         var trimmedURL = StringUtils.trimToEmpty(url);
         var baseURL = getBaseURL(trimmedURL);
-        var robotsTxt = robotsTxtCache.get(baseURL);
+        var robotsTxt = getCached(baseURL);
         if (robotsTxt != null) {
+            countMetric(METRIC_CACHE_HIT, 1);
+            return robotsTxt;
+        }
+
+        // Only one thread loads a given robots.txt. Others wait for it.
+        var newLoad = new CompletableFuture<RobotsTxt>();
+        var existingLoad = loading.putIfAbsent(baseURL, newLoad);
+        if (existingLoad != null) {
+            countMetric(METRIC_CACHE_HIT, 1);
+            return existingLoad.join();
+        }
+        try {
+            // May have been cached while we were checking
+            robotsTxt = getCached(baseURL);
+            if (robotsTxt == null) {
+                countMetric(METRIC_CACHE_MISS, 1);
+                robotsTxt = loadRobotsTxt(fetcher, trimmedURL, baseURL);
+                putCached(baseURL, robotsTxt);
+            }
+            newLoad.complete(robotsTxt);
             return robotsTxt;
+        } catch (RuntimeException e) {
+            newLoad.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(baseURL, newLoad);
+        }
+    }
+
+    private RobotsTxt loadRobotsTxt(
+            Fetcher fetcher, String trimmedURL, String baseURL) {
+        var shared = getShared(baseURL);
+        if (shared != null) {
+            try {
+                return toRobotsTxt(shared, trimmedURL);
+            } catch (IOException e) {
+                LOG.warn("Could not parse shared robots.txt for {}.",
+                        baseURL, e);
+            }
         }
 
         var robotsURL = baseURL + "/robots.txt";
+        var startTime = System.currentTimeMillis();
         Doc doc = null;
         try {
             // Try once
@@ -112,10 +209,14 @@ public class StandardRobotsTxtProvider
                         new WebFetchRequest(doc, HttpMethod.GET));
             }
 
+            var record = new SharedRobotsTxt()
+                    .setUserAgent(response.getUserAgent())
+                    .setFetchedAt(System.currentTimeMillis());
+            RobotsTxt robotsTxt;
             if (response.getStatusCode() > 0) {
-                robotsTxt = parseRobotsTxt(
-                        doc.getInputStream(), trimmedURL,
-                        response.getUserAgent());
+                record.setContent(IOUtils.toString(
+                        doc.getInputStream(), StandardCharsets.UTF_8));
+                robotsTxt = toRobotsTxt(record, trimmedURL);
                 LOG.debug("Fetched and parsed robots.txt: {}", robotsURL);
                 if (crawler != null) {
                     crawler.fire(
@@ -131,12 +232,99 @@ public class StandardRobotsTxtProvider
                         response.getStatusCode(), response.getReasonPhrase());
                 robotsTxt = RobotsTxt.builder().build();
             }
+            putShared(baseURL, record);
+            return robotsTxt;
         } catch (Exception e) {
             LOG.warn("Not able to obtain robots.txt at: {}", robotsURL, e);
-            robotsTxt = RobotsTxt.builder().build();
+            return RobotsTxt.builder().build();
+        } finally {
+            countMetric(METRIC_FETCH, 1);
+            countMetric(METRIC_FETCH_MILLIS,
+                    System.currentTimeMillis() - startTime);
+        }
+    }
+
+    private RobotsTxt toRobotsTxt(SharedRobotsTxt record, String url)
+            throws IOException {
+        if (record.getContent() == null) {
+            return RobotsTxt.builder().build();
+        }
+        return parseRobotsTxt(new ByteArrayInputStream(
+                record.getContent().getBytes(StandardCharsets.UTF_8)),
+                url, record.getUserAgent());
+    }
+
+    private RobotsTxt getCached(String baseURL) {
+        cacheLock.lock();
+        try {
+            var entry = robotsTxtCache.get(baseURL);
+            if (entry == null) {
+                return null;
+            }
+            if (isExpired(entry.cachedAt)) {
+                robotsTxtCache.remove(baseURL);
+                return null;
+            }
+            return entry.robotsTxt;
+        } finally {
+            cacheLock.unlock();
+        }
+    }
+
+    private void putCached(String baseURL, RobotsTxt robotsTxt) {
+        cacheLock.lock();
+        try {
+            robotsTxtCache.put(baseURL,
+                    new CachedEntry(robotsTxt, System.currentTimeMillis()));
+            var maxSize = Math.max(1, configuration.getMaxCacheSize());
+            var it = robotsTxtCache.values().iterator();
+            while (robotsTxtCache.size() > maxSize && it.hasNext()) {
+                it.next();
+                it.remove();
+            }
+        } finally {
+            cacheLock.unlock();
+        }
+    }
+
+    private SharedRobotsTxt getShared(String baseURL) {
+        if (sharedCache == null) {
+            return null;
+        }
+        try {
+            return sharedCache.get(baseURL)
+                    .map(json -> SerialUtil.fromJson(
+                            json, SharedRobotsTxt.class))
+                    .filter(r -> !isExpired(r.getFetchedAt()))
+                    .orElse(null);
+        } catch (RuntimeException e) {
+            LOG.warn("Could not read shared robots.txt for {}.", baseURL, e);
+            return null;
+        }
+    }
+
+    private void putShared(String baseURL, SharedRobotsTxt record) {
+        if (sharedCache == null) {
+            return;
+        }
+        try {
+            sharedCache.put(baseURL, SerialUtil.toJsonString(record));
+        } catch (RuntimeException e) {
+            LOG.warn("Could not share robots.txt for {}.", baseURL, e);
+        }
+    }
+
+    private boolean isExpired(long cachedAt) {
+        var ttl = configuration.getCacheTtl();
+        return ttl != null
+                && System.currentTimeMillis() - cachedAt > ttl.toMillis();
+    }
+
+    private void countMetric(String name, long value) {
+        if (crawler != null) {
+            crawler.getCrawlContext().getMetrics()
+                    .incrementCounter(name, value);
         }
-        robotsTxtCache.put(baseURL, robotsTxt);
-        return robotsTxt;
     }
 
     protected RobotsTxt parseRobotsTxt(
@@ -315,6 +503,21 @@ public class StandardRobotsTxtProvider
         }
     }
 
+    private record CachedEntry(RobotsTxt robotsTxt, long cachedAt) {
+    }
+
+    /**
+     * Raw robots.txt as shared with other nodes.
+     */
+    @Data
+    @Accessors(chain = true)
+    static class SharedRobotsTxt {
+        // null if not found
+        private String content;
+        private String userAgent;
+        private long fetchedAt;
+    }
+
     @EqualsAndHashCode
     private static class StdRobotsTxtFilter extends GenericReferenceFilter
             implements RobotsTxtFilter {
@@ -0,0 +1,52 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.crawler.web.doc.operations.robot.impl;
+
+import java.time.Duration;
+
+import lombok.Data;
+import lombok.experimental.Accessors;
+
+/**
+ * Configuration for {@link StandardRobotsTxtProvider}.
+ */
+@Data
+@Accessors(chain = true)
+public class StandardRobotsTxtProviderConfig {
+
+    public static final int DEFAULT_MAX_CACHE_SIZE = 10_000;
+    public static final Duration DEFAULT_CACHE_TTL = Duration.ofHours(24);
+
+    /**
+     * Maximum number of robots.txt (one per site) kept in memory. When
+     * exceeded, the least recently used ones are evicted.
+     * Default is {@value #DEFAULT_MAX_CACHE_SIZE}.
+     */
+    private int maxCacheSize = DEFAULT_MAX_CACHE_SIZE;
+
+    /**
+     * How long a robots.txt is cached before being fetched again.
+     * Default is 24 hours.
+     */
+    private Duration cacheTtl = DEFAULT_CACHE_TTL;
+
+    /**
+     * Whether to also cache fetched robots.txt files in a persistent
+     * cluster cache, so each one is fetched only once across cluster
+     * nodes and crawl sessions (within the cache time-to-live).
+     * Default is {@code false}.
+     */
+    private boolean sharedCache;
+}
@@ -22,6 +22,7 @@ import java.util.function.Predicate;
 import org.apache.commons.lang3.StringUtils;
 
 import com.norconex.crawler.core.doc.pipelines.committer.CommitterPipelineContext;
+import com.norconex.crawler.core.doc.pipelines.queue.QueueBatch;
 import com.norconex.crawler.core.doc.pipelines.queue.QueuePipelineContext;
 import com.norconex.crawler.core.event.CrawlerEvent;
 import com.norconex.crawler.web.event.WebCrawlerEvent;
@@ -65,9 +66,18 @@ public class PostImportLinksStage
         postImportURLs.removeAll(extractedURLs);
 
         Set<String> inScopeUrls = new HashSet<>();
+        var queueBatch = new QueueBatch(
+                ctx.getCrawlSession().getCrawlContext().getCrawlEntryLedger());
 
         for (String url : postImportURLs) {
-            handlePostImportLink(ctx, inScopeUrls, url);
+            handlePostImportLink(ctx, inScopeUrls, queueBatch, url);
+        }
+        // Queue accepted links all at once
+        try {
+            queueBatch.flush();
+        } catch (Exception e) {
+            LOG.warn("Could not queue post-import URLs from \"{}\".",
+                    doc.getReference(), e);
         }
 
         // if not keeping, delete matching fields
@@ -88,7 +98,10 @@ public class PostImportLinksStage
     }
 
     private void handlePostImportLink(
-            CommitterPipelineContext ctx, Set<String> inScopeUrls, String url) {
+            CommitterPipelineContext ctx,
+            Set<String> inScopeUrls,
+            QueueBatch queueBatch,
+            String url) {
 
         var cfg = Web.config(ctx.getCrawlSession().getCrawlContext());
         var doc = ctx.getDocContext().getDoc();
@@ -108,12 +121,13 @@ public class PostImportLinksStage
                     var newDocRec = new WebCrawlerEntry(
                             url, docRecord.getDepth() + 1);
                     newDocRec.setReferrerReference(doc.getReference());
+                    var queueCtx = new QueuePipelineContext(
+                            ctx.getCrawlSession(), newDocRec);
+                    queueCtx.setQueueBatch(queueBatch);
                     ctx.getCrawlSession().getCrawlContext()
                             .getDocPipelines()
                             .getQueuePipeline()
-                            .accept(new QueuePipelineContext(
-                                    ctx.getCrawlSession(),
-                                    newDocRec));
+                            .accept(queueCtx);
                     String afterQueueURL = newDocRec.getReference();
                     if (!url.equals(afterQueueURL)) {
                         LOG.debug(
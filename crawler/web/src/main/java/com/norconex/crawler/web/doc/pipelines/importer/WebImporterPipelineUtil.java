@@ -14,6 +14,8 @@
  */
 package com.norconex.crawler.web.doc.pipelines.importer;
 
+import java.util.concurrent.locks.ReentrantLock;
+
 import com.norconex.crawler.core.doc.pipelines.importer.ImporterPipelineContext;
 import com.norconex.crawler.core.doc.pipelines.queue.QueuePipelineContext;
 import com.norconex.crawler.core.event.CrawlerEvent;
@@ -31,11 +33,25 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public final class WebImporterPipelineUtil {
 
+    // Avoids redirect dups.
+    private static final ReentrantLock REDIRECT_LOCK = new ReentrantLock();
+
     private WebImporterPipelineUtil() {
     }
 
-    // Synchronized to avoid redirect dups.
-    public static synchronized void queueRedirectURL(
+    public static void queueRedirectURL(
+            ImporterPipelineContext context,
+            WebFetchResponse response,
+            String redirectTargetURL) {
+        REDIRECT_LOCK.lock();
+        try {
+            doQueueRedirectURL(context, response, redirectTargetURL);
+        } finally {
+            REDIRECT_LOCK.unlock();
+        }
+    }
+
+    private static void doQueueRedirectURL(
             ImporterPipelineContext context,
             WebFetchResponse response,
             String redirectTargetURL) {
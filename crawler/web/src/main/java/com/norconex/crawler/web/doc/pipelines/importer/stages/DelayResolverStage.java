@@ -16,10 +16,12 @@ package com.norconex.crawler.web.doc.pipelines.importer.stages;
 
 import com.norconex.crawler.core.doc.pipelines.importer.ImporterPipelineContext;
 import com.norconex.crawler.core.doc.pipelines.importer.stages.AbstractImporterStage;
+import com.norconex.crawler.web.doc.operations.delay.DelayDispatchScheduler;
 import com.norconex.crawler.web.util.Web;
 
 /**
- * Wait for configured or default delay to expire.
+ * Wait for configured or default delay to expire, unless already honored
+ * when the URL was dispatched (see {@link DelayDispatchScheduler}).
  */
 public class DelayResolverStage extends AbstractImporterStage {
     @Override
@@ -27,8 +29,9 @@ public class DelayResolverStage extends AbstractImporterStage {
         var delayResolver =
                 Web.config(ctx.getCrawlSession().getCrawlContext())
                         .getDelayResolver();
-        if (delayResolver != null) {
-            String reference = ctx.getDocContext().getReference();
+        String reference = ctx.getDocContext().getReference();
+        if (delayResolver != null && !DelayDispatchScheduler.isScheduled(
+                ctx.getCrawlSession(), reference)) {
             delayResolver.delay(
                     Web.robotsTxt(ctx.getCrawlSession().getCrawlContext(),
                             reference),
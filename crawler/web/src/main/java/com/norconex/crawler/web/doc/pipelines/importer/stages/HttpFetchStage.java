@@ -139,6 +139,18 @@ public class HttpFetchStage extends AbstractImporterStage {
                             .build());
             return false;
         }
+        // Rejected by the fetcher before downloading the whole content
+        // (e.g., based on response headers or content size).
+        if (ProcessingOutcome.REJECTED.equals(outcome)) {
+            crawlSession.fire(
+                    CrawlerEvent.builder()
+                            .name(CrawlerEvent.REJECTED_FILTER)
+                            .source(crawlSession)
+                            .crawlSession(crawlSession)
+                            .crawlEntry(webEntry)
+                            .build());
+            return false;
+        }
         if (outcome != null && outcome.isGoodState()) {
             crawlSession.fire(CrawlerEvent.builder()
                     .name(FetchDirective.METADATA.is(
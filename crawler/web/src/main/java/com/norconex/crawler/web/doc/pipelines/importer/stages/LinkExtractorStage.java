@@ -25,6 +25,7 @@ import org.apache.commons.lang3.StringUtils;
 
 import com.norconex.crawler.core.doc.pipelines.importer.ImporterPipelineContext;
 import com.norconex.crawler.core.doc.pipelines.importer.stages.AbstractImporterStage;
+import com.norconex.crawler.core.doc.pipelines.queue.QueueBatch;
 import com.norconex.crawler.core.doc.pipelines.queue.QueuePipelineContext;
 import com.norconex.crawler.core.event.CrawlerEvent;
 import com.norconex.crawler.web.WebCrawlerConfig.ReferencedLinkType;
@@ -70,11 +71,19 @@ public class LinkExtractorStage extends AbstractImporterStage {
             return true;
         }
 
-        var docLinks = new UniqueDocLinks();
+        var docLinks = new UniqueDocLinks(new QueueBatch(ctx.getCrawlSession()
+                .getCrawlContext().getCrawlEntryLedger()));
 
         for (Link link : links) {
             handleExtractedLink(ctx, docLinks, link);
         }
+        // Queue accepted links all at once
+        try {
+            docLinks.queueBatch.flush();
+        } catch (Exception e) {
+            LOG.warn("Could not queue URLs extracted from \"{}\".",
+                    ctx.getDocContext().getReference(), e);
+        }
 
         LOG.debug("inScope count: {}.", docLinks.inScope.size());
         if (!docLinks.inScope.isEmpty()) {
@@ -126,7 +135,7 @@ public class LinkExtractorStage extends AbstractImporterStage {
                             "URL in crawl scope: {} (keep: {})",
                             link.getUrl(), linkTypes);
                 }
-                var queuedURL = queueURL(link, ctx, docLinks.extracted);
+                var queuedURL = queueURL(link, ctx, docLinks);
                 if (StringUtils.isNotBlank(queuedURL)) {
                     docLinks.inScope.add(queuedURL);
                 }
@@ -192,12 +201,12 @@ public class LinkExtractorStage extends AbstractImporterStage {
     // Returns a URL that was not already processed
     private String queueURL(
             Link link,
-            WebImporterPipelineContext ctx, Set<String> uniqueExtractedURLs) {
+            WebImporterPipelineContext ctx, UniqueDocLinks docLinks) {
 
         //TODO do we want to add all URLs in a page, or just the valid ones?
         // i.e., those properly formatted.  If we do so, can it prevent
         // weird/custom URLs that some link extractors may find valid?
-        if (uniqueExtractedURLs.add(link.getUrl())) {
+        if (docLinks.extracted.add(link.getUrl())) {
             var newURL = new WebCrawlerEntry(
                     link.getUrl(),
                     ctx.getDocContext().getCurrentCrawlEntry().getDepth() + 1);
@@ -205,11 +214,13 @@ public class LinkExtractorStage extends AbstractImporterStage {
             if (!link.getMetadata().isEmpty()) {
                 newURL.setReferrerLinkMetadata(link.getMetadata().toString());
             }
+            var queueCtx = new QueuePipelineContext(
+                    ctx.getCrawlSession(), newURL);
+            queueCtx.setQueueBatch(docLinks.queueBatch);
             ctx.getCrawlSession().getCrawlContext()
                     .getDocPipelines()
                     .getQueuePipeline()
-                    .accept(new QueuePipelineContext(ctx.getCrawlSession(),
-                            newURL));
+                    .accept(queueCtx);
             String afterQueueURL = newURL.getReference();
             if (LOG.isDebugEnabled() && !link.getUrl().equals(afterQueueURL)) {
                 LOG.debug("URL modified from \"{}\" to \"{}\".",
@@ -224,5 +235,10 @@ public class LinkExtractorStage extends AbstractImporterStage {
         final Set<String> extracted = new ListOrderedSet<>();
         final Set<String> inScope = new ListOrderedSet<>();
         final Set<String> outScope = new ListOrderedSet<>();
+        final QueueBatch queueBatch;
+
+        UniqueDocLinks(QueueBatch queueBatch) {
+            this.queueBatch = queueBatch;
+        }
     }
 }
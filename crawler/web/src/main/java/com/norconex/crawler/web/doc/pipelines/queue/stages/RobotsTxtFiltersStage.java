@@ -69,39 +69,18 @@ public class RobotsTxtFiltersStage implements Predicate<QueuePipelineContext> {
 
     /* Find matching rules, knowing that "Allow" work like this:
      * "A matching Allow directive beats a matching Disallow only if it
-     * contains more or equal number of characters in the path".
-     * (logic described here: http://tools.seobook.com/robots-txt/)
+     * contains more or equal number of characters in the path"
+     * (RFC 9309, section 2.2.2). All rules are evaluated at once by
+     * the compiled RobotsTxtMatcher.
      */
     private RobotsTxtFilter findRejectingRobotsFilter(
             QueuePipelineContext ctx) {
-
+        var url = ctx.getCrawlEntry().getReference();
         var robotsTxt = Web.robotsTxt(
-                ctx.getCrawlSession().getCrawlContext(),
-                ctx.getCrawlEntry().getReference());
+                ctx.getCrawlSession().getCrawlContext(), url);
         if (robotsTxt == null) {
             return null;
         }
-        var disallowFilters = robotsTxt.getDisallowFilters();
-        var allowFilters = robotsTxt.getAllowFilters();
-        String url = ctx.getCrawlEntry().getReference();
-
-        for (RobotsTxtFilter df : disallowFilters) {
-            if (!df.acceptReference(url)) {
-                // Rejected by Disallow, check if overruled by Allow
-                var overruled = false;
-                for (RobotsTxtFilter af : allowFilters) {
-                    // allow path length must be longer than disallow.
-                    if (af.getPath().length() > df.getPath().length()
-                            && af.acceptReference(url)) {
-                        overruled = true;
-                        break;
-                    }
-                }
-                if (!overruled) {
-                    return df;
-                }
-            }
-        }
-        return null;
+        return robotsTxt.findRejectingFilter(url);
     }
 }
@@ -0,0 +1,335 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.crawler.web.fetch.impl.httpclient;
+
+import static java.util.Optional.ofNullable;
+import static org.apache.commons.lang3.ArrayUtils.EMPTY_STRING_ARRAY;
+import static org.apache.hc.core5.util.TimeValue.ofMilliseconds;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.hc.client5.http.classic.methods.HttpUriRequestBase;
+import org.apache.hc.client5.http.config.TlsConfig;
+import org.apache.hc.client5.http.cookie.CookieStore;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClientBuilder;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.nio.AsyncClientConnectionManager;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.HttpException;
+import org.apache.hc.core5.http.nio.ssl.TlsStrategy;
+import org.apache.hc.core5.http.nio.support.BasicRequestProducer;
+import org.apache.hc.core5.http2.HttpVersionPolicy;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.reactor.IOReactorConfig;
+import org.apache.hc.core5.util.Timeout;
+
+import com.norconex.crawler.core.ledger.ProcessingOutcome;
+import com.norconex.crawler.core.session.CrawlerSession;
+import com.norconex.crawler.web.fetch.HttpMethod;
+import com.norconex.crawler.web.fetch.WebFetchRequest;
+import com.norconex.crawler.web.fetch.WebFetchResponse;
+import com.norconex.crawler.web.fetch.impl.httpclient.HttpClientFetcher.ContentRead;
+import com.norconex.crawler.web.fetch.util.ApacheRedirectCaptureStrategy;
+import com.norconex.importer.doc.Doc;
+
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * <p>
+ * Web crawler {@link HttpClientFetcher} variant executing requests with
+ * the non-blocking Apache HttpClient. Connections are handled by a small
+ * number of I/O threads, and requests to servers supporting HTTP/2 are
+ * multiplexed over shared connections.
+ * </p>
+ * <p>
+ * Response bodies are streamed to the document cache as they are
+ * received, and the crawler thread having requested the document
+ * resumes with the completed response. When a response should not be
+ * downloaded (see {@link HttpClientFetcherConfig#isHeaderFirstFetch()}
+ * and {@link HttpClientFetcherConfig#getMaxContentSize()}), the exchange
+ * is cancelled, which only resets that request stream with HTTP/2.
+ * This fetcher works best combined with a high number of crawler threads.
+ * </p>
+ * <p>
+ * It supports the same configuration as {@link HttpClientFetcher}, plus
+ * {@link HttpClientFetcherConfig#isHttp2Disabled()} and
+ * {@link HttpClientFetcherConfig#getIoThreads()}. Form authentication
+ * and HSTS discovery are performed with a blocking client sharing the
+ * same cookies. Requests requiring connection-based authentication
+ * (NTLM, SPNEGO, or KERBEROS) are all executed by the blocking client.
+ * </p>
+ *
+ * @since 4.0.0
+ */
+@Slf4j
+@EqualsAndHashCode(onlyExplicitlyIncluded = true, callSuper = true)
+@ToString(onlyExplicitlyIncluded = true, callSuper = true)
+public class AsyncHttpClientFetcher extends HttpClientFetcher {
+
+    private static final Set<HttpAuthMethod> BLOCKING_AUTH_METHODS = Set.of(
+            HttpAuthMethod.NTLM,
+            HttpAuthMethod.SPNEGO,
+            HttpAuthMethod.KERBEROS);
+
+    private CloseableHttpAsyncClient asyncHttpClient;
+    private CookieStore cookieStore;
+
+    @Override
+    protected void fetcherStartup(CrawlerSession crawler) {
+        super.fetcherStartup(crawler);
+        var authConfig = getConfiguration().getAuthentication();
+        if (authConfig != null
+                && BLOCKING_AUTH_METHODS.contains(authConfig.getMethod())) {
+            LOG.info("{} authentication requires blocking requests. "
+                    + "Asynchronous requests disabled.",
+                    authConfig.getMethod());
+            return;
+        }
+        asyncHttpClient = createAsyncHttpClient();
+        asyncHttpClient.start();
+    }
+
+    @Override
+    protected void fetcherShutdown(CrawlerSession c) {
+        if (asyncHttpClient != null) {
+            asyncHttpClient.close(CloseMode.GRACEFUL);
+            asyncHttpClient = null;
+        }
+        super.fetcherShutdown(c);
+        cookieStore = null;
+    }
+
+    public CloseableHttpAsyncClient getAsyncHttpClient() {
+        return asyncHttpClient;
+    }
+
+    @Override
+    protected WebFetchResponse executeRequest(
+            HttpUriRequestBase request,
+            HttpClientContext ctx,
+            WebFetchRequest req,
+            Doc responseDoc,
+            HttpMethod method) throws IOException {
+        if (asyncHttpClient == null) {
+            return super.executeRequest(request, ctx, req, responseDoc, method);
+        }
+
+        var readBody = HttpMethod.GET.is(method)
+                || HttpMethod.POST.is(method);
+        var responseBuilder = new AtomicReference<
+                HttpClientFetchResponse.HttpClientFetchResponseBuilder>();
+        var consumer = new DocResponseConsumer(
+                responseDoc,
+                getConfiguration().getMaxContentSize(),
+                (response, contentLength) -> {
+                    responseBuilder.set(applyResponseHead(
+                            response, ctx, req, responseDoc));
+                    return readBody ? rejectBeforeBody(
+                            response.getCode(), contentLength, responseDoc)
+                            : null;
+                });
+        var result = consumer.getResult();
+        var exchange = asyncHttpClient.execute(
+                new BasicRequestProducer(request, null),
+                consumer,
+                null,
+                ctx,
+                new FutureCallback<>() {
+                    @Override
+                    public void completed(ContentRead read) {
+                        result.complete(read);
+                    }
+
+                    @Override
+                    public void failed(Exception e) {
+                        result.completeExceptionally(e);
+                    }
+
+                    @Override
+                    public void cancelled() {
+                        result.cancel(false);
+                    }
+                });
+
+        var read = awaitResult(result, exchange, consumer);
+        var response = consumer.getResponse();
+        var statusCode = response.getCode();
+
+        //--- Extract body ---
+        if (!readBody) {
+            consumer.discard();
+        } else if (read == ContentRead.SKIPPED) {
+            LOG.debug("Not downloading content of {}: {}",
+                    responseDoc.getReference(), consumer.getSkipReason());
+            if (!consumer.isDraining()) {
+                exchange.cancel(true);
+            }
+            if (getConfiguration().getValidStatusCodes()
+                    .contains(statusCode)) {
+                return responseBuilder.get()
+                        .processingOutcome(ProcessingOutcome.REJECTED)
+                        .build();
+            }
+        } else {
+            if (read == ContentRead.TRUNCATED) {
+                LOG.debug("Content of {} truncated to {} bytes.",
+                        responseDoc.getReference(),
+                        getConfiguration().getMaxContentSize());
+                // do not download the rest
+                exchange.cancel(true);
+            }
+            if (read != ContentRead.NONE) {
+                responseDoc.setInputStream(consumer.content());
+            }
+            if (rejectAfterBody(read, responseDoc)) {
+                return responseBuilder.get()
+                        .processingOutcome(ProcessingOutcome.REJECTED)
+                        .build();
+            }
+        }
+
+        return responseBuilder.get()
+                .processingOutcome(responseOutcome(
+                        statusCode, response.getReasonPhrase(), ctx))
+                .build();
+    }
+
+    private static ContentRead awaitResult(
+            Future<ContentRead> result,
+            Future<ContentRead> exchange,
+            DocResponseConsumer consumer) throws IOException {
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            exchange.cancel(true);
+            consumer.discard();
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Request interrupted.");
+        } catch (CancellationException e) {
+            consumer.discard();
+            throw new IOException("Request cancelled.", e);
+        } catch (ExecutionException e) {
+            consumer.discard();
+            if (e.getCause() instanceof IOException ioe) {
+                throw ioe;
+            }
+            if (e.getCause() instanceof HttpException he) {
+                throw new IOException(he.getMessage(), he);
+            }
+            throw new IOException(e.getCause());
+        }
+    }
+
+    /**
+     * Creates the cookie store shared by the blocking and asynchronous
+     * clients.
+     * @return a cookie store
+     */
+    @Override
+    protected synchronized CookieStore createDefaultCookieStore() {
+        if (cookieStore == null) {
+            cookieStore = super.createDefaultCookieStore();
+        }
+        return cookieStore;
+    }
+
+    protected CloseableHttpAsyncClient createAsyncHttpClient() {
+        var cfg = getConfiguration();
+        var builder = HttpAsyncClients.custom();
+        var schemePortResolver = createSchemePortResolver();
+        ofNullable(createRoutePlanner(schemePortResolver)).ifPresent(
+                builder::setRoutePlanner);
+
+        builder.setConnectionManager(createAsyncConnectionManager());
+        builder.setIOReactorConfig(createIOReactorConfig());
+        builder.setSchemePortResolver(schemePortResolver);
+        builder.setDefaultRequestConfig(createRequestConfig());
+        builder.setProxy(createProxy());
+        builder.setDefaultCredentialsProvider(createCredentialsProvider());
+        builder.setUserAgent(cfg.getUserAgent());
+        builder.evictExpiredConnections();
+        ofNullable(cfg.getMaxConnectionIdleTime()).ifPresent(
+                d -> builder.evictIdleConnections(
+                        ofMilliseconds(d.toMillis())));
+        builder.setDefaultHeaders(createDefaultRequestHeaders());
+        builder.setDefaultCookieStore(createDefaultCookieStore());
+        builder.setRedirectStrategy(
+                new ApacheRedirectCaptureStrategy(
+                        cfg.getRedirectUrlProvider()));
+
+        buildCustomAsyncHttpClient(builder);
+
+        return builder.build();
+    }
+
+    protected AsyncClientConnectionManager createAsyncConnectionManager() {
+        var cfg = getConfiguration();
+        var tlsBuilder = TlsConfig.custom()
+                .setVersionPolicy(cfg.isHttp2Disabled()
+                        ? HttpVersionPolicy.FORCE_HTTP_1
+                        : HttpVersionPolicy.NEGOTIATE);
+        ofNullable(cfg.getSocketTimeout()).ifPresent(
+                d -> tlsBuilder.setHandshakeTimeout(
+                        d.toMillis(), TimeUnit.MILLISECONDS));
+        if (!cfg.getSslProtocols().isEmpty()) {
+            tlsBuilder.setSupportedProtocols(
+                    cfg.getSslProtocols().toArray(EMPTY_STRING_ARRAY));
+        }
+        var connBuilder = PoolingAsyncClientConnectionManagerBuilder
+                .create()
+                .setDefaultTlsConfig(tlsBuilder.build())
+                .setDefaultConnectionConfig(createConnectionConfig())
+                .setMaxConnTotal(cfg.getMaxConnections())
+                .setMaxConnPerRoute(cfg.getMaxConnectionsPerRoute());
+        // the default strategy is both a blocking and non-blocking one
+        if (createTlsSocketStrategy(createSSLContext())
+                instanceof TlsStrategy tlsStrategy) {
+            connBuilder.setTlsStrategy(tlsStrategy);
+        }
+        return connBuilder.build();
+    }
+
+    protected IOReactorConfig createIOReactorConfig() {
+        var cfg = getConfiguration();
+        var builder = IOReactorConfig.custom();
+        if (cfg.getIoThreads() > 0) {
+            builder.setIoThreadCount(cfg.getIoThreads());
+        }
+        ofNullable(cfg.getSocketTimeout()).ifPresent(
+                d -> builder.setSoTimeout(
+                        Timeout.ofMilliseconds(d.toMillis())));
+        return builder.build();
+    }
+
+    /**
+     * For implementors to subclass.  Does nothing by default.
+     * @param builder asynchronous http client builder
+     */
+    protected void buildCustomAsyncHttpClient(HttpAsyncClientBuilder builder) {
+        //do nothing by default
+    }
+}
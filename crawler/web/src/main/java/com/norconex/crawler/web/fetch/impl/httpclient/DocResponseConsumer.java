@@ -0,0 +1,207 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.crawler.web.fetch.impl.httpclient;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.apache.commons.io.IOUtils;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.EntityDetails;
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.HttpException;
+import org.apache.hc.core5.http.HttpResponse;
+import org.apache.hc.core5.http.nio.AsyncResponseConsumer;
+import org.apache.hc.core5.http.nio.CapacityChannel;
+import org.apache.hc.core5.http.protocol.HttpContext;
+
+import com.norconex.commons.lang.io.CachedInputStream;
+import com.norconex.commons.lang.io.CachedOutputStream;
+import com.norconex.crawler.web.fetch.impl.httpclient.HttpClientFetcher.ContentRead;
+import com.norconex.importer.doc.Doc;
+
+import lombok.Getter;
+
+/**
+ * Streams an asynchronous HTTP response body into a document cache.
+ * Invoked by I/O reactor threads. The result future completes as soon
+ * as the fetching thread can carry on: when the body was fully read,
+ * when it was truncated, or when the response head says the body is not
+ * wanted. Whatever is still received for that exchange afterwards is
+ * discarded.
+ */
+class DocResponseConsumer implements AsyncResponseConsumer<ContentRead> {
+
+    /**
+     * Evaluates a response head as soon as it is received.
+     */
+    @FunctionalInterface
+    interface HeadEvaluator {
+        /**
+         * Evaluates a response head.
+         * @param response the response head
+         * @param contentLength declared body length, or -1 if unknown
+         * @return why the body should not be read, or <code>null</code>
+         *     to read it
+         */
+        String evaluate(HttpResponse response, long contentLength);
+    }
+
+    private final Doc doc;
+    private final long maxSize;
+    private final HeadEvaluator headEvaluator;
+    @Getter
+    private final CompletableFuture<ContentRead> result =
+            new CompletableFuture<>();
+
+    @Getter
+    private volatile HttpResponse response;
+    @Getter
+    private volatile String skipReason;
+    // whether a skipped body is small enough to be read to its end
+    @Getter
+    private volatile boolean draining;
+    private volatile boolean discarding;
+    private FutureCallback<ContentRead> resultCallback;
+    private CachedOutputStream out;
+    private long count;
+
+    DocResponseConsumer(Doc doc, long maxSize, HeadEvaluator headEvaluator) {
+        this.doc = doc;
+        this.maxSize = maxSize;
+        this.headEvaluator = headEvaluator;
+    }
+
+    @Override
+    public void consumeResponse(
+            HttpResponse response,
+            EntityDetails entityDetails,
+            HttpContext context,
+            FutureCallback<ContentRead> resultCallback)
+            throws HttpException, IOException {
+        this.response = response;
+        this.resultCallback = resultCallback;
+        var contentLength =
+                entityDetails != null ? entityDetails.getContentLength() : -1;
+        var reason = headEvaluator.evaluate(response, contentLength);
+        if (entityDetails == null) {
+            finish(ContentRead.NONE);
+            return;
+        }
+        if (reason != null) {
+            skipReason = reason;
+            draining = contentLength >= 0 && contentLength
+                    <= HttpClientFetcher.MAX_DRAINED_CONTENT_SIZE;
+            discarding = true;
+            result.complete(ContentRead.SKIPPED);
+            return;
+        }
+        synchronized (this) {
+            out = doc.getStreamFactory().newOuputStream();
+        }
+    }
+
+    @Override
+    public void informationResponse(
+            HttpResponse response, HttpContext context) {
+        //NOOP
+    }
+
+    @Override
+    public void updateCapacity(CapacityChannel capacityChannel)
+            throws IOException {
+        capacityChannel.update(Integer.MAX_VALUE);
+    }
+
+    @Override
+    public void consume(ByteBuffer src) throws IOException {
+        if (discarding) {
+            src.position(src.limit());
+            return;
+        }
+        synchronized (this) {
+            var length = src.remaining();
+            if (maxSize >= 0 && count + length > maxSize) {
+                length = (int) (maxSize - count);
+                discarding = true;
+            }
+            write(src, length);
+            count += length;
+            src.position(src.limit());
+        }
+        if (discarding) {
+            result.complete(ContentRead.TRUNCATED);
+        }
+    }
+
+    @Override
+    public void streamEnd(List<? extends Header> trailers)
+            throws HttpException, IOException {
+        finish(ContentRead.FULL);
+    }
+
+    @Override
+    public void failed(Exception cause) {
+        result.completeExceptionally(cause);
+    }
+
+    @Override
+    public void releaseResources() {
+        //NOOP: the fetching thread takes or discards the content
+    }
+
+    /**
+     * Gets the received content. To be invoked once the result is
+     * either {@link ContentRead#FULL} or {@link ContentRead#TRUNCATED}.
+     * @return content input stream
+     * @throws IOException could not obtain the content
+     */
+    synchronized CachedInputStream content() throws IOException {
+        var content = out.getInputStream();
+        out = null;
+        return content;
+    }
+
+    /**
+     * Discards any content received so far and ignores the rest.
+     */
+    synchronized void discard() {
+        discarding = true;
+        IOUtils.closeQuietly(out);
+        out = null;
+    }
+
+    private void write(ByteBuffer src, int length) throws IOException {
+        if (out == null || length <= 0) {
+            return;
+        }
+        if (src.hasArray()) {
+            out.write(src.array(), src.arrayOffset() + src.position(), length);
+        } else {
+            var bytes = new byte[length];
+            src.get(bytes);
+            out.write(bytes);
+        }
+    }
+
+    private void finish(ContentRead read) {
+        result.complete(read);
+        if (resultCallback != null) {
+            resultCallback.completed(read);
+        }
+    }
+}
@@ -47,6 +47,7 @@ import javax.security.auth.login.LoginContext;
 import javax.security.auth.login.LoginException;
 
 import org.apache.commons.codec.binary.Base64;
+import org.apache.commons.io.input.BoundedInputStream;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.Strings;
 import org.apache.hc.client5.http.SchemePortResolver;
@@ -77,11 +78,14 @@ import org.apache.hc.client5.http.ssl.DefaultClientTlsStrategy;
 import org.apache.hc.client5.http.ssl.NoopHostnameVerifier;
 import org.apache.hc.client5.http.ssl.TlsSocketStrategy;
 import org.apache.hc.client5.http.ssl.TrustAllStrategy;
+import org.apache.hc.core5.http.ClassicHttpResponse;
 import org.apache.hc.core5.http.Header;
 import org.apache.hc.core5.http.HttpException;
 import org.apache.hc.core5.http.HttpHeaders;
 import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.http.HttpResponse;
 import org.apache.hc.core5.http.HttpStatus;
+import org.apache.hc.core5.http.io.entity.EntityUtils;
 import org.apache.hc.core5.http.message.BasicHeader;
 import org.apache.hc.core5.http.protocol.HttpContext;
 import org.apache.hc.core5.ssl.SSLContexts;
@@ -90,7 +94,10 @@ import org.apache.hc.core5.util.TimeValue;
 import org.apache.hc.core5.util.Timeout;
 
 import com.norconex.commons.lang.encrypt.EncryptionUtil;
+import com.norconex.commons.lang.map.Properties;
 import com.norconex.crawler.core.CrawlerException;
+import com.norconex.crawler.core.doc.operations.filter.MetadataFilter;
+import com.norconex.crawler.core.doc.pipelines.OnMatchFiltersResolver;
 import com.norconex.crawler.core.fetch.AbstractFetcher;
 import com.norconex.crawler.core.fetch.FetchException;
 import com.norconex.crawler.core.fetch.FetchRequest;
@@ -101,6 +108,7 @@ import com.norconex.crawler.web.doc.operations.url.impl.GenericUrlNormalizerConf
 import com.norconex.crawler.web.fetch.HttpMethod;
 import com.norconex.crawler.web.fetch.WebFetchRequest;
 import com.norconex.crawler.web.fetch.WebFetchResponse;
+import com.norconex.crawler.web.fetch.impl.httpclient.HttpClientFetcherConfig.OversizedContent;
 import com.norconex.crawler.web.fetch.util.ApacheHttpUtil;
 import com.norconex.crawler.web.fetch.util.ApacheRedirectCaptureStrategy;
 import com.norconex.crawler.web.fetch.util.HstsResolver;
@@ -108,6 +116,7 @@ import com.norconex.crawler.web.ledger.WebCrawlerEntry;
 import com.norconex.importer.charset.CharsetDetector;
 import com.norconex.importer.doc.ContentTypeDetector;
 import com.norconex.importer.doc.Doc;
+import com.norconex.importer.doc.DocMetaConstants;
 
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -195,6 +204,12 @@ public class HttpClientFetcher
         extends AbstractFetcher<HttpClientFetcherConfig> {
 
     private static final int FTP_PORT = 80;
+    // Unwanted bodies up to that size are read to reuse the connection
+    static final long MAX_DRAINED_CONTENT_SIZE = 8 * 1024L;
+
+    enum ContentRead {
+        NONE, FULL, TRUNCATED, SKIPPED
+    }
 
     static final SchemePortResolver SCHEME_PORT_RESOLVER = host -> {
         Args.notNull(host, "HTTP host");
@@ -219,6 +234,7 @@ public class HttpClientFetcher
     private final AuthCache authCache = new BasicAuthCache();
     private Object userToken;
     private Subject kerberosSubject;
+    private List<MetadataFilter> metadataFilters = List.of();
 
     @Override
     public WebFetchResponse fetch(FetchRequest fetchRequest)
@@ -312,7 +328,17 @@ public class HttpClientFetcher
         }
     }
 
-    private WebFetchResponse executeRequest(
+    /**
+     * Executes a prepared HTTP request and converts its response.
+     * @param request the HTTP request
+     * @param ctx the HTTP context for this request
+     * @param req the fetch request
+     * @param responseDoc document receiving the response
+     * @param method the HTTP method
+     * @return fetch response
+     * @throws IOException problem executing the request
+     */
+    protected WebFetchResponse executeRequest(
             HttpUriRequestBase request,
             HttpClientContext ctx,
             WebFetchRequest req,
@@ -320,85 +346,211 @@ public class HttpClientFetcher
             HttpMethod method) throws IOException {
         return httpClient.execute(request, ctx, response -> {
             var statusCode = response.getCode();
-            var reason = response.getReasonPhrase();
-
-            LOG.debug(
-                    "Fetch status for: \"{}\": {} - {}",
-                    responseDoc.getReference(), statusCode,
-                    reason);
-
-            var responseBuilder = HttpClientFetchResponse.builder()
-                    .statusCode(statusCode)
-                    .reasonPhrase(reason)
-                    .userAgent(configuration.getUserAgent())
-                    .redirectTarget(
-                            ApacheRedirectCaptureStrategy
-                                    .getRedirectTarget(
-                                            ctx));
-
-            //--- Extract headers ---
-            var docCtxForHeaders = req.getCrawlDocContext();
-            var webEntryForHeaders = docCtxForHeaders != null
-                    ? (WebCrawlerEntry) docCtxForHeaders
-                            .getCurrentCrawlEntry()
-                    : null;
-            ApacheHttpUtil.applyResponseHeaders(
-                    response,
-                    configuration.getHeadersPrefix(),
-                    responseDoc,
-                    webEntryForHeaders);
+            var responseBuilder =
+                    applyResponseHead(response, ctx, req, responseDoc);
 
             //--- Extract body ---
             if (HttpMethod.GET.is(method)
                     || HttpMethod.POST.is(method)) {
-                if (ApacheHttpUtil.applyResponseContent(
-                        response, responseDoc)) {
-                    performDetection(responseDoc);
-                } else {
-                    LOG.debug(
-                            "No content returned for: {}",
-                            responseDoc.getReference());
+                var entity = response.getEntity();
+                var rejectReason = rejectBeforeBody(
+                        statusCode,
+                        entity != null ? entity.getContentLength() : -1,
+                        responseDoc);
+                if (rejectReason != null) {
+                    LOG.debug("Not downloading content of {}: {}",
+                            responseDoc.getReference(), rejectReason);
+                    discardContent(request, response);
+                    if (configuration.getValidStatusCodes()
+                            .contains(statusCode)) {
+                        return responseBuilder
+                                .processingOutcome(
+                                        ProcessingOutcome.REJECTED)
+                                .build();
+                    }
+                } else if (rejectAfterBody(applyResponseContent(
+                        request, response, responseDoc), responseDoc)) {
+                    return responseBuilder
+                            .processingOutcome(ProcessingOutcome.REJECTED)
+                            .build();
                 }
             }
 
-            //--- VALID http response handling ---
-            if (configuration.getValidStatusCodes()
-                    .contains(statusCode)) {
-                userToken = ctx.getUserToken();
-                return responseBuilder
-                        .processingOutcome(
-                                ProcessingOutcome.NEW)
-                        .build();
-            }
+            return responseBuilder
+                    .processingOutcome(responseOutcome(
+                            statusCode, response.getReasonPhrase(), ctx))
+                    .build();
+        });
+    }
 
-            // UNMODIFIED
-            if (statusCode == HttpStatus.SC_NOT_MODIFIED) {
-                return responseBuilder
-                        .processingOutcome(
-                                ProcessingOutcome.UNMODIFIED)
-                        .build();
-            }
+    // Logs the response status and applies response headers to the document.
+    HttpClientFetchResponse.HttpClientFetchResponseBuilder applyResponseHead(
+            HttpResponse response,
+            HttpClientContext ctx,
+            WebFetchRequest req,
+            Doc responseDoc) {
+        var statusCode = response.getCode();
+        var reason = response.getReasonPhrase();
+
+        LOG.debug(
+                "Fetch status for: \"{}\": {} - {}",
+                responseDoc.getReference(), statusCode,
+                reason);
+
+        var responseBuilder = HttpClientFetchResponse.builder()
+                .statusCode(statusCode)
+                .reasonPhrase(reason)
+                .userAgent(configuration.getUserAgent())
+                .redirectTarget(
+                        ApacheRedirectCaptureStrategy
+                                .getRedirectTarget(
+                                        ctx));
+
+        //--- Extract headers ---
+        var docCtxForHeaders = req.getCrawlDocContext();
+        var webEntryForHeaders = docCtxForHeaders != null
+                ? (WebCrawlerEntry) docCtxForHeaders
+                        .getCurrentCrawlEntry()
+                : null;
+        ApacheHttpUtil.applyResponseHeaders(
+                response,
+                configuration.getHeadersPrefix(),
+                responseDoc,
+                webEntryForHeaders);
+        return responseBuilder;
+    }
 
-            //--- INVALID http response handling ---
+    // Returns the outcome matching a response status code.
+    ProcessingOutcome responseOutcome(
+            int statusCode, String reason, HttpClientContext ctx) {
+        //--- VALID http response handling ---
+        if (configuration.getValidStatusCodes()
+                .contains(statusCode)) {
+            userToken = ctx.getUserToken();
+            return ProcessingOutcome.NEW;
+        }
 
-            // NOT_FOUND
-            if (configuration.getNotFoundStatusCodes()
-                    .contains(statusCode)) {
-                return responseBuilder
-                        .processingOutcome(
-                                ProcessingOutcome.NOT_FOUND)
-                        .build();
+        // UNMODIFIED
+        if (statusCode == HttpStatus.SC_NOT_MODIFIED) {
+            return ProcessingOutcome.UNMODIFIED;
+        }
+
+        //--- INVALID http response handling ---
+
+        // NOT_FOUND
+        if (configuration.getNotFoundStatusCodes()
+                .contains(statusCode)) {
+            return ProcessingOutcome.NOT_FOUND;
+        }
+
+        // BAD_STATUS
+        LOG.debug("Unsupported HTTP Response: {}", reason);
+        return ProcessingOutcome.BAD_STATUS;
+    }
+
+    // Returns why the response body should not be read, or null to read it.
+    String rejectBeforeBody(int statusCode, long contentLength, Doc doc) {
+        var maxSize = configuration.getMaxContentSize();
+        if (maxSize >= 0
+                && configuration.getOversizedContent()
+                        == OversizedContent.REJECT
+                && contentLength > maxSize) {
+            return "Content-Length " + contentLength
+                    + " is larger than " + maxSize + " bytes.";
+        }
+        if (!configuration.isHeaderFirstFetch()) {
+            return null;
+        }
+        if (!configuration.getValidStatusCodes().contains(statusCode)) {
+            return "invalid status code " + statusCode + ".";
+        }
+        if (!metadataFilters.isEmpty()) {
+            var meta = doc.getMetadata();
+            meta.set(DocMetaConstants.CONTENT_TYPE, doc.getContentType());
+            meta.set(DocMetaConstants.CONTENT_ENCODING, doc.getCharset());
+            var accepted = OnMatchFiltersResolver
+                    .<Properties, MetadataFilter>builder()
+                    .subject(meta)
+                    .filters(metadataFilters)
+                    .predicate((s, f) -> f.acceptMetadata(
+                            doc.getReference(), s))
+                    .build()
+                    .isAccepted();
+            if (!accepted) {
+                return "rejected by metadata filters.";
             }
+        }
+        return null;
+    }
 
-            // BAD_STATUS
-            LOG.debug(
-                    "Unsupported HTTP Response: {}",
-                    response.getReasonPhrase());
-            return responseBuilder
-                    .processingOutcome(
-                            ProcessingOutcome.BAD_STATUS)
-                    .build();
-        });
+    // Performs detection on read content and returns whether the document
+    // must be rejected for being too large.
+    boolean rejectAfterBody(ContentRead read, Doc doc) {
+        if (read == ContentRead.NONE) {
+            LOG.debug("No content returned for: {}", doc.getReference());
+        } else {
+            performDetection(doc);
+        }
+        if (read == ContentRead.TRUNCATED
+                && configuration.getOversizedContent()
+                        == OversizedContent.REJECT) {
+            LOG.debug("Content of {} is larger than {} bytes.",
+                    doc.getReference(), configuration.getMaxContentSize());
+            return true;
+        }
+        return false;
+    }
+
+    // Reads the response body, up to the configured maximum size.
+    private ContentRead applyResponseContent(
+            HttpUriRequestBase request, ClassicHttpResponse response, Doc doc)
+            throws IOException {
+        var maxSize = configuration.getMaxContentSize();
+        if (maxSize < 0) {
+            return ApacheHttpUtil.applyResponseContent(response, doc)
+                    ? ContentRead.FULL
+                    : ContentRead.NONE;
+        }
+        var entity = response.getEntity();
+        if (entity == null) {
+            return ContentRead.NONE;
+        }
+        var raw = entity.getContent();
+        var bounded = BoundedInputStream.builder()
+                .setInputStream(raw)
+                .setMaxCount(maxSize)
+                .setPropagateClose(false)
+                .get();
+        try (var content = doc.getStreamFactory().newInputStream(bounded)) {
+            content.enforceFullCaching();
+            doc.setInputStream(content);
+        }
+        if (raw.read() == -1) {
+            EntityUtils.consumeQuietly(entity);
+            return ContentRead.FULL;
+        }
+        LOG.debug("Content of {} truncated to {} bytes.",
+                doc.getReference(), maxSize);
+        // do not download the rest
+        request.cancel();
+        return ContentRead.TRUNCATED;
+    }
+
+    // Releases the connection without reading a body we do not want.
+    // Small bodies are drained so the connection can be reused, others
+    // are aborted.
+    private static void discardContent(
+            HttpUriRequestBase request, ClassicHttpResponse response) {
+        var entity = response.getEntity();
+        if (entity == null) {
+            return;
+        }
+        var length = entity.getContentLength();
+        if (length >= 0 && length <= MAX_DRAINED_CONTENT_SIZE) {
+            EntityUtils.consumeQuietly(entity);
+        } else {
+            request.cancel();
+        }
     }
 
     @Override
@@ -414,6 +566,10 @@ public class HttpClientFetcher
     @Override
     protected void fetcherStartup(CrawlerSession crawler) {
         httpClient = createHttpClient();
+        if (configuration.isHeaderFirstFetch() && crawler != null) {
+            metadataFilters = crawler.getCrawlContext().getCrawlConfig()
+                    .getMetadataFilters();
+        }
         var userAgent = configuration.getUserAgent();
         if (StringUtils.isBlank(userAgent)) {
             LOG.info("User-Agent: <None specified>");
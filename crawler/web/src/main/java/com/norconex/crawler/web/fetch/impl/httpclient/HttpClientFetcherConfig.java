@@ -58,6 +58,17 @@ public class HttpClientFetcherConfig extends BaseFetcherConfig {
         RELAXED, STRICT, IGNORE
     }
 
+    /**
+     * What to do with a document whose content is larger than
+     * {@link HttpClientFetcherConfig#getMaxContentSize()}.
+     */
+    public enum OversizedContent {
+        /** Keep the content up to the maximum size. */
+        TRUNCATE,
+        /** Reject the document. */
+        REJECT
+    }
+
     /**
      * HTTP status codes considered "valid". Defaults to 200.
      */
@@ -239,6 +250,47 @@ public class HttpClientFetcherConfig extends BaseFetcherConfig {
      */
     private boolean hstsDisabled;
 
+    /**
+     * Whether to evaluate the response status code, headers and
+     * configured metadata filters as soon as response headers are
+     * received, before downloading the response body. The body of a
+     * response with an invalid status code or with rejected metadata
+     * is not read: the connection is drained when the body is small,
+     * or aborted otherwise. Documents rejected by metadata filters this
+     * way are reported as rejected by the fetch stage.
+     * Default is <code>false</code>.
+     */
+    private boolean headerFirstFetch;
+
+    /**
+     * The maximum number of bytes to download for a document body.
+     * What happens to a document with a larger body is defined by
+     * {@link #getOversizedContent()}. A negative value means no limit.
+     * Default is -1.
+     */
+    private long maxContentSize = -1;
+
+    /**
+     * What to do with a document whose body is larger than
+     * {@link #getMaxContentSize()}. Default is to truncate it.
+     */
+    private OversizedContent oversizedContent = OversizedContent.TRUNCATE;
+
+    /**
+     * Whether to only use HTTP/1.1, even with servers supporting HTTP/2.
+     * Only applies to {@link AsyncHttpClientFetcher}.
+     * Default is <code>false</code>.
+     */
+    private boolean http2Disabled;
+
+    /**
+     * The number of I/O threads multiplexing all requests.
+     * Only applies to {@link AsyncHttpClientFetcher}. A value lower than
+     * 1 uses as many threads as there are available processors.
+     * Default is 0.
+     */
+    private int ioThreads;
+
     /**
      * Sets valid HTTP response status codes.
      * @return valid status codes
@@ -17,6 +17,7 @@ package com.norconex.crawler.web.fetch.util;
 import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Stream;
 
 import org.apache.commons.lang3.StringUtils;
@@ -55,14 +56,21 @@ public final class HstsResolver {
         NO, DOMAIN_ONLY, INCLUDE_SUBDOMAINS
     }
 
+    // Guards DOMAIN_HSTS.
+    private static final ReentrantLock LOCK = new ReentrantLock();
     private static final Map<String, HstsSupport> DOMAIN_HSTS =
             new HashMap<>();
 
     private HstsResolver() {
     }
 
-    public static synchronized void clearCache() {
-        DOMAIN_HSTS.clear();
+    public static void clearCache() {
+        LOCK.lock();
+        try {
+            DOMAIN_HSTS.clear();
+        } finally {
+            LOCK.unlock();
+        }
     }
 
     @SuppressWarnings("null")
@@ -104,14 +112,20 @@ public final class HstsResolver {
         }
 
         // If secure, cache HSTS support settings
-        if (Strings.CI.startsWith(docRecord.getReference(), "https:")) {
-            resolveHstsSupport(httpClient, rootDomain);
-        } else {
-            applyHstsSupport(docRecord, rootDomain, isSubdomain);
+        LOCK.lock();
+        try {
+            if (Strings.CI.startsWith(docRecord.getReference(), "https:")) {
+                resolveHstsSupport(httpClient, rootDomain);
+            } else {
+                applyHstsSupport(docRecord, rootDomain, isSubdomain);
+            }
+        } finally {
+            LOCK.unlock();
         }
     }
 
-    private static synchronized void applyHstsSupport(
+    // Must be called while holding the lock
+    private static void applyHstsSupport(
             WebCrawlerEntry docRecord, String domain, boolean isSubdomain) {
         var support = DOMAIN_HSTS.getOrDefault(domain, HstsSupport.NO);
         if (support == HstsSupport.INCLUDE_SUBDOMAINS
@@ -128,7 +142,8 @@ public final class HstsResolver {
         }
     }
 
-    private static synchronized void resolveHstsSupport(
+    // Must be called while holding the lock
+    private static void resolveHstsSupport(
             HttpClient httpClient, String domain) {
 
         var exceptionMsg = """
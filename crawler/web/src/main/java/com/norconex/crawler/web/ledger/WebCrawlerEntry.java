@@ -96,6 +96,7 @@ public class WebCrawlerEntry extends CrawlerEntry {
         setReferenceTrail(new ArrayList<>(src.getReferenceTrail()));
         setMetaChecksum(src.getMetaChecksum());
         setContentChecksum(src.getContentChecksum());
+        setRawContentChecksum(src.getRawContentChecksum());
         setQueuedAt(src.getQueuedAt());
         setProcessingAt(src.getProcessingAt());
         setProcessedAt(src.getProcessedAt());
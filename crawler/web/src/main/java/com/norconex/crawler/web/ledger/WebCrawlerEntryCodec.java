@@ -0,0 +1,122 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.crawler.web.ledger;
+
+import java.util.List;
+
+import com.norconex.crawler.core.cluster.codec.CodecInput;
+import com.norconex.crawler.core.cluster.codec.CodecOutput;
+import com.norconex.crawler.core.ledger.AbstractCrawlerEntryCodec;
+
+/**
+ * Binary cache value codec for {@link WebCrawlerEntry}.
+ */
+public class WebCrawlerEntryCodec
+        extends AbstractCrawlerEntryCodec<WebCrawlerEntry> {
+
+    private static final int F_FROM_SITEMAP = FIRST_SUBCLASS_FIELD;
+    private static final int F_SITEMAP_LAST_MOD = FIRST_SUBCLASS_FIELD + 1;
+    private static final int F_SITEMAP_CHANGE_FREQ = FIRST_SUBCLASS_FIELD + 2;
+    private static final int F_SITEMAP_PRIORITY = FIRST_SUBCLASS_FIELD + 3;
+    private static final int F_REFERRER_REFERENCE = FIRST_SUBCLASS_FIELD + 4;
+    private static final int F_REFERRER_LINK_METADATA =
+            FIRST_SUBCLASS_FIELD + 5;
+    private static final int F_ETAG = FIRST_SUBCLASS_FIELD + 6;
+    private static final int F_REFERENCED_URLS = FIRST_SUBCLASS_FIELD + 7;
+    private static final int F_REDIRECT_TRAIL = FIRST_SUBCLASS_FIELD + 8;
+    private static final int F_REDIRECT_TARGET = FIRST_SUBCLASS_FIELD + 9;
+    private static final int F_HTTP_STATUS_CODE = FIRST_SUBCLASS_FIELD + 10;
+    private static final int F_HTTP_REASON_PHRASE = FIRST_SUBCLASS_FIELD + 11;
+
+    // Append-only dictionaries
+    private static final List<String> CHANGE_FREQS = List.of(
+            "always", "hourly", "daily", "weekly", "monthly", "yearly",
+            "never");
+    private static final List<String> REASON_PHRASES = List.of(
+            "OK", "Moved Permanently", "Found", "See Other", "Not Modified",
+            "Temporary Redirect", "Permanent Redirect", "Bad Request",
+            "Unauthorized", "Forbidden", "Not Found", "Gone",
+            "Too Many Requests", "Internal Server Error", "Bad Gateway",
+            "Service Unavailable", "Gateway Timeout");
+
+    public WebCrawlerEntryCodec() {
+        super(WebCrawlerEntry.class);
+    }
+
+    @Override
+    protected WebCrawlerEntry newEntry() {
+        return new WebCrawlerEntry();
+    }
+
+    @Override
+    protected void writeFields(WebCrawlerEntry entry, CodecOutput out) {
+        out.booleanField(F_FROM_SITEMAP, entry.isFromSitemap());
+        out.dateField(F_SITEMAP_LAST_MOD, entry.getSitemapLastMod());
+        if (entry.getSitemapChangeFreq() != null) {
+            out.internedField(F_SITEMAP_CHANGE_FREQ,
+                    entry.getSitemapChangeFreq(), CHANGE_FREQS);
+        }
+        if (entry.getSitemapPriority() != null) {
+            out.varintField(F_SITEMAP_PRIORITY,
+                    Float.floatToIntBits(entry.getSitemapPriority()));
+        }
+        out.stringField(F_REFERRER_REFERENCE, entry.getReferrerReference());
+        out.stringField(
+                F_REFERRER_LINK_METADATA, entry.getReferrerLinkMetadata());
+        out.stringField(F_ETAG, entry.getEtag());
+        out.deltaStringListField(F_REFERENCED_URLS,
+                entry.getReferencedUrls(), entry.getReference());
+        out.deltaStringListField(F_REDIRECT_TRAIL,
+                entry.getRedirectTrail(), entry.getReference());
+        out.stringField(F_REDIRECT_TARGET, entry.getRedirectTarget());
+        if (entry.getHttpStatusCode() != 0) {
+            out.varintField(F_HTTP_STATUS_CODE, entry.getHttpStatusCode());
+        }
+        if (entry.getHttpReasonPhrase() != null) {
+            out.internedField(F_HTTP_REASON_PHRASE,
+                    entry.getHttpReasonPhrase(), REASON_PHRASES);
+        }
+    }
+
+    @Override
+    protected boolean readField(
+            int field, WebCrawlerEntry entry, CodecInput in) {
+        switch (field) {
+            case F_FROM_SITEMAP -> entry.setFromSitemap(in.readBoolean());
+            case F_SITEMAP_LAST_MOD -> entry.setSitemapLastMod(in.readDate());
+            case F_SITEMAP_CHANGE_FREQ -> entry.setSitemapChangeFreq(
+                    in.readInterned(CHANGE_FREQS));
+            case F_SITEMAP_PRIORITY -> entry.setSitemapPriority(
+                    Float.intBitsToFloat(in.readInt()));
+            case F_REFERRER_REFERENCE -> entry
+                    .setReferrerReference(in.readString());
+            case F_REFERRER_LINK_METADATA -> entry
+                    .setReferrerLinkMetadata(in.readString());
+            case F_ETAG -> entry.setEtag(in.readString());
+            case F_REFERENCED_URLS -> entry.setReferencedUrls(
+                    in.readDeltaStringList(entry.getReference()));
+            case F_REDIRECT_TRAIL -> entry.setRedirectTrail(
+                    in.readDeltaStringList(entry.getReference()));
+            case F_REDIRECT_TARGET -> entry.setRedirectTarget(in.readString());
+            case F_HTTP_STATUS_CODE -> entry.setHttpStatusCode(in.readInt());
+            case F_HTTP_REASON_PHRASE -> entry.setHttpReasonPhrase(
+                    in.readInterned(REASON_PHRASES));
+            default -> {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -40,6 +40,7 @@ import com.norconex.crawler.web.doc.operations.scope.UrlScopeResolver;
 import com.norconex.crawler.web.doc.operations.sitemap.SitemapLocator;
 import com.norconex.crawler.web.doc.operations.sitemap.SitemapResolver;
 import com.norconex.crawler.web.doc.operations.url.WebUrlNormalizer;
+import com.norconex.crawler.web.fetch.impl.httpclient.AsyncHttpClientFetcher;
 import com.norconex.crawler.web.fetch.impl.httpclient.HttpClientFetcher;
 import com.norconex.crawler.web.fetch.impl.playwright.PlaywrightFetcher;
 import com.norconex.crawler.web.fetch.impl.webdriver.WebDriverFetcher;
@@ -85,6 +86,7 @@ public class CrawlerWebPtProvider implements PolymorphicTypeProvider {
         //        map.put(CrawlerConfig.class, WebCrawlerConfig.class);
         map.putAll(Fetcher.class, List.of(
                 HttpClientFetcher.class,
+                AsyncHttpClientFetcher.class,
                 PlaywrightFetcher.class,
                 WebDriverFetcher.class));
 
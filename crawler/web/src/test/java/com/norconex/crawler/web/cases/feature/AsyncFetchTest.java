@@ -0,0 +1,133 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.crawler.web.cases.feature;
+
+import static com.norconex.crawler.web.mocks.MockWebsite.serverUrl;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockserver.model.HttpRequest.request;
+import static org.mockserver.model.HttpResponse.response;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.http.HttpHeaders;
+import org.junit.jupiter.api.Timeout;
+import org.mockserver.integration.ClientAndServer;
+import org.mockserver.junit.jupiter.MockServerSettings;
+import org.mockserver.model.HttpStatusCode;
+import org.mockserver.model.MediaType;
+
+import com.norconex.crawler.web.WebCrawlerConfig;
+import com.norconex.crawler.web.fetch.impl.httpclient.AsyncHttpClientFetcher;
+import com.norconex.crawler.web.fetch.impl.httpclient.HttpClientFetcherConfig;
+import com.norconex.crawler.web.junit.WebCrawlingTest;
+import com.norconex.crawler.web.junit.WebCrawlingTestCapturer;
+import com.norconex.crawler.web.mocks.MockWebsite;
+
+/**
+ * Tests crawling with the asynchronous HTTP fetcher.
+ */
+@MockServerSettings
+@Timeout(60)
+class AsyncFetchTest {
+
+    private static final int CONTENT_SIZE = 5000;
+    private static final int MAX_SIZE = 1000;
+
+    @WebCrawlingTest
+    void testCrawlLinkedPages(ClientAndServer client, WebCrawlerConfig cfg) {
+        MockWebsite.whenBoundedDepth(client, 9);
+        cfg.setStartReferences(List.of(serverUrl(client, "/async/0000")));
+        cfg.setNumThreads(4);
+        useAsyncFetcher(cfg);
+
+        var mem = WebCrawlingTestCapturer.crawlAndCapture(cfg).getCommitter();
+
+        assertThat(mem.getUpsertCount()).isEqualTo(10);
+    }
+
+    @WebCrawlingTest
+    void testConditionalRequest(ClientAndServer client, WebCrawlerConfig cfg) {
+        var path = "/etag.html";
+        cfg.setStartReferences(List.of(serverUrl(client, path)));
+        cfg.setDocumentChecksummer(null);
+        cfg.setMetadataChecksummer(null);
+        useAsyncFetcher(cfg);
+
+        client.when(request().withPath(path)
+                .withHeader(HttpHeaders.IF_NONE_MATCH, "etag-A"))
+                .respond(response()
+                        .withHeader(HttpHeaders.ETAG, "etag-A")
+                        .withStatusCode(
+                                HttpStatusCode.NOT_MODIFIED_304.code()));
+        client.when(request().withPath(path))
+                .respond(response()
+                        .withHeader(HttpHeaders.ETAG, "etag-A")
+                        .withBody("Some page."));
+
+        var mem = WebCrawlingTestCapturer.crawlAndCapture(cfg).getCommitter();
+        assertThat(mem.getUpsertCount()).isOne();
+        mem.clean();
+
+        mem = WebCrawlingTestCapturer.crawlAndCapture(cfg).getCommitter();
+        assertThat(mem.getUpsertCount()).isZero();
+    }
+
+    @WebCrawlingTest
+    void testTruncateOversizedContent(
+            ClientAndServer client, WebCrawlerConfig cfg) throws IOException {
+        client.when(request().withPath("/large.txt")).respond(response()
+                .withBody(StringUtils.repeat('a', CONTENT_SIZE),
+                        MediaType.TEXT_PLAIN));
+        cfg.setStartReferences(List.of(serverUrl(client, "/large.txt")));
+        useAsyncFetcher(cfg).setMaxContentSize(MAX_SIZE);
+
+        var mem = WebCrawlingTestCapturer.crawlAndCapture(cfg).getCommitter();
+
+        assertThat(mem.getUpsertCount()).isOne();
+        var txt = IOUtils.toString(
+                mem.getUpsertRequests().get(0).getContent(), UTF_8);
+        assertThat(txt.trim()).hasSize(MAX_SIZE);
+    }
+
+    @WebCrawlingTest
+    void testHeaderFirstSkipsInvalidStatus(
+            ClientAndServer client, WebCrawlerConfig cfg) {
+        client.when(request().withPath("/missing.html")).respond(response()
+                .withStatusCode(HttpStatusCode.NOT_FOUND_404.code())
+                .withBody(StringUtils.repeat('a', CONTENT_SIZE)));
+        MockWebsite.whenHtml(client, "/page.html", "Some page.");
+        cfg.setStartReferences(List.of(
+                serverUrl(client, "/missing.html"),
+                serverUrl(client, "/page.html")));
+        useAsyncFetcher(cfg).setHeaderFirstFetch(true);
+
+        var mem = WebCrawlingTestCapturer.crawlAndCapture(cfg).getCommitter();
+
+        assertThat(mem.getUpsertCount()).isOne();
+        assertThat(mem.getUpsertRequests().get(0).getReference())
+                .endsWith("/page.html");
+    }
+
+    private static HttpClientFetcherConfig useAsyncFetcher(
+            WebCrawlerConfig cfg) {
+        var fetcher = new AsyncHttpClientFetcher();
+        cfg.setFetchers(List.of(fetcher));
+        return fetcher.getConfiguration();
+    }
+}
@@ -0,0 +1,139 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.crawler.web.cases.feature;
+
+import static com.norconex.crawler.web.mocks.MockWebsite.serverUrl;
+import static com.norconex.crawler.web.mocks.MockWebsite.whenHtml;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockserver.model.HttpRequest.request;
+import static org.mockserver.model.HttpResponse.response;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.junit.jupiter.api.Timeout;
+import org.mockserver.integration.ClientAndServer;
+import org.mockserver.junit.jupiter.MockServerSettings;
+import org.mockserver.model.BinaryBody;
+import org.mockserver.model.MediaType;
+
+import com.norconex.commons.lang.text.TextMatcher;
+import com.norconex.crawler.core.doc.operations.filter.OnMatch;
+import com.norconex.crawler.core.doc.operations.filter.impl.GenericMetadataFilter;
+import com.norconex.crawler.core.event.CrawlerEvent;
+import com.norconex.crawler.web.WebCrawlerConfig;
+import com.norconex.crawler.web.fetch.impl.httpclient.HttpClientFetcher;
+import com.norconex.crawler.web.fetch.impl.httpclient.HttpClientFetcherConfig;
+import com.norconex.crawler.web.fetch.impl.httpclient.HttpClientFetcherConfig.OversizedContent;
+import com.norconex.crawler.web.junit.WebCrawlingTest;
+import com.norconex.crawler.web.junit.WebCrawlingTestCapturer;
+
+/**
+ * Tests that response headers can be evaluated before downloading
+ * content and that content size can be capped.
+ */
+@MockServerSettings
+@Timeout(60)
+class HeaderFirstFetchTest {
+
+    private static final int CONTENT_SIZE = 5000;
+    private static final int MAX_SIZE = 1000;
+
+    @WebCrawlingTest
+    void testTruncateOversizedContent(
+            ClientAndServer client, WebCrawlerConfig cfg) throws IOException {
+        whenLargeText(client, "/truncated.txt");
+        cfg.setStartReferences(List.of(serverUrl(client, "/truncated.txt")));
+        fetcherConfig(cfg).setMaxContentSize(MAX_SIZE);
+
+        var mem = WebCrawlingTestCapturer.crawlAndCapture(cfg).getCommitter();
+
+        assertThat(mem.getUpsertCount()).isOne();
+        var txt = IOUtils.toString(
+                mem.getUpsertRequests().get(0).getContent(), UTF_8);
+        assertThat(txt.trim()).hasSize(MAX_SIZE);
+    }
+
+    @WebCrawlingTest
+    void testRejectOversizedContent(
+            ClientAndServer client, WebCrawlerConfig cfg) {
+        whenLargeText(client, "/rejected.txt");
+        whenHtml(client, "/small.html", "Small page.");
+        cfg.setStartReferences(List.of(
+                serverUrl(client, "/rejected.txt"),
+                serverUrl(client, "/small.html")));
+        fetcherConfig(cfg)
+                .setMaxContentSize(MAX_SIZE)
+                .setOversizedContent(OversizedContent.REJECT);
+
+        var mem = WebCrawlingTestCapturer.crawlAndCapture(cfg).getCommitter();
+
+        assertThat(mem.getUpsertCount()).isOne();
+        assertThat(mem.getUpsertRequests().get(0).getReference())
+                .endsWith("/small.html");
+    }
+
+    @WebCrawlingTest
+    void testMetadataFiltersBeforeContent(
+            ClientAndServer client, WebCrawlerConfig cfg) {
+        client.when(request().withPath("/doc.pdf")).respond(response()
+                .withBody(BinaryBody.binary(
+                        new byte[CONTENT_SIZE], MediaType.PDF)));
+        whenHtml(client, "/page.html", "Some page.");
+        cfg.setStartReferences(List.of(
+                serverUrl(client, "/doc.pdf"),
+                serverUrl(client, "/page.html")));
+        cfg.setMetadataFilters(List.of(new GenericMetadataFilter()));
+        ((GenericMetadataFilter) cfg.getMetadataFilters().get(0))
+                .getConfiguration()
+                .setOnMatch(OnMatch.EXCLUDE)
+                .setFieldMatcher(TextMatcher.basic("Content-Type"))
+                .setValueMatcher(TextMatcher.wildcard("application/pdf*"));
+        fetcherConfig(cfg).setHeaderFirstFetch(true);
+        List<String> pdfEvents = new CopyOnWriteArrayList<>();
+        cfg.addEventListener(e -> {
+            if (e instanceof CrawlerEvent ce && ce.getCrawlEntry() != null
+                    && ce.getCrawlEntry().getReference().endsWith("/doc.pdf")) {
+                pdfEvents.add(ce.getName());
+            }
+        });
+
+        var mem = WebCrawlingTestCapturer.crawlAndCapture(cfg).getCommitter();
+
+        assertThat(mem.getUpsertCount()).isOne();
+        assertThat(mem.getUpsertRequests().get(0).getReference())
+                .endsWith("/page.html");
+        // Rejected from response headers, before the document is fetched.
+        assertThat(pdfEvents)
+                .contains(CrawlerEvent.REJECTED_FILTER)
+                .doesNotContain(CrawlerEvent.DOCUMENT_FETCHED);
+    }
+
+    private static void whenLargeText(ClientAndServer client, String path) {
+        client.when(request().withPath(path)).respond(response()
+                .withBody(StringUtils.repeat('a', CONTENT_SIZE),
+                        MediaType.TEXT_PLAIN));
+    }
+
+    private static HttpClientFetcherConfig fetcherConfig(
+            WebCrawlerConfig cfg) {
+        return ((HttpClientFetcher) cfg.getFetchers().get(0))
+                .getConfiguration();
+    }
+}
@@ -57,8 +57,13 @@ class HtmlDomTikaLinkExtractorTest {
     static Stream<LinkExtractor> linkExtractorProvider() {
         var hle = new HtmlLinkExtractor();
         hle.getConfiguration().addLinkTag("link", null);
+        var streamingHle = new HtmlLinkExtractor();
+        streamingHle.getConfiguration()
+                .setStreamingTokenizer(true)
+                .addLinkTag("link", null);
         return Stream.of(
                 hle,
+                streamingHle,
                 new DomLinkExtractor(),
                 new TikaLinkExtractor());
     }
@@ -172,11 +172,47 @@ class HtmlExtractorTest {
         assertThat(urlList(links)).containsExactlyInAnyOrder(url1, url2, url3);
     }
 
+    @Test
+    void testStreamingTokenizer() throws IOException {
+        var ref = "http://www.example.com/index.html";
+        var html = """
+                <html><head>\
+                <A HREF="before-base.html" title="a > b">Before</A>\
+                <base href="http://www.example.com/sub/">\
+                </head><body>\
+                <script>var s = '<a href="script.html">';</script>\
+                <!-- <a href="comment.html">comment</a> -->\
+                <a href='after-base.html' data-x="1">After <b>base</b></a>\
+                <img src="image.png"/>\
+                </body></html>""";
+        var input = new ByteArrayInputStream(html.getBytes());
+        var extractor = new HtmlLinkExtractor();
+        extractor.getConfiguration().setStreamingTokenizer(true);
+        var links = extractor.extractLinks(
+                CrawlDocStubs.crawlDoc(ref, ContentType.HTML, input));
+        input.close();
+        assertThat(urlList(links)).containsExactly(
+                "http://www.example.com/before-base.html",
+                "http://www.example.com/sub/after-base.html",
+                "http://www.example.com/sub/image.png");
+
+        var it = links.iterator();
+        var before = it.next();
+        assertThat(before.getMetadata().getString("attr.title"))
+                .isEqualTo("a > b");
+        var after = it.next();
+        assertThat(after.getMetadata().getString("text"))
+                .isEqualTo("After base");
+        assertThat(after.getMetadata().getString("markup"))
+                .isEqualTo("After <b>base</b>");
+    }
+
     @Test
     void testHtmlWriteRead() {
         var htmlExtractor = new HtmlLinkExtractor();
         htmlExtractor.getConfiguration()
                 .setIgnoreNofollow(true)
+                .setStreamingTokenizer(true)
                 .addLinkTag("food", "chocolate")
                 .addLinkTag("food", "candy")
                 .addLinkTag("friend", "Thor")
@@ -0,0 +1,124 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.crawler.web.doc.operations.link.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.norconex.commons.lang.map.Properties;
+
+class HtmlLinkTokenizerTest {
+
+    private static final String HTML = """
+            <html><head>
+            <base href="http://example.com/base/">
+            <meta http-equiv="refresh" content="5; URL=meta.html">
+            </head><body>
+            <script type="text/javascript">
+              document.write('<a href="script.html">no</a>');
+            </script>
+            <!-- <a href="comment.html">no</a> -->
+            <a
+              href="one.html"   title='multi
+              line'>One</a>
+            <img src="two.png" alt="x > y"/>
+            <a href=three.html rel=nofollow>Three</a>
+            </body></html>
+            """;
+
+    @ParameterizedTest
+    @ValueSource(ints = { 1, 3, 7, 64, Integer.MAX_VALUE })
+    void testChunkBoundaries(int chunkSize) {
+        var events = tokenize(HTML, chunkSize, false);
+        assertThat(events).containsExactly(
+                "base:http://example.com/base/",
+                "meta:content=5; URL=meta.html",
+                "a:href=one.html",
+                "img:src=two.png",
+                "a:href=three.html");
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 5, Integer.MAX_VALUE })
+    void testCommentsEnabled(int chunkSize) {
+        var events = tokenize(HTML, chunkSize, true);
+        assertThat(events).contains("a:href=comment.html")
+                .doesNotContain("a:href=script.html");
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 1, Integer.MAX_VALUE })
+    void testAttributes(int chunkSize) {
+        var attribs = new ArrayList<Properties>();
+        var tokenizer = new HtmlLinkTokenizer(
+                Set.of("a"), false, new HtmlLinkTokenizer.Listener() {
+                    @Override
+                    public void baseHref(String href) {
+                        // NOOP
+                    }
+
+                    @Override
+                    public void tag(String name, Properties props,
+                            String bodyText, String bodyMarkup) {
+                        attribs.add(props);
+                    }
+                });
+        feed(tokenizer, HTML, chunkSize);
+        assertThat(attribs).hasSize(2);
+        assertThat(attribs.get(0).getString("title")).isEqualTo("multi line");
+        assertThat(attribs.get(1).getString("rel")).isEqualTo("nofollow");
+    }
+
+    private static List<String> tokenize(
+            String html, int chunkSize, boolean commentsEnabled) {
+        List<String> events = new ArrayList<>();
+        var tokenizer = new HtmlLinkTokenizer(
+                Set.of("a", "img", "meta"),
+                commentsEnabled,
+                new HtmlLinkTokenizer.Listener() {
+                    @Override
+                    public void baseHref(String href) {
+                        events.add("base:" + href);
+                    }
+
+                    @Override
+                    public void tag(String name, Properties attribs,
+                            String bodyText, String bodyMarkup) {
+                        var attr = "meta".equals(name) ? "content"
+                                : "img".equals(name) ? "src" : "href";
+                        events.add(name + ":" + attr + "="
+                                + attribs.getString(attr));
+                    }
+                });
+        feed(tokenizer, html, chunkSize);
+        return events;
+    }
+
+    private static void feed(
+            HtmlLinkTokenizer tokenizer, String html, int chunkSize) {
+        for (var i = 0; i < html.length(); i += Math.min(
+                chunkSize, html.length())) {
+            tokenizer.feed(html.substring(
+                    i, Math.min(html.length(), i + chunkSize)));
+        }
+        tokenizer.end();
+    }
+}
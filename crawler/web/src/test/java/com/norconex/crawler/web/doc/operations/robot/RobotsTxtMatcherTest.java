@@ -0,0 +1,161 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.crawler.web.doc.operations.robot;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import com.norconex.crawler.core.doc.operations.filter.OnMatch;
+import com.norconex.crawler.web.doc.operations.robot.impl.StandardRobotsTxtProvider;
+
+class RobotsTxtMatcherTest {
+
+    private static final String ROBOTS_TXT = """
+            User-agent: *
+            Disallow: /private/
+            Allow: /private/public/
+            Disallow: /*.pdf$
+            Disallow: /search?
+            Disallow: /tmp/*/cache
+            Allow: /tmp/keep/*/cache
+            Disallow: /exact$
+            Disallow: /same
+            Allow: /same
+            """;
+
+    @ParameterizedTest
+    @CsvSource(textBlock = """
+            http://example.com/,                          false
+            http://example.com/index.html,                false
+            http://example.com/private/,                  true
+            http://example.com/private/a.html,            true
+            http://example.com/PRIVATE/a.html,            true
+            http://example.com/private/public/a.html,     false
+            http://example.com/docs/file.pdf,             true
+            http://example.com/docs/file.pdf?page=2,      false
+            http://example.com/search?q=test,             true
+            http://example.com/search,                    false
+            http://example.com/tmp/a/b/cache/x,           true
+            http://example.com/tmp/keep/b/cache/x,        false
+            http://example.com/tmp/cache,                 false
+            http://example.com/exact,                     true
+            http://example.com/exact/,                    true
+            http://example.com/exact/more,                false
+            http://example.com/same/page.html,            false
+            http://example.com:8080/private/x#frag,       true
+            """)
+    void testMatch(String url, boolean rejected) {
+        var robotsTxt = parse(ROBOTS_TXT);
+        assertThat(robotsTxt.findRejectingFilter(url) != null)
+                .isEqualTo(rejected);
+    }
+
+    @Test
+    void testLongestMatchWins() {
+        var matcher = RobotsTxtMatcher.compile(List.of(
+                filter("/a", OnMatch.EXCLUDE),
+                filter("/a/b", OnMatch.INCLUDE),
+                filter("/a/b/c", OnMatch.EXCLUDE)));
+        assertThat(matcher.match("http://x.com/a/z").getPath())
+                .isEqualTo("/a");
+        assertThat(matcher.match("http://x.com/a/b/z").getPath())
+                .isEqualTo("/a/b");
+        assertThat(matcher.match("http://x.com/a/b/c").getPath())
+                .isEqualTo("/a/b/c");
+        assertThat(matcher.match("http://x.com/z")).isNull();
+    }
+
+    @Test
+    void testLeadingWildcard() {
+        var matcher = RobotsTxtMatcher.compile(List.of(
+                filter("*.gif$", OnMatch.EXCLUDE)));
+        assertThat(matcher.match("http://x.com/img/a.gif")).isNotNull();
+        assertThat(matcher.match("http://x.com/img/a.gif.html")).isNull();
+    }
+
+    @Test
+    void testEmpty() {
+        var matcher = RobotsTxtMatcher.compile(null);
+        assertThat(matcher.isEmpty()).isTrue();
+        assertThat(matcher.match("http://x.com/")).isNull();
+        assertThat(RobotsTxtMatcher.compile(
+                List.of(filter(" ", OnMatch.EXCLUDE))).isEmpty()).isTrue();
+    }
+
+    @Test
+    void testAgreesWithRegexFilters() {
+        // The compiled matcher and the individual regex filters must agree
+        // on whether a given rule matches.
+        var robotsTxt = parse(ROBOTS_TXT);
+        var urls = List.of(
+                "http://example.com/private/a.html",
+                "http://example.com/docs/file.pdf",
+                "http://example.com/search?q=test",
+                "http://example.com/tmp/a/b/cache/x",
+                "http://example.com/exact/",
+                "http://example.com/same");
+        for (String url : urls) {
+            var match = RobotsTxtMatcher.compile(
+                    robotsTxt.getDisallowFilters()).match(url);
+            assertThat(match).isNotNull();
+            // regex filters reject on match for "Disallow"
+            assertThat(match.acceptReference(url)).isFalse();
+        }
+    }
+
+    private static RobotsTxtFilter filter(String path, OnMatch onMatch) {
+        return new RobotsTxtFilter() {
+            @Override
+            public boolean acceptReference(String reference) {
+                return true;
+            }
+
+            @Override
+            public OnMatch getOnMatch() {
+                return onMatch;
+            }
+
+            @Override
+            public String getPath() {
+                return path;
+            }
+        };
+    }
+
+    private static RobotsTxt parse(String content) {
+        return new StandardRobotsTxtProvider() {
+            private RobotsTxt parse() {
+                try {
+                    return parseRobotsTxt(
+                            IOUtils.toInputStream(
+                                    content, StandardCharsets.UTF_8),
+                            "http://example.com/robots.txt",
+                            "test-crawler");
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        }.parse();
+    }
+}
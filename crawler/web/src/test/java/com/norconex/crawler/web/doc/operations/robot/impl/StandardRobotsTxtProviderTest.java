@@ -17,12 +17,19 @@ package com.norconex.crawler.web.doc.operations.robot.impl;
 import static com.norconex.crawler.web.mocks.MockWebsite.serverUrl;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 import static org.mockserver.model.HttpRequest.request;
 import static org.mockserver.model.HttpResponse.response;
 
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -33,10 +40,14 @@ import org.mockserver.integration.ClientAndServer;
 import org.mockserver.junit.jupiter.MockServerSettings;
 import org.mockserver.model.MediaType;
 
+import com.norconex.commons.lang.Sleeper;
 import com.norconex.crawler.core.context.CrawlerContext;
 import com.norconex.crawler.core.doc.operations.filter.ReferenceFilter;
 import com.norconex.crawler.core.doc.operations.filter.impl.GenericReferenceFilter;
+import com.norconex.crawler.core.fetch.FetchException;
+import com.norconex.crawler.core.fetch.Fetcher;
 import com.norconex.crawler.web.doc.operations.robot.RobotsTxtFilter;
+import com.norconex.crawler.web.fetch.WebFetchResponse;
 import com.norconex.crawler.web.junit.WebCrawlingTest;
 
 @MockServerSettings
@@ -226,6 +237,53 @@ class StandardRobotsTxtProviderTest {
                 rule);
     }
 
+    @Test
+    void testConcurrentLoadsFetchOncePerSite() throws Exception {
+        var fetcher = slowNotFoundFetcher();
+        var provider = new StandardRobotsTxtProvider();
+        var executor = Executors.newFixedThreadPool(8);
+        try {
+            var futures = new ArrayList<Future<?>>();
+            for (var i = 0; i < 8; i++) {
+                var site = i % 2 == 0 ? "http://a.com" : "http://b.com";
+                futures.add(executor.submit(() -> provider.getRobotsTxt(
+                        fetcher, site + "/page.html")));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        verify(fetcher, times(2)).fetch(any());
+    }
+
+    @Test
+    void testCacheEvictsLeastRecentlyUsed() throws Exception {
+        var fetcher = slowNotFoundFetcher();
+        var provider = new StandardRobotsTxtProvider();
+        provider.getConfiguration().setMaxCacheSize(1);
+
+        provider.getRobotsTxt(fetcher, "http://a.com/page.html");
+        provider.getRobotsTxt(fetcher, "http://a.com/other.html");
+        verify(fetcher, times(1)).fetch(any());
+
+        provider.getRobotsTxt(fetcher, "http://b.com/page.html");
+        provider.getRobotsTxt(fetcher, "http://a.com/page.html");
+        verify(fetcher, times(3)).fetch(any());
+    }
+
+    private Fetcher slowNotFoundFetcher() throws FetchException {
+        var response = mock(WebFetchResponse.class);
+        when(response.getStatusCode()).thenReturn(-1);
+        var fetcher = mock(Fetcher.class);
+        when(fetcher.fetch(any())).thenAnswer(inv -> {
+            Sleeper.sleepMillis(100);
+            return response;
+        });
+        return fetcher;
+    }
+
     private void assertStartsWith(
             String startsWith, ReferenceFilter robotRule) {
         var rule = StringUtils.substring(
@@ -0,0 +1,67 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.crawler.web.fetch.impl.httpclient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import com.norconex.commons.lang.bean.BeanMapper;
+import com.norconex.commons.lang.bean.BeanUtil;
+import com.norconex.crawler.web.WebTestUtil;
+
+@Timeout(30)
+class AsyncHttpClientFetcherTest {
+
+    @Test
+    void testWriteRead() {
+        var cfg = WebTestUtil.randomize(HttpClientFetcherConfig.class);
+        var f = new AsyncHttpClientFetcher();
+        BeanUtil.copyProperties(f.getConfiguration(), cfg);
+        assertThatNoException()
+                .isThrownBy(() -> BeanMapper.DEFAULT.assertWriteRead(f));
+    }
+
+    @Test
+    void testStartupAndShutdown() {
+        var fetcher = new AsyncHttpClientFetcher();
+        fetcher.getConfiguration().setIoThreads(2);
+        fetcher.fetcherStartup(null);
+        assertThat(fetcher.getHttpClient()).isNotNull();
+        assertThat(fetcher.getAsyncHttpClient()).isNotNull();
+        assertThatNoException().isThrownBy(() -> fetcher.fetcherShutdown(null));
+        assertThat(fetcher.getAsyncHttpClient()).isNull();
+    }
+
+    @Test
+    void testBlockingAuthMethodDisablesAsyncClient() {
+        var fetcher = new AsyncHttpClientFetcher();
+        fetcher.getConfiguration().setAuthentication(
+                new HttpAuthConfig().setMethod(HttpAuthMethod.NTLM));
+        fetcher.fetcherStartup(null);
+        assertThat(fetcher.getHttpClient()).isNotNull();
+        assertThat(fetcher.getAsyncHttpClient()).isNull();
+        fetcher.fetcherShutdown(null);
+    }
+
+    @Test
+    void testCookieStoreIsShared() {
+        var fetcher = new AsyncHttpClientFetcher();
+        assertThat(fetcher.createDefaultCookieStore())
+                .isSameAs(fetcher.createDefaultCookieStore());
+    }
+}
@@ -0,0 +1,58 @@
+/* Copyright 2026 Norconex Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.norconex.crawler.web.ledger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.norconex.crawler.core.cluster.codec.CacheValueCodecs;
+import com.norconex.crawler.core.ledger.ProcessingStatus;
+
+class WebCrawlerEntryCodecTest {
+
+    @Test
+    void testRoundTrip() {
+        var entry = new WebCrawlerEntry("http://example.com/section/page", 2);
+        entry.setProcessingStatus(ProcessingStatus.QUEUED);
+        entry.setFromSitemap(true);
+        entry.setSitemapLastMod(ZonedDateTime.of(
+                2026, 5, 6, 7, 8, 9, 0, ZoneId.of("UTC")));
+        entry.setSitemapChangeFreq("weekly");
+        entry.setSitemapPriority(0.8f);
+        entry.setReferrerReference("http://example.com/section/");
+        entry.setReferrerLinkMetadata("text=Page");
+        entry.setEtag("\"abc123\"");
+        entry.setReferencedUrls(List.of(
+                "http://example.com/section/page2",
+                "http://example.com/other"));
+        entry.addRedirectURL("http://example.com/old-page");
+        entry.setRedirectTarget("http://example.com/section/page");
+        entry.setHttpStatusCode(301);
+        entry.setHttpReasonPhrase("Moved Permanently");
+
+        var codec = CacheValueCodecs.get(WebCrawlerEntry.class).orElseThrow();
+        var decoded = codec.decode(codec.encode(entry));
+
+        assertThat(decoded)
+                .usingRecursiveComparison()
+                .isEqualTo(entry);
+        assertThat(decoded.getUrlRoot()).isEqualTo("http://example.com");
+    }
+}